@@ -0,0 +1,51 @@
+package com.onlinefoodorder.config;
+
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Enables {@code @Async} and defines the bounded executor used to fan order
+ * events out to subscribers, off the thread that committed the change. Tasks
+ * run in the submitting thread's trace, so their spans join its request.
+ * When {@code spring.threads.virtual.enabled} is set on Java 21 or later, the
+ * executor runs its tasks on virtual threads, and more of them at once.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+	private static final Logger logger = LoggerFactory.getLogger(AsyncConfig.class);
+
+	@Bean(name = "orderEventExecutor")
+	public Executor orderEventExecutor(@Value("${order.events.executor.threads:2}") int threads,
+			@Value("${order.events.executor.virtual-threads:64}") int virtualThreads,
+			@Value("${order.events.executor.queue-capacity:10000}") int queueCapacity, Environment environment) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		int poolSize = threads;
+		// A send blocked on a slow client then parks its virtual thread instead of holding a platform one
+		if (Threading.VIRTUAL.isActive(environment)) {
+			executor.setVirtualThreads(true);
+			poolSize = virtualThreads;
+		}
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("order-events-");
+		executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+		// A full queue drops the notification rather than stalling the writer; clients resync on reconnect
+		executor.setRejectedExecutionHandler(
+				(task, pool) -> logger.warn("Order event queue full, dropping notification"));
+		executor.initialize();
+		return executor;
+	}
+}
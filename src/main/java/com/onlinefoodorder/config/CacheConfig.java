@@ -0,0 +1,35 @@
+package com.onlinefoodorder.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.onlinefoodorder.dto.MenuItemDto;
+import com.onlinefoodorder.dto.OrderDto;
+import com.onlinefoodorder.service.ReadThroughCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read caches for details that are looked up repeatedly by ID: menu item
+ * pages and order tracking polls. Each is sized and expired independently.
+ */
+@Configuration
+public class CacheConfig {
+
+	@Bean
+	public ReadThroughCache<Long, MenuItemDto> menuItemCache(MeterRegistry meterRegistry,
+			@Value("${cache.menu-item.max-size:10000}") long maximumSize,
+			@Value("${cache.menu-item.ttl:10m}") Duration timeToLive) {
+		return new ReadThroughCache<>("menuItems", maximumSize, timeToLive, meterRegistry);
+	}
+
+	@Bean
+	public ReadThroughCache<Long, OrderDto> orderCache(MeterRegistry meterRegistry,
+			@Value("${cache.order.max-size:20000}") long maximumSize,
+			@Value("${cache.order.ttl:2m}") Duration timeToLive) {
+		return new ReadThroughCache<>("orders", maximumSize, timeToLive, meterRegistry);
+	}
+}
@@ -0,0 +1,108 @@
+package com.onlinefoodorder.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Splits database traffic between two connection pools. Service methods
+ * annotated {@code @Transactional(readOnly = true)} (dashboards, charts,
+ * catalog pages) use the replica pool; checkout and every other write, reads
+ * inside a writing transaction and reads outside any transaction use the
+ * primary pool. The replica pool connects to {@code spring.datasource.replica.url},
+ * or to the primary database when no replica is configured, so that reporting
+ * queries can never take the connections checkout needs.
+ * <p>
+ * Both pools are sized with the usual {@code hikari.*} properties under their
+ * prefix, and Boot publishes {@code hikaricp.connections.*} metrics for each,
+ * tagged with the pool name. Statements on either pool are timed by the
+ * {@link SlowQueryLog}.
+ * <p>
+ * Transactions sent to the replica do not store what they load in the
+ * second-level cache ({@link ReplicaCacheBypassJpaDialect}), so a lagging
+ * replica cannot leave stale restaurants, menu items or users there.
+ */
+@Configuration
+public class DataSourceRoutingConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(
+			@Value("${spring.datasource.replica.url:${spring.datasource.url}}") String url,
+			@Value("${spring.datasource.replica.username:${spring.datasource.username:}}") String username,
+			@Value("${spring.datasource.replica.password:${spring.datasource.password:}}") String password) {
+		HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class).url(url)
+				.username(username).password(password).build();
+		dataSource.setPoolName("replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+			@Value("${datasource.routing.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+			@Value("${datasource.routing.lag-column:Seconds_Behind_Source}") String lagColumn,
+			@Value("${datasource.routing.max-lag:5s}") Duration maxLag) {
+		return new ReplicaLagMonitor(replica, lagQuery, lagColumn, maxLag);
+	}
+
+	@Bean
+	public SlowQueryLog slowQueryLog(@Value("${datasource.slow-query.threshold:500ms}") Duration threshold,
+			@Value("${datasource.slow-query.sample-rate:1.0}") double sampleRate) {
+		return new SlowQueryLog(threshold, sampleRate);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+			@Qualifier("replicaDataSource") DataSource replica, ReplicaLagMonitor replicaLagMonitor,
+			SlowQueryLog slowQueryLog, @Value("${datasource.slow-query.enabled:true}") boolean slowQueryLogEnabled) {
+		if (slowQueryLogEnabled) {
+			primary = slowQueryLog.wrap("primary", primary);
+			replica = slowQueryLog.wrap("replica", replica);
+		}
+		return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, replicaLagMonitor));
+	}
+
+	/**
+	 * Installs {@link ReplicaCacheBypassJpaDialect} on the entity manager
+	 * factory before it is initialized, so the transaction manager picks it up
+	 * in place of the plain Hibernate dialect.
+	 */
+	@Bean
+	public static BeanPostProcessor replicaCacheBypassPostProcessor(
+			ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				if (bean instanceof AbstractEntityManagerFactoryBean factoryBean) {
+					factoryBean.setJpaDialect(new ReplicaCacheBypassJpaDialect(replicaLagMonitor.getObject()));
+				}
+				return bean;
+			}
+		};
+	}
+}
@@ -0,0 +1,33 @@
+package com.onlinefoodorder.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+/**
+ * Runs the Flyway migrations in {@code db/migration} after Hibernate has
+ * updated the schema from the entity mappings. Boot would otherwise migrate
+ * before the entity manager factory is built, when the tables the indexes are
+ * created on may not exist yet.
+ */
+@Configuration
+public class FlywayConfig {
+
+	/**
+	 * Leaves Boot's migration step, which runs before the schema update, empty.
+	 */
+	@Bean
+	public FlywayMigrationStrategy deferredFlywayMigrationStrategy() {
+		return flyway -> {
+		};
+	}
+
+	@Bean
+	@DependsOn("entityManagerFactory")
+	public InitializingBean flywayMigration(Flyway flyway) {
+		return () -> flyway.migrate();
+	}
+}
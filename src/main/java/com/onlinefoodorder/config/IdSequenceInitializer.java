@@ -0,0 +1,56 @@
+package com.onlinefoodorder.config;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Moves the ID sequences of orders, order items, cart items and payments past
+ * the highest ID already in use. These tables took their IDs from
+ * AUTO_INCREMENT before switching to sequences, and on MySQL Hibernate emulates
+ * each sequence with a one-row table that starts at 1. Runs after the schema
+ * update and before the web server starts.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceInitializer {
+
+	private static final Logger logger = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+	/**
+	 * Sequence table, entity table and ID column of each sequence, as mapped on
+	 * the entities.
+	 */
+	private static final List<String[]> SEQUENCES = List.of(new String[] { "order_seq", "orders", "order_id" },
+			new String[] { "order_item_seq", "order_items", "order_item_id" },
+			new String[] { "cart_item_seq", "cart_items", "id" },
+			new String[] { "payment_seq", "payment", "payment_id" });
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public IdSequenceInitializer(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Sets each sequence's next value to one past the table's highest ID, unless
+	 * it is already beyond it.
+	 */
+	@PostConstruct
+	public void alignSequences() {
+		for (String[] sequence : SEQUENCES) {
+			String maxId = "(SELECT COALESCE(MAX(" + sequence[2] + "), 0) FROM " + sequence[1] + ")";
+			int updated = jdbcTemplate.update(
+					"UPDATE " + sequence[0] + " SET next_val = " + maxId + " + 1 WHERE next_val <= " + maxId);
+			if (updated > 0) {
+				logger.info("Moved ID sequence {} past the existing rows of {}", sequence[0], sequence[1]);
+			}
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.onlinefoodorder.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections of read-only transactions to the read replica while
+ * {@link ReplicaLagMonitor} reports it usable, and every other connection to
+ * the primary. The routing decision is made when the connection is opened, so
+ * this must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * which defers that until the transaction's read-only flag has been set.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+	static final String PRIMARY = "primary";
+	static final String REPLICA = "replica";
+
+	private final ReplicaLagMonitor replicaLagMonitor;
+
+	public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor) {
+		this.replicaLagMonitor = replicaLagMonitor;
+		setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+		afterPropertiesSet();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagMonitor.isReplicaUsable()) {
+			return REPLICA;
+		}
+		return PRIMARY;
+	}
+}
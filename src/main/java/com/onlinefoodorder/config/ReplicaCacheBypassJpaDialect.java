@@ -0,0 +1,57 @@
+package com.onlinefoodorder.config;
+
+import java.sql.SQLException;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+
+/**
+ * Keeps entities read from the replica out of the second-level cache. A
+ * read-only transaction that {@link ReadWriteRoutingDataSource} will send to
+ * the replica runs with {@link CacheMode#GET}: it still reads cached entities
+ * and query results, but anything it loads from the database is not stored,
+ * since the replica may be up to the allowed lag behind the primary and a
+ * stale row would otherwise be served from the cache until its region expires.
+ * The cache is filled by reads on the primary only. The session's previous
+ * cache mode is restored when the transaction ends.
+ */
+public class ReplicaCacheBypassJpaDialect extends HibernateJpaDialect {
+
+	private final ReplicaLagMonitor replicaLagMonitor;
+
+	public ReplicaCacheBypassJpaDialect(ReplicaLagMonitor replicaLagMonitor) {
+		this.replicaLagMonitor = replicaLagMonitor;
+	}
+
+	@Override
+	public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+			throws PersistenceException, SQLException, TransactionException {
+		Object transactionData = super.beginTransaction(entityManager, definition);
+		// Same decision the routing data source makes when the first statement opens a connection
+		if (!definition.isReadOnly() || !replicaLagMonitor.isReplicaUsable()) {
+			return transactionData;
+		}
+		Session session = entityManager.unwrap(Session.class);
+		CacheMode previousCacheMode = session.getCacheMode();
+		session.setCacheMode(CacheMode.GET);
+		return new ReplicaTransactionData(transactionData, session, previousCacheMode);
+	}
+
+	@Override
+	public void cleanupTransaction(Object transactionData) {
+		if (transactionData instanceof ReplicaTransactionData replicaData) {
+			replicaData.session().setCacheMode(replicaData.previousCacheMode());
+			transactionData = replicaData.delegate();
+		}
+		super.cleanupTransaction(transactionData);
+	}
+
+	private record ReplicaTransactionData(Object delegate, Session session, CacheMode previousCacheMode) {
+	}
+}
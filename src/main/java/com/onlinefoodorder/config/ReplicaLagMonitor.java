@@ -0,0 +1,83 @@
+package com.onlinefoodorder.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Polls the read replica for its replication lag and decides whether reads may
+ * be sent to it. The replica is unusable until the first check passes, while
+ * it cannot be reached, while replication is stopped and while it is more than
+ * the allowed lag behind the primary.
+ */
+public class ReplicaLagMonitor {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+	private final JdbcTemplate jdbcTemplate;
+	private final String lagQuery;
+	private final String lagColumn;
+	private final Duration maxLag;
+
+	private volatile boolean replicaUsable;
+
+	/**
+	 * @param replica   The replica's data source.
+	 * @param lagQuery  Query returning the replica's status; on MySQL
+	 *                  {@code SHOW REPLICA STATUS}.
+	 * @param lagColumn Column of the status holding the lag in seconds, null
+	 *                  while replication is stopped.
+	 * @param maxLag    Largest lag at which reads still go to the replica.
+	 */
+	public ReplicaLagMonitor(DataSource replica, String lagQuery, String lagColumn, Duration maxLag) {
+		this.jdbcTemplate = new JdbcTemplate(replica);
+		this.lagQuery = lagQuery;
+		this.lagColumn = lagColumn;
+		this.maxLag = maxLag;
+	}
+
+	public boolean isReplicaUsable() {
+		return replicaUsable;
+	}
+
+	/**
+	 * Reads the replica's lag and updates whether it is usable. A server that
+	 * returns no status row is not replicating and is treated as current.
+	 */
+	@Scheduled(fixedDelayString = "${datasource.routing.lag-check-ms:5000}")
+	public void checkReplica() {
+		boolean usable;
+		try {
+			Long lagSeconds = jdbcTemplate.query(lagQuery, rs -> {
+				if (!rs.next()) {
+					return 0L;
+				}
+				long lag = rs.getLong(lagColumn);
+				return rs.wasNull() ? null : lag;
+			});
+			usable = lagSeconds != null && lagSeconds <= maxLag.toSeconds();
+			if (!usable && replicaUsable) {
+				if (lagSeconds == null) {
+					logger.warn("Read replica is not replicating, sending reads to the primary");
+				} else {
+					logger.warn("Read replica is {} s behind, sending reads to the primary", lagSeconds);
+				}
+			}
+		} catch (DataAccessException e) {
+			usable = false;
+			if (replicaUsable) {
+				logger.warn("Read replica unreachable, sending reads to the primary", e);
+			}
+		}
+		if (usable && !replicaUsable) {
+			logger.info("Read replica is current, sending reads to it");
+		}
+		replicaUsable = usable;
+	}
+}
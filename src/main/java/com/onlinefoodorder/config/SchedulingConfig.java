@@ -0,0 +1,13 @@
+package com.onlinefoodorder.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's scheduled task support for background jobs such as the
+ * abandoned cart sweeper.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -6,17 +6,22 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -31,6 +36,36 @@ public class SecurityConfig {
         this.userService = userService;
     }
 
+    /**
+     * Lets Prometheus scrape /actuator/prometheus with HTTP Basic credentials
+     * taken from metrics.scrape.username and metrics.scrape.password. The
+     * endpoint stays closed until a password is configured.
+     */
+    @Bean
+    @Order(1)
+    SecurityFilterChain prometheusFilterChain(HttpSecurity http,
+            @Value("${metrics.scrape.username:prometheus}") String username,
+            @Value("${metrics.scrape.password:}") String password) throws Exception {
+        http
+            .securityMatcher("/actuator/prometheus")
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .httpBasic(Customizer.withDefaults());
+        if (password.isBlank()) {
+            logger.warn("metrics.scrape.password is not set; /actuator/prometheus is closed");
+            http.authorizeHttpRequests(auth -> auth.anyRequest().denyAll());
+        } else {
+            DaoAuthenticationProvider scrapeProvider = new DaoAuthenticationProvider();
+            scrapeProvider.setUserDetailsService(new InMemoryUserDetailsManager(User.withUsername(username)
+                    .password(passwordEncoder().encode(password)).roles("METRICS").build()));
+            scrapeProvider.setPasswordEncoder(passwordEncoder());
+            http
+                .authenticationManager(new ProviderManager(scrapeProvider))
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasRole("METRICS"));
+        }
+        return http.build();
+    }
+
     /**
      * Configures security settings including authentication, authorization, and JWT filtering.
      */
@@ -44,6 +79,7 @@ public class SecurityConfig {
             		
             	    .requestMatchers("/auth/register", "/auth/login","/auth/logout").permitAll()
             	    .requestMatchers("/restaurant/menu-category/**", "/restaurant/menu-item/**").permitAll()
+            	    .requestMatchers(HttpMethod.GET, "/restaurant/discover").hasRole("CUSTOMER")
             	    .requestMatchers(HttpMethod.GET, "/restaurant/{id}").permitAll()
             	    .requestMatchers(HttpMethod.GET, "/restaurant/all").permitAll()
             	    .requestMatchers(HttpMethod.GET, "/reviews/restaurant/**").permitAll()
@@ -53,6 +89,9 @@ public class SecurityConfig {
             	    .requestMatchers(HttpMethod.GET, "/coupons").permitAll()
             	    .requestMatchers(HttpMethod.GET, "/coupons/{code}").permitAll()
             	    
+            	    // Health checks; Prometheus scrapes go through prometheusFilterChain
+            	    .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+            	    
             	    //Customer Access 
             	    .requestMatchers("/customer/orders/place", "/customer/orders/user", "/customer/cart/**", "/customer/address/**").hasRole("CUSTOMER")
             	    .requestMatchers(HttpMethod.POST, "/payments/process").hasRole("CUSTOMER")  // Customer makes a payment
@@ -75,6 +114,8 @@ public class SecurityConfig {
             	    .requestMatchers(HttpMethod.PUT, "/delivery/orders/{orderId}/status").hasRole("DELIVERY")
             	    .requestMatchers("/delivery/orders/pending").hasRole("DELIVERY")
             	    .requestMatchers("/delivery/orders/deliveries").hasRole("DELIVERY")
+            	    .requestMatchers(HttpMethod.PUT, "/delivery/location").hasRole("DELIVERY_PERSON")
+            	    .requestMatchers(HttpMethod.GET, "/delivery/orders/worklist").hasRole("DELIVERY_PERSON")
 
             	    // Admin Access
             	    .requestMatchers("/admin/**").hasRole("ADMIN")
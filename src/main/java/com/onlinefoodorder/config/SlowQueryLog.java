@@ -0,0 +1,114 @@
+package com.onlinefoodorder.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Logs a sample of the statements that take longer than a threshold, with the
+ * application method that issued them. Bind parameter values and string
+ * literals are never written, only the number of parameters, so the log can
+ * be shipped without exposing customer data. Statements below the threshold
+ * cost one timing comparison.
+ */
+public class SlowQueryLog implements QueryExecutionListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(SlowQueryLog.class);
+
+	private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+	private final long thresholdMs;
+	private final double sampleRate;
+	private final AtomicLong unsampled = new AtomicLong();
+
+	/**
+	 * @param threshold  Statements taking longer than this are slow.
+	 * @param sampleRate Share of slow statements that are logged, between 0 and
+	 *                   1.
+	 */
+	public SlowQueryLog(Duration threshold, double sampleRate) {
+		this.thresholdMs = threshold.toMillis();
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * Wraps a data source so that the statements run on its connections are
+	 * timed.
+	 *
+	 * @param name       Name of the data source, written with each entry.
+	 * @param dataSource The data source to wrap.
+	 */
+	public DataSource wrap(String name, DataSource dataSource) {
+		return ProxyDataSourceBuilder.create(dataSource).name(name).listener(this).build();
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		long elapsedMs = execInfo.getElapsedTime();
+		if (elapsedMs <= thresholdMs) {
+			return;
+		}
+		if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+			unsampled.incrementAndGet();
+			return;
+		}
+
+		int parameters = 0;
+		StringBuilder sql = new StringBuilder();
+		for (QueryInfo query : queryInfoList) {
+			if (sql.length() > 0) {
+				sql.append("; ");
+			}
+			sql.append(redact(query.getQuery()));
+			if (!query.getParametersList().isEmpty()) {
+				parameters += query.getParametersList().get(0).size();
+			}
+		}
+		String batch = execInfo.isBatch() ? " batch of " + execInfo.getBatchSize() : "";
+		logger.warn("Slow query on {}: {} ms{} from {}, {} parameters redacted, {} skipped since last sample: {}",
+				execInfo.getDataSourceName(), elapsedMs, batch, origin().orElse("unknown"), parameters,
+				unsampled.getAndSet(0), sql);
+	}
+
+	/**
+	 * Replaces string literals and collapses whitespace; bind parameters are
+	 * already placeholders.
+	 */
+	static String redact(String sql) {
+		String redacted = STRING_LITERAL.matcher(sql).replaceAll("'?'");
+		return WHITESPACE.matcher(redacted).replaceAll(" ").trim();
+	}
+
+	/**
+	 * The innermost application method on the stack, which is the service,
+	 * controller or job that ran the statement.
+	 */
+	private static Optional<String> origin() {
+		return STACK_WALKER.walk(frames -> frames
+				.filter(frame -> frame.getClassName().startsWith("com.onlinefoodorder.")
+						&& !frame.getClassName().equals(SlowQueryLog.class.getName())
+						&& !frame.getClassName().contains("$$"))
+				.map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1) + "."
+						+ frame.getMethodName())
+				.findFirst());
+	}
+}
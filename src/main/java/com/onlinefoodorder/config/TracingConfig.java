@@ -0,0 +1,56 @@
+package com.onlinefoodorder.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.function.SingletonSupplier;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Adds spans for transactions and repository calls to the ones Spring Boot
+ * already records for HTTP requests and {@code @Observed} methods, and writes
+ * finished spans to a local file. Trace context follows work handed to the
+ * application's executors through {@link AsyncConfig}.
+ */
+@Configuration
+public class TracingConfig {
+
+	@Bean
+	public TransactionObservationListener transactionObservationListener(ObservationRegistry observationRegistry) {
+		return new TransactionObservationListener(observationRegistry);
+	}
+
+	@Bean
+	public static BeanPostProcessor repositoryObservationPostProcessor(
+			ObjectProvider<ObservationRegistry> observationRegistry) {
+		SingletonSupplier<ObservationRegistry> registry = SingletonSupplier
+				.of(() -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+					factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+							(proxyFactory, repository) -> proxyFactory.addAdvice(new RepositoryObservationInterceptor(
+									registry, repository.getRepositoryInterface()))));
+				}
+				return bean;
+			}
+		};
+	}
+
+	/**
+	 * One OTLP JSON document per line, routed by logback-spring.xml to
+	 * {@code traces.log} so it can be replayed into any OTLP collector.
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "tracing.export.file.enabled", havingValue = "true")
+	public SpanExporter fileSpanExporter() {
+		return OtlpJsonLoggingSpanExporter.create();
+	}
+}
@@ -0,0 +1,79 @@
+package com.onlinefoodorder.config;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Observes each physical transaction, from just before its connection is
+ * acquired until it commits or rolls back. The observation is a span between
+ * the service method and its repository calls, and a {@code transaction}
+ * timer tagged with the transactional method and whether it was read-only.
+ * Joining an existing transaction adds nothing.
+ */
+public class TransactionObservationListener implements TransactionExecutionListener {
+
+	private final ObservationRegistry observationRegistry;
+
+	// Open transactions on this thread; more than one while an outer one is suspended
+	private final ThreadLocal<Deque<Observation.Scope>> openScopes = ThreadLocal.withInitial(ArrayDeque::new);
+
+	public TransactionObservationListener(ObservationRegistry observationRegistry) {
+		this.observationRegistry = observationRegistry;
+	}
+
+	@Override
+	public void beforeBegin(TransactionExecution transaction) {
+		// Class and method of a @Transactional method; TransactionTemplate callers are unnamed
+		String name = transaction.getTransactionName();
+		if (name == null || name.isEmpty()) {
+			name = "unnamed";
+		}
+		Observation observation = Observation.createNotStarted("transaction", observationRegistry)
+				.contextualName("tx " + name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1))
+				.lowCardinalityKeyValue("name", name)
+				.lowCardinalityKeyValue("read.only", String.valueOf(transaction.isReadOnly()))
+				.start();
+		openScopes.get().push(observation.openScope());
+	}
+
+	@Override
+	public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+		if (beginFailure != null) {
+			finish("failed", beginFailure);
+		}
+	}
+
+	@Override
+	public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+		finish(commitFailure == null ? "committed" : "failed", commitFailure);
+	}
+
+	@Override
+	public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+		finish(rollbackFailure == null ? "rolled-back" : "failed", rollbackFailure);
+	}
+
+	private void finish(String outcome, Throwable failure) {
+		Deque<Observation.Scope> scopes = openScopes.get();
+		Observation.Scope scope = scopes.poll();
+		if (scopes.isEmpty()) {
+			openScopes.remove();
+		}
+		if (scope == null) {
+			return;
+		}
+		Observation observation = scope.getCurrentObservation();
+		scope.close();
+		observation.lowCardinalityKeyValue("outcome", outcome);
+		if (failure != null) {
+			observation.error(failure);
+		}
+		observation.stop();
+	}
+}
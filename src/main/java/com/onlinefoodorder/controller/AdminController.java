@@ -1,13 +1,17 @@
 package com.onlinefoodorder.controller;
 
+import com.onlinefoodorder.dto.CourierLocationDto;
 import com.onlinefoodorder.dto.DashboardStatsDto;
 import com.onlinefoodorder.entity.User;
 import com.onlinefoodorder.repository.UserRepository;
 import com.onlinefoodorder.service.AdminDashboardService;
+import com.onlinefoodorder.service.CourierLocationService;
 import com.onlinefoodorder.service.DeliveryService;
+import com.onlinefoodorder.service.DeliveryStatsService;
 import com.onlinefoodorder.util.Status;
 import com.onlinefoodorder.exception.UserNotFoundException;
 
+import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -34,6 +38,10 @@ public class AdminController {
 	private AdminDashboardService adminDashboardService;
 	@Autowired
 	private DeliveryService deliveryService;
+	@Autowired
+	private CourierLocationService courierLocationService;
+	@Autowired
+	private DeliveryStatsService deliveryStatsService;
 
 	/**
 	 * Approves a user based on user ID.
@@ -175,4 +183,30 @@ public class AdminController {
 		return new ResponseEntity<>(chart, headers, HttpStatus.OK);
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Find the available delivery persons closest to a restaurant.
+	 * 
+	 * @param restaurantId the ID of the restaurant.
+	 * @param limit        maximum number of delivery persons to return.
+	 * @return delivery persons ordered by distance from the restaurant.
+	 */
+
+	@GetMapping("/restaurant/{restaurantId}/nearest-couriers")
+	public ResponseEntity<List<CourierLocationDto>> getNearestCouriers(@PathVariable Long restaurantId,
+			@RequestParam(defaultValue = "5") int limit) {
+		return ResponseEntity.ok(courierLocationService.findNearestCouriers(restaurantId, limit));
+	}
+
+	/**
+	 * Rebuild the delivery statistics rollup from the orders table.
+	 * 
+	 * @return number of daily rows written.
+	 */
+
+	@PostMapping("/delivery-stats/rebuild")
+	public ResponseEntity<String> rebuildDeliveryStats() {
+		int rows = deliveryStatsService.rebuild();
+		return ResponseEntity.ok("Delivery stats rebuilt with " + rows + " daily rows.");
+	}
+
+}
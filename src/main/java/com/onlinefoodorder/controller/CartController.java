@@ -60,9 +60,9 @@ public class CartController {
 	public ResponseEntity<List<CartItem>> getCart(Principal principal) {
 		try {
 			String userEmail = principal.getName();
-			logger.info("Fetching cart for user {}", userEmail);
+			logger.debug("Fetching cart for user {}", userEmail);
 			List<CartItem> cartItems = cartService.getCart(userEmail);
-			logger.info("Cart fetched successfully for user {}", userEmail);
+			logger.debug("Cart fetched successfully for user {}", userEmail);
 			return ResponseEntity.ok(cartItems);
 		} catch (Exception e) {
 			logger.error("Error fetching cart for user {}: {}", principal.getName(), e.getMessage());
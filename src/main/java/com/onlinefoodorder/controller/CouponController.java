@@ -168,9 +168,9 @@ public class CouponController {
 	@GetMapping("/{code}")
 	public ResponseEntity<CouponDto> getCouponByCode(@PathVariable String code) {
 		try {
-			logger.info("Fetching coupon with code: {}", code);
+			logger.debug("Fetching coupon with code: {}", code);
 			CouponDto coupon = couponService.getCouponByCode(code);
-			logger.info("Coupon fetched successfully. Coupon code: {}", code);
+			logger.debug("Coupon fetched successfully. Coupon code: {}", code);
 			return ResponseEntity.ok(coupon);
 		} catch (Exception e) {
 			logger.error("Error occurred while fetching coupon with code: {}", code, e);
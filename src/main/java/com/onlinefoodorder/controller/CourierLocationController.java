@@ -0,0 +1,44 @@
+package com.onlinefoodorder.controller;
+
+import com.onlinefoodorder.dto.CourierLocationDto;
+import com.onlinefoodorder.entity.User;
+import com.onlinefoodorder.service.CourierLocationService;
+import com.onlinefoodorder.service.UserService;
+
+import jakarta.validation.Valid;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller for courier location pings sent by the delivery app.
+ */
+@RestController
+@RequestMapping("/delivery/location")
+public class CourierLocationController {
+
+	@Autowired
+	private CourierLocationService courierLocationService;
+
+	@Autowired
+	private UserService userService;
+
+	/**
+	 * Record the current position of the authenticated delivery person.
+	 *
+	 * @param location       the reported coordinates.
+	 * @param authentication the authentication object containing user details.
+	 * @return empty response once the position is recorded.
+	 */
+	@PutMapping
+	public ResponseEntity<Void> updateLocation(@Valid @RequestBody CourierLocationDto location,
+			Authentication authentication) {
+		// The JWT filter already loaded the user, so pings don't need a lookup by email
+		Long courierId = authentication.getPrincipal() instanceof User user ? user.getUserId()
+				: userService.getUserIdFromPrincipal(authentication);
+		courierLocationService.recordLocation(courierId, location);
+		return ResponseEntity.noContent().build();
+	}
+}
@@ -31,7 +31,7 @@ public class CustomerAddressController {
 	 */
 	@GetMapping
 	public ResponseEntity<List<CustomerAddressDto>> getUserAddresses(Principal principal) {
-		logger.info("Fetching addresses for user: {}", principal.getName());
+		logger.debug("Fetching addresses for user: {}", principal.getName());
 		return ResponseEntity.ok(customerAddressService.getAddressesByUser(principal.getName()));
 	}
 
@@ -1,5 +1,6 @@
 package com.onlinefoodorder.controller;
 
+import com.onlinefoodorder.dto.CourierWorkItemDto;
 import com.onlinefoodorder.dto.OrderDto;
 import com.onlinefoodorder.entity.User;
 import com.onlinefoodorder.repository.UserRepository;
@@ -48,10 +49,27 @@ public class DeliveryController {
 	@GetMapping("/assigned")
 	public ResponseEntity<List<OrderDto>> getAssignedOrders(Principal principal) {
 		Long deliveryPersonId = userService.getUserIdFromPrincipal(principal);
-		logger.info("Fetching assigned deliveries for delivery person ID: {}", deliveryPersonId);
+		logger.debug("Fetching assigned deliveries for delivery person ID: {}", deliveryPersonId);
 		return ResponseEntity.ok(deliveryService.getAssignedOrders(deliveryPersonId));
 	}
 
+	/**
+	 * Get the worklist of the logged-in delivery person: assigned and out for
+	 * delivery orders with pickup and drop details.
+	 *
+	 * @param authentication The authenticated user.
+	 * @param page           Zero-based page number.
+	 * @param size           Page size.
+	 * @return A page of worklist rows.
+	 */
+	@GetMapping("/worklist")
+	public ResponseEntity<List<CourierWorkItemDto>> getWorklist(Authentication authentication,
+			@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
+		Long deliveryPersonId = authentication.getPrincipal() instanceof User user ? user.getUserId()
+				: userService.getUserIdFromPrincipal(authentication);
+		return ResponseEntity.ok(deliveryService.getWorklist(deliveryPersonId, page, size));
+	}
+
 	/**
 	 * Mark an order as "Out for Delivery".
 	 *
@@ -53,7 +53,7 @@ public class MenuCategoryController {
 	@GetMapping("/{restaurantId}/{categoryId}")
 	public ResponseEntity<MenuCategoryDto> getCategoryById(@PathVariable Long restaurantId,
 			@PathVariable Long categoryId) {
-		logger.info("Fetching category ID: {} for restaurant ID: {}", categoryId, restaurantId);
+		logger.debug("Fetching category ID: {} for restaurant ID: {}", categoryId, restaurantId);
 		MenuCategoryDto category = categoryService.getCategoryById(restaurantId, categoryId);
 		return ResponseEntity.ok(category);
 	}
@@ -66,7 +66,7 @@ public class MenuCategoryController {
 	 */
 	@GetMapping("/{restaurantId}/all")
 	public ResponseEntity<List<MenuCategoryDto>> getAllCategories(@PathVariable Long restaurantId) {
-		logger.info("Fetching all menu categories for restaurant ID: {}", restaurantId);
+		logger.debug("Fetching all menu categories for restaurant ID: {}", restaurantId);
 		List<MenuCategoryDto> categories = categoryService.getAllCategoriesForRestaurant(restaurantId);
 		return ResponseEntity.ok(categories);
 	}
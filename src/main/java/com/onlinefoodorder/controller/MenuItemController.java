@@ -4,6 +4,7 @@ import com.onlinefoodorder.dto.MenuItemDto;
 import com.onlinefoodorder.service.MenuItemService;
 import com.onlinefoodorder.exception.ResourceNotFoundException;
 
+import java.math.BigDecimal;
 import java.security.Principal;
 import java.util.List;
 
@@ -48,17 +49,36 @@ public class MenuItemController {
 	 */
 	@GetMapping("/{itemId}")
 	public ResponseEntity<MenuItemDto> getMenuItemById(@PathVariable Long itemId) {
-		logger.info("Fetching menu item with ID: {}", itemId);
+		logger.debug("Fetching menu item with ID: {}", itemId);
 		return ResponseEntity.ok(menuItemService.getMenuItemById(itemId));
 	}
 
 	@GetMapping("/{restaurantId}/{categoryId}/all")
 	public List<MenuItemDto> getAllMenuItemsForCategory(@PathVariable Long restaurantId,
 			@PathVariable Long categoryId) {
-		logger.info("Fetching all menu items for category ID {} in restaurant ID {}", categoryId, restaurantId);
+		logger.debug("Fetching all menu items for category ID {} in restaurant ID {}", categoryId, restaurantId);
 		return menuItemService.getAllMenuItemsForCategory(restaurantId, categoryId);
 	}
 
+	/**
+	 * Endpoint to search menu items across restaurants, tolerating typos.
+	 * 
+	 * @param q          Search text.
+	 * @param vegetarian Optional vegetarian filter.
+	 * @param available  Optional availability filter.
+	 * @param minPrice   Optional minimum price.
+	 * @param maxPrice   Optional maximum price.
+	 * @param limit      Maximum number of results.
+	 * @return Matching menu items, best match first.
+	 */
+	@GetMapping("/search")
+	public List<MenuItemDto> searchMenuItems(@RequestParam String q, @RequestParam(required = false) Boolean vegetarian,
+			@RequestParam(required = false) Boolean available, @RequestParam(required = false) BigDecimal minPrice,
+			@RequestParam(required = false) BigDecimal maxPrice, @RequestParam(defaultValue = "20") int limit) {
+		logger.debug("Searching menu items for '{}'", q);
+		return menuItemService.searchMenuItems(q, vegetarian, available, minPrice, maxPrice, limit);
+	}
+
 	/**
 	 * Endpoint to update an existing menu item.
 	 * 
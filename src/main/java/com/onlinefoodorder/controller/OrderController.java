@@ -2,15 +2,21 @@ package com.onlinefoodorder.controller;
 
 import com.onlinefoodorder.dto.OrderDto;
 import com.onlinefoodorder.exception.OrderNotFoundException;
+import com.onlinefoodorder.entity.User;
+import com.onlinefoodorder.service.OrderEventStream;
 import com.onlinefoodorder.service.OrderService;
+import com.onlinefoodorder.service.UserService;
 import com.onlinefoodorder.util.Status.OrderStatus;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.security.Principal;
 import java.util.List;
@@ -29,6 +35,12 @@ public class OrderController {
 	@Autowired
 	private OrderService orderService;
 
+	@Autowired
+	private OrderEventStream orderEventStream;
+
+	@Autowired
+	private UserService userService;
+
 	/**
 	 * Places a new order for the logged-in user.
 	 * 
@@ -54,7 +66,7 @@ public class OrderController {
 	 */
 	@GetMapping("/{orderId}")
 	public ResponseEntity<OrderDto> getOrderById(@PathVariable Long orderId) {
-		logger.info("Fetching order with ID: {}", orderId);
+		logger.debug("Fetching order with ID: {}", orderId);
 
 		OrderDto order = orderService.getOrderById(orderId);
 		if (order == null) {
@@ -64,6 +76,21 @@ public class OrderController {
 		return ResponseEntity.ok(order);
 	}
 
+	/**
+	 * Opens a Server-Sent Events stream of status changes for every order the
+	 * logged-in user placed, owns the restaurant of, or delivers.
+	 * 
+	 * @param authentication The currently logged-in user.
+	 * @return The event stream.
+	 */
+	@GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamOrderEvents(Authentication authentication) {
+		Long userId = authentication.getPrincipal() instanceof User user ? user.getUserId()
+				: userService.getUserIdFromPrincipal(authentication);
+		logger.debug("User {} subscribing to order status events", userId);
+		return orderEventStream.subscribe(userId);
+	}
+
 	/**
 	 * Retrieves all orders for the logged-in user.
 	 * 
@@ -73,7 +100,7 @@ public class OrderController {
 	@GetMapping("/user")
 	public ResponseEntity<List<OrderDto>> getUserOrders(Principal principal) {
 		String userEmail = principal.getName();
-		logger.info("Fetching orders for user '{}'", userEmail);
+		logger.debug("Fetching orders for user '{}'", userEmail);
 
 		List<OrderDto> orders = orderService.getUserOrders(userEmail);
 		return ResponseEntity.ok(orders);
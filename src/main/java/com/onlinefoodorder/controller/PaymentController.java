@@ -66,7 +66,7 @@ public class PaymentController {
 	 */
 	@GetMapping("/{paymentId}")
 	public ResponseEntity<PaymentDto> getPaymentById(@PathVariable Long paymentId) {
-		logger.info("Fetching payment details for ID: {}", paymentId);
+		logger.debug("Fetching payment details for ID: {}", paymentId);
 		PaymentDto paymentDto = paymentService.getPaymentById(paymentId);
 		return ResponseEntity.ok(paymentDto);
 	}
@@ -2,7 +2,6 @@ package com.onlinefoodorder.controller;
 
 import java.security.Principal;
 import java.util.List;
-import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,7 +13,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import com.onlinefoodorder.dto.NearbyRestaurantDto;
 import com.onlinefoodorder.dto.RestaurantDto;
+import com.onlinefoodorder.dto.RestaurantPublicView;
+import com.onlinefoodorder.dto.RestaurantView;
 import com.onlinefoodorder.entity.Restaurant;
 import com.onlinefoodorder.entity.User;
 import com.onlinefoodorder.exception.UnauthorizedAccessException;
@@ -78,14 +80,14 @@ public class RestaurantController {
 	 * @return ResponseEntity containing the restaurant details
 	 */
 	@GetMapping("/{id}")
-	public ResponseEntity<Map<String, Object>> getRestaurant(@PathVariable Long id, Principal principal) {
+	public ResponseEntity<RestaurantView> getRestaurant(@PathVariable Long id, Principal principal) {
 	    User user = null;
 	    
 	    if (principal != null) {
 	        user = userService.getUserByEmail(principal.getName());
 	    }
 
-	    Map<String, Object> response = restaurantService.getRestaurantById(id, user);
+	    RestaurantView response = restaurantService.getRestaurantById(id, user);
 	    return ResponseEntity.ok(response);
 	}
 
@@ -132,14 +134,40 @@ public class RestaurantController {
 	 * @return ResponseEntity containing a success or failure message.
 	 */
 	@GetMapping("/all")
-	public ResponseEntity<List<Map<String, Object>>> getAllRestaurants() {
-		logger.info("Fetching all restaurants");
+	public ResponseEntity<List<RestaurantPublicView>> getAllRestaurants() {
+		logger.debug("Fetching all restaurants");
 
-		List<Map<String, Object>> restaurants = restaurantService.getAllRestaurants();
+		List<RestaurantPublicView> restaurants = restaurantService.getAllRestaurants();
 
-		logger.info("Successfully fetched {} restaurants", restaurants.size());
+		logger.debug("Successfully fetched {} restaurants", restaurants.size());
 		return ResponseEntity.ok(restaurants);
 	}
+
+	/**
+	 * Finds restaurants near one of the customer's saved addresses.
+	 *
+	 * @param addressId      ID of the customer's address to search around.
+	 * @param radiusKm       Search radius in kilometres.
+	 * @param openNow        If true, only restaurants open right now.
+	 * @param minRating      Optional minimum rating.
+	 * @param vegetarianOnly If true, only pure vegetarian restaurants.
+	 * @param page           Zero-based page number.
+	 * @param size           Page size.
+	 * @param principal      Current logged-in customer.
+	 * @return Restaurants ordered by rating and then distance.
+	 */
+	@GetMapping("/discover")
+	public ResponseEntity<List<NearbyRestaurantDto>> discoverRestaurants(@RequestParam Long addressId,
+			@RequestParam(defaultValue = "5") double radiusKm, @RequestParam(defaultValue = "false") boolean openNow,
+			@RequestParam(required = false) Double minRating,
+			@RequestParam(defaultValue = "false") boolean vegetarianOnly, @RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size, Principal principal) {
+		if (principal == null) {
+			throw new UnauthorizedAccessException("User not authenticated!");
+		}
+		return ResponseEntity.ok(restaurantService.discoverRestaurants(principal.getName(), addressId, radiusKm,
+				openNow, minRating, vegetarianOnly, page, size));
+	}
 	
 	@GetMapping("/menu/sales-chart")
 	public ResponseEntity<byte[]> getMenuSalesChart(Authentication authentication) {
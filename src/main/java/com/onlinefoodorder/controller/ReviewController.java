@@ -1,7 +1,7 @@
 package com.onlinefoodorder.controller;
 
 import com.onlinefoodorder.dto.ReviewDto;
-import com.onlinefoodorder.entity.Review;
+import com.onlinefoodorder.dto.ReviewFeed;
 import com.onlinefoodorder.service.ReviewService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,8 +9,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * Controller for managing customer reviews of restaurants. Allows users to add,
  * view, and delete reviews. Ensures only the review owner can delete their
@@ -41,16 +39,19 @@ public class ReviewController {
 	}
 
 	/**
-	 * Fetch all reviews for a specific restaurant
+	 * Fetch a page of reviews for a specific restaurant, newest first
 	 * 
 	 * @param restaurantId Restaurant ID
-	 * @return List of reviews
+	 * @param cursor       nextCursor of the previous page; omit for the first
+	 *                     page, which also carries the rating summary
+	 * @param size         Page size
+	 * @return Page of reviews
 	 */
 	@GetMapping("/restaurant/{restaurantId}")
-	public ResponseEntity<List<Review>> getReviews(@PathVariable Long restaurantId) {
-		logger.info("Fetching reviews for restaurant ID: {}", restaurantId);
-		List<Review> reviews = reviewService.getReviewsByRestaurant(restaurantId);
-		return ResponseEntity.ok(reviews);
+	public ResponseEntity<ReviewFeed> getReviews(@PathVariable Long restaurantId,
+			@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size) {
+		logger.debug("Fetching reviews for restaurant ID: {}", restaurantId);
+		return ResponseEntity.ok(reviewService.getReviewFeed(restaurantId, cursor, size));
 	}
 	/**
 	 * Update a review (only allowed by the owner of the review)
@@ -37,7 +37,7 @@ public class UserController {
 	 */
 	@GetMapping("/profile")
     public ResponseEntity<User> getUserProfile(Principal principal) {
-        logger.info("Fetching profile for user: {}", principal.getName());
+        logger.debug("Fetching profile for user: {}", principal.getName());
 
         User user = userService.getUserByEmail(principal.getName());
         if (user == null) {
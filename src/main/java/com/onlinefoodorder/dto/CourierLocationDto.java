@@ -0,0 +1,90 @@
+package com.onlinefoodorder.dto;
+
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO representing a courier position, either reported by the courier app or
+ * returned by a nearest courier query.
+ */
+public class CourierLocationDto {
+
+	private Long courierId;
+
+	@NotNull
+	@DecimalMin(value = "-90.0")
+	@DecimalMax(value = "90.0")
+	private Double latitude;
+
+	@NotNull
+	@DecimalMin(value = "-180.0")
+	@DecimalMax(value = "180.0")
+	private Double longitude;
+
+	private Double distanceKm;
+
+	private LocalDateTime recordedAt;
+
+	public Long getCourierId() {
+		return courierId;
+	}
+
+	public void setCourierId(Long courierId) {
+		this.courierId = courierId;
+	}
+
+	public Double getLatitude() {
+		return latitude;
+	}
+
+	public void setLatitude(Double latitude) {
+		this.latitude = latitude;
+	}
+
+	public Double getLongitude() {
+		return longitude;
+	}
+
+	public void setLongitude(Double longitude) {
+		this.longitude = longitude;
+	}
+
+	public Double getDistanceKm() {
+		return distanceKm;
+	}
+
+	public void setDistanceKm(Double distanceKm) {
+		this.distanceKm = distanceKm;
+	}
+
+	public LocalDateTime getRecordedAt() {
+		return recordedAt;
+	}
+
+	public void setRecordedAt(LocalDateTime recordedAt) {
+		this.recordedAt = recordedAt;
+	}
+
+	public CourierLocationDto() {
+		super();
+	}
+
+	public CourierLocationDto(Double latitude, Double longitude) {
+		super();
+		this.latitude = latitude;
+		this.longitude = longitude;
+	}
+
+	public CourierLocationDto(Long courierId, Double latitude, Double longitude, Double distanceKm,
+			LocalDateTime recordedAt) {
+		super();
+		this.courierId = courierId;
+		this.latitude = latitude;
+		this.longitude = longitude;
+		this.distanceKm = distanceKm;
+		this.recordedAt = recordedAt;
+	}
+}
@@ -0,0 +1,145 @@
+package com.onlinefoodorder.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.onlinefoodorder.util.Status.OrderStatus;
+
+/**
+ * Read-only row of a delivery person's worklist: one active order with its
+ * pickup and drop details, populated directly by a JPQL constructor
+ * expression so no entity graph is loaded.
+ */
+public class CourierWorkItemDto {
+
+	private final Long orderId;
+	private final OrderStatus status;
+	private final LocalDateTime createdAt;
+	private final LocalDateTime estimatedDeliveryTime;
+	private final BigDecimal totalAmount;
+	private final String specialInstructions;
+
+	private final Long restaurantId;
+	private final String restaurantName;
+	private final String pickupAddress;
+	private final String restaurantPhone;
+	private final Double pickupLatitude;
+	private final Double pickupLongitude;
+
+	private final String dropAddressLine1;
+	private final String dropAddressLine2;
+	private final String dropCity;
+	private final String dropPostalCode;
+	private final String customerName;
+	private final String customerPhone;
+
+	private final String routeId;
+	private final Integer routeSequence;
+
+	public CourierWorkItemDto(Long orderId, OrderStatus status, LocalDateTime createdAt,
+			LocalDateTime estimatedDeliveryTime, BigDecimal totalAmount, String specialInstructions, long restaurantId,
+			String restaurantName, String pickupAddress, String restaurantPhone, Double pickupLatitude,
+			Double pickupLongitude, String dropAddressLine1, String dropAddressLine2, String dropCity,
+			String dropPostalCode, String customerName, String customerPhone, String routeId, Integer routeSequence) {
+		this.orderId = orderId;
+		this.status = status;
+		this.createdAt = createdAt;
+		this.estimatedDeliveryTime = estimatedDeliveryTime;
+		this.totalAmount = totalAmount;
+		this.specialInstructions = specialInstructions;
+		this.restaurantId = restaurantId;
+		this.restaurantName = restaurantName;
+		this.pickupAddress = pickupAddress;
+		this.restaurantPhone = restaurantPhone;
+		this.pickupLatitude = pickupLatitude;
+		this.pickupLongitude = pickupLongitude;
+		this.dropAddressLine1 = dropAddressLine1;
+		this.dropAddressLine2 = dropAddressLine2;
+		this.dropCity = dropCity;
+		this.dropPostalCode = dropPostalCode;
+		this.customerName = customerName;
+		this.customerPhone = customerPhone;
+		this.routeId = routeId;
+		this.routeSequence = routeSequence;
+	}
+
+	public Long getOrderId() {
+		return orderId;
+	}
+
+	public OrderStatus getStatus() {
+		return status;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public LocalDateTime getEstimatedDeliveryTime() {
+		return estimatedDeliveryTime;
+	}
+
+	public BigDecimal getTotalAmount() {
+		return totalAmount;
+	}
+
+	public String getSpecialInstructions() {
+		return specialInstructions;
+	}
+
+	public Long getRestaurantId() {
+		return restaurantId;
+	}
+
+	public String getRestaurantName() {
+		return restaurantName;
+	}
+
+	public String getPickupAddress() {
+		return pickupAddress;
+	}
+
+	public String getRestaurantPhone() {
+		return restaurantPhone;
+	}
+
+	public Double getPickupLatitude() {
+		return pickupLatitude;
+	}
+
+	public Double getPickupLongitude() {
+		return pickupLongitude;
+	}
+
+	public String getDropAddressLine1() {
+		return dropAddressLine1;
+	}
+
+	public String getDropAddressLine2() {
+		return dropAddressLine2;
+	}
+
+	public String getDropCity() {
+		return dropCity;
+	}
+
+	public String getDropPostalCode() {
+		return dropPostalCode;
+	}
+
+	public String getCustomerName() {
+		return customerName;
+	}
+
+	public String getCustomerPhone() {
+		return customerPhone;
+	}
+
+	public String getRouteId() {
+		return routeId;
+	}
+
+	public Integer getRouteSequence() {
+		return routeSequence;
+	}
+}
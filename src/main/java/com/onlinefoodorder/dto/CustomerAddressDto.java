@@ -1,5 +1,7 @@
 package com.onlinefoodorder.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 /**
@@ -23,6 +25,14 @@ public class CustomerAddressDto {
 	
 	private String country = "India";
 
+	@DecimalMin(value = "-90.0")
+	@DecimalMax(value = "90.0")
+	private Double latitude;
+
+	@DecimalMin(value = "-180.0")
+	@DecimalMax(value = "180.0")
+	private Double longitude;
+
 	// Constructors
 	public CustomerAddressDto() {
 	}
@@ -83,6 +93,22 @@ public class CustomerAddressDto {
 		this.country = country;
 	}
 
+	public Double getLatitude() {
+		return latitude;
+	}
+
+	public void setLatitude(Double latitude) {
+		this.latitude = latitude;
+	}
+
+	public Double getLongitude() {
+		return longitude;
+	}
+
+	public void setLongitude(Double longitude) {
+		this.longitude = longitude;
+	}
+
 	public CustomerAddressDto(Long addressId, String addressLine1, String addressLine2, String city, String state,
 			String postalCode) {
 		this.addressId = addressId;
@@ -0,0 +1,111 @@
+package com.onlinefoodorder.dto;
+
+import java.math.BigDecimal;
+
+import com.onlinefoodorder.entity.MenuItem;
+
+/**
+ * Read-only snapshot of a menu item as held by the menu search index: the
+ * searchable text and everything a search result needs. Loaded in bulk by a
+ * JPQL constructor expression, so building the index loads no entity graph.
+ */
+public class MenuSearchDocument {
+
+	private final long itemId;
+	private final Long categoryId;
+	private final long restaurantId;
+	private final String name;
+	private final String description;
+	private final BigDecimal price;
+	private final String imageUrl;
+	private final boolean vegetarian;
+	private final boolean available;
+	private final int preparationTimeMin;
+	private final String restaurantName;
+	private final String categoryName;
+
+	public MenuSearchDocument(long itemId, Long categoryId, long restaurantId, String name, String description,
+			BigDecimal price, String imageUrl, boolean vegetarian, boolean available, int preparationTimeMin,
+			String restaurantName, String categoryName) {
+		this.itemId = itemId;
+		this.categoryId = categoryId;
+		this.restaurantId = restaurantId;
+		this.name = name;
+		this.description = description;
+		this.price = price;
+		this.imageUrl = imageUrl;
+		this.vegetarian = vegetarian;
+		this.available = available;
+		this.preparationTimeMin = preparationTimeMin;
+		this.restaurantName = restaurantName;
+		this.categoryName = categoryName;
+	}
+
+	/**
+	 * @param item A menu item with its restaurant and category loaded.
+	 * @return The item's search document.
+	 */
+	public static MenuSearchDocument of(MenuItem item) {
+		return new MenuSearchDocument(item.getItemId(),
+				item.getCategory() != null ? item.getCategory().getCategoryId() : null,
+				item.getRestaurant().getRestaurantId(), item.getName(), item.getDescription(), item.getPrice(),
+				item.getImageUrl(), item.isVegetarian(), item.isAvailable(), item.getPreparationTimeMin(),
+				item.getRestaurant().getName(), item.getCategory() != null ? item.getCategory().getName() : null);
+	}
+
+	/**
+	 * @return The item as returned by the menu item endpoints.
+	 */
+	public MenuItemDto toDto() {
+		return new MenuItemDto(itemId, categoryId != null ? categoryId : 0, restaurantId, name, description, price,
+				imageUrl, vegetarian, available, preparationTimeMin);
+	}
+
+	public long getItemId() {
+		return itemId;
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public long getRestaurantId() {
+		return restaurantId;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public BigDecimal getPrice() {
+		return price;
+	}
+
+	public String getImageUrl() {
+		return imageUrl;
+	}
+
+	public boolean isVegetarian() {
+		return vegetarian;
+	}
+
+	public boolean isAvailable() {
+		return available;
+	}
+
+	public int getPreparationTimeMin() {
+		return preparationTimeMin;
+	}
+
+	public String getRestaurantName() {
+		return restaurantName;
+	}
+
+	public String getCategoryName() {
+		return categoryName;
+	}
+}
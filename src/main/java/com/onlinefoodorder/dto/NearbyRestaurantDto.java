@@ -0,0 +1,104 @@
+package com.onlinefoodorder.dto;
+
+/**
+ * DTO for a restaurant returned by the discovery endpoint.
+ */
+public class NearbyRestaurantDto {
+
+	private long restaurantId;
+	private String name;
+	private String address;
+	private String logoUrl;
+	private double rating;
+	private String openingTime;
+	private String closingTime;
+	private boolean vegetarianOnly;
+	private double distanceKm;
+
+	public NearbyRestaurantDto() {
+	}
+
+	public NearbyRestaurantDto(RestaurantListing listing, boolean vegetarianOnly, double distanceKm) {
+		this.restaurantId = listing.getRestaurantId();
+		this.name = listing.getName();
+		this.address = listing.getAddress();
+		this.logoUrl = listing.getLogoUrl();
+		this.rating = listing.getRating();
+		this.openingTime = listing.getOpeningTime();
+		this.closingTime = listing.getClosingTime();
+		this.vegetarianOnly = vegetarianOnly;
+		this.distanceKm = distanceKm;
+	}
+
+	public long getRestaurantId() {
+		return restaurantId;
+	}
+
+	public void setRestaurantId(long restaurantId) {
+		this.restaurantId = restaurantId;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getAddress() {
+		return address;
+	}
+
+	public void setAddress(String address) {
+		this.address = address;
+	}
+
+	public String getLogoUrl() {
+		return logoUrl;
+	}
+
+	public void setLogoUrl(String logoUrl) {
+		this.logoUrl = logoUrl;
+	}
+
+	public double getRating() {
+		return rating;
+	}
+
+	public void setRating(double rating) {
+		this.rating = rating;
+	}
+
+	public String getOpeningTime() {
+		return openingTime;
+	}
+
+	public void setOpeningTime(String openingTime) {
+		this.openingTime = openingTime;
+	}
+
+	public String getClosingTime() {
+		return closingTime;
+	}
+
+	public void setClosingTime(String closingTime) {
+		this.closingTime = closingTime;
+	}
+
+	public boolean isVegetarianOnly() {
+		return vegetarianOnly;
+	}
+
+	public void setVegetarianOnly(boolean vegetarianOnly) {
+		this.vegetarianOnly = vegetarianOnly;
+	}
+
+	public double getDistanceKm() {
+		return distanceKm;
+	}
+
+	public void setDistanceKm(double distanceKm) {
+		this.distanceKm = distanceKm;
+	}
+}
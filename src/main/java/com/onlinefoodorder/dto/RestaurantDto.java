@@ -33,6 +33,14 @@ public class RestaurantDto {
 	@NotBlank
 	private String closingTime;
 
+	@DecimalMin(value = "-90.0")
+	@DecimalMax(value = "90.0")
+	private Double latitude;
+
+	@DecimalMin(value = "-180.0")
+	@DecimalMax(value = "180.0")
+	private Double longitude;
+
 	public String getName() {
 		return name;
 	}
@@ -93,6 +101,22 @@ public class RestaurantDto {
 		return rating;
 	}
 
+	public Double getLatitude() {
+		return latitude;
+	}
+
+	public void setLatitude(Double latitude) {
+		this.latitude = latitude;
+	}
+
+	public Double getLongitude() {
+		return longitude;
+	}
+
+	public void setLongitude(Double longitude) {
+		this.longitude = longitude;
+	}
+
 	public void setRating(Double rating) {
 		this.rating = rating;
 	}
@@ -0,0 +1,101 @@
+package com.onlinefoodorder.dto;
+
+import com.onlinefoodorder.entity.Restaurant;
+import com.onlinefoodorder.util.OpeningHours;
+
+/**
+ * Read-only snapshot of a restaurant as held by the discovery index, with its
+ * opening hours parsed into minutes of the day once. Loaded in bulk by a JPQL
+ * constructor expression, so building the index does not load owners.
+ */
+public class RestaurantListing {
+
+	private final long restaurantId;
+	private final String name;
+	private final String address;
+	private final String logoUrl;
+	private final double rating;
+	private final String openingTime;
+	private final String closingTime;
+	private final double latitude;
+	private final double longitude;
+	private final int openMinute;
+	private final int closeMinute;
+
+	public RestaurantListing(long restaurantId, String name, String address, String logoUrl, double rating,
+			String openingTime, String closingTime, Double latitude, Double longitude) {
+		this.restaurantId = restaurantId;
+		this.name = name;
+		this.address = address;
+		this.logoUrl = logoUrl;
+		this.rating = rating;
+		this.openingTime = openingTime;
+		this.closingTime = closingTime;
+		this.latitude = latitude;
+		this.longitude = longitude;
+		this.openMinute = OpeningHours.parseMinuteOfDay(openingTime);
+		this.closeMinute = OpeningHours.parseMinuteOfDay(closingTime);
+	}
+
+	/**
+	 * @param restaurant A restaurant with coordinates.
+	 * @return The restaurant's listing.
+	 */
+	public static RestaurantListing of(Restaurant restaurant) {
+		return new RestaurantListing(restaurant.getRestaurantId(), restaurant.getName(), restaurant.getAddress(),
+				restaurant.getLogoUrl(), restaurant.getRating(), restaurant.getOpeningTime(),
+				restaurant.getClosingTime(), restaurant.getLatitude(), restaurant.getLongitude());
+	}
+
+	/**
+	 * @param minuteOfDay Minutes since midnight.
+	 * @return True if the restaurant is open at that time.
+	 */
+	public boolean isOpenAt(int minuteOfDay) {
+		return OpeningHours.isOpen(openMinute, closeMinute, minuteOfDay);
+	}
+
+	public long getRestaurantId() {
+		return restaurantId;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getAddress() {
+		return address;
+	}
+
+	public String getLogoUrl() {
+		return logoUrl;
+	}
+
+	public double getRating() {
+		return rating;
+	}
+
+	public String getOpeningTime() {
+		return openingTime;
+	}
+
+	public String getClosingTime() {
+		return closingTime;
+	}
+
+	public double getLatitude() {
+		return latitude;
+	}
+
+	public double getLongitude() {
+		return longitude;
+	}
+
+	public int getOpenMinute() {
+		return openMinute;
+	}
+
+	public int getCloseMinute() {
+		return closeMinute;
+	}
+}
@@ -0,0 +1,26 @@
+package com.onlinefoodorder.dto;
+
+/**
+ * Full restaurant details shown to the restaurant's owner. Loaded by a JPQL
+ * constructor expression that reads the owner's ID from the foreign key
+ * instead of joining the owner.
+ */
+public record RestaurantOwnerView(long id, String name, String address, String phone, double rating,
+		String logoUrl, String openingTime, String closingTime, Long ownerId) implements RestaurantView {
+
+	public RestaurantOwnerView {
+		name = RestaurantView.orNotAvailable(name);
+		address = RestaurantView.orNotAvailable(address);
+		phone = RestaurantView.orNotAvailable(phone);
+		logoUrl = RestaurantView.orNotAvailable(logoUrl);
+		openingTime = RestaurantView.orNotAvailable(openingTime);
+		closingTime = RestaurantView.orNotAvailable(closingTime);
+	}
+
+	/**
+	 * @return The details of this restaurant that anyone may see.
+	 */
+	public RestaurantPublicView toPublicView() {
+		return new RestaurantPublicView(name, address, openingTime, closingTime, rating);
+	}
+}
@@ -0,0 +1,16 @@
+package com.onlinefoodorder.dto;
+
+/**
+ * Restaurant details shown to customers and anonymous visitors. Loaded by a
+ * JPQL constructor expression, so listing restaurants loads no owners.
+ */
+public record RestaurantPublicView(String name, String address, String openingTime, String closingTime,
+		double rating) implements RestaurantView {
+
+	public RestaurantPublicView {
+		name = RestaurantView.orNotAvailable(name);
+		address = RestaurantView.orNotAvailable(address);
+		openingTime = RestaurantView.orNotAvailable(openingTime);
+		closingTime = RestaurantView.orNotAvailable(closingTime);
+	}
+}
@@ -0,0 +1,28 @@
+package com.onlinefoodorder.dto;
+
+/**
+ * Read-only view of a restaurant as returned by the restaurant endpoints:
+ * either the public details or, for the restaurant's owner, the full ones.
+ * Text fields that are missing are returned as "N/A" rather than null, as the
+ * endpoints have always done.
+ */
+public sealed interface RestaurantView permits RestaurantPublicView, RestaurantOwnerView {
+
+	String name();
+
+	String address();
+
+	String openingTime();
+
+	String closingTime();
+
+	double rating();
+
+	/**
+	 * @param value A text field of the restaurant.
+	 * @return The value, or "N/A" if it is null.
+	 */
+	static String orNotAvailable(String value) {
+		return value != null ? value : "N/A";
+	}
+}
@@ -0,0 +1,13 @@
+package com.onlinefoodorder.dto;
+
+import java.util.List;
+
+/**
+ * A page of a restaurant's review feed, newest first.
+ *
+ * @param summary    The restaurant's rating summary; only on the first page.
+ * @param reviews    The reviews on this page.
+ * @param nextCursor Cursor of the next page, or null if this is the last.
+ */
+public record ReviewFeed(ReviewSummary summary, List<ReviewFeedItem> reviews, String nextCursor) {
+}
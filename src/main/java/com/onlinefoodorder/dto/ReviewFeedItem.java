@@ -0,0 +1,10 @@
+package com.onlinefoodorder.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * A review as shown in a restaurant's review feed. Loaded by a JPQL
+ * constructor expression, so the feed loads neither users nor restaurants.
+ */
+public record ReviewFeedItem(long reviewId, String username, int rating, String comment, LocalDateTime createdAt) {
+}
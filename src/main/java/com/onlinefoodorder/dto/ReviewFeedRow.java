@@ -0,0 +1,41 @@
+package com.onlinefoodorder.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * A row of the first page of a restaurant's review feed: one review, or none
+ * if the restaurant has no reviews, together with the restaurant's rating
+ * summary. Loading both in one query saves a round trip on every restaurant
+ * page.
+ */
+public class ReviewFeedRow {
+
+	private final ReviewFeedItem review;
+	private final ReviewSummary summary;
+
+	public ReviewFeedRow(Long reviewId, String username, Integer rating, String comment, LocalDateTime createdAt,
+			double restaurantRating, Long reviewCount, Long oneStar, Long twoStars, Long threeStars, Long fourStars,
+			Long fiveStars) {
+		this.review = reviewId != null ? new ReviewFeedItem(reviewId, username, rating, comment, createdAt) : null;
+		// Restaurants whose totals are not tracked yet have no summary here
+		this.summary = reviewCount != null && fiveStars != null
+				? new ReviewSummary(restaurantRating, reviewCount, oneStar, twoStars, threeStars, fourStars,
+						fiveStars)
+				: null;
+	}
+
+	/**
+	 * @return The review, or null if the restaurant has no reviews.
+	 */
+	public ReviewFeedItem getReview() {
+		return review;
+	}
+
+	/**
+	 * @return The restaurant's rating summary, or null if its review totals are
+	 *         not tracked yet.
+	 */
+	public ReviewSummary getSummary() {
+		return summary;
+	}
+}
@@ -0,0 +1,24 @@
+package com.onlinefoodorder.dto;
+
+/**
+ * A restaurant's rating, number of reviews and number of reviews with each
+ * star rating.
+ */
+public record ReviewSummary(double rating, long reviewCount, long oneStar, long twoStars, long threeStars,
+		long fourStars, long fiveStars) {
+
+	/**
+	 * @param starCounts Number of reviews with each rating, indexed by rating.
+	 * @return The summary of those reviews.
+	 */
+	public static ReviewSummary fromStarCounts(long[] starCounts) {
+		long count = 0;
+		long sum = 0;
+		for (int stars = 1; stars <= 5; stars++) {
+			count += starCounts[stars];
+			sum += stars * starCounts[stars];
+		}
+		return new ReviewSummary(count > 0 ? (double) sum / count : 0.0, count, starCounts[1], starCounts[2],
+				starCounts[3], starCounts[4], starCounts[5]);
+	}
+}
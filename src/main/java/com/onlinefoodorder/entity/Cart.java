@@ -26,6 +26,9 @@ public class Cart {
 	@Column(nullable = false)
 	private LocalDateTime addedAt = LocalDateTime.now(); // Default value
 
+	@Column
+	private LocalDateTime updatedAt; // Last cart activity, used by the abandoned cart sweeper
+
 	public Long getId() {
 		return id;
 	}
@@ -58,4 +61,12 @@ public class Cart {
 		this.addedAt = addedAt;
 	}
 
+	public LocalDateTime getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void setUpdatedAt(LocalDateTime updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+
 }
\ No newline at end of file
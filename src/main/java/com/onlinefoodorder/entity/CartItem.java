@@ -11,14 +11,15 @@ import jakarta.persistence.*;
 @Table(name = "cart_items")
 public class CartItem {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_item_seq")
+	@SequenceGenerator(name = "cart_item_seq", sequenceName = "cart_item_seq", allocationSize = 50)
 	private Long id;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "cart_id", nullable = false)
 	private Cart cart; // Many items belong to ONE cart
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "menu_item_id", nullable = false)
 	private MenuItem menuItem;
 
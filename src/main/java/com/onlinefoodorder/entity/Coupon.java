@@ -7,11 +7,16 @@ import com.onlinefoodorder.util.Status;
 import com.onlinefoodorder.util.Status.DiscountType;
 
 import jakarta.persistence.*;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 /**
  * Entity representing Discount Coupons for orders.
  */
 @Entity
 @Table(name = "coupons")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "coupons")
 
 public class Coupon {
 
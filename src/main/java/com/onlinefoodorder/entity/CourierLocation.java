@@ -0,0 +1,72 @@
+package com.onlinefoodorder.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+/**
+ * Entity holding the last persisted position of a delivery person. Live
+ * positions are kept in memory and written here periodically, so this row
+ * lags the courier's real position by up to one persistence interval.
+ */
+@Entity
+@Table(name = "courier_locations")
+public class CourierLocation {
+
+	@Id
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Column(nullable = false)
+	private double latitude;
+
+	@Column(nullable = false)
+	private double longitude;
+
+	@Column(nullable = false)
+	private LocalDateTime recordedAt;
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public void setUserId(Long userId) {
+		this.userId = userId;
+	}
+
+	public double getLatitude() {
+		return latitude;
+	}
+
+	public void setLatitude(double latitude) {
+		this.latitude = latitude;
+	}
+
+	public double getLongitude() {
+		return longitude;
+	}
+
+	public void setLongitude(double longitude) {
+		this.longitude = longitude;
+	}
+
+	public LocalDateTime getRecordedAt() {
+		return recordedAt;
+	}
+
+	public void setRecordedAt(LocalDateTime recordedAt) {
+		this.recordedAt = recordedAt;
+	}
+
+	public CourierLocation() {
+		super();
+	}
+
+	public CourierLocation(Long userId, double latitude, double longitude, LocalDateTime recordedAt) {
+		super();
+		this.userId = userId;
+		this.latitude = latitude;
+		this.longitude = longitude;
+		this.recordedAt = recordedAt;
+	}
+}
@@ -34,6 +34,10 @@ public class CustomerAddress {
 
 	private boolean isDefault;
 
+	private Double latitude;
+
+	private Double longitude;
+
 	public long getAddressId() {
 		return addressId;
 	}
@@ -106,6 +110,22 @@ public class CustomerAddress {
 		this.isDefault = isDefault;
 	}
 
+	public Double getLatitude() {
+		return latitude;
+	}
+
+	public void setLatitude(Double latitude) {
+		this.latitude = latitude;
+	}
+
+	public Double getLongitude() {
+		return longitude;
+	}
+
+	public void setLongitude(Double longitude) {
+		this.longitude = longitude;
+	}
+
 	public CustomerAddress() {
 		super();
 		// TODO Auto-generated constructor stub
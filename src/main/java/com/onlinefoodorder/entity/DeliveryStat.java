@@ -0,0 +1,87 @@
+package com.onlinefoodorder.entity;
+
+import java.time.LocalDate;
+
+import com.onlinefoodorder.util.Status.StatPeriod;
+
+import jakarta.persistence.*;
+
+/**
+ * Rollup of delivered orders per delivery person and period. Recent history
+ * is kept per day; older days are compacted into one row per month, so the
+ * delivery charts read a bounded number of rows regardless of order volume.
+ */
+@Entity
+@Table(name = "delivery_stats", uniqueConstraints = @UniqueConstraint(name = "uk_delivery_stats_person_period", columnNames = {
+		"delivery_person_id", "period", "period_start" }))
+public class DeliveryStat {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "delivery_person_id", nullable = false)
+	private Long deliveryPersonId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 10)
+	private StatPeriod period;
+
+	@Column(name = "period_start", nullable = false)
+	private LocalDate periodStart;
+
+	@Column(nullable = false)
+	private long deliveredCount;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public Long getDeliveryPersonId() {
+		return deliveryPersonId;
+	}
+
+	public void setDeliveryPersonId(Long deliveryPersonId) {
+		this.deliveryPersonId = deliveryPersonId;
+	}
+
+	public StatPeriod getPeriod() {
+		return period;
+	}
+
+	public void setPeriod(StatPeriod period) {
+		this.period = period;
+	}
+
+	public LocalDate getPeriodStart() {
+		return periodStart;
+	}
+
+	public void setPeriodStart(LocalDate periodStart) {
+		this.periodStart = periodStart;
+	}
+
+	public long getDeliveredCount() {
+		return deliveredCount;
+	}
+
+	public void setDeliveredCount(long deliveredCount) {
+		this.deliveredCount = deliveredCount;
+	}
+
+	public DeliveryStat() {
+		super();
+	}
+
+	public DeliveryStat(Long deliveryPersonId, StatPeriod period, LocalDate periodStart, long deliveredCount) {
+		super();
+		this.deliveryPersonId = deliveryPersonId;
+		this.period = period;
+		this.periodStart = periodStart;
+		this.deliveredCount = deliveredCount;
+	}
+}
@@ -14,22 +14,23 @@ import com.onlinefoodorder.util.Status.OrderStatus;
 @Table(name = "orders")
 public class Order {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_seq")
+	@SequenceGenerator(name = "order_seq", sequenceName = "order_seq", allocationSize = 50)
 	private Long orderId;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "user_id", nullable = false)
 	private User user;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "restaurant_id", nullable = false)
 	private Restaurant restaurant;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "delivery_address_id", nullable = false)
 	private CustomerAddress deliveryAddress;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "delivery_person_id")
 	private User deliveryPerson;
 
@@ -70,13 +71,18 @@ public class Order {
 		this.updatedAt = LocalDateTime.now();
 	}
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "coupon_id")
 	private Coupon coupon; // Applied coupon
 
 	@Column(nullable = false)
 	private BigDecimal discountAmount = BigDecimal.ZERO; // Discounted amount
 
+	@Column(length = 36)
+	private String routeId; // Multi-drop route the order was assigned in
+
+	private Integer routeSequence; // Position of the drop within the route
+
 	public Long getOrderId() {
 		return orderId;
 	}
@@ -218,6 +224,22 @@ public class Order {
 		this.discountAmount = discountAmount;
 	}
 
+	public String getRouteId() {
+		return routeId;
+	}
+
+	public void setRouteId(String routeId) {
+		this.routeId = routeId;
+	}
+
+	public Integer getRouteSequence() {
+		return routeSequence;
+	}
+
+	public void setRouteSequence(Integer routeSequence) {
+		this.routeSequence = routeSequence;
+	}
+
 	public Order(Long orderId, User user, Restaurant restaurant, CustomerAddress deliveryAddress, User deliveryPerson,
 			List<OrderItem> orderItems, Payment payment, BigDecimal totalAmount, BigDecimal deliveryFee,
 			BigDecimal taxAmount, String specialInstructions, LocalDateTime estimatedDeliveryTime, OrderStatus status,
@@ -11,7 +11,8 @@ import jakarta.persistence.*;
 @Table(name = "order_items")
 public class OrderItem {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")
+	@SequenceGenerator(name = "order_item_seq", sequenceName = "order_item_seq", allocationSize = 50)
 	private Long orderItemId;
 
 	@ManyToOne
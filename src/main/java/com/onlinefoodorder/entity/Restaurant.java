@@ -4,12 +4,17 @@ import java.time.LocalDateTime;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 /**
  * Entity representing a restaurant
  */
 
 @Entity
 @Table(name = "restaurants")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "restaurants")
 public class Restaurant {
 
 	@Id
@@ -32,6 +37,23 @@ public class Restaurant {
 
 	private double rating = 0.0;
 
+	// Running review totals behind the rating; null for restaurants created before
+	// they were tracked, until the next rating update or repair fills them in
+	private Long reviewCount = 0L;
+
+	private Long ratingSum = 0L;
+
+	// Number of reviews with each star rating, maintained alongside the totals
+	private Long oneStarCount = 0L;
+
+	private Long twoStarCount = 0L;
+
+	private Long threeStarCount = 0L;
+
+	private Long fourStarCount = 0L;
+
+	private Long fiveStarCount = 0L;
+
 	private String logoUrl;
 
 	@Column(nullable = false, updatable = false)
@@ -47,6 +69,10 @@ public class Restaurant {
 	@JoinColumn(name = "user_id", nullable = false)
 	private User owner;
 
+	private Double latitude;
+
+	private Double longitude;
+
 	public String getOpeningTime() {
 		return openingTime;
 	}
@@ -127,6 +153,78 @@ public class Restaurant {
 		this.owner = owner;
 	}
 
+	public Long getReviewCount() {
+		return reviewCount;
+	}
+
+	public void setReviewCount(Long reviewCount) {
+		this.reviewCount = reviewCount;
+	}
+
+	public Long getRatingSum() {
+		return ratingSum;
+	}
+
+	public void setRatingSum(Long ratingSum) {
+		this.ratingSum = ratingSum;
+	}
+
+	public Long getOneStarCount() {
+		return oneStarCount;
+	}
+
+	public void setOneStarCount(Long oneStarCount) {
+		this.oneStarCount = oneStarCount;
+	}
+
+	public Long getTwoStarCount() {
+		return twoStarCount;
+	}
+
+	public void setTwoStarCount(Long twoStarCount) {
+		this.twoStarCount = twoStarCount;
+	}
+
+	public Long getThreeStarCount() {
+		return threeStarCount;
+	}
+
+	public void setThreeStarCount(Long threeStarCount) {
+		this.threeStarCount = threeStarCount;
+	}
+
+	public Long getFourStarCount() {
+		return fourStarCount;
+	}
+
+	public void setFourStarCount(Long fourStarCount) {
+		this.fourStarCount = fourStarCount;
+	}
+
+	public Long getFiveStarCount() {
+		return fiveStarCount;
+	}
+
+	public void setFiveStarCount(Long fiveStarCount) {
+		this.fiveStarCount = fiveStarCount;
+	}
+
+	public Double getLatitude() {
+		return latitude;
+	}
+
+	public void setLatitude(Double latitude) {
+		this.latitude = latitude;
+	}
+
+	public Double getLongitude() {
+		return longitude;
+	}
+
+	public void setLongitude(Double longitude) {
+		this.longitude = longitude;
+	}
+
 	public Restaurant(long restaurantId, String name, String address, String phone, double rating, String logoUrl,
 			LocalDateTime createdAt, String openingTime, String closingTime, User owner) {
 		super();
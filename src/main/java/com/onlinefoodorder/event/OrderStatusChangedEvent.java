@@ -0,0 +1,37 @@
+package com.onlinefoodorder.event;
+
+import java.time.LocalDateTime;
+
+import com.onlinefoodorder.entity.Order;
+import com.onlinefoodorder.util.Status.OrderStatus;
+
+/**
+ * Published whenever an order changes status. Carries the IDs of every party
+ * to the order so subscribers can be notified without reloading the order.
+ */
+public record OrderStatusChangedEvent(Long orderId, OrderStatus previousStatus, OrderStatus status,
+		Long customerId, Long restaurantId, Long restaurantOwnerId, Long deliveryPersonId, LocalDateTime placedAt,
+		LocalDateTime occurredAt) {
+
+	/**
+	 * Builds the event from an order that has just been updated.
+	 *
+	 * @param order          The order, already carrying its new status.
+	 * @param previousStatus The status before the change.
+	 * @return The event.
+	 */
+	public static OrderStatusChangedEvent of(Order order, OrderStatus previousStatus) {
+		Long restaurantId = null;
+		Long restaurantOwnerId = null;
+		if (order.getRestaurant() != null) {
+			restaurantId = order.getRestaurant().getRestaurantId();
+			restaurantOwnerId = order.getRestaurant().getOwner() != null
+					? order.getRestaurant().getOwner().getUserId()
+					: null;
+		}
+		return new OrderStatusChangedEvent(order.getOrderId(), previousStatus, order.getStatus(),
+				order.getUser() != null ? order.getUser().getUserId() : null, restaurantId, restaurantOwnerId,
+				order.getDeliveryPerson() != null ? order.getDeliveryPerson().getUserId() : null,
+				order.getCreatedAt(), LocalDateTime.now());
+	}
+}
@@ -1,9 +1,14 @@
 package com.onlinefoodorder.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.onlinefoodorder.entity.CartItem;
@@ -38,4 +43,27 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
      * @param cart The cart entity.
      */
     void deleteByCart(Cart cart);
+
+    /**
+     * Deletes all items of a cart with a single set-based DELETE statement.
+     * 
+     * @param cartId The cart ID.
+     * @return Number of deleted cart items.
+     */
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.id = :cartId")
+    int deleteItemsByCartId(@Param("cartId") Long cartId);
+
+    /**
+     * Deletes all items belonging to the given carts with a single set-based DELETE statement,
+     * skipping carts touched since the cutoff.
+     * 
+     * @param cartIds The cart IDs.
+     * @param cutoff  Items of carts idle since before this time are deleted.
+     * @return Number of deleted cart items.
+     */
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.id IN :cartIds "
+            + "AND ci.cart.id IN (SELECT c.id FROM Cart c WHERE COALESCE(c.updatedAt, c.addedAt) < :cutoff)")
+    int deleteItemsByCartIds(@Param("cartIds") Collection<Long> cartIds, @Param("cutoff") LocalDateTime cutoff);
 }
@@ -1,8 +1,15 @@
 package com.onlinefoodorder.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.onlinefoodorder.entity.Cart;
@@ -25,4 +32,28 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
      * @param user The user entity.
      */
     void deleteByUser(User user);
+
+    /**
+     * Retrieves the IDs of carts with no activity since the given cutoff.
+     * Carts that were never updated fall back to their creation time.
+     * 
+     * @param cutoff   Carts idle since before this time are returned.
+     * @param pageable Bounds the number of IDs returned per call.
+     * @return List of idle cart IDs, oldest IDs first.
+     */
+    @Query("SELECT c.id FROM Cart c WHERE COALESCE(c.updatedAt, c.addedAt) < :cutoff ORDER BY c.id")
+    List<Long> findIdleCartIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Deletes the given carts with a single set-based DELETE statement, if
+     * they are still idle. A cart touched since its ID was selected is kept.
+     * Their items must be deleted first.
+     * 
+     * @param ids    The cart IDs.
+     * @param cutoff Carts idle since before this time are deleted.
+     * @return Number of deleted carts.
+     */
+    @Modifying
+    @Query("DELETE FROM Cart c WHERE c.id IN :ids AND COALESCE(c.updatedAt, c.addedAt) < :cutoff")
+    int deleteCartsByIds(@Param("ids") Collection<Long> ids, @Param("cutoff") LocalDateTime cutoff);
 }
@@ -3,7 +3,11 @@ package com.onlinefoodorder.repository;
 import com.onlinefoodorder.entity.Coupon;
 import com.onlinefoodorder.util.Status.DiscountType;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,6 +22,7 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
      * @param code The coupon code.
      * @return Optional containing the coupon if found.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Coupon> findByCode(String code);
 
     /**
@@ -0,0 +1,16 @@
+package com.onlinefoodorder.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.onlinefoodorder.entity.CourierLocation;
+
+@Repository
+public interface CourierLocationRepository
+		extends JpaRepository<CourierLocation, Long>, CourierLocationRepositoryCustom {
+
+	List<CourierLocation> findByRecordedAtAfter(LocalDateTime recordedAt);
+}
@@ -0,0 +1,16 @@
+package com.onlinefoodorder.repository;
+
+import java.util.List;
+
+import com.onlinefoodorder.entity.CourierLocation;
+
+public interface CourierLocationRepositoryCustom {
+
+	/**
+	 * Inserts or overwrites the position of each courier in one batched
+	 * statement, without first loading the existing rows.
+	 *
+	 * @param locations Latest positions, at most one per courier.
+	 */
+	void upsertAll(List<CourierLocation> locations);
+}
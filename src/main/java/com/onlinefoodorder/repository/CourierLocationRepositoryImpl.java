@@ -0,0 +1,40 @@
+package com.onlinefoodorder.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.onlinefoodorder.entity.CourierLocation;
+
+/**
+ * MySQL upsert for {@link CourierLocationRepository}. {@code saveAll} would
+ * merge every entity, issuing one SELECT per courier before the write; with
+ * {@code rewriteBatchedStatements} this batch goes out as a single multi-row
+ * INSERT instead.
+ */
+public class CourierLocationRepositoryImpl implements CourierLocationRepositoryCustom {
+
+	private static final String UPSERT = "INSERT INTO courier_locations (user_id, latitude, longitude, recorded_at) "
+			+ "VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE latitude = VALUES(latitude), "
+			+ "longitude = VALUES(longitude), recorded_at = VALUES(recorded_at)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public CourierLocationRepositoryImpl(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public void upsertAll(List<CourierLocation> locations) {
+		if (locations.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(UPSERT, locations, locations.size(), (statement, location) -> {
+			statement.setLong(1, location.getUserId());
+			statement.setDouble(2, location.getLatitude());
+			statement.setDouble(3, location.getLongitude());
+			statement.setTimestamp(4, Timestamp.valueOf(location.getRecordedAt()));
+		});
+	}
+}
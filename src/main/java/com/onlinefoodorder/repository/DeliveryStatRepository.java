@@ -0,0 +1,76 @@
+package com.onlinefoodorder.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.onlinefoodorder.entity.DeliveryStat;
+import com.onlinefoodorder.util.Status.StatPeriod;
+
+@Repository
+public interface DeliveryStatRepository extends JpaRepository<DeliveryStat, Long> {
+
+    /**
+     * Adds to the delivered count of an existing rollup row.
+     * 
+     * @param deliveryPersonId The delivery person's user ID.
+     * @param period           The rollup granularity.
+     * @param periodStart      First day of the period.
+     * @param delta            Number of deliveries to add.
+     * @return Number of updated rows; 0 if the row does not exist yet.
+     */
+    @Modifying
+    @Query("UPDATE DeliveryStat s SET s.deliveredCount = s.deliveredCount + :delta "
+            + "WHERE s.deliveryPersonId = :deliveryPersonId AND s.period = :period AND s.periodStart = :periodStart")
+    int addDeliveries(@Param("deliveryPersonId") Long deliveryPersonId, @Param("period") StatPeriod period,
+            @Param("periodStart") LocalDate periodStart, @Param("delta") long delta);
+
+    /**
+     * Retrieves the rollup rows of a delivery person at a given granularity,
+     * oldest first.
+     * 
+     * @param deliveryPersonId The delivery person's user ID.
+     * @param period           The rollup granularity.
+     * @return List of rollup rows.
+     */
+    List<DeliveryStat> findByDeliveryPersonIdAndPeriodOrderByPeriodStart(Long deliveryPersonId, StatPeriod period);
+
+    /**
+     * Retrieves a bounded chunk of rollup rows of one granularity that start
+     * before the cutoff, used by the compaction job.
+     * 
+     * @param period   The rollup granularity.
+     * @param cutoff   Rows starting before this day are returned.
+     * @param pageable Bounds the number of rows returned per call.
+     * @return List of rollup rows.
+     */
+    List<DeliveryStat> findByPeriodAndPeriodStartBeforeOrderById(StatPeriod period, LocalDate cutoff,
+            Pageable pageable);
+
+    /**
+     * Sums all rollup rows of a delivery person.
+     * 
+     * @param email The delivery person's email.
+     * @return list of object arrays containing delivery person's username and
+     *         total delivered order count.
+     */
+    @Query("SELECT u.username, SUM(s.deliveredCount) FROM DeliveryStat s, User u "
+            + "WHERE u.email = :email AND u.userId = s.deliveryPersonId GROUP BY u.username")
+    List<Object[]> sumDeliveriesByEmail(@Param("email") String email);
+
+    /**
+     * Sums all rollup rows grouped by delivery person.
+     * 
+     * @return List of object arrays containing delivery person's email and total
+     *         delivered order count.
+     */
+    @Query("SELECT u.email, SUM(s.deliveredCount) FROM DeliveryStat s, User u "
+            + "WHERE u.userId = s.deliveryPersonId GROUP BY u.email")
+    List<Object[]> sumDeliveriesByDeliveryPerson();
+}
@@ -1,8 +1,12 @@
 package com.onlinefoodorder.repository;
 
+import com.onlinefoodorder.dto.MenuSearchDocument;
 import com.onlinefoodorder.entity.MenuItem;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -41,4 +45,62 @@ public interface MenuItemRepository extends JpaRepository<MenuItem, Long> {
      * @return List of menu items.
      */
     List<MenuItem> findByItemId(long itemId);
+
+    /**
+     * Retrieves the search documents of the menu items after the given ID, in
+     * ID order, for loading the menu search index in keyset-paginated batches.
+     * 
+     * @param afterId  The last item ID of the previous batch, or 0.
+     * @param pageable The batch size.
+     * @return Search documents with restaurant and category names joined in.
+     */
+    @Query("SELECT NEW com.onlinefoodorder.dto.MenuSearchDocument(m.itemId, c.categoryId, r.restaurantId, m.name, "
+            + "m.description, m.price, m.imageUrl, m.isVegetarian, m.isAvailable, m.preparationTimeMin, r.name, "
+            + "c.name) FROM MenuItem m JOIN m.restaurant r LEFT JOIN m.category c WHERE m.itemId > :afterId "
+            + "ORDER BY m.itemId")
+    List<MenuSearchDocument> findSearchDocumentsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * Retrieves the search documents of a restaurant's menu items, for
+     * reindexing them after the restaurant is renamed.
+     * 
+     * @param restaurantId The restaurant ID.
+     * @return Search documents with restaurant and category names joined in.
+     */
+    @Query("SELECT NEW com.onlinefoodorder.dto.MenuSearchDocument(m.itemId, c.categoryId, r.restaurantId, m.name, "
+            + "m.description, m.price, m.imageUrl, m.isVegetarian, m.isAvailable, m.preparationTimeMin, r.name, "
+            + "c.name) FROM MenuItem m JOIN m.restaurant r LEFT JOIN m.category c "
+            + "WHERE r.restaurantId = :restaurantId")
+    List<MenuSearchDocument> findSearchDocumentsByRestaurantId(@Param("restaurantId") long restaurantId);
+
+    /**
+     * Retrieves the search documents of a category's menu items, for
+     * reindexing them after the category is renamed.
+     * 
+     * @param categoryId The category ID.
+     * @return Search documents with restaurant and category names joined in.
+     */
+    @Query("SELECT NEW com.onlinefoodorder.dto.MenuSearchDocument(m.itemId, c.categoryId, r.restaurantId, m.name, "
+            + "m.description, m.price, m.imageUrl, m.isVegetarian, m.isAvailable, m.preparationTimeMin, r.name, "
+            + "c.name) FROM MenuItem m JOIN m.restaurant r JOIN m.category c WHERE c.categoryId = :categoryId")
+    List<MenuSearchDocument> findSearchDocumentsByCategoryId(@Param("categoryId") long categoryId);
+
+    /**
+     * Retrieves the IDs of a restaurant's menu items.
+     * 
+     * @param restaurantId The restaurant ID.
+     * @return Menu item IDs.
+     */
+    @Query("SELECT m.itemId FROM MenuItem m WHERE m.restaurant.restaurantId = :restaurantId")
+    List<Long> findItemIdsByRestaurantId(@Param("restaurantId") long restaurantId);
+
+    /**
+     * Retrieves the restaurants whose menu has items and serves only
+     * vegetarian ones.
+     * 
+     * @return Restaurant IDs.
+     */
+    @Query("SELECT m.restaurant.restaurantId FROM MenuItem m GROUP BY m.restaurant.restaurantId "
+            + "HAVING SUM(CASE WHEN m.isVegetarian = false THEN 1 ELSE 0 END) = 0")
+    List<Long> findVegetarianOnlyRestaurantIds();
 }
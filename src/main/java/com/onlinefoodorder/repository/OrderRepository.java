@@ -1,13 +1,18 @@
 package com.onlinefoodorder.repository;
 
+import com.onlinefoodorder.dto.CourierWorkItemDto;
 import com.onlinefoodorder.dto.DashboardStatsDto;
 import com.onlinefoodorder.entity.Order;
 import com.onlinefoodorder.entity.User;
 import com.onlinefoodorder.util.Status.OrderStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,11 +22,34 @@ import org.springframework.stereotype.Repository;
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
 	/**
-	 * Retrieves all orders placed by a specific user.
+	 * Retrieves an order with everything its details view shows: its items
+	 * with their menu items, its coupon and its payment.
+	 * 
+	 * @param orderId The order ID.
+	 * @return Optional containing the order if found.
+	 */
+	@EntityGraph(attributePaths = { "orderItems", "orderItems.menuItem", "coupon", "payment" })
+	Optional<Order> findDetailsByOrderId(Long orderId);
+
+	/**
+	 * Retrieves an order with everything a status change reads: its details,
+	 * plus the restaurant and its owner, the delivery address and the delivery
+	 * person, used for authorization, dispatch and status events.
+	 * 
+	 * @param orderId The order ID.
+	 * @return Optional containing the order if found.
+	 */
+	@EntityGraph(attributePaths = { "restaurant", "restaurant.owner", "deliveryAddress", "deliveryPerson",
+			"orderItems", "orderItems.menuItem", "coupon", "payment" })
+	Optional<Order> findForStatusChangeByOrderId(Long orderId);
+
+	/**
+	 * Retrieves all orders placed by a specific user, with their details.
 	 * 
 	 * @param user The user entity.
 	 * @return List of orders.
 	 */
+	@EntityGraph(attributePaths = { "orderItems", "orderItems.menuItem", "coupon", "payment" })
 	List<Order> findByUser(User user);
 
 	/**
@@ -37,8 +65,9 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 	 * 
 	 * @param deliveryPersonId The delivery person ID.
 	 * @param status           The order status.
-	 * @return List of matching orders.
+	 * @return List of matching orders, with their payments.
 	 */
+	@EntityGraph(attributePaths = "payment")
 	List<Order> findByDeliveryPerson_UserIdAndStatus(Long deliveryPersonId, OrderStatus status);
 
 	/**
@@ -93,42 +122,77 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 	List<DashboardStatsDto.RestaurantStat> findTopRestaurantsByRevenue();
 
 	/**
-	 * Count the total number of orders delivered by a specific delivery person,
-	 * filtered by order status.
+	 * Count the orders currently held by each delivery person in the given
+	 * statuses.
+	 * 
+	 * @param statuses the order statuses that count towards a courier's load.
+	 * @return list of object arrays containing delivery person ID and order count.
+	 */
+
+	@Query("SELECT o.deliveryPerson.userId, COUNT(o) FROM Order o " + "WHERE o.deliveryPerson IS NOT NULL "
+			+ "AND o.status IN :statuses " + "GROUP BY o.deliveryPerson.userId")
+	List<Object[]> countActiveOrdersByDeliveryPerson(@Param("statuses") Collection<OrderStatus> statuses);
+
+	/**
+	 * Find the orders in PREPARING that have no delivery person yet, with what
+	 * dispatch needs to route them: restaurant and delivery address
+	 * coordinates, the time the order entered PREPARING and its longest item
+	 * preparation time.
+	 * 
+	 * @return list of object arrays containing order ID, pickup latitude and
+	 *         longitude, drop latitude and longitude, last update time and
+	 *         preparation minutes, oldest first.
+	 */
+
+	@Query("SELECT o.orderId, r.latitude, r.longitude, a.latitude, a.longitude, o.updatedAt, "
+			+ "(SELECT MAX(mi.preparationTimeMin) FROM OrderItem oi JOIN oi.menuItem mi WHERE oi.order = o) "
+			+ "FROM Order o JOIN o.restaurant r LEFT JOIN o.deliveryAddress a "
+			+ "WHERE o.status = com.onlinefoodorder.util.Status.OrderStatus.PREPARING "
+			+ "AND o.deliveryPerson IS NULL " + "ORDER BY o.updatedAt, o.orderId")
+	List<Object[]> findUndispatchedOrders();
+
+	/**
+	 * Count the orders in the given status for each restaurant.
 	 * 
-	 * @param email  the email of the delivery person.
-	 * @param status the order status to filter by.
-	 * @return list of object arrays containing delivery person's username and order
-	 *         count.
+	 * @param status the order status to count.
+	 * @return list of object arrays containing restaurant ID and order count.
 	 */
 
-	@Query("SELECT d.username, COUNT(o) FROM Order o " + "JOIN o.deliveryPerson d " + "WHERE d.email = :email "
-			+ "AND o.status = :status " + // Expecting the OrderStatus enum here
-			"GROUP BY d.username")
-	List<Object[]> getTotalOrdersDeliveredByEmail(@Param("email") String email, @Param("status") OrderStatus status);
+	@Query("SELECT o.restaurant.restaurantId, COUNT(o) FROM Order o " + "WHERE o.status = :status "
+			+ "GROUP BY o.restaurant.restaurantId")
+	List<Object[]> countOrdersByRestaurant(@Param("status") OrderStatus status);
 
 	/**
-	 * Get daily delivered order counts for a specific delivery person.
+	 * Get daily delivered order counts for every delivery person, dated by the
+	 * order's last update. Used only to rebuild the delivery rollup.
 	 * 
-	 * @param email the email of the delivery person.
-	 * @return list of object arrays with date and number of delivered orders on
-	 *         that date.
+	 * @return list of object arrays containing delivery person ID, date and
+	 *         number of delivered orders.
 	 */
 
-	@Query("SELECT DATE(o.createdAt), COUNT(o) FROM Order o " + "WHERE o.deliveryPerson.email = :email "
-			+ "AND o.status = com.onlinefoodorder.util.Status.OrderStatus.DELIVERED "
-			+ "GROUP BY DATE(o.createdAt) ORDER BY DATE(o.createdAt)")
-	List<Object[]> getDeliveredOrdersPerDay(@Param("email") String email);
+	@Query("SELECT o.deliveryPerson.userId, DATE(o.updatedAt), COUNT(o) FROM Order o "
+			+ "WHERE o.status = com.onlinefoodorder.util.Status.OrderStatus.DELIVERED "
+			+ "AND o.deliveryPerson IS NOT NULL " + "GROUP BY o.deliveryPerson.userId, DATE(o.updatedAt)")
+	List<Object[]> countDeliveredOrdersPerPersonAndDay();
 
 	/**
-	 * Get total delivered order count grouped by delivery person's email.
+	 * Retrieve a page of a delivery person's worklist with pickup and drop
+	 * details joined in, served by the (delivery_person_id, status, created_at)
+	 * index.
 	 * 
-	 * @return list of object arrays containing delivery person's email and total
-	 *         delivered order count.
+	 * @param deliveryPersonId the ID of the delivery person.
+	 * @param statuses         the order statuses to include.
+	 * @param pageable         the page to return.
+	 * @return worklist rows, oldest orders first.
 	 */
 
-	@Query("SELECT d.email, COUNT(o) FROM Order o " + "JOIN o.deliveryPerson d "
-			+ "WHERE o.status = com.onlinefoodorder.util.Status.OrderStatus.DELIVERED " + "GROUP BY d.email")
-	List<Object[]> getAllDeliveryPersonsStats();
+	@Query("SELECT NEW com.onlinefoodorder.dto.CourierWorkItemDto(o.orderId, o.status, o.createdAt, "
+			+ "o.estimatedDeliveryTime, o.totalAmount, o.specialInstructions, r.restaurantId, r.name, r.address, "
+			+ "r.phone, r.latitude, r.longitude, a.addressLine1, a.addressLine2, a.city, a.postalCode, "
+			+ "c.firstName, c.phone, o.routeId, o.routeSequence) " + "FROM Order o JOIN o.restaurant r JOIN o.deliveryAddress a JOIN o.user c "
+			+ "WHERE o.deliveryPerson.userId = :deliveryPersonId AND o.status IN :statuses "
+			+ "ORDER BY o.createdAt, o.orderId")
+	List<CourierWorkItemDto> findWorklist(@Param("deliveryPersonId") Long deliveryPersonId,
+			@Param("statuses") Collection<OrderStatus> statuses, Pageable pageable);
 
 }
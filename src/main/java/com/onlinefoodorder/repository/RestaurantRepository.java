@@ -1,10 +1,17 @@
 package com.onlinefoodorder.repository;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.onlinefoodorder.dto.RestaurantListing;
+import com.onlinefoodorder.dto.RestaurantOwnerView;
+import com.onlinefoodorder.dto.RestaurantPublicView;
 import com.onlinefoodorder.entity.Restaurant;
 import com.onlinefoodorder.entity.User;
 
@@ -18,4 +25,127 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
      * @return List of restaurants owned by the user.
      */
     List<Restaurant> findByOwner(User owner);
+
+    /**
+     * Retrieves the discovery listings of all restaurants with coordinates,
+     * without loading their owners.
+     * 
+     * @return Listings for the restaurant discovery index.
+     */
+    @Query("SELECT NEW com.onlinefoodorder.dto.RestaurantListing(r.restaurantId, r.name, r.address, r.logoUrl, "
+            + "r.rating, r.openingTime, r.closingTime, r.latitude, r.longitude) FROM Restaurant r "
+            + "WHERE r.latitude IS NOT NULL AND r.longitude IS NOT NULL")
+    List<RestaurantListing> findDiscoveryListings();
+
+    /**
+     * Retrieves the full details of a restaurant. The owner's ID is read from
+     * the foreign key, so the owner is not joined.
+     * 
+     * @param restaurantId The restaurant ID.
+     * @return The restaurant's owner view, if it exists.
+     */
+    @Query("SELECT NEW com.onlinefoodorder.dto.RestaurantOwnerView(r.restaurantId, r.name, r.address, r.phone, "
+            + "r.rating, r.logoUrl, r.openingTime, r.closingTime, r.owner.userId) FROM Restaurant r "
+            + "WHERE r.restaurantId = :restaurantId")
+    Optional<RestaurantOwnerView> findOwnerViewById(@Param("restaurantId") long restaurantId);
+
+    /**
+     * Retrieves the public details of all restaurants, without loading their
+     * owners.
+     * 
+     * @return Public views in restaurant ID order.
+     */
+    @Query("SELECT NEW com.onlinefoodorder.dto.RestaurantPublicView(r.name, r.address, r.openingTime, "
+            + "r.closingTime, r.rating) FROM Restaurant r ORDER BY r.restaurantId")
+    List<RestaurantPublicView> findAllPublicViews();
+
+    /**
+     * Applies a review change to a restaurant's review totals, star histogram
+     * and rating in a single statement.
+     * 
+     * @param restaurantId  The restaurant ID.
+     * @param removedRating Rating of the review removed or replaced, or 0.
+     * @param addedRating   Rating of the review added or the new rating, or 0.
+     * @return Number of restaurants updated: 1, or 0 if the totals need a
+     *         recompute.
+     */
+    default int applyReviewChange(long restaurantId, int removedRating, int addedRating) {
+        int countDelta = (addedRating > 0 ? 1 : 0) - (removedRating > 0 ? 1 : 0);
+        return applyReviewDelta(restaurantId, countDelta, addedRating - removedRating, removedRating, addedRating);
+    }
+
+    /**
+     * Applies a review change to a restaurant's review totals, star histogram
+     * and rating. The rating is assigned first so that it is computed from the
+     * old totals on databases that evaluate assignments left to right. Nothing
+     * is updated if the totals are untracked or would become negative.
+     * 
+     * @param restaurantId  The restaurant ID.
+     * @param countDelta    Change in the number of reviews.
+     * @param ratingDelta   Change in the sum of review ratings.
+     * @param removedRating Star bucket to decrement, or 0.
+     * @param addedRating   Star bucket to increment, or 0.
+     * @return Number of restaurants updated: 1, or 0 if the totals need a
+     *         recompute.
+     */
+    @Modifying
+    @Query("UPDATE Restaurant r SET r.rating = CASE WHEN r.reviewCount + :countDelta > 0 "
+            + "THEN (r.ratingSum + :ratingDelta) * 1.0 / (r.reviewCount + :countDelta) ELSE 0.0 END, "
+            + "r.reviewCount = r.reviewCount + :countDelta, r.ratingSum = r.ratingSum + :ratingDelta, "
+            + "r.oneStarCount = r.oneStarCount + CASE WHEN :addedRating = 1 THEN 1 ELSE 0 END "
+            + "- CASE WHEN :removedRating = 1 THEN 1 ELSE 0 END, "
+            + "r.twoStarCount = r.twoStarCount + CASE WHEN :addedRating = 2 THEN 1 ELSE 0 END "
+            + "- CASE WHEN :removedRating = 2 THEN 1 ELSE 0 END, "
+            + "r.threeStarCount = r.threeStarCount + CASE WHEN :addedRating = 3 THEN 1 ELSE 0 END "
+            + "- CASE WHEN :removedRating = 3 THEN 1 ELSE 0 END, "
+            + "r.fourStarCount = r.fourStarCount + CASE WHEN :addedRating = 4 THEN 1 ELSE 0 END "
+            + "- CASE WHEN :removedRating = 4 THEN 1 ELSE 0 END, "
+            + "r.fiveStarCount = r.fiveStarCount + CASE WHEN :addedRating = 5 THEN 1 ELSE 0 END "
+            + "- CASE WHEN :removedRating = 5 THEN 1 ELSE 0 END "
+            + "WHERE r.restaurantId = :restaurantId AND r.reviewCount + :countDelta >= 0 "
+            + "AND r.ratingSum + :ratingDelta >= 0 AND r.fiveStarCount IS NOT NULL "
+            + "AND CASE WHEN :removedRating = 1 THEN r.oneStarCount WHEN :removedRating = 2 THEN r.twoStarCount "
+            + "WHEN :removedRating = 3 THEN r.threeStarCount WHEN :removedRating = 4 THEN r.fourStarCount "
+            + "WHEN :removedRating = 5 THEN r.fiveStarCount ELSE 1 END > 0")
+    int applyReviewDelta(@Param("restaurantId") long restaurantId, @Param("countDelta") int countDelta,
+            @Param("ratingDelta") int ratingDelta, @Param("removedRating") int removedRating,
+            @Param("addedRating") int addedRating);
+
+    /**
+     * Recomputes the review totals, star histogram and rating of a range of
+     * restaurants from their reviews.
+     * 
+     * @param afterId Restaurants with an ID above this value...
+     * @param upToId  ...up to and including this value are recomputed.
+     * @return Number of restaurants updated.
+     */
+    @Modifying
+    @Query("UPDATE Restaurant r SET "
+            + "r.rating = COALESCE((SELECT AVG(v.rating) FROM Review v WHERE v.restaurant = r), 0.0), "
+            + "r.reviewCount = (SELECT COUNT(v) FROM Review v WHERE v.restaurant = r), "
+            + "r.ratingSum = COALESCE((SELECT SUM(v.rating) FROM Review v WHERE v.restaurant = r), 0), "
+            + "r.oneStarCount = (SELECT COUNT(v) FROM Review v WHERE v.restaurant = r AND v.rating = 1), "
+            + "r.twoStarCount = (SELECT COUNT(v) FROM Review v WHERE v.restaurant = r AND v.rating = 2), "
+            + "r.threeStarCount = (SELECT COUNT(v) FROM Review v WHERE v.restaurant = r AND v.rating = 3), "
+            + "r.fourStarCount = (SELECT COUNT(v) FROM Review v WHERE v.restaurant = r AND v.rating = 4), "
+            + "r.fiveStarCount = (SELECT COUNT(v) FROM Review v WHERE v.restaurant = r AND v.rating = 5) "
+            + "WHERE r.restaurantId > :afterId AND r.restaurantId <= :upToId")
+    int recomputeRatings(@Param("afterId") long afterId, @Param("upToId") long upToId);
+
+    /**
+     * Recomputes the review totals, star histogram and rating of one
+     * restaurant from its reviews.
+     * 
+     * @param restaurantId The restaurant ID.
+     * @return Number of restaurants updated: 1, or 0 if it does not exist.
+     */
+    default int recomputeRating(long restaurantId) {
+        return recomputeRatings(restaurantId - 1, restaurantId);
+    }
+
+    /**
+     * @return The highest restaurant ID, or 0 if there are no restaurants.
+     */
+    @Query("SELECT COALESCE(MAX(r.restaurantId), 0) FROM Restaurant r")
+    long findMaxRestaurantId();
 }
@@ -1,19 +1,60 @@
 package com.onlinefoodorder.repository;
 
+import com.onlinefoodorder.dto.ReviewFeedItem;
+import com.onlinefoodorder.dto.ReviewFeedRow;
 import com.onlinefoodorder.entity.Review;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     /**
-     * Retrieves all reviews for a specific restaurant.
+     * Retrieves the newest reviews of a restaurant together with its rating
+     * summary. Yields a single row without a review if the restaurant has no
+     * reviews, and no rows if it does not exist.
      * 
      * @param restaurantId The restaurant ID.
-     * @return List of reviews.
+     * @param pageable     Limits the number of reviews.
+     * @return Feed rows, newest review first.
      */
-    List<Review> findByRestaurantRestaurantId(Long restaurantId);
+    @Query("SELECT NEW com.onlinefoodorder.dto.ReviewFeedRow(v.reviewId, u.username, v.rating, v.comment, "
+            + "v.createdAt, r.rating, r.reviewCount, r.oneStarCount, r.twoStarCount, r.threeStarCount, "
+            + "r.fourStarCount, r.fiveStarCount) FROM Restaurant r LEFT JOIN Review v ON v.restaurant = r "
+            + "LEFT JOIN v.user u WHERE r.restaurantId = :restaurantId ORDER BY v.createdAt DESC, v.reviewId DESC")
+    List<ReviewFeedRow> findFirstFeedPage(@Param("restaurantId") long restaurantId, Pageable pageable);
+
+    /**
+     * Retrieves the reviews of a restaurant that come after the given review
+     * in the feed, i.e. are older, using the (restaurant, created at, ID)
+     * index rather than an offset.
+     * 
+     * @param restaurantId The restaurant ID.
+     * @param createdAt    Creation time of the last review of the previous page.
+     * @param reviewId     ID of the last review of the previous page.
+     * @param pageable     Limits the number of reviews.
+     * @return Reviews, newest first.
+     */
+    @Query("SELECT NEW com.onlinefoodorder.dto.ReviewFeedItem(v.reviewId, u.username, v.rating, v.comment, "
+            + "v.createdAt) FROM Review v JOIN v.user u WHERE v.restaurant.restaurantId = :restaurantId "
+            + "AND (v.createdAt < :createdAt OR v.createdAt = :createdAt AND v.reviewId < :reviewId) "
+            + "ORDER BY v.createdAt DESC, v.reviewId DESC")
+    List<ReviewFeedItem> findFeedPageAfter(@Param("restaurantId") long restaurantId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("reviewId") long reviewId, Pageable pageable);
+
+    /**
+     * Counts the reviews of a restaurant by rating.
+     * 
+     * @param restaurantId The restaurant ID.
+     * @return Rows of [rating, review count].
+     */
+    @Query("SELECT v.rating, COUNT(v) FROM Review v WHERE v.restaurant.restaurantId = :restaurantId "
+            + "GROUP BY v.rating")
+    List<Object[]> countByRating(@Param("restaurantId") long restaurantId);
 }
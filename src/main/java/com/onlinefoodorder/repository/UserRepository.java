@@ -1,9 +1,17 @@
 package com.onlinefoodorder.repository;
 
 import com.onlinefoodorder.entity.User;
+import com.onlinefoodorder.util.Status.ApprovalStatus;
+import com.onlinefoodorder.util.Status.UserRole;
+
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,6 +23,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @param email The email address.
      * @return Optional containing the user if found.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
 
     /**
@@ -40,4 +49,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return Optional containing the user if found.
      */
     Optional<User> findById(long id);
+
+    /**
+     * Finds all users with the given role and approval status.
+     * 
+     * @param role           The user role.
+     * @param approvalStatus The approval status.
+     * @return List of matching users.
+     */
+    List<User> findByRoleAndApprovalStatus(UserRole role, ApprovalStatus approvalStatus);
 }
@@ -58,7 +58,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		}
 
 		if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-			logger.warn("Missing or invalid Authorization header");
+			logger.debug("Missing or invalid Authorization header");
 			chain.doFilter(request, response);
 			return;
 		}
@@ -68,7 +68,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		try {
 			userEmail = jwtUtil.extractEmail(jwt);
-			logger.info("Extracted email from JWT: {}", userEmail);
+			logger.debug("Extracted email from JWT: {}", userEmail);
 		} catch (ExpiredJwtException e) {
 			logger.error("JWT token expired: {}", e.getMessage());
 			response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Expired Token");
@@ -100,7 +100,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 						null, userDetails.getAuthorities());
 				authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 				SecurityContextHolder.getContext().setAuthentication(authToken);
-				logger.info("User {} authenticated successfully", userEmail);
+				logger.debug("User {} authenticated successfully", userEmail);
 			} else {
 				logger.warn("JWT validation failed for user {}", userEmail);
 			}
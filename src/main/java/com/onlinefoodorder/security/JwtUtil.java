@@ -117,7 +117,7 @@ public class JwtUtil {
             final String extractedEmail = extractEmail(token);
             boolean isValid = (extractedEmail.equals(userEmail) && !isTokenExpired(token));
             if (isValid) {
-                logger.info("JWT token successfully validated for user: {}", userEmail);
+                logger.debug("JWT token successfully validated for user: {}", userEmail);
             } else {
                 logger.warn("JWT validation failed for user: {}", userEmail);
             }
@@ -4,8 +4,11 @@ import com.onlinefoodorder.dto.DashboardStatsDto;
 import com.onlinefoodorder.repository.*;
 import com.onlinefoodorder.util.Charts;
 
+import io.micrometer.observation.annotation.Observed;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -17,10 +20,12 @@ import java.util.stream.Collectors;
 
 /**
  * Service class responsible for generating statistics and chart data for the
- * admin dashboard, including user, order, and restaurant metrics.
+ * admin dashboard, including user, order, and restaurant metrics. All of it is
+ * read-only, so it is served by the read replica when one is configured.
  */
 
 @Service
+@Transactional(readOnly = true)
 public class AdminDashboardService {
 
 	private final UserRepository userRepository;
@@ -87,6 +92,7 @@ public class AdminDashboardService {
 	 *
 	 * @return byte array representing the chart image in PNG format.
 	 */
+	@Observed(name = "service.method")
 	public byte[] getTopSellingItemsChart() {
 		var topItems = getDashboardStats().getTopSellingItems().stream().limit(5).toList();
 		return Charts.getTopSellingItemsChartBytes(topItems);
@@ -97,6 +103,7 @@ public class AdminDashboardService {
 	 *
 	 * @return byte array representing the chart image in PNG format.
 	 */
+	@Observed(name = "service.method")
 	public byte[] getActiveUsersChart() {
 		var users = getDashboardStats().getMostActiveUsers().stream().limit(5).toList();
 		return Charts.getActiveUsersChartBytes(users);
@@ -107,6 +114,7 @@ public class AdminDashboardService {
 	 *
 	 * @return byte array representing the chart image in PNG format.
 	 */
+	@Observed(name = "service.method")
 	public byte[] getRestaurantRevenueChart() {
 		var restaurants = getDashboardStats().getTopRestaurantsByRevenue().stream().limit(5).toList();
 		return Charts.getRestaurantRevenueChartBytes(restaurants);
@@ -0,0 +1,92 @@
+package com.onlinefoodorder.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.onlinefoodorder.event.OrderStatusChangedEvent;
+import com.onlinefoodorder.util.Status.OrderStatus;
+import com.onlinefoodorder.util.Status.PaymentMethod;
+import com.onlinefoodorder.util.Status.PaymentStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Business counters: orders entering each status, including placement, and
+ * payments by method and outcome. Every combination is registered up front,
+ * so that rates start from zero rather than from the first occurrence.
+ * Changes are counted once their transaction commits.
+ */
+@Component
+public class BusinessMetrics {
+
+	private final Map<OrderStatus, Counter> ordersByStatus = new EnumMap<>(OrderStatus.class);
+	private final Map<PaymentMethod, Map<PaymentStatus, Counter>> paymentsByMethod = new EnumMap<>(
+			PaymentMethod.class);
+
+	public BusinessMetrics(MeterRegistry meterRegistry) {
+		for (OrderStatus status : OrderStatus.values()) {
+			ordersByStatus.put(status, Counter.builder("orders.status").description("Orders entering a status")
+					.tag("status", status.name()).register(meterRegistry));
+		}
+		for (PaymentMethod method : PaymentMethod.values()) {
+			Map<PaymentStatus, Counter> byStatus = new EnumMap<>(PaymentStatus.class);
+			for (PaymentStatus status : PaymentStatus.values()) {
+				byStatus.put(status, Counter.builder("payments").description("Payments processed")
+						.tag("method", method.name()).tag("status", status.name()).register(meterRegistry));
+			}
+			paymentsByMethod.put(method, byStatus);
+		}
+	}
+
+	/**
+	 * Counts a newly placed order under its initial status.
+	 *
+	 * @param status The status the order was placed with.
+	 */
+	public void orderPlaced(OrderStatus status) {
+		afterCommit(() -> ordersByStatus.get(status).increment());
+	}
+
+	/**
+	 * Counts an order entering a new status, whichever service changed it.
+	 *
+	 * @param event The status change.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+		if (event.status() != null) {
+			ordersByStatus.get(event.status()).increment();
+		}
+	}
+
+	/**
+	 * Counts a processed payment.
+	 *
+	 * @param method The payment method.
+	 * @param status The outcome.
+	 */
+	public void paymentProcessed(PaymentMethod method, PaymentStatus status) {
+		if (method != null && status != null) {
+			afterCommit(() -> paymentsByMethod.get(method).get(status).increment());
+		}
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package com.onlinefoodorder.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.onlinefoodorder.repository.CartItemRepository;
+import com.onlinefoodorder.repository.CartRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Background sweeper that removes carts which have been idle for longer than
+ * the configured age. Carts are deleted in bounded chunks, each chunk in its
+ * own short transaction, so the sweep never holds long locks on the cart
+ * tables.
+ */
+@Service
+public class CartPurgeService {
+
+	private static final Logger logger = LoggerFactory.getLogger(CartPurgeService.class);
+
+	private final CartRepository cartRepository;
+	private final CartItemRepository cartItemRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	private final int idleDays;
+	private final int batchSize;
+	private final int maxBatchesPerRun;
+
+	private final Counter purgedCarts;
+	private final Counter purgedItems;
+	private final DistributionSummary rowsPerRun;
+	private final Timer runTimer;
+
+	public CartPurgeService(CartRepository cartRepository, CartItemRepository cartItemRepository,
+			PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+			@Value("${cart.purge.idle-days:30}") int idleDays, @Value("${cart.purge.batch-size:500}") int batchSize,
+			@Value("${cart.purge.max-batches-per-run:200}") int maxBatchesPerRun) {
+		if (idleDays <= 0 || batchSize <= 0 || maxBatchesPerRun <= 0) {
+			throw new IllegalArgumentException("Cart purge idle days, batch size and max batches must be positive");
+		}
+		this.cartRepository = cartRepository;
+		this.cartItemRepository = cartItemRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.idleDays = idleDays;
+		this.batchSize = batchSize;
+		this.maxBatchesPerRun = maxBatchesPerRun;
+
+		this.purgedCarts = Counter.builder("cart.purge.carts").description("Abandoned carts deleted by the sweeper")
+				.register(meterRegistry);
+		this.purgedItems = Counter.builder("cart.purge.items")
+				.description("Cart items deleted together with abandoned carts").register(meterRegistry);
+		this.rowsPerRun = DistributionSummary.builder("cart.purge.rows.per.run")
+				.description("Cart and cart item rows deleted per sweeper run").register(meterRegistry);
+		this.runTimer = Timer.builder("cart.purge.duration").description("Duration of a cart sweeper run")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Scheduled entry point for the abandoned cart sweep.
+	 */
+	@Scheduled(cron = "${cart.purge.cron:0 30 3 * * *}")
+	public void purgeAbandonedCarts() {
+		purgeCartsIdleSince(LocalDateTime.now().minusDays(idleDays));
+	}
+
+	/**
+	 * Deletes carts (and their items) with no activity since the cutoff, one
+	 * bounded chunk per transaction.
+	 *
+	 * @param cutoff Carts idle since before this time are deleted.
+	 * @return Total number of rows (carts plus items) deleted in this run.
+	 */
+	public long purgeCartsIdleSince(LocalDateTime cutoff) {
+		long start = System.nanoTime();
+		long cartsDeleted = 0;
+		long itemsDeleted = 0;
+		int batches = 0;
+
+		while (batches < maxBatchesPerRun) {
+			int[] deleted = transactionTemplate.execute(status -> purgeChunk(cutoff));
+			if (deleted == null || deleted[0] == 0) {
+				break;
+			}
+			cartsDeleted += deleted[0];
+			itemsDeleted += deleted[1];
+			batches++;
+			if (deleted[0] < batchSize) {
+				break;
+			}
+		}
+
+		if (batches == maxBatchesPerRun) {
+			logger.warn("Cart purge stopped after {} batches; remaining idle carts will be removed on the next run",
+					batches);
+		}
+
+		purgedCarts.increment(cartsDeleted);
+		purgedItems.increment(itemsDeleted);
+		rowsPerRun.record(cartsDeleted + itemsDeleted);
+		runTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+		logger.info("Cart purge removed {} carts and {} cart items idle since {} in {} batches", cartsDeleted,
+				itemsDeleted, cutoff, batches);
+		return cartsDeleted + itemsDeleted;
+	}
+
+	/**
+	 * Deletes one chunk of idle carts. Items are removed first to satisfy the
+	 * cart_items foreign key. Both deletes repeat the idleness check, so a cart
+	 * a customer touches after its ID was selected is kept with its items.
+	 *
+	 * @return Two-element array of deleted carts and deleted items.
+	 */
+	private int[] purgeChunk(LocalDateTime cutoff) {
+		List<Long> cartIds = cartRepository.findIdleCartIds(cutoff, PageRequest.of(0, batchSize));
+		if (cartIds.isEmpty()) {
+			return new int[] { 0, 0 };
+		}
+		int items = cartItemRepository.deleteItemsByCartIds(cartIds, cutoff);
+		int carts = cartRepository.deleteCartsByIds(cartIds, cutoff);
+		logger.debug("Purged chunk of {} carts and {} items", carts, items);
+		return new int[] { carts, items };
+	}
+}
@@ -5,6 +5,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import io.micrometer.observation.annotation.Observed;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -49,6 +51,7 @@ public class CartService {
 	 * @param cartDto   The DTO containing the menu item details and quantity.
 	 */
 	@Transactional
+	@Observed(name = "service.method")
 	public void addToCart(String userEmail, CartDto cartDto) {
 		if (cartDto.getMenuItemId() == null) {
 			throw new IllegalArgumentException("Menu item ID cannot be null");
@@ -57,7 +60,7 @@ public class CartService {
 			throw new IllegalArgumentException("Quantity must be positive");
 		}
 
-		logger.info("Adding/updating item {} in cart for user {}", cartDto.getMenuItemId(), userEmail);
+		logger.debug("Adding/updating item {} in cart for user {}", cartDto.getMenuItemId(), userEmail);
 
 		User user = userService.getUserByEmail(userEmail);
 		MenuItem menuItem = menuItemRepository.findById(cartDto.getMenuItemId())
@@ -85,6 +88,7 @@ public class CartService {
 			cart.getCartItems().add(newCartItem);
 		}
 
+		cart.setUpdatedAt(LocalDateTime.now());
 		cartRepository.save(cart);
 	}
 
@@ -95,7 +99,7 @@ public class CartService {
 	 * @return A list of CartItems.
 	 */
 	public List<CartItem> getCart(String userEmail) {
-		logger.info("Fetching cart for user {}", userEmail);
+		logger.debug("Fetching cart for user {}", userEmail);
 		User user = userService.getUserByEmail(userEmail);
 		Cart cart = cartRepository.findByUser(user).orElseThrow(() -> new ResourceNotFoundException("Cart not found"));
 		return cart.getCartItems();
@@ -109,13 +113,14 @@ public class CartService {
 	 */
 	@Transactional
 	public void removeFromCart(Long cartItemId, String userEmail) {
-		logger.info("Removing cart item {} for user {}", cartItemId, userEmail);
+		logger.debug("Removing cart item {} for user {}", cartItemId, userEmail);
 		CartItem cartItem = cartItemRepository.findById(cartItemId)
 				.orElseThrow(() -> new ResourceNotFoundException("Cart item not found"));
 
 		if (!cartItem.getCart().getUser().getEmail().equals(userEmail)) {
 			throw new UnauthorizedAccessException("Unauthorized to remove this cart item");
 		}
+		cartItem.getCart().setUpdatedAt(LocalDateTime.now());
 		cartItemRepository.delete(cartItem);
 	}
 
@@ -128,7 +133,7 @@ public class CartService {
 	 */
 	@Transactional
 	public void updateCartItem(Long cartItemId, int newQuantity, String userEmail) {
-		logger.info("Updating cart item {} for user {}", cartItemId, userEmail);
+		logger.debug("Updating cart item {} for user {}", cartItemId, userEmail);
 		CartItem cartItem = cartItemRepository.findById(cartItemId)
 				.orElseThrow(() -> new ResourceNotFoundException("Cart item not found"));
 
@@ -136,6 +141,7 @@ public class CartService {
 			throw new UnauthorizedAccessException("Unauthorized to update this cart item");
 		}
 
+		cartItem.getCart().setUpdatedAt(LocalDateTime.now());
 		if (newQuantity <= 0) {
 			cartItemRepository.delete(cartItem);
 		} else {
@@ -151,10 +157,12 @@ public class CartService {
 	 */
 	@Transactional
 	public void clearCart(String userEmail) {
-		logger.info("Clearing cart for user {}", userEmail);
+		logger.debug("Clearing cart for user {}", userEmail);
 		User user = userService.getUserByEmail(userEmail);
 		Cart cart = cartRepository.findByUser(user).orElseThrow(() -> new ResourceNotFoundException("Cart not found"));
-		cartItemRepository.deleteAll(cart.getCartItems());
+		int removed = cartItemRepository.deleteItemsByCartId(cart.getId());
+		cart.setUpdatedAt(LocalDateTime.now());
+		logger.debug("Removed {} items from cart {}", removed, cart.getId());
 	}
 
 	/**
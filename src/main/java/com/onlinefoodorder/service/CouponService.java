@@ -124,7 +124,7 @@ public class CouponService {
 	 * @return The coupon as DTO.
 	 */
 	public CouponDto getCouponByCode(String code) {
-		logger.info("Fetching coupon with code '{}'", code);
+		logger.debug("Fetching coupon with code '{}'", code);
 
 		// Fetch coupon from the repository
 		Coupon coupon = couponRepository.findByCode(code)
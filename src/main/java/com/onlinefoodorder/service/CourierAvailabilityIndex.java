@@ -0,0 +1,124 @@
+package com.onlinefoodorder.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory index of available delivery persons and the number of active
+ * (assigned or out for delivery) orders each one is currently carrying.
+ * Updated on every assignment and delivery, and periodically rebuilt from the
+ * database by {@link DeliveryDispatcher} to correct any drift. Load changes
+ * made inside a transaction are applied only once it commits, so a rolled
+ * back assignment or delivery leaves the loads untouched.
+ */
+@Component
+public class CourierAvailabilityIndex {
+
+	private final ConcurrentHashMap<Long, AtomicInteger> loads = new ConcurrentHashMap<>();
+
+	/**
+	 * Replaces the indexed couriers and their loads with a fresh snapshot.
+	 *
+	 * @param courierLoads Map of delivery person ID to active order count.
+	 */
+	public void replaceAll(Map<Long, Integer> courierLoads) {
+		loads.keySet().retainAll(courierLoads.keySet());
+		courierLoads.forEach((courierId, load) -> loads.computeIfAbsent(courierId, id -> new AtomicInteger())
+				.set(Math.max(0, load)));
+	}
+
+	/**
+	 * Adds a courier to the index with no load, if not already present.
+	 *
+	 * @param courierId The delivery person ID.
+	 */
+	public void register(Long courierId) {
+		loads.putIfAbsent(courierId, new AtomicInteger());
+	}
+
+	/**
+	 * Removes a courier from the index so it no longer receives orders.
+	 *
+	 * @param courierId The delivery person ID.
+	 */
+	public void remove(Long courierId) {
+		loads.remove(courierId);
+	}
+
+	/**
+	 * Records a newly assigned order for the courier, after commit when called
+	 * inside a transaction.
+	 *
+	 * @param courierId The delivery person ID.
+	 */
+	public void incrementLoad(Long courierId) {
+		afterCommit(() -> loads.computeIfAbsent(courierId, id -> new AtomicInteger()).incrementAndGet());
+	}
+
+	/**
+	 * Records a completed delivery for the courier, after commit when called
+	 * inside a transaction.
+	 *
+	 * @param courierId The delivery person ID.
+	 */
+	public void decrementLoad(Long courierId) {
+		afterCommit(() -> {
+			AtomicInteger load = loads.get(courierId);
+			if (load != null) {
+				load.updateAndGet(current -> Math.max(0, current - 1));
+			}
+		});
+	}
+
+	/**
+	 * @param courierId The delivery person ID.
+	 * @return The courier's active order count, or 0 if not indexed.
+	 */
+	public int getLoad(Long courierId) {
+		AtomicInteger load = loads.get(courierId);
+		return load != null ? load.get() : 0;
+	}
+
+	/**
+	 * @param courierId The delivery person ID.
+	 * @return True if the courier is in the index.
+	 */
+	public boolean contains(Long courierId) {
+		return loads.containsKey(courierId);
+	}
+
+	/**
+	 * @return A point-in-time copy of courier IDs and their loads.
+	 */
+	public Map<Long, Integer> snapshot() {
+		Map<Long, Integer> copy = new HashMap<>(loads.size() * 2);
+		loads.forEach((courierId, load) -> copy.put(courierId, load.get()));
+		return copy;
+	}
+
+	/**
+	 * @return Number of indexed couriers.
+	 */
+	public int size() {
+		return loads.size();
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+}
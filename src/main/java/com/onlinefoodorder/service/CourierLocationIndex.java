@@ -0,0 +1,203 @@
+package com.onlinefoodorder.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.onlinefoodorder.util.GeoUtils;
+
+/**
+ * In-memory spatial index of the latest known courier positions, keyed by
+ * {@code User.userId}. Positions are bucketed into a fixed-size latitude /
+ * longitude grid held in concurrent maps, so location pings and nearest
+ * courier queries never take a lock or touch the database.
+ */
+@Component
+public class CourierLocationIndex {
+
+	/** Grid cell size in degrees (roughly 1.1 km of latitude). */
+	static final double CELL_DEGREES = 0.01;
+
+	private static final int MAX_RING = 500;
+
+	private final ConcurrentHashMap<Long, Position> positions = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+	private final long staleAfterMillis;
+
+	public CourierLocationIndex(@Value("${delivery.location.stale-after-ms:120000}") long staleAfterMillis) {
+		this.staleAfterMillis = staleAfterMillis;
+	}
+
+	/**
+	 * Records the latest position of a courier, moving it between grid cells
+	 * when it crosses a cell boundary.
+	 *
+	 * @param courierId       The delivery person's user ID.
+	 * @param latitude        Latitude in degrees.
+	 * @param longitude       Longitude in degrees.
+	 * @param timestampMillis Time the position was recorded.
+	 * @return The stored position.
+	 */
+	public Position update(long courierId, double latitude, double longitude, long timestampMillis) {
+		long cell = cellKey(cellRow(latitude), cellCol(longitude));
+		Position position = new Position(courierId, latitude, longitude, timestampMillis, cell);
+		Position previous = positions.put(courierId, position);
+
+		if (previous == null || previous.cell() != cell) {
+			cells.computeIfAbsent(cell, key -> ConcurrentHashMap.newKeySet()).add(courierId);
+			if (previous != null) {
+				Set<Long> oldCell = cells.get(previous.cell());
+				if (oldCell != null) {
+					oldCell.remove(courierId);
+				}
+			}
+		}
+		return position;
+	}
+
+	/**
+	 * Removes a courier from the index, e.g. when they go offline.
+	 *
+	 * @param courierId The delivery person's user ID.
+	 */
+	public void remove(long courierId) {
+		Position previous = positions.remove(courierId);
+		if (previous != null) {
+			Set<Long> cell = cells.get(previous.cell());
+			if (cell != null) {
+				cell.remove(courierId);
+			}
+		}
+	}
+
+	/**
+	 * @param courierId The delivery person's user ID.
+	 * @return The latest position, or null if unknown.
+	 */
+	public Position get(long courierId) {
+		return positions.get(courierId);
+	}
+
+	/**
+	 * @return Number of couriers with a known position.
+	 */
+	public int size() {
+		return positions.size();
+	}
+
+	/**
+	 * @return Age in milliseconds after which a position is ignored.
+	 */
+	public long staleAfterMillis() {
+		return staleAfterMillis;
+	}
+
+	/**
+	 * Finds the couriers closest to a point by scanning grid rings outwards
+	 * from the point's cell, stopping as soon as no unscanned cell can hold a
+	 * closer courier. Positions older than the staleness window are skipped.
+	 *
+	 * @param latitude    Latitude of the search origin.
+	 * @param longitude   Longitude of the search origin.
+	 * @param limit       Maximum number of couriers to return.
+	 * @param maxDistanceKm Couriers further than this are ignored.
+	 * @param filter      Additional predicate on courier IDs (e.g. availability).
+	 * @return Matching couriers ordered by increasing distance.
+	 */
+	public List<NearbyCourier> findNearest(double latitude, double longitude, int limit, double maxDistanceKm,
+			LongPredicate filter) {
+		List<NearbyCourier> found = new ArrayList<>();
+		if (limit <= 0 || positions.isEmpty()) {
+			return found;
+		}
+
+		long now = System.currentTimeMillis();
+		int row = cellRow(latitude);
+		int col = cellCol(longitude);
+		// Width of a cell along its narrower (longitude) side at this latitude
+		double cellKm = CELL_DEGREES * GeoUtils.KM_PER_DEGREE
+				* Math.max(0.01, Math.cos(Math.toRadians(Math.min(89.0, Math.abs(latitude) + CELL_DEGREES))));
+		int maxRing = (int) Math.min(MAX_RING, Math.ceil(maxDistanceKm / cellKm) + 1);
+
+		for (int ring = 0; ring <= maxRing; ring++) {
+			if (ring == 0) {
+				scanCell(row, col, latitude, longitude, maxDistanceKm, now, filter, found);
+			} else {
+				// Walk only the perimeter of the ring: top and bottom rows, then the side columns
+				for (int dc = -ring; dc <= ring; dc++) {
+					scanCell(row - ring, col + dc, latitude, longitude, maxDistanceKm, now, filter, found);
+					scanCell(row + ring, col + dc, latitude, longitude, maxDistanceKm, now, filter, found);
+				}
+				for (int dr = -ring + 1; dr <= ring - 1; dr++) {
+					scanCell(row + dr, col - ring, latitude, longitude, maxDistanceKm, now, filter, found);
+					scanCell(row + dr, col + ring, latitude, longitude, maxDistanceKm, now, filter, found);
+				}
+			}
+			// Every cell in the next ring is at least ring * cellKm away from the origin
+			if (found.size() >= limit) {
+				found.sort(Comparator.comparingDouble(NearbyCourier::distanceKm));
+				if (found.get(limit - 1).distanceKm() <= ring * cellKm) {
+					break;
+				}
+			}
+		}
+
+		found.sort(Comparator.comparingDouble(NearbyCourier::distanceKm));
+		return found.size() > limit ? new ArrayList<>(found.subList(0, limit)) : found;
+	}
+
+	private void scanCell(int row, int col, double latitude, double longitude, double maxDistanceKm, long now,
+			LongPredicate filter, List<NearbyCourier> found) {
+		long key = cellKey(row, col);
+		Set<Long> members = cells.get(key);
+		if (members == null || members.isEmpty()) {
+			return;
+		}
+		for (Long courierId : members) {
+			Position position = positions.get(courierId);
+			if (position == null || position.cell() != key) {
+				// Courier moved or was removed while being indexed; the latest cell wins
+				members.remove(courierId);
+				continue;
+			}
+			if (now - position.timestampMillis() > staleAfterMillis || !filter.test(courierId)) {
+				continue;
+			}
+			double distance = GeoUtils.distanceKm(latitude, longitude, position.latitude(), position.longitude());
+			if (distance <= maxDistanceKm) {
+				found.add(new NearbyCourier(courierId, position.latitude(), position.longitude(), distance));
+			}
+		}
+	}
+
+	private static int cellRow(double latitude) {
+		return (int) Math.floor(latitude / CELL_DEGREES);
+	}
+
+	private static int cellCol(double longitude) {
+		return (int) Math.floor(longitude / CELL_DEGREES);
+	}
+
+	private static long cellKey(int row, int col) {
+		return ((long) row << 32) | (col & 0xffffffffL);
+	}
+
+	/**
+	 * Latest known position of a courier.
+	 */
+	public record Position(long courierId, double latitude, double longitude, long timestampMillis, long cell) {
+	}
+
+	/**
+	 * A courier returned by a nearest neighbour query.
+	 */
+	public record NearbyCourier(long courierId, double latitude, double longitude, double distanceKm) {
+	}
+}
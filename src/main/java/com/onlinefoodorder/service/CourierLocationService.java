@@ -0,0 +1,173 @@
+package com.onlinefoodorder.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.onlinefoodorder.dto.CourierLocationDto;
+import com.onlinefoodorder.entity.CourierLocation;
+import com.onlinefoodorder.entity.Restaurant;
+import com.onlinefoodorder.exception.RestaurantNotFoundException;
+import com.onlinefoodorder.repository.CourierLocationRepository;
+import com.onlinefoodorder.repository.RestaurantRepository;
+import com.onlinefoodorder.service.CourierLocationIndex.Position;
+import com.onlinefoodorder.util.GeoUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Service for courier location ingestion. Pings go straight into the
+ * in-memory {@link CourierLocationIndex}; only the latest position of each
+ * courier that moved since the previous flush is written to the database, on
+ * a fixed interval. On startup the persisted positions that are still within
+ * the staleness window are loaded back into the index, so couriers stay
+ * findable across a restart until their next ping.
+ */
+@Service
+public class CourierLocationService {
+
+	private static final Logger logger = LoggerFactory.getLogger(CourierLocationService.class);
+
+	private final CourierLocationIndex locationIndex;
+	private final CourierAvailabilityIndex availabilityIndex;
+	private final CourierLocationRepository courierLocationRepository;
+	private final RestaurantRepository restaurantRepository;
+
+	private final double searchRadiusKm;
+
+	/** Couriers whose position changed since the last flush. */
+	private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+	private final Counter pings;
+	private final Counter persisted;
+
+	public CourierLocationService(CourierLocationIndex locationIndex, CourierAvailabilityIndex availabilityIndex,
+			CourierLocationRepository courierLocationRepository, RestaurantRepository restaurantRepository,
+			MeterRegistry meterRegistry, @Value("${delivery.location.search-radius-km:10}") double searchRadiusKm) {
+		this.locationIndex = locationIndex;
+		this.availabilityIndex = availabilityIndex;
+		this.courierLocationRepository = courierLocationRepository;
+		this.restaurantRepository = restaurantRepository;
+		this.searchRadiusKm = searchRadiusKm;
+		this.pings = Counter.builder("delivery.location.pings").description("Courier location updates received")
+				.register(meterRegistry);
+		this.persisted = Counter.builder("delivery.location.persisted")
+				.description("Courier locations written to the database").register(meterRegistry);
+	}
+
+	/**
+	 * Records a location ping for a courier in memory.
+	 *
+	 * @param courierId The delivery person's user ID.
+	 * @param location  The reported coordinates.
+	 */
+	public void recordLocation(Long courierId, CourierLocationDto location) {
+		if (courierId == null) {
+			throw new IllegalArgumentException("Courier ID cannot be null");
+		}
+		if (location.getLatitude() == null || location.getLongitude() == null
+				|| !GeoUtils.isValidCoordinate(location.getLatitude(), location.getLongitude())) {
+			throw new IllegalArgumentException("Invalid coordinates");
+		}
+		locationIndex.update(courierId, location.getLatitude(), location.getLongitude(), System.currentTimeMillis());
+		dirty.add(courierId);
+		pings.increment();
+	}
+
+	/**
+	 * Writes the latest position of every courier that moved since the last
+	 * flush. Intermediate pings between flushes are never persisted.
+	 *
+	 * @return Number of locations written.
+	 */
+	@Scheduled(fixedDelayString = "${delivery.location.persist-ms:30000}")
+	public int persistLocations() {
+		if (dirty.isEmpty()) {
+			return 0;
+		}
+
+		List<CourierLocation> batch = new ArrayList<>();
+		for (Iterator<Long> it = dirty.iterator(); it.hasNext();) {
+			Long courierId = it.next();
+			it.remove();
+			Position position = locationIndex.get(courierId);
+			if (position != null) {
+				batch.add(new CourierLocation(courierId, position.latitude(), position.longitude(),
+						LocalDateTime.ofInstant(Instant.ofEpochMilli(position.timestampMillis()),
+								ZoneId.systemDefault())));
+			}
+		}
+
+		courierLocationRepository.upsertAll(batch);
+		persisted.increment(batch.size());
+		logger.debug("Persisted {} courier locations", batch.size());
+		return batch.size();
+	}
+
+	/**
+	 * Loads the persisted positions recorded within the staleness window into
+	 * the index, keeping any newer position a ping has already stored.
+	 *
+	 * @return Number of positions loaded.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public int loadPersistedLocations() {
+		long now = System.currentTimeMillis();
+		LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(now - locationIndex.staleAfterMillis()),
+				ZoneId.systemDefault());
+
+		int loaded = 0;
+		for (CourierLocation location : courierLocationRepository.findByRecordedAtAfter(since)) {
+			long recordedAt = location.getRecordedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+			Position current = locationIndex.get(location.getUserId());
+			if (current == null || current.timestampMillis() < recordedAt) {
+				locationIndex.update(location.getUserId(), location.getLatitude(), location.getLongitude(),
+						recordedAt);
+				loaded++;
+			}
+		}
+		if (loaded > 0) {
+			logger.info("Loaded {} persisted courier locations", loaded);
+		}
+		return loaded;
+	}
+
+	/**
+	 * Finds the available couriers closest to a restaurant using only the
+	 * in-memory indexes.
+	 *
+	 * @param restaurantId The restaurant ID.
+	 * @param limit        Maximum number of couriers to return.
+	 * @return Couriers ordered by distance from the restaurant.
+	 */
+	public List<CourierLocationDto> findNearestCouriers(Long restaurantId, int limit) {
+		Restaurant restaurant = restaurantRepository.findById(restaurantId)
+				.orElseThrow(() -> new RestaurantNotFoundException("Restaurant not found with ID: " + restaurantId));
+		if (restaurant.getLatitude() == null || restaurant.getLongitude() == null) {
+			throw new IllegalArgumentException("Restaurant " + restaurantId + " has no coordinates");
+		}
+
+		return locationIndex
+				.findNearest(restaurant.getLatitude(), restaurant.getLongitude(), limit, searchRadiusKm,
+						availabilityIndex::contains)
+				.stream()
+				.map(courier -> new CourierLocationDto(courier.courierId(), courier.latitude(), courier.longitude(),
+						courier.distanceKm(), null))
+				.collect(Collectors.toList());
+	}
+}
@@ -38,14 +38,12 @@ public class CustomerAddressService {
 	 * @return list of addresses.
 	 */
 	public List<CustomerAddressDto> getAddressesByUser(String userEmail) {
-		logger.info("Fetching addresses for user {}", userEmail);
+		logger.debug("Fetching addresses for user {}", userEmail);
 		User user = userRepository.findByEmail(userEmail)
 				.orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
 		return customerAddressRepository.findByUser(user).stream()
-				.map(address -> new CustomerAddressDto(address.getAddressId(), address.getAddressLine1(),
-						address.getAddressLine2(), address.getCity(), address.getState(), address.getPostalCode()))
-				.collect(Collectors.toList());
+				.map(this::mapToDto).collect(Collectors.toList());
 	}
 
 	/**
@@ -63,13 +61,13 @@ public class CustomerAddressService {
 
 		CustomerAddress address = new CustomerAddress(user, addressDto.getAddressLine1(), addressDto.getAddressLine2(),
 				addressDto.getCity(), addressDto.getState(), addressDto.getPostalCode(), addressDto.getCountry());
+		address.setLatitude(addressDto.getLatitude());
+		address.setLongitude(addressDto.getLongitude());
 
 		CustomerAddress savedAddress = customerAddressRepository.save(address);
 		logger.info("Address added successfully for user {}", userEmail);
 
-		return new CustomerAddressDto(savedAddress.getAddressId(), savedAddress.getAddressLine1(),
-				savedAddress.getAddressLine2(), savedAddress.getCity(), savedAddress.getState(),
-				savedAddress.getPostalCode());
+		return mapToDto(savedAddress);
 	}
 
 	/**
@@ -99,13 +97,15 @@ public class CustomerAddressService {
 		address.setCity(addressDto.getCity());
 		address.setState(addressDto.getState());
 		address.setPostalCode(addressDto.getPostalCode());
+		if (addressDto.getLatitude() != null && addressDto.getLongitude() != null) {
+			address.setLatitude(addressDto.getLatitude());
+			address.setLongitude(addressDto.getLongitude());
+		}
 
 		CustomerAddress updatedAddress = customerAddressRepository.save(address);
 		logger.info("Address {} updated successfully for user {}", addressId, userEmail);
 
-		return new CustomerAddressDto(updatedAddress.getAddressId(), updatedAddress.getAddressLine1(),
-				updatedAddress.getAddressLine2(), updatedAddress.getCity(), updatedAddress.getState(),
-				updatedAddress.getPostalCode());
+		return mapToDto(updatedAddress);
 	}
 
 	/**
@@ -131,4 +131,12 @@ public class CustomerAddressService {
 		customerAddressRepository.delete(address);
 		logger.info("Address {} deleted successfully for user {}", addressId, userEmail);
 	}
+
+	private CustomerAddressDto mapToDto(CustomerAddress address) {
+		CustomerAddressDto dto = new CustomerAddressDto(address.getAddressId(), address.getAddressLine1(),
+				address.getAddressLine2(), address.getCity(), address.getState(), address.getPostalCode());
+		dto.setLatitude(address.getLatitude());
+		dto.setLongitude(address.getLongitude());
+		return dto;
+	}
 }
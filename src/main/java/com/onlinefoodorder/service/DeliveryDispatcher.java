@@ -0,0 +1,507 @@
+package com.onlinefoodorder.service;
+
+import com.onlinefoodorder.entity.User;
+import com.onlinefoodorder.exception.DeliveryException;
+import com.onlinefoodorder.exception.ResourceNotFoundException;
+import com.onlinefoodorder.repository.OrderRepository;
+import com.onlinefoodorder.repository.UserRepository;
+import com.onlinefoodorder.util.Status.ApprovalStatus;
+import com.onlinefoodorder.util.Status.OrderStatus;
+import com.onlinefoodorder.util.Status.UserRole;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Automatic dispatch engine for delivery assignment. Orders entering PREPARING
+ * are queued, and on every tick a batch of them is assigned to the least
+ * loaded available delivery persons from the {@link CourierAvailabilityIndex}.
+ * Orders submitted with the restaurant's coordinates go to the least loaded of
+ * the couriers nearest to the restaurant in the {@link CourierLocationIndex},
+ * falling back to the least loaded courier overall when none is nearby.
+ * In batching mode, orders submitted with pickup, drop and ready time are
+ * first grouped into multi-drop routes by the {@link RouteBatchPlanner} and
+ * each route is assigned to one courier with spare capacity for all of it.
+ * Assignment itself goes through {@link DeliveryService#assignDeliveryPerson}
+ * and {@link DeliveryService#assignRoute} so manual and automatic assignments
+ * share the same validation.
+ * <p>
+ * The queue lives in memory. Orders waiting in PREPARING without a courier
+ * are therefore re-read from the database at startup and on every
+ * availability refresh, so a restart between an order's status change and
+ * its assignment does not lose it.
+ */
+@Service
+public class DeliveryDispatcher {
+
+	private static final Logger logger = LoggerFactory.getLogger(DeliveryDispatcher.class);
+
+	private static final List<OrderStatus> ACTIVE_STATUSES = List.of(OrderStatus.ASSIGNED,
+			OrderStatus.OUT_FOR_DELIVERY);
+
+	private static final int MAX_ATTEMPTS = 3;
+
+	private final DeliveryService deliveryService;
+	private final CourierAvailabilityIndex availabilityIndex;
+	private final CourierLocationIndex locationIndex;
+	private final RouteBatchPlanner routeBatchPlanner;
+	private final UserRepository userRepository;
+	private final OrderRepository orderRepository;
+
+	private final Deque<PendingDispatch> pending = new ConcurrentLinkedDeque<>();
+	// Orders in the queue or being assigned by the current tick; an order is queued at most once
+	private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+	private final boolean enabled;
+	private final int batchSize;
+	private final int maxLoad;
+	private final int nearbyCandidates;
+	private final double maxDistanceKm;
+	private final boolean batching;
+
+	private final Timer assignmentLatency;
+	private final Counter assignedOrders;
+	private final Counter droppedOrders;
+	private final Counter routedOrders;
+
+	public DeliveryDispatcher(DeliveryService deliveryService, CourierAvailabilityIndex availabilityIndex,
+			CourierLocationIndex locationIndex, RouteBatchPlanner routeBatchPlanner, UserRepository userRepository,
+			OrderRepository orderRepository, MeterRegistry meterRegistry,
+			@Value("${delivery.dispatch.enabled:true}") boolean enabled,
+			@Value("${delivery.dispatch.batch-size:100}") int batchSize,
+			@Value("${delivery.dispatch.max-load:3}") int maxLoad,
+			@Value("${delivery.dispatch.nearby-candidates:10}") int nearbyCandidates,
+			@Value("${delivery.dispatch.max-distance-km:10}") double maxDistanceKm,
+			@Value("${delivery.dispatch.batching.enabled:false}") boolean batching) {
+		if (batchSize <= 0 || maxLoad <= 0) {
+			throw new IllegalArgumentException("Dispatch batch size and max load must be positive");
+		}
+		this.deliveryService = deliveryService;
+		this.availabilityIndex = availabilityIndex;
+		this.locationIndex = locationIndex;
+		this.routeBatchPlanner = routeBatchPlanner;
+		this.userRepository = userRepository;
+		this.orderRepository = orderRepository;
+		this.enabled = enabled;
+		this.batchSize = batchSize;
+		this.maxLoad = maxLoad;
+		this.nearbyCandidates = nearbyCandidates;
+		this.maxDistanceKm = maxDistanceKm;
+		this.batching = batching;
+
+		this.assignmentLatency = Timer.builder("delivery.dispatch.latency")
+				.description("Time from an order entering the dispatch queue to its assignment")
+				.publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry);
+		this.assignedOrders = Counter.builder("delivery.dispatch.assigned")
+				.description("Orders assigned by the dispatcher").register(meterRegistry);
+		this.droppedOrders = Counter.builder("delivery.dispatch.dropped")
+				.description("Orders removed from the dispatch queue without assignment").register(meterRegistry);
+		this.routedOrders = Counter.builder("delivery.dispatch.routed")
+				.description("Orders assigned as part of a multi-drop route").register(meterRegistry);
+	}
+
+	/**
+	 * Queues an order for automatic assignment. When called inside a
+	 * transaction the order is queued only after that transaction commits, so
+	 * the dispatcher never sees an uncommitted status change.
+	 *
+	 * @param orderId The ID of the order that entered PREPARING.
+	 */
+	public void submit(Long orderId) {
+		submit(orderId, null, null);
+	}
+
+	/**
+	 * Queues an order for automatic assignment near the given pickup point.
+	 *
+	 * @param orderId   The ID of the order that entered PREPARING.
+	 * @param latitude  Latitude of the restaurant, or null if unknown.
+	 * @param longitude Longitude of the restaurant, or null if unknown.
+	 */
+	public void submit(Long orderId, Double latitude, Double longitude) {
+		submit(orderId, latitude, longitude, null, null, null);
+	}
+
+	/**
+	 * Queues an order for automatic assignment with everything needed to
+	 * batch it into a multi-drop route.
+	 *
+	 * @param orderId       The ID of the order that entered PREPARING.
+	 * @param latitude      Latitude of the restaurant, or null if unknown.
+	 * @param longitude     Longitude of the restaurant, or null if unknown.
+	 * @param dropLatitude  Latitude of the delivery address, or null if
+	 *                      unknown.
+	 * @param dropLongitude Longitude of the delivery address, or null if
+	 *                      unknown.
+	 * @param readyAt       When the food is expected to be ready, or null if
+	 *                      unknown.
+	 */
+	public void submit(Long orderId, Double latitude, Double longitude, Double dropLatitude, Double dropLongitude,
+			LocalDateTime readyAt) {
+		if (!enabled) {
+			return;
+		}
+		Long readyAtMillis = readyAt != null ? readyAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+				: null;
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					enqueue(orderId, latitude, longitude, dropLatitude, dropLongitude, readyAtMillis);
+				}
+			});
+		} else {
+			enqueue(orderId, latitude, longitude, dropLatitude, dropLongitude, readyAtMillis);
+		}
+	}
+
+	private boolean enqueue(Long orderId, Double latitude, Double longitude, Double dropLatitude,
+			Double dropLongitude, Long readyAtMillis) {
+		if (!queued.add(orderId)) {
+			return false;
+		}
+		pending.offerLast(new PendingDispatch(orderId, latitude, longitude, dropLatitude, dropLongitude,
+				readyAtMillis, System.nanoTime(), 0));
+		logger.debug("Order {} queued for dispatch", orderId);
+		return true;
+	}
+
+	/**
+	 * Assigns up to one batch of queued orders. Couriers are ranked by current
+	 * load, and a courier at the configured maximum load receives no further
+	 * orders until it completes a delivery.
+	 *
+	 * @return Number of orders assigned in this tick.
+	 */
+	@Scheduled(fixedDelayString = "${delivery.dispatch.tick-ms:5000}")
+	public int dispatchPendingOrders() {
+		if (!enabled || pending.isEmpty()) {
+			return 0;
+		}
+
+		// Loads as of this tick; heap entries whose load no longer matches are stale and skipped
+		Map<Long, Integer> loads = new HashMap<>(availabilityIndex.snapshot());
+		int assigned = batching ? dispatchRoutes(loads) : 0;
+		PriorityQueue<CourierSlot> couriers = availableCouriers(loads);
+		List<PendingDispatch> retries = new ArrayList<>();
+		int processed = 0;
+
+		while (processed < batchSize) {
+			PendingDispatch next = pending.pollFirst();
+			if (next == null) {
+				break;
+			}
+			Long courierId = nearestAvailableCourier(next.latitude(), next.longitude(), 1, loads);
+			if (courierId == null) {
+				CourierSlot slot = pollAvailable(couriers, loads);
+				if (slot == null) {
+					pending.offerFirst(next);
+					break;
+				}
+				courierId = slot.courierId();
+			}
+			processed++;
+			int load = loads.get(courierId);
+
+			try {
+				deliveryService.assignDeliveryPerson(next.orderId(), courierId);
+				queued.remove(next.orderId());
+				assignmentLatency.record(System.nanoTime() - next.enqueuedAt(), TimeUnit.NANOSECONDS);
+				assignedOrders.increment();
+				assigned++;
+				loads.put(courierId, load + 1);
+				if (load + 1 < maxLoad) {
+					couriers.offer(new CourierSlot(courierId, load + 1));
+				}
+			} catch (IllegalStateException | ResourceNotFoundException e) {
+				// Order was cancelled, already assigned or removed in the meantime
+				logger.warn("Dropping order {} from dispatch queue: {}", next.orderId(), e.getMessage());
+				queued.remove(next.orderId());
+				droppedOrders.increment();
+				couriers.offer(new CourierSlot(courierId, load));
+			} catch (DeliveryException e) {
+				logger.warn("Removing courier {} from availability index: {}", courierId, e.getMessage());
+				availabilityIndex.remove(courierId);
+				loads.remove(courierId);
+				pending.offerFirst(next);
+				processed--;
+			} catch (RuntimeException e) {
+				logger.error("Failed to dispatch order {}: {}", next.orderId(), e.getMessage());
+				couriers.offer(new CourierSlot(courierId, load));
+				if (next.attempts() + 1 < MAX_ATTEMPTS) {
+					retries.add(next.retry());
+				} else {
+					queued.remove(next.orderId());
+					droppedOrders.increment();
+				}
+			}
+		}
+		retries.forEach(pending::offerLast);
+
+		if (assigned > 0 || !pending.isEmpty()) {
+			logger.info("Dispatch tick assigned {} orders, {} still waiting", assigned, pending.size());
+		}
+		return assigned;
+	}
+
+	/**
+	 * Takes up to one batch of queued orders, groups the ones with known
+	 * pickup, drop and ready time into routes and assigns every route of two or
+	 * more orders to a single courier. Orders left on their own, and the orders
+	 * of routes no courier has capacity for, go back to the front of the queue
+	 * for individual assignment in the same tick.
+	 *
+	 * @param loads Courier loads for this tick, updated with the assignments.
+	 * @return Number of orders assigned as part of a route.
+	 */
+	private int dispatchRoutes(Map<Long, Integer> loads) {
+		List<PendingDispatch> singles = new ArrayList<>();
+		Map<Long, PendingDispatch> routable = new HashMap<>();
+		List<RouteBatchPlanner.RouteCandidate> candidates = new ArrayList<>();
+		for (int i = 0; i < batchSize; i++) {
+			PendingDispatch next = pending.pollFirst();
+			if (next == null) {
+				break;
+			}
+			if (next.isRoutable()) {
+				routable.put(next.orderId(), next);
+				candidates.add(next.toRouteCandidate());
+			} else {
+				singles.add(next);
+			}
+		}
+
+		int assigned = 0;
+		for (RouteBatchPlanner.Route route : routeBatchPlanner.plan(candidates)) {
+			List<PendingDispatch> orders = new ArrayList<>(route.size());
+			route.orderIds().forEach(orderId -> orders.add(routable.get(orderId)));
+			if (route.size() < 2) {
+				singles.addAll(orders);
+				continue;
+			}
+			RouteBatchPlanner.RouteCandidate firstPickup = route.pickups().get(0);
+			Long courierId = nearestAvailableCourier(firstPickup.pickupLatitude(), firstPickup.pickupLongitude(),
+					route.size(), loads);
+			if (courierId == null) {
+				courierId = leastLoadedCourier(route.size(), loads);
+			}
+			if (courierId == null) {
+				singles.addAll(orders);
+				continue;
+			}
+
+			try {
+				deliveryService.assignRoute(route.orderIds(), courierId);
+				queued.removeAll(route.orderIds());
+				long now = System.nanoTime();
+				orders.forEach(order -> assignmentLatency.record(now - order.enqueuedAt(), TimeUnit.NANOSECONDS));
+				assignedOrders.increment(route.size());
+				routedOrders.increment(route.size());
+				assigned += route.size();
+				loads.merge(courierId, route.size(), Integer::sum);
+			} catch (DeliveryException e) {
+				logger.warn("Removing courier {} from availability index: {}", courierId, e.getMessage());
+				availabilityIndex.remove(courierId);
+				loads.remove(courierId);
+				singles.addAll(orders);
+			} catch (RuntimeException e) {
+				// The route was rolled back; its orders are retried one by one so a bad order only drops itself
+				logger.warn("Route of orders {} not assigned, dispatching individually: {}", route.orderIds(),
+						e.getMessage());
+				singles.addAll(orders);
+			}
+		}
+
+		singles.sort(Comparator.comparingLong(PendingDispatch::enqueuedAt).reversed());
+		singles.forEach(pending::offerFirst);
+		return assigned;
+	}
+
+	/**
+	 * Rebuilds the availability index from the database: every approved and
+	 * active delivery person, with their count of assigned and out for delivery
+	 * orders. Then queues any order still waiting for a courier that is not
+	 * already queued. Runs at startup and then periodically.
+	 */
+	@Scheduled(fixedDelayString = "${delivery.dispatch.refresh-ms:300000}")
+	public void refreshAvailability() {
+		Map<Long, Integer> loads = new HashMap<>();
+		for (User courier : userRepository.findByRoleAndApprovalStatus(UserRole.DELIVERY_PERSON,
+				ApprovalStatus.APPROVED)) {
+			if (courier.isActive()) {
+				loads.put(courier.getUserId(), 0);
+			}
+		}
+		for (Object[] row : orderRepository.countActiveOrdersByDeliveryPerson(ACTIVE_STATUSES)) {
+			Long courierId = (Long) row[0];
+			if (loads.containsKey(courierId)) {
+				loads.put(courierId, ((Long) row[1]).intValue());
+			}
+		}
+		availabilityIndex.replaceAll(loads);
+		logger.debug("Courier availability index refreshed with {} delivery persons", loads.size());
+		requeueUndispatchedOrders();
+	}
+
+	/**
+	 * Queues the orders in PREPARING without a delivery person, with pickup,
+	 * drop and ready time read from the order as {@link OrderService} submits
+	 * them. Orders already queued are skipped.
+	 */
+	private void requeueUndispatchedOrders() {
+		if (!enabled) {
+			return;
+		}
+		int requeued = 0;
+		for (Object[] row : orderRepository.findUndispatchedOrders()) {
+			LocalDateTime preparingSince = (LocalDateTime) row[5];
+			Integer preparationMinutes = (Integer) row[6];
+			Long readyAtMillis = preparingSince != null
+					? preparingSince.plusMinutes(preparationMinutes != null ? preparationMinutes : 0)
+							.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+					: null;
+			if (enqueue((Long) row[0], (Double) row[1], (Double) row[2], (Double) row[3], (Double) row[4],
+					readyAtMillis)) {
+				requeued++;
+			}
+		}
+		if (requeued > 0) {
+			logger.info("Queued {} orders waiting for a courier that were not in the dispatch queue", requeued);
+		}
+	}
+
+	/**
+	 * @return Number of orders waiting for assignment.
+	 */
+	public int getPendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * Builds a heap of couriers below the maximum load, least loaded first.
+	 */
+	private PriorityQueue<CourierSlot> availableCouriers(Map<Long, Integer> loads) {
+		PriorityQueue<CourierSlot> couriers = new PriorityQueue<>(
+				Comparator.comparingInt(CourierSlot::load).thenComparingLong(CourierSlot::courierId));
+		loads.forEach((courierId, load) -> {
+			if (load < maxLoad) {
+				couriers.offer(new CourierSlot(courierId, load));
+			}
+		});
+		return couriers;
+	}
+
+	/**
+	 * Polls the least loaded courier whose heap entry still matches its load
+	 * for this tick, discarding stale entries.
+	 */
+	private CourierSlot pollAvailable(PriorityQueue<CourierSlot> couriers, Map<Long, Integer> loads) {
+		CourierSlot slot;
+		while ((slot = couriers.poll()) != null) {
+			Integer load = loads.get(slot.courierId());
+			if (load != null && load == slot.load()) {
+				return slot;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Picks the least loaded courier among the ones closest to the pickup
+	 * point, preferring the nearer courier on equal load.
+	 *
+	 * @param orders Number of orders the courier must have capacity for.
+	 * @return The courier ID, or null if the pickup point is unknown or no
+	 *         courier with spare capacity is nearby.
+	 */
+	private Long nearestAvailableCourier(Double latitude, Double longitude, int orders, Map<Long, Integer> loads) {
+		if (latitude == null || longitude == null || locationIndex.size() == 0) {
+			return null;
+		}
+		List<CourierLocationIndex.NearbyCourier> nearby = locationIndex.findNearest(latitude, longitude,
+				nearbyCandidates, maxDistanceKm, courierId -> {
+					Integer load = loads.get(courierId);
+					return load != null && load + orders <= maxLoad;
+				});
+
+		Long best = null;
+		int bestLoad = Integer.MAX_VALUE;
+		for (CourierLocationIndex.NearbyCourier candidate : nearby) {
+			int load = loads.get(candidate.courierId());
+			if (load < bestLoad) {
+				best = candidate.courierId();
+				bestLoad = load;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * @return The least loaded courier with capacity for the given number of
+	 *         orders, or null if there is none.
+	 */
+	private Long leastLoadedCourier(int orders, Map<Long, Integer> loads) {
+		Long best = null;
+		int bestLoad = Integer.MAX_VALUE;
+		for (Map.Entry<Long, Integer> entry : loads.entrySet()) {
+			int load = entry.getValue();
+			if (load + orders <= maxLoad && (load < bestLoad || load == bestLoad && entry.getKey() < best)) {
+				best = entry.getKey();
+				bestLoad = load;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * An order waiting in the dispatch queue, with its pickup and drop
+	 * coordinates and ready time when known.
+	 */
+	private record PendingDispatch(Long orderId, Double latitude, Double longitude, Double dropLatitude,
+			Double dropLongitude, Long readyAtMillis, long enqueuedAt, int attempts) {
+
+		boolean isRoutable() {
+			return latitude != null && longitude != null && dropLatitude != null && dropLongitude != null
+					&& readyAtMillis != null;
+		}
+
+		RouteBatchPlanner.RouteCandidate toRouteCandidate() {
+			return new RouteBatchPlanner.RouteCandidate(orderId, latitude, longitude, dropLatitude, dropLongitude,
+					readyAtMillis);
+		}
+
+		PendingDispatch retry() {
+			return new PendingDispatch(orderId, latitude, longitude, dropLatitude, dropLongitude, readyAtMillis,
+					enqueuedAt, attempts + 1);
+		}
+	}
+
+	/**
+	 * A courier candidate with its load as of this tick.
+	 */
+	private record CourierSlot(long courierId, int load) {
+	}
+}
@@ -0,0 +1,205 @@
+package com.onlinefoodorder.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.onlinefoodorder.entity.Order;
+import com.onlinefoodorder.entity.OrderItem;
+import com.onlinefoodorder.event.OrderStatusChangedEvent;
+import com.onlinefoodorder.repository.OrderRepository;
+import com.onlinefoodorder.util.RollingMinuteHistogram;
+import com.onlinefoodorder.util.Status.OrderStatus;
+
+/**
+ * Estimates delivery times from the items' preparation times, the
+ * restaurant's current queue of PREPARING orders and the recent distribution
+ * of CONFIRMED to DELIVERED durations. All inputs are kept in memory and fed
+ * by {@link OrderStatusChangedEvent}s, so an estimate never queries the
+ * database.
+ */
+@Service
+public class DeliveryEtaEstimator {
+
+	private static final Logger logger = LoggerFactory.getLogger(DeliveryEtaEstimator.class);
+
+	private static final int MAX_TRACKED_MINUTES = 240;
+
+	private final OrderRepository orderRepository;
+
+	private final ConcurrentHashMap<Long, AtomicInteger> queueDepths = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, RollingMinuteHistogram> durations = new ConcurrentHashMap<>();
+	private final RollingMinuteHistogram globalDurations;
+
+	private final int queueMinutesPerOrder;
+	private final int defaultTransitMinutes;
+	private final int minTransitMinutes;
+	private final int minSamples;
+	private final double quantile;
+	private final long windowMillis;
+
+	public DeliveryEtaEstimator(OrderRepository orderRepository,
+			@Value("${eta.queue-minutes-per-order:4}") int queueMinutesPerOrder,
+			@Value("${eta.default-transit-minutes:20}") int defaultTransitMinutes,
+			@Value("${eta.min-transit-minutes:10}") int minTransitMinutes,
+			@Value("${eta.min-samples:20}") int minSamples, @Value("${eta.quantile:0.5}") double quantile,
+			@Value("${eta.window-hours:6}") int windowHours) {
+		this.orderRepository = orderRepository;
+		this.queueMinutesPerOrder = queueMinutesPerOrder;
+		this.defaultTransitMinutes = defaultTransitMinutes;
+		this.minTransitMinutes = minTransitMinutes;
+		this.minSamples = minSamples;
+		this.quantile = quantile;
+		this.windowMillis = TimeUnit.HOURS.toMillis(windowHours);
+		this.globalDurations = new RollingMinuteHistogram(MAX_TRACKED_MINUTES, windowMillis,
+				System.currentTimeMillis());
+	}
+
+	/**
+	 * Estimates the delivery time of a new order.
+	 *
+	 * @param restaurantId       The restaurant preparing the order.
+	 * @param preparationMinutes Preparation time of the slowest item.
+	 * @param placedAt           When the order was placed.
+	 * @return The estimated delivery time.
+	 */
+	public LocalDateTime estimateDeliveryTime(long restaurantId, int preparationMinutes, LocalDateTime placedAt) {
+		long minutes = preparationMinutes + (long) getQueueDepth(restaurantId) * queueMinutesPerOrder
+				+ transitMinutes(restaurantId, preparationMinutes);
+		return placedAt.plusMinutes(minutes);
+	}
+
+	/**
+	 * Recomputes the estimate of an order after a status change. Once the
+	 * kitchen starts on the order the queue no longer applies, and once the
+	 * food is ready only the transit time remains.
+	 *
+	 * @param order The order, already carrying its new status.
+	 * @param now   The time of the status change.
+	 * @return The updated estimate, or the existing one if the status does not
+	 *         affect it.
+	 */
+	public LocalDateTime reestimate(Order order, LocalDateTime now) {
+		if (order.getRestaurant() == null) {
+			return order.getEstimatedDeliveryTime();
+		}
+		long restaurantId = order.getRestaurant().getRestaurantId();
+		int preparationMinutes = preparationMinutes(order.getOrderItems());
+
+		switch (order.getStatus()) {
+		case PREPARING:
+			return now.plusMinutes(preparationMinutes + transitMinutes(restaurantId, preparationMinutes));
+		case READY_FOR_PICKUP:
+		case OUT_FOR_DELIVERY:
+			return now.plusMinutes(transitMinutes(restaurantId, preparationMinutes));
+		default:
+			return order.getEstimatedDeliveryTime();
+		}
+	}
+
+	/**
+	 * Items are prepared in parallel, so the slowest item bounds the order.
+	 *
+	 * @param items The order's items.
+	 * @return Preparation time in minutes.
+	 */
+	public static int preparationMinutes(Collection<OrderItem> items) {
+		int minutes = 0;
+		if (items != null) {
+			for (OrderItem item : items) {
+				if (item.getMenuItem() != null) {
+					minutes = Math.max(minutes, item.getMenuItem().getPreparationTimeMin());
+				}
+			}
+		}
+		return minutes;
+	}
+
+	/**
+	 * @param restaurantId The restaurant ID.
+	 * @return Number of orders the restaurant is currently preparing.
+	 */
+	public int getQueueDepth(long restaurantId) {
+		AtomicInteger depth = queueDepths.get(restaurantId);
+		return depth != null ? depth.get() : 0;
+	}
+
+	/**
+	 * Keeps queue depths and duration histograms current. Runs synchronously
+	 * after the status change commits; both updates are constant time.
+	 *
+	 * @param event The status change.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+		if (event.restaurantId() == null || event.previousStatus() == event.status()) {
+			return;
+		}
+		if (event.status() == OrderStatus.PREPARING) {
+			queueDepths.computeIfAbsent(event.restaurantId(), key -> new AtomicInteger()).incrementAndGet();
+		} else if (event.previousStatus() == OrderStatus.PREPARING) {
+			AtomicInteger depth = queueDepths.get(event.restaurantId());
+			if (depth != null) {
+				depth.updateAndGet(value -> Math.max(0, value - 1));
+			}
+		}
+
+		if (event.status() == OrderStatus.DELIVERED && event.placedAt() != null) {
+			recordDuration(event.restaurantId(), Duration.between(event.placedAt(), event.occurredAt()).toMinutes(),
+					event.occurredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+		}
+	}
+
+	/**
+	 * Rebuilds the queue depths from the database to correct any drift, e.g.
+	 * from status changes made outside the service layer.
+	 */
+	@Scheduled(fixedDelayString = "${eta.refresh-ms:600000}")
+	public void refreshQueueDepths() {
+		Map<Long, Integer> counts = new HashMap<>();
+		for (Object[] row : orderRepository.countOrdersByRestaurant(OrderStatus.PREPARING)) {
+			counts.put((Long) row[0], ((Long) row[1]).intValue());
+		}
+		queueDepths.keySet().retainAll(counts.keySet());
+		counts.forEach((restaurantId, count) -> queueDepths
+				.computeIfAbsent(restaurantId, key -> new AtomicInteger()).set(count));
+		logger.debug("Refreshed preparation queue depths for {} restaurants", counts.size());
+	}
+
+	void recordDuration(long restaurantId, long minutes, long nowMillis) {
+		durations.computeIfAbsent(restaurantId,
+				key -> new RollingMinuteHistogram(MAX_TRACKED_MINUTES, windowMillis, nowMillis))
+				.record(minutes, nowMillis);
+		globalDurations.record(minutes, nowMillis);
+	}
+
+	/**
+	 * Time from the food being ready to delivery, derived from the observed
+	 * CONFIRMED to DELIVERED durations of the restaurant, or of all restaurants
+	 * when it has too little history.
+	 */
+	private int transitMinutes(long restaurantId, int preparationMinutes) {
+		long now = System.currentTimeMillis();
+		RollingMinuteHistogram histogram = durations.get(restaurantId);
+		if (histogram == null || histogram.count(now) < minSamples) {
+			histogram = globalDurations;
+		}
+		if (histogram.count(now) < minSamples) {
+			return defaultTransitMinutes;
+		}
+		return Math.max(minTransitMinutes, histogram.quantile(quantile, now) - preparationMinutes);
+	}
+}
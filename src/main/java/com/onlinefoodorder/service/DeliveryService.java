@@ -1,9 +1,12 @@
 package com.onlinefoodorder.service;
 
+import com.onlinefoodorder.dto.CourierWorkItemDto;
 import com.onlinefoodorder.dto.OrderDto;
 
+import com.onlinefoodorder.entity.DeliveryStat;
 import com.onlinefoodorder.entity.Order;
 import com.onlinefoodorder.entity.User;
+import com.onlinefoodorder.event.OrderStatusChangedEvent;
 import com.onlinefoodorder.exception.DeliveryException;
 import com.onlinefoodorder.exception.ResourceNotFoundException;
 import com.onlinefoodorder.repository.OrderItemRepository;
@@ -13,16 +16,22 @@ import com.onlinefoodorder.util.Charts;
 import com.onlinefoodorder.util.Status.OrderStatus;
 import com.onlinefoodorder.util.Status.UserRole;
 
-import jakarta.transaction.Transactional;
+import io.micrometer.observation.annotation.Observed;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,12 +39,29 @@ public class DeliveryService {
 
 	private static final Logger logger = LoggerFactory.getLogger(DeliveryService.class);
 
+	private static final List<OrderStatus> WORKLIST_STATUSES = List.of(OrderStatus.ASSIGNED,
+			OrderStatus.OUT_FOR_DELIVERY);
+
+	static final int MAX_WORKLIST_PAGE_SIZE = 50;
+
 	@Autowired
 	private OrderRepository orderRepository;
 
 	@Autowired
 	private UserRepository userRepository;
 
+	@Autowired
+	private CourierAvailabilityIndex availabilityIndex;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private DeliveryEtaEstimator etaEstimator;
+
+	@Autowired
+	private DeliveryStatsService deliveryStatsService;
+
 	/**
 	 * Fetch all assigned orders for a delivery person.
 	 *
@@ -47,12 +73,33 @@ public class DeliveryService {
 			throw new IllegalArgumentException("Delivery person ID cannot be null");
 		}
 
-		logger.info("Retrieving assigned orders for delivery person ID: {}", deliveryPersonId);
+		logger.debug("Retrieving assigned orders for delivery person ID: {}", deliveryPersonId);
 		List<Order> orders = orderRepository.findByDeliveryPerson_UserIdAndStatus(deliveryPersonId,
 				OrderStatus.ASSIGNED);
 		return orders.stream().map(this::mapToDto).collect(Collectors.toList());
 	}
 
+	/**
+	 * Fetch a page of the worklist of a delivery person: assigned and out for
+	 * delivery orders with their pickup and drop details, in one query.
+	 *
+	 * @param deliveryPersonId The ID of the delivery person.
+	 * @param page             Zero-based page number.
+	 * @param size             Page size, capped at {@value #MAX_WORKLIST_PAGE_SIZE}.
+	 * @return The worklist rows, oldest orders first.
+	 */
+	public List<CourierWorkItemDto> getWorklist(Long deliveryPersonId, int page, int size) {
+		if (deliveryPersonId == null) {
+			throw new IllegalArgumentException("Delivery person ID cannot be null");
+		}
+		if (page < 0 || size <= 0) {
+			throw new IllegalArgumentException("Page must not be negative and size must be positive");
+		}
+
+		return orderRepository.findWorklist(deliveryPersonId, WORKLIST_STATUSES,
+				PageRequest.of(page, Math.min(size, MAX_WORKLIST_PAGE_SIZE)));
+	}
+
 	/**
 	 * Mark an order as "Out for Delivery".
 	 *
@@ -61,7 +108,7 @@ public class DeliveryService {
 	 */
 	@Transactional
 	public void markOrderOutForDelivery(Long orderId, Long deliveryPersonId) {
-		Order order = orderRepository.findById(orderId)
+		Order order = orderRepository.findForStatusChangeByOrderId(orderId)
 				.orElseThrow(() -> new ResourceNotFoundException("Order not found"));
 
 		if (!order.getDeliveryPerson().getUserId().equals(deliveryPersonId)) {
@@ -73,7 +120,9 @@ public class DeliveryService {
 		}
 
 		order.setStatus(OrderStatus.OUT_FOR_DELIVERY);
+		order.setEstimatedDeliveryTime(etaEstimator.reestimate(order, LocalDateTime.now()));
 		orderRepository.save(order);
+		eventPublisher.publishEvent(OrderStatusChangedEvent.of(order, OrderStatus.ASSIGNED));
 		logger.info("Order {} marked as 'Out for Delivery' by delivery person ID: {}", orderId, deliveryPersonId);
 	}
 
@@ -85,7 +134,7 @@ public class DeliveryService {
 	 */
 	@Transactional
 	public void markOrderDelivered(Long orderId, Long deliveryPersonId) {
-		Order order = orderRepository.findById(orderId)
+		Order order = orderRepository.findForStatusChangeByOrderId(orderId)
 				.orElseThrow(() -> new ResourceNotFoundException("Order not found"));
 
 		if (!order.getDeliveryPerson().getUserId().equals(deliveryPersonId)) {
@@ -98,6 +147,8 @@ public class DeliveryService {
 
 		order.setStatus(OrderStatus.DELIVERED);
 		orderRepository.save(order);
+		availabilityIndex.decrementLoad(deliveryPersonId);
+		eventPublisher.publishEvent(OrderStatusChangedEvent.of(order, OrderStatus.OUT_FOR_DELIVERY));
 		logger.info("Order {} marked as 'Delivered' by delivery person ID: {}", orderId, deliveryPersonId);
 	}
 
@@ -111,14 +162,74 @@ public class DeliveryService {
 	public void assignDeliveryPerson(Long orderId, Long deliveryPersonId) {
 		logger.info("Assigning order {} to delivery person {}", orderId, deliveryPersonId);
 
-		Order order = orderRepository.findById(orderId)
+		Order order = findAssignableOrder(orderId);
+		User deliveryPerson = findDeliveryPerson(deliveryPersonId);
+
+		OrderStatus previousStatus = order.getStatus();
+		order.setDeliveryPerson(deliveryPerson);
+		order.setStatus(OrderStatus.ASSIGNED);
+		orderRepository.save(order);
+		availabilityIndex.incrementLoad(deliveryPersonId);
+		eventPublisher.publishEvent(OrderStatusChangedEvent.of(order, previousStatus));
+
+		logger.info("Order {} successfully assigned to delivery person {}", orderId, deliveryPersonId);
+	}
+
+	/**
+	 * Assign a multi-drop route to a delivery person. Every order is validated
+	 * before any is assigned, so a route is assigned completely or not at all.
+	 * Each order records the route and its position in the drop sequence.
+	 *
+	 * @param orderIds         The order IDs in drop order.
+	 * @param deliveryPersonId The ID of the delivery person.
+	 * @return The ID of the new route.
+	 */
+	@Transactional
+	public String assignRoute(List<Long> orderIds, Long deliveryPersonId) {
+		if (orderIds == null || orderIds.isEmpty()) {
+			throw new IllegalArgumentException("A route needs at least one order");
+		}
+		logger.info("Assigning route of orders {} to delivery person {}", orderIds, deliveryPersonId);
+
+		List<Order> orders = new ArrayList<>(orderIds.size());
+		for (Long orderId : orderIds) {
+			orders.add(findAssignableOrder(orderId));
+		}
+		User deliveryPerson = findDeliveryPerson(deliveryPersonId);
+
+		String routeId = UUID.randomUUID().toString();
+		List<OrderStatus> previousStatuses = new ArrayList<>(orders.size());
+		for (int i = 0; i < orders.size(); i++) {
+			Order order = orders.get(i);
+			previousStatuses.add(order.getStatus());
+			order.setDeliveryPerson(deliveryPerson);
+			order.setStatus(OrderStatus.ASSIGNED);
+			order.setRouteId(routeId);
+			order.setRouteSequence(i + 1);
+		}
+		orderRepository.saveAll(orders);
+		for (int i = 0; i < orders.size(); i++) {
+			availabilityIndex.incrementLoad(deliveryPersonId);
+			eventPublisher.publishEvent(OrderStatusChangedEvent.of(orders.get(i), previousStatuses.get(i)));
+		}
+
+		logger.info("Route {} with {} orders assigned to delivery person {}", routeId, orders.size(),
+				deliveryPersonId);
+		return routeId;
+	}
+
+	private Order findAssignableOrder(Long orderId) {
+		Order order = orderRepository.findForStatusChangeByOrderId(orderId)
 				.orElseThrow(() -> new ResourceNotFoundException("Order not found with ID " + orderId));
 
 		if (order.getStatus() != OrderStatus.PENDING && order.getStatus() != OrderStatus.PREPARING) {
 			throw new IllegalStateException(
 					"Order " + orderId + " is not assignable. Current status: " + order.getStatus());
 		}
+		return order;
+	}
 
+	private User findDeliveryPerson(Long deliveryPersonId) {
 		logger.debug("Fetching delivery person ID: {}", deliveryPersonId);
 		User deliveryPerson = userRepository.findById(deliveryPersonId).orElseThrow(
 				() -> new ResourceNotFoundException("Delivery person with ID " + deliveryPersonId + " not found"));
@@ -126,12 +237,7 @@ public class DeliveryService {
 		if (!UserRole.DELIVERY_PERSON.equals(deliveryPerson.getRole())) {
 			throw new DeliveryException("User ID " + deliveryPersonId + " is not a valid delivery person.");
 		}
-
-		order.setDeliveryPerson(deliveryPerson);
-		order.setStatus(OrderStatus.ASSIGNED);
-		orderRepository.save(order);
-
-		logger.info("Order {} successfully assigned to delivery person {}", orderId, deliveryPersonId);
+		return deliveryPerson;
 	}
 
 	/**
@@ -162,38 +268,56 @@ public class DeliveryService {
 		return orderDto;
 	}
 
+	/**
+	 * Build the deliveries-per-day chart of a delivery person from the daily
+	 * rollup.
+	 *
+	 * @param email The delivery person's email.
+	 * @return PNG image as byte array.
+	 */
+	@Transactional(readOnly = true)
+	@Observed(name = "service.method")
 	public byte[] getDeliveryChart(String email) {
 		if (email == null) {
 			throw new IllegalArgumentException("Email cannot be null");
 		}
 
-		List<Object[]> result = orderRepository.getDeliveredOrdersPerDay(email);
+		List<DeliveryStat> days = userRepository.findByEmail(email)
+				.map(user -> deliveryStatsService.getDailyDeliveries(user.getUserId()))
+				.orElse(Collections.emptyList());
 
 		List<Date> labels = new ArrayList<>();
 		List<Long> values = new ArrayList<>();
 
 		// Handle empty data case
-		if (result.isEmpty()) {
+		if (days.isEmpty()) {
 			// Return a chart with default/empty data
 			labels.add(new Date(System.currentTimeMillis()));
 			values.add(0L);
 		} else {
-			for (Object[] row : result) {
-				labels.add((Date) row[0]);
-				values.add((Long) row[1]);
+			for (DeliveryStat day : days) {
+				labels.add(java.sql.Date.valueOf(day.getPeriodStart()));
+				values.add(day.getDeliveredCount());
 			}
 		}
 
 		return Charts.generateDeliveryLineChart("Deliveries Over Time", "Date", "Orders Delivered", labels, values);
 	}
 
+	/**
+	 * Build the total deliveries chart of a delivery person from the rollup.
+	 *
+	 * @param email The delivery person's email.
+	 * @return PNG image as byte array.
+	 */
+	@Transactional(readOnly = true)
+	@Observed(name = "service.method")
 	public byte[] getTotalDeliveredChart(String email) {
 		if (email == null) {
 			throw new IllegalArgumentException("Email cannot be null");
 		}
 
-		OrderStatus status = OrderStatus.DELIVERED;
-		List<Object[]> result = orderRepository.getTotalOrdersDeliveredByEmail(email, status);
+		List<Object[]> result = deliveryStatsService.getTotalDeliveredByEmail(email);
 
 		if (result.isEmpty()) {
 			return Charts.generateTotalDeliveredChart("Orders Delivered", "Delivery Person", "Orders", List.of("You"),
@@ -207,8 +331,10 @@ public class DeliveryService {
 				List.of(count));
 	}
 
+	@Transactional(readOnly = true)
+	@Observed(name = "service.method")
 	public byte[] getAllDeliveryPersonsStatsChart() {
-		List<Object[]> results = orderRepository.getAllDeliveryPersonsStats();
+		List<Object[]> results = deliveryStatsService.getTotalsByDeliveryPerson();
 
 		List<String> names = new ArrayList<>();
 		List<Long> counts = new ArrayList<>();
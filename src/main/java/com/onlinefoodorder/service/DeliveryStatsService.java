@@ -0,0 +1,185 @@
+package com.onlinefoodorder.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.onlinefoodorder.entity.DeliveryStat;
+import com.onlinefoodorder.event.OrderStatusChangedEvent;
+import com.onlinefoodorder.repository.DeliveryStatRepository;
+import com.onlinefoodorder.repository.OrderRepository;
+import com.onlinefoodorder.util.Status.OrderStatus;
+import com.onlinefoodorder.util.Status.StatPeriod;
+
+/**
+ * Maintains the per delivery person, per day rollup of delivered orders that
+ * backs the delivery charts. Each delivery increments its day's row in the
+ * same transaction that marks the order delivered, and a nightly job folds
+ * days past the retention window into monthly rows.
+ */
+@Service
+public class DeliveryStatsService {
+
+	private static final Logger logger = LoggerFactory.getLogger(DeliveryStatsService.class);
+
+	private final DeliveryStatRepository deliveryStatRepository;
+	private final OrderRepository orderRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	private final int retentionDays;
+	private final int batchSize;
+
+	public DeliveryStatsService(DeliveryStatRepository deliveryStatRepository, OrderRepository orderRepository,
+			PlatformTransactionManager transactionManager,
+			@Value("${delivery.stats.daily-retention-days:90}") int retentionDays,
+			@Value("${delivery.stats.compaction-batch-size:1000}") int batchSize) {
+		if (retentionDays <= 0 || batchSize <= 0) {
+			throw new IllegalArgumentException("Delivery stats retention and batch size must be positive");
+		}
+		this.deliveryStatRepository = deliveryStatRepository;
+		this.orderRepository = orderRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.retentionDays = retentionDays;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Counts a delivery in the rollup. Runs just before the transaction that
+	 * marked the order delivered commits, so the rollup and the order status
+	 * are always written together.
+	 *
+	 * @param event The status change.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+		if (event.status() == OrderStatus.DELIVERED && event.previousStatus() != OrderStatus.DELIVERED
+				&& event.deliveryPersonId() != null) {
+			recordDeliveries(event.deliveryPersonId(), StatPeriod.DAY, event.occurredAt().toLocalDate(), 1);
+		}
+	}
+
+	/**
+	 * @param deliveryPersonId The delivery person's user ID.
+	 * @return Daily delivered counts within the retention window, oldest first.
+	 */
+	public List<DeliveryStat> getDailyDeliveries(Long deliveryPersonId) {
+		return deliveryStatRepository.findByDeliveryPersonIdAndPeriodOrderByPeriodStart(deliveryPersonId,
+				StatPeriod.DAY);
+	}
+
+	/**
+	 * @param email The delivery person's email.
+	 * @return List of object arrays containing delivery person's username and
+	 *         total delivered order count across daily and monthly rows.
+	 */
+	public List<Object[]> getTotalDeliveredByEmail(String email) {
+		return deliveryStatRepository.sumDeliveriesByEmail(email);
+	}
+
+	/**
+	 * @return List of object arrays containing delivery person's email and total
+	 *         delivered order count.
+	 */
+	public List<Object[]> getTotalsByDeliveryPerson() {
+		return deliveryStatRepository.sumDeliveriesByDeliveryPerson();
+	}
+
+	/**
+	 * Scheduled entry point for the nightly compaction.
+	 */
+	@Scheduled(cron = "${delivery.stats.compaction-cron:0 0 4 * * *}")
+	public void compactDailyStats() {
+		compactDaysBefore(LocalDate.now().minusDays(retentionDays));
+	}
+
+	/**
+	 * Folds daily rows older than the cutoff into monthly rows, one bounded
+	 * chunk per transaction.
+	 *
+	 * @param cutoff Daily rows before this day are compacted.
+	 * @return Number of daily rows removed.
+	 */
+	public int compactDaysBefore(LocalDate cutoff) {
+		int compacted = 0;
+		while (true) {
+			Integer chunk = transactionTemplate.execute(status -> compactChunk(cutoff));
+			if (chunk == null || chunk == 0) {
+				break;
+			}
+			compacted += chunk;
+			if (chunk < batchSize) {
+				break;
+			}
+		}
+		logger.info("Compacted {} daily delivery stat rows before {}", compacted, cutoff);
+		return compacted;
+	}
+
+	/**
+	 * Rebuilds the rollup from the orders table, e.g. after the rollup was
+	 * first introduced. Delivered orders are dated by their last update.
+	 *
+	 * @return Number of daily rows written before compaction.
+	 */
+	public int rebuild() {
+		Integer rows = transactionTemplate.execute(status -> {
+			deliveryStatRepository.deleteAllInBatch();
+			List<DeliveryStat> stats = new ArrayList<>();
+			for (Object[] row : orderRepository.countDeliveredOrdersPerPersonAndDay()) {
+				LocalDate day = row[1] instanceof Date date ? date.toLocalDate() : (LocalDate) row[1];
+				stats.add(new DeliveryStat((Long) row[0], StatPeriod.DAY, day, (Long) row[2]));
+			}
+			deliveryStatRepository.saveAll(stats);
+			return stats.size();
+		});
+		logger.info("Rebuilt delivery stats rollup with {} daily rows", rows);
+		compactDailyStats();
+		return rows != null ? rows : 0;
+	}
+
+	private int compactChunk(LocalDate cutoff) {
+		List<DeliveryStat> days = deliveryStatRepository.findByPeriodAndPeriodStartBeforeOrderById(StatPeriod.DAY,
+				cutoff, PageRequest.of(0, batchSize));
+		if (days.isEmpty()) {
+			return 0;
+		}
+
+		Map<MonthKey, Long> months = new HashMap<>();
+		for (DeliveryStat day : days) {
+			months.merge(new MonthKey(day.getDeliveryPersonId(), day.getPeriodStart().withDayOfMonth(1)),
+					day.getDeliveredCount(), Long::sum);
+		}
+		months.forEach((month, count) -> recordDeliveries(month.deliveryPersonId(), StatPeriod.MONTH,
+				month.periodStart(), count));
+		deliveryStatRepository.deleteAllInBatch(days);
+		return days.size();
+	}
+
+	/**
+	 * Adds deliveries to a rollup row, creating it on first use. A delivery
+	 * person's deliveries are sequential, so two transactions never race to
+	 * create the same day's row; the unique key guards against it regardless.
+	 */
+	private void recordDeliveries(Long deliveryPersonId, StatPeriod period, LocalDate periodStart, long count) {
+		if (deliveryStatRepository.addDeliveries(deliveryPersonId, period, periodStart, count) == 0) {
+			deliveryStatRepository.save(new DeliveryStat(deliveryPersonId, period, periodStart, count));
+		}
+	}
+
+	private record MonthKey(Long deliveryPersonId, LocalDate periodStart) {
+	}
+}
@@ -1,7 +1,9 @@
 package com.onlinefoodorder.service;
 
 import com.onlinefoodorder.dto.MenuCategoryDto;
+import com.onlinefoodorder.dto.MenuItemDto;
 import com.onlinefoodorder.entity.MenuCategory;
+import com.onlinefoodorder.entity.MenuItem;
 import com.onlinefoodorder.entity.Restaurant;
 import com.onlinefoodorder.entity.User;
 import com.onlinefoodorder.exception.ResourceNotFoundException;
@@ -17,7 +19,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -41,6 +45,12 @@ public class MenuCategoryService {
 	@Autowired
 	private UserRepository userRepository;
 
+	@Autowired
+	private ReadThroughCache<Long, MenuItemDto> menuItemCache;
+
+	@Autowired
+	private MenuSearchIndex menuSearchIndex;
+
 	/**
 	 * Creates a new menu category for a restaurant (Only Restaurant Owners
 	 * Allowed).
@@ -82,8 +92,9 @@ public class MenuCategoryService {
 	 * @param categoryId   The category ID.
 	 * @return The menu category details.
 	 */
+	@Transactional(readOnly = true)
 	public MenuCategoryDto getCategoryById(Long restaurantId, Long categoryId) {
-		logger.info("Fetching category ID: {} for restaurant ID: {}", categoryId, restaurantId);
+		logger.debug("Fetching category ID: {} for restaurant ID: {}", categoryId, restaurantId);
 
 		MenuCategory category = categoryRepository.findById(categoryId)
 				.orElseThrow(() -> new ResourceNotFoundException("Category not found"));
@@ -103,8 +114,9 @@ public class MenuCategoryService {
 	 * @param restaurantId The restaurant ID.
 	 * @return A list of menu categories.
 	 */
+	@Transactional(readOnly = true)
 	public List<MenuCategoryDto> getAllCategoriesForRestaurant(Long restaurantId) {
-		logger.info("Fetching all categories for restaurant ID: {}", restaurantId);
+		logger.debug("Fetching all categories for restaurant ID: {}", restaurantId);
 
 		return categoryRepository.findByRestaurantRestaurantId(restaurantId).stream()
 				.map(category -> new MenuCategoryDto(category.getCategoryId(), restaurantId, category.getName(),
@@ -136,9 +148,14 @@ public class MenuCategoryService {
 			throw new UnauthorizedAccessException("You are not the owner of this restaurant.");
 		}
 
+		boolean renamed = !Objects.equals(category.getName(), dto.getName());
 		category.setName(dto.getName());
 		category.setDescription(dto.getDescription());
 		categoryRepository.save(category);
+		if (renamed) {
+			// Search results carry the category name, and queries match it
+			menuSearchIndex.indexAll(menuItemRepository.findSearchDocumentsByCategoryId(categoryId));
+		}
 
 		logger.info("Category '{}' updated by owner '{}'.", category.getName(), user.getEmail());
 		return "Category updated successfully!";
@@ -167,6 +184,15 @@ public class MenuCategoryService {
 		}
 
 		categoryRepository.delete(category);
+		// The category's items are deleted with it
+		if (category.getMenuItems() != null) {
+			List<Long> itemIds = new ArrayList<>();
+			for (MenuItem item : category.getMenuItems()) {
+				menuItemCache.invalidate(item.getItemId());
+				itemIds.add(item.getItemId());
+			}
+			menuSearchIndex.removeAll(itemIds);
+		}
 		logger.info("Category '{}' deleted by owner '{}'.", category.getName(), user.getEmail());
 		return "Category deleted successfully!";
 	}
@@ -1,6 +1,7 @@
 package com.onlinefoodorder.service;
 
 import com.onlinefoodorder.dto.MenuItemDto;
+import com.onlinefoodorder.dto.MenuSearchDocument;
 import com.onlinefoodorder.entity.MenuCategory;
 import com.onlinefoodorder.entity.MenuItem;
 import com.onlinefoodorder.entity.Restaurant;
@@ -11,6 +12,7 @@ import com.onlinefoodorder.repository.MenuCategoryRepository;
 import com.onlinefoodorder.repository.MenuItemRepository;
 import com.onlinefoodorder.repository.UserRepository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,11 +20,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class MenuItemService {
 	private static final Logger logger = LoggerFactory.getLogger(MenuItemService.class);
 
+	static final int MAX_SEARCH_RESULTS = 50;
+
 	@Autowired
 	private MenuItemRepository menuItemRepository;
 
@@ -32,6 +37,12 @@ public class MenuItemService {
 	@Autowired
 	private UserRepository userRepository;
 
+	@Autowired
+	private MenuSearchIndex menuSearchIndex;
+
+	@Autowired
+	private ReadThroughCache<Long, MenuItemDto> menuItemCache;
+
 	/**
 	 * Adds a new menu item to the system.
 	 * 
@@ -67,6 +78,7 @@ public class MenuItemService {
 		item.setPreparationTimeMin(dto.getPreparationTimeMin());
 
 		item = menuItemRepository.save(item);
+		menuSearchIndex.index(MenuSearchDocument.of(item));
 
 		dto.setItemId(item.getItemId());
 		logger.info("Successfully added menu item '{}'.", dto.getName());
@@ -74,13 +86,17 @@ public class MenuItemService {
 	}
 
 	/**
-	 * Retrieves a menu item by its ID.
+	 * Retrieves a menu item by its ID, from the menu item cache if present.
 	 * 
 	 * @param itemId ID of the menu item.
 	 * @return The menu item details.
 	 */
 	public MenuItemDto getMenuItemById(long itemId) {
-		logger.info("Fetching menu item with ID: {}", itemId);
+		logger.debug("Fetching menu item with ID: {}", itemId);
+		return menuItemCache.get(itemId, this::loadMenuItem);
+	}
+
+	private MenuItemDto loadMenuItem(Long itemId) {
 		MenuItem item = menuItemRepository.findById(itemId)
 				.orElseThrow(() -> new ResourceNotFoundException("Menu Item not found"));
 
@@ -100,8 +116,9 @@ public class MenuItemService {
 	 *                                   specified restaurant.
 	 */
 
+	@Transactional(readOnly = true)
 	public List<MenuItemDto> getAllMenuItemsForCategory(Long restaurantId, Long categoryId) {
-		logger.info("Fetching all menu items for category ID: {} in restaurant ID: {}", categoryId, restaurantId);
+		logger.debug("Fetching all menu items for category ID: {} in restaurant ID: {}", categoryId, restaurantId);
 
 		// Ensure the category belongs to the given restaurant
 		MenuCategory category = categoryRepository.findById(categoryId).orElseThrow(() -> {
@@ -122,6 +139,35 @@ public class MenuItemService {
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * Searches menu items of all restaurants by item name, description,
+	 * restaurant and category name, tolerating typos. Served entirely from the
+	 * in-memory {@link MenuSearchIndex}.
+	 *
+	 * @param query      The search text.
+	 * @param vegetarian If not null, only items with this vegetarian flag.
+	 * @param available  If not null, only items with this availability.
+	 * @param minPrice   If not null, the minimum price.
+	 * @param maxPrice   If not null, the maximum price.
+	 * @param limit      Maximum number of results, capped at
+	 *                   {@value #MAX_SEARCH_RESULTS}.
+	 * @return Matching menu items, best match first.
+	 * @throws IllegalArgumentException if the query is blank or the price range
+	 *                                  is empty.
+	 */
+	public List<MenuItemDto> searchMenuItems(String query, Boolean vegetarian, Boolean available,
+			BigDecimal minPrice, BigDecimal maxPrice, int limit) {
+		if (query == null || query.isBlank()) {
+			throw new IllegalArgumentException("Search query is required");
+		}
+		if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+			throw new IllegalArgumentException("Minimum price cannot exceed maximum price");
+		}
+		logger.debug("Searching menu items for '{}'", query);
+		return menuSearchIndex.search(query, vegetarian, available, minPrice, maxPrice,
+				Math.min(Math.max(limit, 1), MAX_SEARCH_RESULTS));
+	}
+
 	/**
 	 * Updates an existing menu item.
 	 * 
@@ -163,6 +209,8 @@ public class MenuItemService {
 		menuItem.setPreparationTimeMin(dto.getPreparationTimeMin());
 
 		menuItem = menuItemRepository.save(menuItem);
+		menuSearchIndex.index(MenuSearchDocument.of(menuItem));
+		menuItemCache.invalidate(menuItem.getItemId());
 		dto.setItemId(menuItem.getItemId());
 		return dto;
 	}
@@ -187,6 +235,8 @@ public class MenuItemService {
 		}
 
 		menuItemRepository.delete(menuItem);
+		menuSearchIndex.remove(menuItem.getItemId());
+		menuItemCache.invalidate(menuItem.getItemId());
 		logger.info("Menu Item '{}' deleted by owner '{}'.", menuItem.getName(), user.getEmail());
 		return "Menu item deleted successfully!";
 	}
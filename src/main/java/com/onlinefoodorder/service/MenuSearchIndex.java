@@ -0,0 +1,517 @@
+package com.onlinefoodorder.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.onlinefoodorder.dto.MenuItemDto;
+import com.onlinefoodorder.dto.MenuSearchDocument;
+import com.onlinefoodorder.repository.MenuItemRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Embedded full-text index over menu items. The item name, description,
+ * restaurant name and category name are split into character trigrams, and a
+ * query matches every item sharing at least a configured share of the query's
+ * trigrams, so misspelt queries still find their dishes. Each item is held as a
+ * {@link MenuSearchDocument} carrying everything a result needs, so searches
+ * never touch the database.
+ * <p>
+ * Menu item CRUD updates the index incrementally, and renaming or deleting a
+ * restaurant or category reindexes or removes its items. Updates made inside a
+ * transaction are applied once it commits. A periodic rebuild from the
+ * database picks up changes made outside the application and drops the slots
+ * left behind by updated and deleted items.
+ */
+@Component
+public class MenuSearchIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(MenuSearchIndex.class);
+
+	/** Longer queries are truncated to this many distinct trigrams. */
+	static final int MAX_QUERY_TRIGRAMS = 64;
+
+	private static final int MAX_POOLED_COUNTERS = 8;
+
+	// Rough cost of a binary search probe relative to one step of a list walk
+	private static final int PROBE_COST = 16;
+
+	private final MenuItemRepository menuItemRepository;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private Segment segment = new Segment();
+	private List<Consumer<Segment>> updatesDuringRebuild;
+
+	// Per-search match counters, one byte per document slot, reused across searches
+	private final ConcurrentLinkedQueue<byte[]> counterPool = new ConcurrentLinkedQueue<>();
+
+	private final double minSimilarity;
+	private final int loadBatchSize;
+
+	private final Timer searchLatency;
+
+	public MenuSearchIndex(MenuItemRepository menuItemRepository, MeterRegistry meterRegistry,
+			@Value("${search.menu.min-similarity:0.5}") double minSimilarity,
+			@Value("${search.menu.load-batch-size:5000}") int loadBatchSize) {
+		if (minSimilarity <= 0 || minSimilarity > 1 || loadBatchSize <= 0) {
+			throw new IllegalArgumentException("Menu search similarity must be in (0, 1] and batch size positive");
+		}
+		this.menuItemRepository = menuItemRepository;
+		this.minSimilarity = minSimilarity;
+		this.loadBatchSize = loadBatchSize;
+		this.searchLatency = Timer.builder("menu.search.latency").description("Time to answer a menu search")
+				.publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry);
+	}
+
+	/**
+	 * Searches the index.
+	 *
+	 * @param query      Free text; matched against item, description,
+	 *                   restaurant and category names.
+	 * @param vegetarian If not null, only items with this vegetarian flag.
+	 * @param available  If not null, only items with this availability.
+	 * @param minPrice   If not null, only items costing at least this much.
+	 * @param maxPrice   If not null, only items costing at most this much.
+	 * @param limit      Maximum number of results.
+	 * @return Matching items, best match first.
+	 */
+	public List<MenuItemDto> search(String query, Boolean vegetarian, Boolean available, BigDecimal minPrice,
+			BigDecimal maxPrice, int limit) {
+		long start = System.nanoTime();
+		long[] grams = trigrams(query, MAX_QUERY_TRIGRAMS);
+		if (grams.length == 0 || limit <= 0) {
+			return new ArrayList<>();
+		}
+		int threshold = Math.max(1, (int) Math.ceil(grams.length * minSimilarity));
+		Filter filter = new Filter(vegetarian, available, minPrice, maxPrice);
+
+		List<MenuSearchDocument> documents;
+		lock.readLock().lock();
+		try {
+			documents = segment.search(grams, threshold, filter, limit, this::borrowCounters);
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		List<MenuItemDto> results = new ArrayList<>(documents.size());
+		for (MenuSearchDocument document : documents) {
+			results.add(document.toDto());
+		}
+		searchLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		return results;
+	}
+
+	/**
+	 * Adds an item to the index, replacing any previous version of it.
+	 *
+	 * @param document The item's search document.
+	 */
+	public void index(MenuSearchDocument document) {
+		afterCommit(() -> apply(current -> current.add(document)));
+	}
+
+	/**
+	 * Adds items to the index, replacing any previous versions of them.
+	 *
+	 * @param documents The items' search documents.
+	 */
+	public void indexAll(Collection<MenuSearchDocument> documents) {
+		if (!documents.isEmpty()) {
+			afterCommit(() -> apply(current -> documents.forEach(current::add)));
+		}
+	}
+
+	/**
+	 * Removes an item from the index.
+	 *
+	 * @param itemId The menu item ID.
+	 */
+	public void remove(long itemId) {
+		afterCommit(() -> apply(current -> current.remove(itemId)));
+	}
+
+	/**
+	 * Removes items from the index.
+	 *
+	 * @param itemIds The menu item IDs.
+	 */
+	public void removeAll(Collection<Long> itemIds) {
+		if (!itemIds.isEmpty()) {
+			afterCommit(() -> apply(current -> itemIds.forEach(current::remove)));
+		}
+	}
+
+	/**
+	 * @return Number of items in the index.
+	 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return segment.live;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Rebuilds the index from the database in keyset-paginated batches. The
+	 * current index keeps serving searches while the new one loads, and
+	 * updates made in the meantime are replayed onto the new index before it
+	 * replaces the current one. Runs at startup and then periodically.
+	 */
+	@Scheduled(fixedDelayString = "${search.menu.rebuild-ms:21600000}")
+	public void rebuild() {
+		lock.writeLock().lock();
+		try {
+			if (updatesDuringRebuild != null) {
+				return;
+			}
+			updatesDuringRebuild = new ArrayList<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		long start = System.currentTimeMillis();
+		Segment fresh = new Segment();
+		try {
+			long afterId = 0;
+			List<MenuSearchDocument> batch;
+			do {
+				batch = menuItemRepository.findSearchDocumentsAfter(afterId, PageRequest.of(0, loadBatchSize));
+				for (MenuSearchDocument document : batch) {
+					fresh.add(document);
+					afterId = document.getItemId();
+				}
+			} while (batch.size() == loadBatchSize);
+		} catch (RuntimeException e) {
+			lock.writeLock().lock();
+			try {
+				updatesDuringRebuild = null;
+			} finally {
+				lock.writeLock().unlock();
+			}
+			throw e;
+		}
+
+		lock.writeLock().lock();
+		try {
+			updatesDuringRebuild.forEach(update -> update.accept(fresh));
+			updatesDuringRebuild = null;
+			segment = fresh;
+		} finally {
+			lock.writeLock().unlock();
+		}
+		logger.info("Menu search index rebuilt with {} items in {} ms", fresh.live,
+				System.currentTimeMillis() - start);
+	}
+
+	private void apply(Consumer<Segment> update) {
+		lock.writeLock().lock();
+		try {
+			update.accept(segment);
+			if (updatesDuringRebuild != null) {
+				updatesDuringRebuild.add(update);
+			}
+			if (segment.needsCompaction()) {
+				segment = segment.compact();
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+	private byte[] borrowCounters(int size) {
+		byte[] counters = counterPool.poll();
+		return counters != null && counters.length >= size ? counters : new byte[Math.max(size + size / 4, 1024)];
+	}
+
+	private void returnCounters(byte[] counters) {
+		if (counterPool.size() < MAX_POOLED_COUNTERS) {
+			counterPool.offer(counters);
+		}
+	}
+
+	/**
+	 * Splits text into the distinct trigrams of its lower-cased words, each
+	 * word padded with a boundary marker so that short words and word starts
+	 * and ends also produce trigrams.
+	 *
+	 * @param max Maximum number of trigrams to return.
+	 * @return Sorted, distinct trigram keys.
+	 */
+	static long[] trigrams(String text, int max) {
+		if (text == null || text.isEmpty()) {
+			return new long[0];
+		}
+		long[] grams = new long[16];
+		int count = 0;
+		int length = text.length();
+		int i = 0;
+		while (i < length) {
+			if (!Character.isLetterOrDigit(text.charAt(i))) {
+				i++;
+				continue;
+			}
+			int end = i;
+			while (end < length && Character.isLetterOrDigit(text.charAt(end))) {
+				end++;
+			}
+			// Trigrams of the word padded as $word$
+			char first = '$';
+			char second = Character.toLowerCase(text.charAt(i));
+			for (int j = i + 1; j <= end; j++) {
+				char third = j < end ? Character.toLowerCase(text.charAt(j)) : '$';
+				if (count == grams.length) {
+					grams = Arrays.copyOf(grams, count * 2);
+				}
+				grams[count++] = ((long) first << 32) | ((long) second << 16) | third;
+				first = second;
+				second = third;
+			}
+			i = end;
+		}
+
+		Arrays.sort(grams, 0, count);
+		int distinct = 0;
+		for (int k = 0; k < count && distinct < max; k++) {
+			if (distinct == 0 || grams[k] != grams[distinct - 1]) {
+				grams[distinct++] = grams[k];
+			}
+		}
+		return Arrays.copyOf(grams, distinct);
+	}
+
+	/**
+	 * Optional result filters.
+	 */
+	private record Filter(Boolean vegetarian, Boolean available, BigDecimal minPrice, BigDecimal maxPrice) {
+
+		boolean test(MenuSearchDocument document) {
+			if (vegetarian != null && document.isVegetarian() != vegetarian) {
+				return false;
+			}
+			if (available != null && document.isAvailable() != available) {
+				return false;
+			}
+			BigDecimal price = document.getPrice();
+			if (minPrice != null && (price == null || price.compareTo(minPrice) < 0)) {
+				return false;
+			}
+			return maxPrice == null || price != null && price.compareTo(maxPrice) <= 0;
+		}
+	}
+
+	private record Hit(int slot, int matches, MenuSearchDocument document) {
+	}
+
+	/**
+	 * Growable list of document slots, always in ascending order because
+	 * slots are handed out in increasing order.
+	 */
+	private static final class Postings {
+
+		private static final Postings EMPTY = new Postings();
+
+		private int[] slots = new int[4];
+		private int size;
+
+		void add(int slot) {
+			if (size == slots.length) {
+				slots = Arrays.copyOf(slots, size * 2);
+			}
+			slots[size++] = slot;
+		}
+
+		boolean contains(int slot) {
+			return Arrays.binarySearch(slots, 0, size, slot) >= 0;
+		}
+	}
+
+	/**
+	 * The index proper: documents in append-only slots and one postings list
+	 * per trigram. Updating an item frees its old slot and appends a new one;
+	 * freed slots stay in the postings lists until the segment is compacted.
+	 * Not thread-safe; guarded by the enclosing index's lock.
+	 */
+	private final class Segment {
+
+		private MenuSearchDocument[] documents = new MenuSearchDocument[1024];
+		private int size;
+		private int live;
+		private final Map<Long, Integer> slotsByItem = new HashMap<>();
+		private final Map<Long, Postings> postings = new HashMap<>();
+
+		void add(MenuSearchDocument document) {
+			remove(document.getItemId());
+			if (size == documents.length) {
+				documents = Arrays.copyOf(documents, size * 2);
+			}
+			int slot = size++;
+			documents[slot] = document;
+			slotsByItem.put(document.getItemId(), slot);
+			live++;
+
+			String text = document.getName() + ' ' + nullToEmpty(document.getDescription()) + ' '
+					+ nullToEmpty(document.getRestaurantName()) + ' ' + nullToEmpty(document.getCategoryName());
+			for (long gram : trigrams(text, Integer.MAX_VALUE)) {
+				postings.computeIfAbsent(gram, key -> new Postings()).add(slot);
+			}
+		}
+
+		void remove(long itemId) {
+			Integer slot = slotsByItem.remove(itemId);
+			if (slot != null) {
+				documents[slot] = null;
+				live--;
+			}
+		}
+
+		boolean needsCompaction() {
+			return size - live > Math.max(1024, live);
+		}
+
+		Segment compact() {
+			Segment compacted = new Segment();
+			for (int slot = 0; slot < size; slot++) {
+				if (documents[slot] != null) {
+					compacted.add(documents[slot]);
+				}
+			}
+			return compacted;
+		}
+
+		/**
+		 * Finds the documents containing at least {@code threshold} of the
+		 * query trigrams. A document reaching the threshold must appear in at
+		 * least one of the {@code n - threshold + 1} shortest postings lists,
+		 * so only those lists are scanned for candidates. The remaining lists
+		 * then add to the candidates' counts: short lists are walked, long ones
+		 * are binary searched per candidate, giving up as soon as a candidate
+		 * can no longer reach the threshold.
+		 */
+		List<MenuSearchDocument> search(long[] grams, int threshold, Filter filter, int limit,
+				IntFunction<byte[]> counterSource) {
+			Postings[] lists = new Postings[grams.length];
+			for (int i = 0; i < grams.length; i++) {
+				lists[i] = postings.getOrDefault(grams[i], Postings.EMPTY);
+			}
+			Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+			int prefix = lists.length - threshold + 1;
+
+			byte[] counters = counterSource.apply(size);
+			Postings touched = new Postings();
+			PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+			try {
+				for (int i = 0; i < prefix; i++) {
+					Postings list = lists[i];
+					for (int j = 0; j < list.size; j++) {
+						int slot = list.slots[j];
+						if (counters[slot]++ == 0) {
+							touched.add(slot);
+						}
+					}
+				}
+
+				// Lists short next to the candidate set are cheaper to walk than to probe
+				int probed = prefix;
+				for (int i = prefix; i < lists.length; i++) {
+					Postings list = lists[i];
+					if (list.size > touched.size * PROBE_COST) {
+						lists[probed++] = list;
+						continue;
+					}
+					for (int j = 0; j < list.size; j++) {
+						int slot = list.slots[j];
+						if (counters[slot] != 0) {
+							counters[slot]++;
+						}
+					}
+				}
+
+				for (int i = 0; i < touched.size; i++) {
+					int slot = touched.slots[i];
+					int matches = counters[slot];
+					for (int j = prefix; j < probed && matches + probed - j >= threshold; j++) {
+						if (lists[j].contains(slot)) {
+							matches++;
+						}
+					}
+					if (matches < threshold) {
+						continue;
+					}
+					MenuSearchDocument document = documents[slot];
+					if (document == null || !filter.test(document)) {
+						continue;
+					}
+					Hit hit = new Hit(slot, matches, document);
+					if (best.size() < limit) {
+						best.offer(hit);
+					} else if (RANKING.compare(hit, best.peek()) < 0) {
+						best.poll();
+						best.offer(hit);
+					}
+				}
+			} finally {
+				for (int i = 0; i < touched.size; i++) {
+					counters[touched.slots[i]] = 0;
+				}
+				returnCounters(counters);
+			}
+
+			List<Hit> hits = new ArrayList<>(best);
+			hits.sort(RANKING);
+			List<MenuSearchDocument> results = new ArrayList<>(hits.size());
+			for (Hit hit : hits) {
+				results.add(hit.document());
+			}
+			return results;
+		}
+	}
+
+	/**
+	 * Most matched trigrams first, then shorter names, which match the query
+	 * more closely, then the older item.
+	 */
+	private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::matches).reversed()
+			.thenComparingInt(hit -> hit.document().getName() != null ? hit.document().getName().length() : 0)
+			.thenComparingInt(Hit::slot);
+
+	private static String nullToEmpty(String value) {
+		return value != null ? value : "";
+	}
+}
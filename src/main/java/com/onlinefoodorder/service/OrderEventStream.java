@@ -0,0 +1,156 @@
+package com.onlinefoodorder.service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.onlinefoodorder.event.OrderStatusChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.annotation.Observed;
+
+/**
+ * Pushes order status changes to subscribed users over Server-Sent Events.
+ * Each user holds one or more {@link SseEmitter}s; an idle emitter is parked
+ * in the servlet container's async support and holds no request thread.
+ * Events are delivered after the publishing transaction commits, on the
+ * {@code orderEventExecutor} pool, so a slow client never delays a write.
+ */
+@Service
+public class OrderEventStream {
+
+	private static final Logger logger = LoggerFactory.getLogger(OrderEventStream.class);
+
+	static final String EVENT_NAME = "order-status";
+
+	private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+	private final AtomicInteger connections = new AtomicInteger();
+
+	private final long timeoutMillis;
+
+	private final Counter eventsSent;
+	private final Counter sendFailures;
+
+	public OrderEventStream(MeterRegistry meterRegistry,
+			@Value("${order.events.timeout-ms:1800000}") long timeoutMillis) {
+		this.timeoutMillis = timeoutMillis;
+		Gauge.builder("order.events.connections", connections, AtomicInteger::get)
+				.description("Open order status subscriptions").register(meterRegistry);
+		this.eventsSent = Counter.builder("order.events.sent").description("Order status events pushed to clients")
+				.register(meterRegistry);
+		this.sendFailures = Counter.builder("order.events.failed")
+				.description("Order status events that could not be delivered").register(meterRegistry);
+	}
+
+	/**
+	 * Opens a subscription for a user. The user receives events for every order
+	 * they placed, own the restaurant of, or deliver.
+	 *
+	 * @param userId The subscribing user's ID.
+	 * @return The emitter to return from the controller.
+	 */
+	public SseEmitter subscribe(Long userId) {
+		SseEmitter emitter = createEmitter(timeoutMillis);
+		subscribers.compute(userId, (key, emitters) -> {
+			Set<SseEmitter> set = emitters != null ? emitters : new CopyOnWriteArraySet<>();
+			set.add(emitter);
+			return set;
+		});
+		connections.incrementAndGet();
+
+		emitter.onCompletion(() -> unsubscribe(userId, emitter));
+		emitter.onTimeout(emitter::complete);
+		emitter.onError(error -> unsubscribe(userId, emitter));
+		logger.debug("User {} subscribed to order events", userId);
+		return emitter;
+	}
+
+	/**
+	 * Fans a status change out to the order's customer, restaurant owner and
+	 * delivery person. Runs once the publishing transaction has committed, or
+	 * immediately when published outside a transaction.
+	 *
+	 * @param event The status change.
+	 */
+	@Async("orderEventExecutor")
+	@TransactionalEventListener(fallbackExecution = true)
+	@Observed(name = "service.method")
+	public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+		send(event.customerId(), event);
+		send(event.restaurantOwnerId(), event);
+		send(event.deliveryPersonId(), event);
+	}
+
+	/**
+	 * Sends a comment line to every open subscription so proxies keep idle
+	 * connections open and dead clients are detected.
+	 */
+	@Scheduled(fixedDelayString = "${order.events.heartbeat-ms:25000}")
+	public void heartbeat() {
+		subscribers.forEach((userId, emitters) -> {
+			for (SseEmitter emitter : emitters) {
+				try {
+					emitter.send(SseEmitter.event().comment("keep-alive"));
+				} catch (IOException | IllegalStateException e) {
+					unsubscribe(userId, emitter);
+				}
+			}
+		});
+	}
+
+	/**
+	 * @return Number of open subscriptions.
+	 */
+	public int getConnectionCount() {
+		return connections.get();
+	}
+
+	/**
+	 * Creates the emitter for a new subscription.
+	 */
+	protected SseEmitter createEmitter(long timeoutMillis) {
+		return new SseEmitter(timeoutMillis);
+	}
+
+	private void send(Long userId, OrderStatusChangedEvent event) {
+		if (userId == null) {
+			return;
+		}
+		Set<SseEmitter> emitters = subscribers.get(userId);
+		if (emitters == null) {
+			return;
+		}
+		for (SseEmitter emitter : emitters) {
+			try {
+				emitter.send(SseEmitter.event().name(EVENT_NAME).id(String.valueOf(event.orderId())).data(event));
+				eventsSent.increment();
+			} catch (IOException | IllegalStateException e) {
+				logger.debug("Dropping order event subscription for user {}: {}", userId, e.getMessage());
+				sendFailures.increment();
+				unsubscribe(userId, emitter);
+			}
+		}
+	}
+
+	private void unsubscribe(Long userId, SseEmitter emitter) {
+		Set<SseEmitter> emitters = subscribers.get(userId);
+		if (emitters != null && emitters.remove(emitter)) {
+			connections.decrementAndGet();
+			subscribers.computeIfPresent(userId, (key, set) -> set.isEmpty() ? null : set);
+		}
+	}
+}
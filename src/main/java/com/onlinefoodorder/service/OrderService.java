@@ -4,17 +4,21 @@ import com.onlinefoodorder.dto.OrderDto;
 
 import com.onlinefoodorder.dto.OrderItemDto;
 import com.onlinefoodorder.entity.*;
+import com.onlinefoodorder.event.OrderStatusChangedEvent;
 import com.onlinefoodorder.util.Status.OrderStatus;
 import com.onlinefoodorder.exception.OrderNotFoundException;
 import com.onlinefoodorder.exception.ResourceNotFoundException;
 import com.onlinefoodorder.exception.UnauthorizedAccessException;
 import com.onlinefoodorder.repository.*;
 import com.onlinefoodorder.util.Status.DiscountType;
+import io.micrometer.observation.annotation.Observed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -50,6 +54,24 @@ public class OrderService {
 	@Autowired
 	private CouponRepository couponRepository;
 
+	@Autowired
+	private DeliveryDispatcher deliveryDispatcher;
+
+	@Autowired
+	private CourierAvailabilityIndex availabilityIndex;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private DeliveryEtaEstimator etaEstimator;
+
+	@Autowired
+	private ReadThroughCache<Long, OrderDto> orderCache;
+
+	@Autowired
+	private BusinessMetrics businessMetrics;
+
 	/**
 	 * Places a new order for a user.
 	 * 
@@ -58,6 +80,7 @@ public class OrderService {
 	 * @return The placed order as a DTO.
 	 */
 	@Transactional
+	@Observed(name = "service.method")
 	public OrderDto placeOrder(String userEmail, OrderDto orderDto) {
 		// Validate input amounts first
 		if (orderDto.getTotalAmount().compareTo(BigDecimal.ZERO) <= 0) {
@@ -112,13 +135,15 @@ public class OrderService {
 		}
 		order.setTaxAmount(order.getTotalAmount().multiply(BigDecimal.valueOf(0.05))); // 5% tax
 		order.setDeliveryFee(BigDecimal.valueOf(50)); // Flat delivery fee
-		order.setEstimatedDeliveryTime(LocalDateTime.now().plusMinutes(30)); // Default ETA 30 min
+		order.setEstimatedDeliveryTime(etaEstimator.estimateDeliveryTime(restaurant.getRestaurantId(),
+				DeliveryEtaEstimator.preparationMinutes(orderItems), order.getCreatedAt()));
 
 		if (orderDto.getCouponCode() != null) {
 			applyCouponToOrder(order, orderDto.getCouponCode());
 		}
 
 		Order savedOrder = orderRepository.save(order);
+		businessMetrics.orderPlaced(savedOrder.getStatus());
 		return mapToDto(savedOrder);
 	}
 
@@ -158,17 +183,27 @@ public class OrderService {
 	}
 
 	/**
-	 * Retrieves an order by its ID.
+	 * Retrieves an order by its ID, from the order cache if present.
 	 * 
 	 * @param orderId The ID of the order.
 	 * @return The order details as a DTO.
 	 */
 	public OrderDto getOrderById(Long orderId) {
-		logger.info("Fetching order with ID: {}", orderId);
+		logger.debug("Fetching order with ID: {}", orderId);
 
-		Order order = orderRepository.findById(orderId)
-				.orElseThrow(() -> new OrderNotFoundException("Order not found with ID: " + orderId));
-		return mapToDto(order);
+		return orderCache.get(orderId, id -> mapToDto(orderRepository.findDetailsByOrderId(id)
+				.orElseThrow(() -> new OrderNotFoundException("Order not found with ID: " + id))));
+	}
+
+	/**
+	 * Evicts an order from the order cache once its status change commits,
+	 * whichever service made the change.
+	 *
+	 * @param event The status change.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+		orderCache.invalidate(event.orderId());
 	}
 
 	/**
@@ -178,7 +213,7 @@ public class OrderService {
 	 * @return A list of orders.
 	 */
 	public List<OrderDto> getUserOrders(String userEmail) {
-		logger.info("Fetching orders for user '{}'", userEmail);
+		logger.debug("Fetching orders for user '{}'", userEmail);
 
 		User user = userRepository.findByEmail(userEmail)
 				.orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -198,7 +233,7 @@ public class OrderService {
 	public OrderDto updateOrderStatus(Long orderId, OrderStatus status, String userEmail) {
 		logger.info("User '{}' updating order ID {} to status '{}'", userEmail, orderId, status);
 
-		Order order = orderRepository.findById(orderId)
+		Order order = orderRepository.findForStatusChangeByOrderId(orderId)
 				.orElseThrow(() -> new OrderNotFoundException("Order not found"));
 
 		User user = userRepository.findByEmail(userEmail)
@@ -214,10 +249,26 @@ public class OrderService {
 			}
 		}
 
+		OrderStatus previousStatus = order.getStatus();
 		order.setStatus(status);
 		order.setUpdatedAt(LocalDateTime.now());
+		order.setEstimatedDeliveryTime(etaEstimator.reestimate(order, order.getUpdatedAt()));
 		Order updatedOrder = orderRepository.save(order);
 
+		if (status == OrderStatus.PREPARING && updatedOrder.getDeliveryPerson() == null) {
+			Restaurant restaurant = updatedOrder.getRestaurant();
+			CustomerAddress dropAddress = updatedOrder.getDeliveryAddress();
+			deliveryDispatcher.submit(orderId, restaurant.getLatitude(), restaurant.getLongitude(),
+					dropAddress != null ? dropAddress.getLatitude() : null,
+					dropAddress != null ? dropAddress.getLongitude() : null, updatedOrder.getUpdatedAt()
+							.plusMinutes(DeliveryEtaEstimator.preparationMinutes(updatedOrder.getOrderItems())));
+		} else if ((status == OrderStatus.DELIVERED || status == OrderStatus.CANCELLED)
+				&& (previousStatus == OrderStatus.ASSIGNED || previousStatus == OrderStatus.OUT_FOR_DELIVERY)
+				&& updatedOrder.getDeliveryPerson() != null) {
+			availabilityIndex.decrementLoad(updatedOrder.getDeliveryPerson().getUserId());
+		}
+		eventPublisher.publishEvent(OrderStatusChangedEvent.of(updatedOrder, previousStatus));
+
 		return mapToDto(updatedOrder);
 	}
 
@@ -234,7 +285,7 @@ public class OrderService {
 	public OrderDto applyCoupon(Long orderId, String couponCode) {
 		logger.info("Applying coupon '{}' to order ID: {}", couponCode, orderId);
 
-		Order order = orderRepository.findById(orderId)
+		Order order = orderRepository.findDetailsByOrderId(orderId)
 				.orElseThrow(() -> new ResourceNotFoundException("Order not found with ID: " + orderId));
 
 		if (order.getCoupon() != null) {
@@ -244,6 +295,7 @@ public class OrderService {
 
 		applyCouponToOrder(order, couponCode);
 		orderRepository.save(order);
+		orderCache.invalidate(orderId);
 
 		logger.info("Coupon '{}' successfully applied to order ID: {}", couponCode, orderId);
 		return mapToDto(order);
@@ -261,7 +313,7 @@ public class OrderService {
 	public OrderDto removeCoupon(Long orderId) {
 		logger.info("Attempting to remove coupon from order ID: {}", orderId);
 
-		Order order = orderRepository.findById(orderId)
+		Order order = orderRepository.findDetailsByOrderId(orderId)
 				.orElseThrow(() -> new ResourceNotFoundException("Order not found with ID: " + orderId));
 
 		if (order.getCoupon() == null) {
@@ -275,6 +327,7 @@ public class OrderService {
 		order.setDiscountAmount(BigDecimal.ZERO);
 
 		orderRepository.save(order);
+		orderCache.invalidate(orderId);
 
 		logger.info("Coupon successfully removed from order ID: {}", orderId);
 		return mapToDto(order);
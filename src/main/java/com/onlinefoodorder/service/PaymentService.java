@@ -1,5 +1,6 @@
 package com.onlinefoodorder.service;
 
+import com.onlinefoodorder.dto.OrderDto;
 import com.onlinefoodorder.dto.PaymentDto;
 import com.onlinefoodorder.entity.*;
 import com.onlinefoodorder.repository.*;
@@ -12,6 +13,7 @@ import com.onlinefoodorder.exception.PaymentFailedException;
 import com.onlinefoodorder.exception.ResourceNotFoundException;
 import com.onlinefoodorder.exception.UnauthorizedAccessException;
 
+import io.micrometer.observation.annotation.Observed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,15 +40,22 @@ public class PaymentService {
 	@Autowired
 	private PdfGenerator pdfGenerator;
 
+	@Autowired
+	private ReadThroughCache<Long, OrderDto> orderCache;
+
+	@Autowired
+	private BusinessMetrics businessMetrics;
+
 	/**
 	 * Processes a new payment transaction.
 	 * 
 	 * @param paymentDto DTO containing payment details.
 	 * @return DTO representing the processed payment.
 	 */
+	@Observed(name = "service.method")
 	public PaymentDto processPayment(PaymentDto paymentDto) {
 		// Fetch Order
-		Order order = orderRepository.findById(paymentDto.getOrderId()).orElseThrow(
+		Order order = orderRepository.findDetailsByOrderId(paymentDto.getOrderId()).orElseThrow(
 				() -> new ResourceNotFoundException("Order not found with ID: " + paymentDto.getOrderId()));
 
 		// Fetch User
@@ -78,6 +87,7 @@ public class PaymentService {
 			paymentRepository.save(savedPayment);
 
 			logger.info("Payment successful. Transaction ID: {}", savedPayment.getTransactionId());
+			businessMetrics.paymentProcessed(savedPayment.getPaymentMethod(), PaymentStatus.SUCCESS);
 			return mapToDto(savedPayment);
 		} catch (Exception e) {
 			// Handle Payment Failure
@@ -85,8 +95,12 @@ public class PaymentService {
 
 			payment.setPaymentStatus(PaymentStatus.FAILED);
 			paymentRepository.save(payment); // Save failure status
+			businessMetrics.paymentProcessed(payment.getPaymentMethod(), PaymentStatus.FAILED);
 
 			throw new RuntimeException("Payment failed: " + e.getMessage()); // Inform frontend
+		} finally {
+			// Cached order details include the payment
+			orderCache.invalidate(order.getOrderId());
 		}
 	}
 
@@ -135,6 +149,7 @@ public class PaymentService {
 		}
 
 		Payment updatedPayment = paymentRepository.save(payment);
+		orderCache.invalidate(payment.getOrder().getOrderId());
 		logger.info("Payment ID {} updated successfully by {}", paymentId, userEmail);
 		return mapToDto(updatedPayment);
 	}
@@ -0,0 +1,78 @@
+package com.onlinefoodorder.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.onlinefoodorder.repository.RestaurantRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Background job that recomputes every restaurant's review totals and rating
+ * from its reviews. Review writes keep the totals up to date incrementally;
+ * this job fills in totals that were never tracked and corrects any drift,
+ * such as from reviews edited directly in the database. Restaurants are
+ * recomputed in ID ranges, each range in its own short transaction.
+ */
+@Service
+public class RatingRepairService {
+
+	private static final Logger logger = LoggerFactory.getLogger(RatingRepairService.class);
+
+	private final RestaurantRepository restaurantRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	private final int batchSize;
+
+	private final Counter repairedRestaurants;
+	private final Timer runTimer;
+
+	public RatingRepairService(RestaurantRepository restaurantRepository,
+			PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+			@Value("${reviews.rating-repair.batch-size:1000}") int batchSize) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("Rating repair batch size must be positive");
+		}
+		this.restaurantRepository = restaurantRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+
+		this.repairedRestaurants = Counter.builder("reviews.rating.repaired")
+				.description("Restaurants whose rating was recomputed by the repair job").register(meterRegistry);
+		this.runTimer = Timer.builder("reviews.rating.repair.duration")
+				.description("Duration of a rating repair run").register(meterRegistry);
+	}
+
+	/**
+	 * Recomputes the rating of every restaurant.
+	 *
+	 * @return Number of restaurants recomputed.
+	 */
+	@Scheduled(cron = "${reviews.rating-repair.cron:0 15 4 * * *}")
+	public long repairRatings() {
+		long start = System.nanoTime();
+		long maxId = restaurantRepository.findMaxRestaurantId();
+		long repaired = 0;
+
+		for (long afterId = 0; afterId < maxId; afterId += batchSize) {
+			long from = afterId;
+			long upTo = Math.min(afterId + batchSize, maxId);
+			Integer updated = transactionTemplate.execute(status -> restaurantRepository.recomputeRatings(from, upTo));
+			repaired += updated != null ? updated : 0;
+		}
+
+		repairedRestaurants.increment(repaired);
+		runTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		logger.info("Rating repair recomputed {} restaurants", repaired);
+		return repaired;
+	}
+}
@@ -0,0 +1,126 @@
+package com.onlinefoodorder.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded read-through cache of one entity type's details, keyed by ID.
+ * Backed by Caffeine, whose W-TinyLFU policy admits a new entry only if it is
+ * likely to be used more often than the entry it would evict, so a burst of
+ * one-off lookups does not flush the hot keys.
+ * <p>
+ * A miss is loaded on the calling thread, outside any lock: the cache holds
+ * the pending load as a future, which concurrent callers for the same key
+ * wait on. Loading inside the cache's own compute, as a synchronous Caffeine
+ * cache does, would run the database query while holding a monitor, and so
+ * pin the carrier thread of a virtual thread.
+ * <p>
+ * Writers call {@link #invalidate(Object)} after changing an entity. Inside a
+ * transaction the entry is evicted again once it completes, so a read that loaded
+ * the old row while the transaction was open cannot leave it cached.
+ *
+ * @param <K> Key type.
+ * @param <V> Cached value type; values are shared between callers and must
+ *            not be modified.
+ */
+public class ReadThroughCache<K, V> {
+
+	private final AsyncCache<K, V> loads;
+	private final Cache<K, V> cache;
+
+	public ReadThroughCache(String name, long maximumSize, Duration timeToLive, MeterRegistry meterRegistry) {
+		this.loads = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(timeToLive).recordStats()
+				.buildAsync();
+		this.cache = loads.synchronous();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+		Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate()).tag("cache", name)
+				.description("Fraction of lookups served from the cache").register(meterRegistry);
+	}
+
+	/**
+	 * Returns the cached value for a key, loading and caching it on a miss.
+	 * Concurrent misses for the same key load it once. Exceptions thrown by
+	 * the loader propagate and nothing is cached.
+	 *
+	 * @param key    The key.
+	 * @param loader Loads the value; must not return null.
+	 * @return The value.
+	 */
+	public V get(K key, Function<? super K, ? extends V> loader) {
+		CompletableFuture<V> load = new CompletableFuture<>();
+		CompletableFuture<V> value = loads.get(key, (k, executor) -> load);
+		if (value == load) {
+			try {
+				load.complete(loader.apply(key));
+			} catch (RuntimeException | Error e) {
+				// Completing exceptionally also removes the entry
+				load.completeExceptionally(e);
+			}
+		}
+		try {
+			return value.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Evicts a key now and, if a transaction is active, again once it
+	 * completes.
+	 *
+	 * @param key The key.
+	 */
+	public void invalidate(K key) {
+		cache.invalidate(key);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					cache.invalidate(key);
+				}
+			});
+		}
+	}
+
+	/**
+	 * @return Approximate number of cached entries.
+	 */
+	public long estimatedSize() {
+		return cache.estimatedSize();
+	}
+
+	/**
+	 * Performs pending maintenance, such as size-based evictions, now rather
+	 * than on a later access.
+	 */
+	void cleanUp() {
+		cache.cleanUp();
+	}
+
+	/**
+	 * @return Hit, miss, load and eviction counts since startup.
+	 */
+	public CacheStats stats() {
+		return cache.stats();
+	}
+}
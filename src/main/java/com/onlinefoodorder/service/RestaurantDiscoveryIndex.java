@@ -0,0 +1,258 @@
+package com.onlinefoodorder.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.onlinefoodorder.dto.NearbyRestaurantDto;
+import com.onlinefoodorder.dto.RestaurantListing;
+import com.onlinefoodorder.repository.MenuItemRepository;
+import com.onlinefoodorder.repository.RestaurantRepository;
+import com.onlinefoodorder.util.GeoUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * In-memory spatial and attribute index of restaurants for discovery.
+ * Restaurants with coordinates are bucketed into a latitude / longitude grid,
+ * each held as a {@link RestaurantListing} with its opening hours already
+ * parsed, so a discovery query scans only the grid cells around the customer
+ * and never touches the database.
+ * <p>
+ * Restaurant CRUD updates the index incrementally. Whether a restaurant serves
+ * only vegetarian food depends on its whole menu and is refreshed, along with
+ * everything else, by a periodic rebuild.
+ */
+@Component
+public class RestaurantDiscoveryIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(RestaurantDiscoveryIndex.class);
+
+	/** Grid cell size in degrees (roughly 2.2 km of latitude). */
+	static final double CELL_DEGREES = 0.02;
+
+	/**
+	 * Highest rating first, then the closest, then the oldest restaurant.
+	 */
+	private static final Comparator<Candidate> RANKING = Comparator
+			.comparingDouble((Candidate candidate) -> candidate.listing().getRating()).reversed()
+			.thenComparingDouble(Candidate::distanceKm)
+			.thenComparingLong(candidate -> candidate.listing().getRestaurantId());
+
+	private final RestaurantRepository restaurantRepository;
+	private final MenuItemRepository menuItemRepository;
+
+	private volatile State state = new State();
+	private List<Consumer<State>> updatesDuringRebuild;
+
+	private final Timer queryLatency;
+
+	public RestaurantDiscoveryIndex(RestaurantRepository restaurantRepository, MenuItemRepository menuItemRepository,
+			MeterRegistry meterRegistry) {
+		this.restaurantRepository = restaurantRepository;
+		this.menuItemRepository = menuItemRepository;
+		this.queryLatency = Timer.builder("restaurant.discovery.latency")
+				.description("Time to answer a restaurant discovery query").publishPercentiles(0.5, 0.95, 0.99)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Finds restaurants within a radius of a point, best rated first.
+	 *
+	 * @param latitude       Latitude of the customer.
+	 * @param longitude      Longitude of the customer.
+	 * @param radiusKm       Restaurants further than this are ignored.
+	 * @param openAtMinute   If not null, only restaurants open at this minute
+	 *                       of the day.
+	 * @param minRating      Minimum restaurant rating.
+	 * @param vegetarianOnly If true, only restaurants serving only vegetarian
+	 *                       food.
+	 * @param page           Zero-based page number.
+	 * @param size           Page size.
+	 * @return The requested page, ordered by rating and then distance.
+	 */
+	public List<NearbyRestaurantDto> find(double latitude, double longitude, double radiusKm, Integer openAtMinute,
+			double minRating, boolean vegetarianOnly, int page, int size) {
+		long start = System.nanoTime();
+		State current = state;
+		int keep = (page + 1) * size;
+		PriorityQueue<Candidate> best = new PriorityQueue<>(Math.min(keep, 1024) + 1, RANKING.reversed());
+
+		double latitudeSpan = radiusKm / GeoUtils.KM_PER_DEGREE;
+		double longitudeSpan = radiusKm / (GeoUtils.KM_PER_DEGREE
+				* Math.max(0.01, Math.cos(Math.toRadians(Math.min(89.0, Math.abs(latitude) + latitudeSpan)))));
+		int minRow = cellRow(latitude - latitudeSpan);
+		int maxRow = cellRow(latitude + latitudeSpan);
+		int minCol = cellCol(longitude - longitudeSpan);
+		int maxCol = cellCol(longitude + longitudeSpan);
+
+		for (int row = minRow; row <= maxRow; row++) {
+			for (int col = minCol; col <= maxCol; col++) {
+				Set<Long> members = current.cells.get(cellKey(row, col));
+				if (members == null) {
+					continue;
+				}
+				for (Long restaurantId : members) {
+					RestaurantListing listing = current.listings.get(restaurantId);
+					if (listing == null || listing.getRating() < minRating
+							|| vegetarianOnly && !current.vegetarianOnly.contains(restaurantId)
+							|| openAtMinute != null && !listing.isOpenAt(openAtMinute)) {
+						continue;
+					}
+					double distance = GeoUtils.distanceKm(latitude, longitude, listing.getLatitude(),
+							listing.getLongitude());
+					if (distance > radiusKm) {
+						continue;
+					}
+					Candidate candidate = new Candidate(listing, distance);
+					if (best.size() < keep) {
+						best.offer(candidate);
+					} else if (RANKING.compare(candidate, best.peek()) < 0) {
+						best.poll();
+						best.offer(candidate);
+					}
+				}
+			}
+		}
+
+		List<Candidate> ranked = new ArrayList<>(best);
+		ranked.sort(RANKING);
+		List<NearbyRestaurantDto> results = new ArrayList<>();
+		for (int i = page * size; i < ranked.size(); i++) {
+			Candidate candidate = ranked.get(i);
+			results.add(new NearbyRestaurantDto(candidate.listing(),
+					current.vegetarianOnly.contains(candidate.listing().getRestaurantId()), candidate.distanceKm()));
+		}
+		queryLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		return results;
+	}
+
+	/**
+	 * Adds a restaurant to the index, replacing any previous version of it.
+	 * Its vegetarian-only flag is kept.
+	 *
+	 * @param listing The restaurant's listing.
+	 */
+	public void put(RestaurantListing listing) {
+		apply(current -> current.put(listing));
+	}
+
+	/**
+	 * Removes a restaurant from the index.
+	 *
+	 * @param restaurantId The restaurant ID.
+	 */
+	public void remove(long restaurantId) {
+		apply(current -> current.remove(restaurantId));
+	}
+
+	/**
+	 * @return Number of restaurants in the index.
+	 */
+	public int size() {
+		return state.listings.size();
+	}
+
+	/**
+	 * Rebuilds the index from the database. The current index keeps serving
+	 * queries while the new one loads, and updates made in the meantime are
+	 * replayed onto the new index before it replaces the current one. Runs at
+	 * startup and then periodically.
+	 */
+	@Scheduled(fixedDelayString = "${discovery.rebuild-ms:300000}")
+	public void rebuild() {
+		synchronized (this) {
+			if (updatesDuringRebuild != null) {
+				return;
+			}
+			updatesDuringRebuild = new ArrayList<>();
+		}
+
+		long start = System.currentTimeMillis();
+		State fresh = new State();
+		try {
+			fresh.vegetarianOnly.addAll(menuItemRepository.findVegetarianOnlyRestaurantIds());
+			for (RestaurantListing listing : restaurantRepository.findDiscoveryListings()) {
+				fresh.put(listing);
+			}
+		} catch (RuntimeException e) {
+			synchronized (this) {
+				updatesDuringRebuild = null;
+			}
+			throw e;
+		}
+
+		synchronized (this) {
+			updatesDuringRebuild.forEach(update -> update.accept(fresh));
+			updatesDuringRebuild = null;
+			state = fresh;
+		}
+		logger.info("Restaurant discovery index rebuilt with {} restaurants in {} ms", fresh.listings.size(),
+				System.currentTimeMillis() - start);
+	}
+
+	private synchronized void apply(Consumer<State> update) {
+		update.accept(state);
+		if (updatesDuringRebuild != null) {
+			updatesDuringRebuild.add(update);
+		}
+	}
+
+	private static int cellRow(double latitude) {
+		return (int) Math.floor(latitude / CELL_DEGREES);
+	}
+
+	private static int cellCol(double longitude) {
+		return (int) Math.floor(longitude / CELL_DEGREES);
+	}
+
+	private static long cellKey(int row, int col) {
+		return ((long) row << 32) | (col & 0xffffffffL);
+	}
+
+	private record Candidate(RestaurantListing listing, double distanceKm) {
+	}
+
+	/**
+	 * Listings, grid cells and the vegetarian-only set. Written only under the
+	 * enclosing index's monitor; read concurrently without locking.
+	 */
+	private static final class State {
+
+		private final ConcurrentHashMap<Long, RestaurantListing> listings = new ConcurrentHashMap<>();
+		private final ConcurrentHashMap<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+		private final Set<Long> vegetarianOnly = ConcurrentHashMap.newKeySet();
+
+		void put(RestaurantListing listing) {
+			long restaurantId = listing.getRestaurantId();
+			long cell = cellKey(cellRow(listing.getLatitude()), cellCol(listing.getLongitude()));
+			RestaurantListing previous = listings.put(restaurantId, listing);
+			cells.computeIfAbsent(cell, key -> ConcurrentHashMap.newKeySet()).add(restaurantId);
+			if (previous != null) {
+				long previousCell = cellKey(cellRow(previous.getLatitude()), cellCol(previous.getLongitude()));
+				if (previousCell != cell) {
+					cells.get(previousCell).remove(restaurantId);
+				}
+			}
+		}
+
+		void remove(long restaurantId) {
+			RestaurantListing previous = listings.remove(restaurantId);
+			if (previous != null) {
+				cells.get(cellKey(cellRow(previous.getLatitude()), cellCol(previous.getLongitude())))
+						.remove(restaurantId);
+			}
+		}
+	}
+}
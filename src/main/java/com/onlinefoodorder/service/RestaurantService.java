@@ -3,20 +3,32 @@ package com.onlinefoodorder.service;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.onlinefoodorder.dto.NearbyRestaurantDto;
 import com.onlinefoodorder.dto.RestaurantDto;
+import com.onlinefoodorder.dto.RestaurantListing;
+import com.onlinefoodorder.dto.RestaurantOwnerView;
+import com.onlinefoodorder.dto.RestaurantPublicView;
+import com.onlinefoodorder.dto.RestaurantView;
+import com.onlinefoodorder.entity.CustomerAddress;
 import com.onlinefoodorder.entity.Restaurant;
 import com.onlinefoodorder.entity.User;
+import com.onlinefoodorder.exception.ResourceNotFoundException;
 import com.onlinefoodorder.exception.UnauthorizedAccessException;
+import com.onlinefoodorder.repository.CustomerAddressRepository;
+import com.onlinefoodorder.repository.MenuItemRepository;
 import com.onlinefoodorder.repository.OrderItemRepository;
 import com.onlinefoodorder.repository.RestaurantRepository;
 import com.onlinefoodorder.util.Charts;
+
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+
+import io.micrometer.observation.annotation.Observed;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +48,22 @@ public class RestaurantService {
 	@Autowired
 	private OrderItemRepository orderitemRepository;
 
+	@Autowired
+	private CustomerAddressRepository customerAddressRepository;
+
+	@Autowired
+	private RestaurantDiscoveryIndex restaurantDiscoveryIndex;
+
+	@Autowired
+	private MenuItemRepository menuItemRepository;
+
+	@Autowired
+	private MenuSearchIndex menuSearchIndex;
+
+	static final double MAX_DISCOVERY_RADIUS_KM = 25.0;
+	static final int MAX_DISCOVERY_PAGE_SIZE = 50;
+	static final int MAX_DISCOVERY_PAGE = 100;
+
 	/**
 	 * Creates a new restaurant and saves it in the database.
 	 * 
@@ -50,50 +78,34 @@ public class RestaurantService {
 		restaurant.setLogoUrl(dto.getLogoUrl());
 		restaurant.setOpeningTime(dto.getOpeningTime());
 		restaurant.setClosingTime(dto.getClosingTime());
+		restaurant.setLatitude(dto.getLatitude());
+		restaurant.setLongitude(dto.getLongitude());
 		restaurant.setOwner(owner);
 
 		restaurantRepository.save(restaurant);
+		updateDiscoveryIndex(restaurant);
 		logger.info("Restaurant '{}' created by owner '{}'.", restaurant.getName(), owner.getEmail());
 	}
 
 	/**
-	 * Retrieves a restaurant by its ID.
+	 * Retrieves a restaurant by its ID: the full details for its owner, the
+	 * public ones for everyone else.
 	 * 
-	 * @param id Restaurant ID
-	 * @return Restaurant entity
+	 * @param id   Restaurant ID
+	 * @param user Current user, or null for anonymous visitors
+	 * @return Restaurant view
 	 */
-	public Map<String, Object> getRestaurantById(long id, User user) {
-		Restaurant restaurant = restaurantRepository.findById(id).orElseThrow(() -> {
+	@Transactional(readOnly = true)
+	public RestaurantView getRestaurantById(long id, User user) {
+		RestaurantOwnerView restaurant = restaurantRepository.findOwnerViewById(id).orElseThrow(() -> {
 			logger.error("Restaurant with ID {} not found.", id);
 			return new RuntimeException("Restaurant not found");
 		});
 
-		Map<String, Object> response = new HashMap<>();
-
-		// If the user is the restaurant owner, return full details
-		if (user != null && restaurant.getOwner().getUserId().equals(user.getUserId())) {
-			response.put("id", restaurant.getRestaurantId());
-			response.put("name", restaurant.getName());
-			response.put("address", restaurant.getAddress());
-			response.put("phone", restaurant.getPhone());
-			response.put("rating", restaurant.getRating());
-			response.put("logoUrl", restaurant.getLogoUrl());
-			response.put("openingTime", restaurant.getOpeningTime());
-			response.put("closingTime", restaurant.getClosingTime());
-			response.put("ownerId", restaurant.getOwner().getUserId());
-		} else {
-			// If the user is a customer, return limited details
-			response.put("name", restaurant.getName());
-			response.put("address", restaurant.getAddress());
-			response.put("openingTime", restaurant.getOpeningTime());
-			response.put("closingTime", restaurant.getClosingTime());
-			response.put("rating", restaurant.getRating());
+		if (user != null && restaurant.ownerId().equals(user.getUserId())) {
+			return restaurant;
 		}
-
-		// Handle null values
-		response.replaceAll((key, value) -> value == null ? "N/A" : value);
-
-		return response;
+		return restaurant.toPublicView();
 	}
 
 	/**
@@ -131,12 +143,22 @@ public class RestaurantService {
 			throw new UnauthorizedAccessException("Unauthorized access to update restaurant.");
 		}
 		logger.info("Updating restaurant '{}' (ID: {}) by owner '{}'.", restaurant.getName(), id, user.getEmail());
+		boolean renamed = !Objects.equals(restaurant.getName(), dto.getName());
 		restaurant.setName(dto.getName());
 		restaurant.setAddress(dto.getAddress());
 		restaurant.setPhone(dto.getPhone());
 		restaurant.setLogoUrl(dto.getLogoUrl());
+		if (dto.getLatitude() != null && dto.getLongitude() != null) {
+			restaurant.setLatitude(dto.getLatitude());
+			restaurant.setLongitude(dto.getLongitude());
+		}
 
 		restaurantRepository.save(restaurant);
+		updateDiscoveryIndex(restaurant);
+		if (renamed) {
+			// Search results carry the restaurant name, and queries match it
+			menuSearchIndex.indexAll(menuItemRepository.findSearchDocumentsByRestaurantId(id));
+		}
 		logger.info("Restaurant '{}' updated by owner '{}'.", restaurant.getName(), user.getEmail());
 		return "Restaurant updated successfully!";
 	}
@@ -160,37 +182,88 @@ public class RestaurantService {
 			throw new UnauthorizedAccessException("Unauthorized access to delete restaurant.");
 		}
 
+		List<Long> itemIds = menuItemRepository.findItemIdsByRestaurantId(id);
 		restaurantRepository.delete(restaurant);
+		restaurantDiscoveryIndex.remove(restaurant.getRestaurantId());
+		menuSearchIndex.removeAll(itemIds);
 		logger.info("Restaurant '{}' deleted by owner '{}'.", restaurant.getName(), user.getEmail());
 		return "Restaurant deleted successfully!";
 	}
 
 	/**
-	 * Retrieves a list of all restaurants with selected details. Logs the retrieval
+	 * Retrieves the public details of all restaurants. Logs the retrieval
 	 * process.
 	 *
-	 * @return List of maps containing restaurant details.
+	 * @return List of restaurant views.
 	 */
-	public List<Map<String, Object>> getAllRestaurants() {
-		logger.info("Fetching all restaurants from the database.");
+	@Transactional(readOnly = true)
+	public List<RestaurantPublicView> getAllRestaurants() {
+		logger.debug("Fetching all restaurants from the database.");
 
-		List<Restaurant> restaurants = restaurantRepository.findAll();
+		List<RestaurantPublicView> restaurants = restaurantRepository.findAllPublicViews();
 
-		logger.info("Found {} restaurants.", restaurants.size());
+		logger.debug("Found {} restaurants.", restaurants.size());
+		return restaurants;
+	}
 
-		return restaurants.stream().map(restaurant -> {
-			Map<String, Object> restaurantData = new HashMap<>();
-			restaurantData.put("name", restaurant.getName());
-			restaurantData.put("address", restaurant.getAddress());
-			restaurantData.put("openingTime", restaurant.getOpeningTime());
-			restaurantData.put("closingTime", restaurant.getClosingTime());
-			restaurantData.put("rating", restaurant.getRating());
+	/**
+	 * Finds restaurants near one of the customer's saved addresses, best rated
+	 * first, from the in-memory discovery index.
+	 *
+	 * @param userEmail      Email of the customer.
+	 * @param addressId      ID of the customer's address to search around.
+	 * @param radiusKm       Search radius in kilometres.
+	 * @param openNow        If true, only restaurants open right now.
+	 * @param minRating      If not null, the minimum restaurant rating.
+	 * @param vegetarianOnly If true, only pure vegetarian restaurants.
+	 * @param page           Zero-based page number.
+	 * @param size           Page size, capped at {@value #MAX_DISCOVERY_PAGE_SIZE}.
+	 * @return The requested page of restaurants.
+	 */
+	public List<NearbyRestaurantDto> discoverRestaurants(String userEmail, Long addressId, double radiusKm,
+			boolean openNow, Double minRating, boolean vegetarianOnly, int page, int size) {
+		if (radiusKm <= 0 || radiusKm > MAX_DISCOVERY_RADIUS_KM) {
+			throw new IllegalArgumentException(
+					"Radius must be greater than 0 and at most " + MAX_DISCOVERY_RADIUS_KM + " km");
+		}
+		if (page < 0 || page > MAX_DISCOVERY_PAGE) {
+			throw new IllegalArgumentException("Page must be between 0 and " + MAX_DISCOVERY_PAGE);
+		}
 
-			logger.debug("Mapped restaurant: {}", restaurant.getName());
-			return restaurantData;
-		}).collect(Collectors.toList());
+		CustomerAddress address = customerAddressRepository.findById(addressId)
+				.orElseThrow(() -> new ResourceNotFoundException("Address not found"));
+		if (!address.getUser().getEmail().equals(userEmail)) {
+			logger.warn("User {} attempted to discover restaurants around address {}", userEmail, addressId);
+			throw new UnauthorizedAccessException("You are not authorized to use this address");
+		}
+		if (address.getLatitude() == null || address.getLongitude() == null) {
+			throw new IllegalArgumentException("Address has no location; update it with latitude and longitude");
+		}
+
+		Integer openAtMinute = null;
+		if (openNow) {
+			LocalTime now = LocalTime.now();
+			openAtMinute = now.getHour() * 60 + now.getMinute();
+		}
+		int pageSize = Math.max(1, Math.min(size, MAX_DISCOVERY_PAGE_SIZE));
+		List<NearbyRestaurantDto> restaurants = restaurantDiscoveryIndex.find(address.getLatitude(),
+				address.getLongitude(), radiusKm, openAtMinute, minRating != null ? minRating : 0.0, vegetarianOnly,
+				page, pageSize);
+		logger.debug("Found {} restaurants within {} km of address {} (page {}).", restaurants.size(), radiusKm,
+				addressId, page);
+		return restaurants;
+	}
+
+	private void updateDiscoveryIndex(Restaurant restaurant) {
+		if (restaurant.getLatitude() != null && restaurant.getLongitude() != null) {
+			restaurantDiscoveryIndex.put(RestaurantListing.of(restaurant));
+		} else {
+			restaurantDiscoveryIndex.remove(restaurant.getRestaurantId());
+		}
 	}
 
+	@Transactional(readOnly = true)
+	@Observed(name = "service.method")
 	public byte[] getMenuItemSalesChart(String email) {
 		// Validate email input
 		if (email == null) {
@@ -200,11 +273,11 @@ public class RestaurantService {
 			throw new IllegalArgumentException("Email cannot be empty");
 		}
 
-		System.out.println("Executing Query for: " + email);
+		logger.debug("Fetching menu item sales for owner {}", email);
 		List<Object[]> result = orderitemRepository.findSalesStatsByOwner(email);
 
 		if (result.isEmpty()) {
-			System.out.println("No data found for: " + email);
+			logger.debug("No menu item sales found for owner {}", email);
 		}
 
 		List<String> labels = new ArrayList<>();
@@ -1,6 +1,10 @@
 package com.onlinefoodorder.service;
 
 import com.onlinefoodorder.dto.ReviewDto;
+import com.onlinefoodorder.dto.ReviewFeed;
+import com.onlinefoodorder.dto.ReviewFeedItem;
+import com.onlinefoodorder.dto.ReviewFeedRow;
+import com.onlinefoodorder.dto.ReviewSummary;
 import com.onlinefoodorder.entity.Review;
 import com.onlinefoodorder.entity.User;
 import com.onlinefoodorder.entity.Restaurant;
@@ -13,9 +17,16 @@ import com.onlinefoodorder.repository.RestaurantRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +34,8 @@ import java.util.Optional;
 public class ReviewService {
 	private static final Logger logger = LoggerFactory.getLogger(ReviewService.class);
 
+	static final int MAX_FEED_PAGE_SIZE = 50;
+
 	@Autowired
 	private ReviewRepository reviewRepository;
 
@@ -38,6 +51,7 @@ public class ReviewService {
 	 * @param reviewDto Review details DTO.
 	 * @return Success message.
 	 */
+	@Transactional
 	public String addReview(ReviewDto reviewDto) {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		String email = authentication.getName();
@@ -48,6 +62,7 @@ public class ReviewService {
 		Restaurant restaurant = restaurantRepository.findById(reviewDto.getRestaurantId())
 				.orElseThrow(() -> new ResourceNotFoundException("Restaurant not found"));
 
+		validateRating(reviewDto.getRating());
 		Review review = new Review();
 		review.setUser(user);
 		review.setRestaurant(restaurant);
@@ -55,20 +70,57 @@ public class ReviewService {
 		review.setComment(reviewDto.getComment());
 		reviewRepository.save(review);
 
-		updateRestaurantRating(restaurant.getRestaurantId());
+		applyRatingChange(restaurant.getRestaurantId(), 0, review.getRating());
 		logger.info("Review added successfully for restaurant ID: {}", restaurant.getRestaurantId());
 		return "Review added successfully!";
 	}
 
 	/**
-	 * Fetches all reviews for a given restaurant.
+	 * Fetches a page of a restaurant's reviews, newest first. The first page
+	 * also carries the restaurant's rating summary and is loaded with it in one
+	 * query; later pages continue from the cursor of the previous page.
 	 * 
 	 * @param restaurantId ID of the restaurant.
-	 * @return List of reviews.
+	 * @param cursor       Cursor returned with the previous page, or null for
+	 *                     the first page.
+	 * @param size         Page size.
+	 * @return The page of reviews.
 	 */
-	public List<Review> getReviewsByRestaurant(Long restaurantId) {
-		logger.info("Fetching reviews for restaurant ID: {}", restaurantId);
-		return reviewRepository.findByRestaurantRestaurantId(restaurantId);
+	@Transactional(readOnly = true)
+	public ReviewFeed getReviewFeed(Long restaurantId, String cursor, int size) {
+		int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+		// One extra review tells whether there is a next page
+		PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+		ReviewSummary summary = null;
+		List<ReviewFeedItem> reviews;
+		if (cursor == null || cursor.isBlank()) {
+			List<ReviewFeedRow> rows = reviewRepository.findFirstFeedPage(restaurantId, limit);
+			if (rows.isEmpty()) {
+				throw new ResourceNotFoundException("Restaurant not found");
+			}
+			summary = rows.get(0).getSummary();
+			if (summary == null) {
+				summary = summarizeReviews(restaurantId);
+			}
+			reviews = new ArrayList<>(rows.size());
+			for (ReviewFeedRow row : rows) {
+				if (row.getReview() != null) {
+					reviews.add(row.getReview());
+				}
+			}
+		} else {
+			ReviewFeedItem last = decodeCursor(cursor);
+			reviews = reviewRepository.findFeedPageAfter(restaurantId, last.createdAt(), last.reviewId(), limit);
+		}
+
+		String nextCursor = null;
+		if (reviews.size() > pageSize) {
+			reviews = reviews.subList(0, pageSize);
+			nextCursor = encodeCursor(reviews.get(pageSize - 1));
+		}
+		logger.debug("Fetched {} reviews for restaurant ID: {}", reviews.size(), restaurantId);
+		return new ReviewFeed(summary, reviews, nextCursor);
 	}
 
 	/**
@@ -77,6 +129,7 @@ public class ReviewService {
 	 * @param reviewId ID of the review to be deleted.
 	 * @return Success message.
 	 */
+	@Transactional
 	public String deleteReview(Long reviewId) {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		String email = authentication.getName();
@@ -92,10 +145,19 @@ public class ReviewService {
 		}
 
 		reviewRepository.delete(review);
-		updateRestaurantRating(review.getRestaurant().getRestaurantId());
+		applyRatingChange(review.getRestaurant().getRestaurantId(), review.getRating(), 0);
 		logger.info("Review ID: {} deleted successfully", reviewId);
 		return "Review deleted successfully!";
 	}
+
+	/**
+	 * Updates a review if the authenticated user is the owner.
+	 * 
+	 * @param reviewId  ID of the review to be updated.
+	 * @param reviewDto New rating and comment.
+	 * @return Success message.
+	 */
+	@Transactional
 	public String updateReview(Long reviewId, ReviewDto reviewDto) {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		String email = authentication.getName();
@@ -111,29 +173,87 @@ public class ReviewService {
 			throw new SecurityException("You can only update your own reviews.");
 		}
 
+		validateRating(reviewDto.getRating());
+		int previousRating = review.getRating();
 		review.setRating(reviewDto.getRating());
 		review.setComment(reviewDto.getComment());
 		reviewRepository.save(review);
 
-		updateRestaurantRating(review.getRestaurant().getRestaurantId());
+		applyRatingChange(review.getRestaurant().getRestaurantId(), previousRating, review.getRating());
 		logger.info("Review ID: {} updated successfully", reviewId);
 		return "Review updated successfully!";
 	}
 
 	/**
-	 * Updates the average rating of a restaurant after a review is added or
-	 * deleted.
+	 * Recomputes the review totals and average rating of a restaurant from
+	 * all of its reviews.
 	 * 
 	 * @param restaurantId ID of the restaurant.
 	 */
+	@Transactional
 	public void updateRestaurantRating(Long restaurantId) {
-		List<Review> reviews = reviewRepository.findByRestaurantRestaurantId(restaurantId);
-		double avgRating = reviews.stream().mapToInt(Review::getRating).average().orElse(0.0);
+		if (restaurantRepository.recomputeRating(restaurantId) == 0) {
+			throw new ResourceNotFoundException("Restaurant not found");
+		}
+		logger.info("Recomputed rating of restaurant ID: {}", restaurantId);
+	}
 
-		Restaurant restaurant = restaurantRepository.findById(restaurantId)
-				.orElseThrow(() -> new ResourceNotFoundException("Restaurant not found"));
-		restaurant.setRating(avgRating);
-		restaurantRepository.save(restaurant);
-		logger.info("Updated restaurant ID: {} rating to: {}", restaurantId, avgRating);
+	/**
+	 * Applies a review change to the restaurant's review totals, histogram and
+	 * rating with one conditional update, falling back to a full recompute when
+	 * the totals are not tracked yet or have drifted.
+	 * 
+	 * @param removedRating Rating of the review removed or replaced, or 0.
+	 * @param addedRating   Rating of the review added or the new rating, or 0.
+	 */
+	private void applyRatingChange(Long restaurantId, int removedRating, int addedRating) {
+		if (restaurantRepository.applyReviewChange(restaurantId, removedRating, addedRating) == 0) {
+			logger.warn("Review totals of restaurant ID: {} missing or inconsistent; recomputing", restaurantId);
+			updateRestaurantRating(restaurantId);
+		}
+	}
+
+	private void validateRating(int rating) {
+		if (rating < 1 || rating > 5) {
+			throw new IllegalArgumentException("Rating must be between 1 and 5");
+		}
+	}
+
+	/**
+	 * Summarizes a restaurant's reviews with a grouped count, for restaurants
+	 * whose review totals are not tracked yet.
+	 */
+	private ReviewSummary summarizeReviews(Long restaurantId) {
+		long[] starCounts = new long[6];
+		for (Object[] row : reviewRepository.countByRating(restaurantId)) {
+			int rating = ((Number) row[0]).intValue();
+			if (rating >= 1 && rating <= 5) {
+				starCounts[rating] = ((Number) row[1]).longValue();
+			}
+		}
+		return ReviewSummary.fromStarCounts(starCounts);
+	}
+
+	/**
+	 * Encodes the position of a review in the feed as an opaque cursor.
+	 */
+	static String encodeCursor(ReviewFeedItem review) {
+		String position = review.createdAt() + "|" + review.reviewId();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodes a cursor into the creation time and ID of the review it points
+	 * at.
+	 */
+	static ReviewFeedItem decodeCursor(String cursor) {
+		try {
+			String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = position.indexOf('|');
+			return new ReviewFeedItem(Long.parseLong(position.substring(separator + 1)), null, 0, null,
+					LocalDateTime.parse(position.substring(0, separator)));
+		} catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+			throw new IllegalArgumentException("Invalid review cursor");
+		}
 	}
 }
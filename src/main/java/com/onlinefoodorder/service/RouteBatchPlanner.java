@@ -0,0 +1,183 @@
+package com.onlinefoodorder.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.onlinefoodorder.util.GeoUtils;
+import com.onlinefoodorder.util.RouteOptimizer;
+
+/**
+ * Groups orders into multi-drop routes for a single courier. Orders are
+ * grouped greedily in ready time order: each ungrouped order seeds a route and
+ * takes the closest orders whose restaurant is near its own, whose drop is
+ * near its own drop and whose food is ready within the same window. Pickups
+ * and drops of each route are then ordered with {@link RouteOptimizer}, all
+ * pickups first.
+ */
+@Component
+public class RouteBatchPlanner {
+
+	private final double pickupRadiusKm;
+	private final double dropRadiusKm;
+	private final long readyWindowMillis;
+	private final int maxOrders;
+
+	public RouteBatchPlanner(@Value("${delivery.dispatch.batching.pickup-radius-km:1.0}") double pickupRadiusKm,
+			@Value("${delivery.dispatch.batching.drop-radius-km:3.0}") double dropRadiusKm,
+			@Value("${delivery.dispatch.batching.ready-window-minutes:10}") int readyWindowMinutes,
+			@Value("${delivery.dispatch.batching.max-orders:3}") int maxOrders) {
+		if (maxOrders <= 0 || readyWindowMinutes < 0) {
+			throw new IllegalArgumentException("Route size must be positive and the ready window not negative");
+		}
+		this.pickupRadiusKm = pickupRadiusKm;
+		this.dropRadiusKm = dropRadiusKm;
+		this.readyWindowMillis = readyWindowMinutes * 60_000L;
+		this.maxOrders = maxOrders;
+	}
+
+	/**
+	 * Groups the candidates into routes. Every candidate ends up in exactly one
+	 * route; orders with no compatible neighbour form a route of their own.
+	 * Grouping scans only the candidates inside each seed's ready window, so
+	 * the cost grows with the number of orders ready at the same time rather
+	 * than with the square of the queue.
+	 *
+	 * @param candidates Orders waiting for a courier.
+	 * @return Routes in the ready time order of their first order.
+	 */
+	public List<Route> plan(List<RouteCandidate> candidates) {
+		RouteCandidate[] sorted = candidates.toArray(new RouteCandidate[0]);
+		Arrays.sort(sorted, Comparator.comparingLong(RouteCandidate::readyAtMillis));
+		boolean[] grouped = new boolean[sorted.length];
+		List<Route> routes = new ArrayList<>();
+
+		for (int seed = 0; seed < sorted.length; seed++) {
+			if (grouped[seed]) {
+				continue;
+			}
+			grouped[seed] = true;
+			RouteCandidate first = sorted[seed];
+			List<RouteCandidate> members = new ArrayList<>();
+			members.add(first);
+
+			if (maxOrders > 1) {
+				List<Neighbour> neighbours = new ArrayList<>();
+				for (int i = seed + 1; i < sorted.length
+						&& sorted[i].readyAtMillis() - first.readyAtMillis() <= readyWindowMillis; i++) {
+					if (grouped[i]) {
+						continue;
+					}
+					double pickupKm = GeoUtils.distanceKm(first.pickupLatitude(), first.pickupLongitude(),
+							sorted[i].pickupLatitude(), sorted[i].pickupLongitude());
+					if (pickupKm > pickupRadiusKm) {
+						continue;
+					}
+					double dropKm = GeoUtils.distanceKm(first.dropLatitude(), first.dropLongitude(),
+							sorted[i].dropLatitude(), sorted[i].dropLongitude());
+					if (dropKm <= dropRadiusKm) {
+						neighbours.add(new Neighbour(i, pickupKm + dropKm));
+					}
+				}
+				neighbours.sort(Comparator.comparingDouble(Neighbour::distanceKm));
+				for (int i = 0; i < neighbours.size() && members.size() < maxOrders; i++) {
+					int index = neighbours.get(i).index();
+					grouped[index] = true;
+					members.add(sorted[index]);
+				}
+			}
+			routes.add(buildRoute(members));
+		}
+		return routes;
+	}
+
+	/**
+	 * Orders the pickups starting from the first order's restaurant, then the
+	 * drops starting from the last pickup.
+	 */
+	private Route buildRoute(List<RouteCandidate> members) {
+		RouteCandidate first = members.get(0);
+		int size = members.size();
+		double separateKm = 0;
+		for (RouteCandidate member : members) {
+			separateKm += GeoUtils.distanceKm(member.pickupLatitude(), member.pickupLongitude(),
+					member.dropLatitude(), member.dropLongitude());
+		}
+		if (size == 1) {
+			return new Route(members, members, separateKm, separateKm);
+		}
+
+		double[] lats = new double[size - 1];
+		double[] lngs = new double[size - 1];
+		for (int i = 1; i < size; i++) {
+			lats[i - 1] = members.get(i).pickupLatitude();
+			lngs[i - 1] = members.get(i).pickupLongitude();
+		}
+		int[] pickupOrder = RouteOptimizer.orderStops(first.pickupLatitude(), first.pickupLongitude(), lats, lngs);
+		List<RouteCandidate> pickups = new ArrayList<>(size);
+		pickups.add(first);
+		for (int index : pickupOrder) {
+			pickups.add(members.get(index + 1));
+		}
+		double routeKm = RouteOptimizer.pathLengthKm(first.pickupLatitude(), first.pickupLongitude(), lats, lngs,
+				pickupOrder);
+
+		RouteCandidate lastPickup = pickups.get(size - 1);
+		lats = new double[size];
+		lngs = new double[size];
+		for (int i = 0; i < size; i++) {
+			lats[i] = members.get(i).dropLatitude();
+			lngs[i] = members.get(i).dropLongitude();
+		}
+		int[] dropOrder = RouteOptimizer.orderStops(lastPickup.pickupLatitude(), lastPickup.pickupLongitude(), lats,
+				lngs);
+		List<RouteCandidate> drops = new ArrayList<>(size);
+		for (int index : dropOrder) {
+			drops.add(members.get(index));
+		}
+		routeKm += RouteOptimizer.pathLengthKm(lastPickup.pickupLatitude(), lastPickup.pickupLongitude(), lats, lngs,
+				dropOrder);
+
+		return new Route(pickups, drops, routeKm, separateKm);
+	}
+
+	/**
+	 * An order waiting for a courier, with its restaurant and drop coordinates
+	 * and the time its food is expected to be ready.
+	 */
+	public record RouteCandidate(Long orderId, double pickupLatitude, double pickupLongitude, double dropLatitude,
+			double dropLongitude, long readyAtMillis) {
+	}
+
+	/**
+	 * A planned route.
+	 *
+	 * @param pickups    Orders in pickup order.
+	 * @param drops      Orders in drop order.
+	 * @param routeKm    Length of the route from the first pickup to the last
+	 *                   drop.
+	 * @param separateKm Sum of the restaurant to drop distances of its orders,
+	 *                   i.e. the distance driven if each went on its own trip.
+	 */
+	public record Route(List<RouteCandidate> pickups, List<RouteCandidate> drops, double routeKm,
+			double separateKm) {
+
+		public int size() {
+			return drops.size();
+		}
+
+		/**
+		 * @return Order IDs in drop order.
+		 */
+		public List<Long> orderIds() {
+			return drops.stream().map(RouteCandidate::orderId).toList();
+		}
+	}
+
+	private record Neighbour(int index, double distanceKm) {
+	}
+}
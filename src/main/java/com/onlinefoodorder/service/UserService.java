@@ -35,7 +35,7 @@ public class UserService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        logger.info("Loading user by email: {}", email);
+        logger.debug("Loading user by email: {}", email);
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> {
                     logger.error("User not found with email: {}", email);
@@ -51,7 +51,7 @@ public class UserService implements UserDetailsService {
      * @throws UserNotFoundException If the user does not exist.
      */
     public User getUserByEmail(String email) {
-        logger.info("Fetching user by email: {}", email);
+        logger.debug("Fetching user by email: {}", email);
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> {
                     logger.error("User not found with email: {}", email);
@@ -0,0 +1,36 @@
+package com.onlinefoodorder.util;
+
+/**
+ * Geographic helper functions shared by the location-aware features
+ * (courier tracking, dispatch and discovery).
+ */
+public class GeoUtils {
+
+	public static final double EARTH_RADIUS_KM = 6371.0088;
+
+	/** Approximate length of one degree of latitude in kilometres. */
+	public static final double KM_PER_DEGREE = 111.32;
+
+	private GeoUtils() {
+	}
+
+	/**
+	 * Great-circle distance between two points using the haversine formula.
+	 *
+	 * @return Distance in kilometres.
+	 */
+	public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+		double dLat = Math.toRadians(lat2 - lat1);
+		double dLng = Math.toRadians(lng2 - lng1);
+		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) + Math.cos(Math.toRadians(lat1))
+				* Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+		return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+	}
+
+	/**
+	 * @return True if the latitude and longitude are within valid ranges.
+	 */
+	public static boolean isValidCoordinate(double latitude, double longitude) {
+		return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+	}
+}
@@ -0,0 +1,101 @@
+package com.onlinefoodorder.util;
+
+import java.util.Locale;
+
+/**
+ * Parses the free-form {@code Restaurant.openingTime} and {@code closingTime}
+ * strings into minutes since midnight, so that open-now checks are plain
+ * integer comparisons. Accepts 24-hour times such as "09:00", "9.30" or
+ * "2130", 12-hour times such as "9 AM" or "9:30 pm", and "noon" / "midnight".
+ */
+public class OpeningHours {
+
+	/** Returned for times that cannot be parsed. */
+	public static final int UNKNOWN = -1;
+
+	public static final int MINUTES_PER_DAY = 24 * 60;
+
+	private OpeningHours() {
+	}
+
+	/**
+	 * @param time A time of day as entered by the restaurant owner.
+	 * @return Minutes since midnight (0-1439), or {@link #UNKNOWN}.
+	 */
+	public static int parseMinuteOfDay(String time) {
+		if (time == null) {
+			return UNKNOWN;
+		}
+		String text = time.trim().toLowerCase(Locale.ROOT).replace(".", ":");
+		if (text.equals("noon")) {
+			return 12 * 60;
+		}
+		if (text.equals("midnight")) {
+			return 0;
+		}
+
+		boolean am = text.endsWith("am") || text.endsWith("a:m:");
+		boolean pm = text.endsWith("pm") || text.endsWith("p:m:");
+		if (am || pm) {
+			text = text.substring(0, text.indexOf(am ? 'a' : 'p')).trim();
+		}
+
+		int hours;
+		int minutes = 0;
+		try {
+			String[] parts = text.split(":");
+			if (parts.length == 1 && parts[0].length() > 2) {
+				// "930" or "2130"
+				int value = Integer.parseInt(parts[0]);
+				hours = value / 100;
+				minutes = value % 100;
+			} else if (parts.length >= 1 && parts.length <= 3) {
+				// Seconds, if any, are ignored
+				hours = Integer.parseInt(parts[0]);
+				if (parts.length > 1) {
+					minutes = Integer.parseInt(parts[1]);
+				}
+			} else {
+				return UNKNOWN;
+			}
+		} catch (NumberFormatException e) {
+			return UNKNOWN;
+		}
+
+		if (am || pm) {
+			if (hours < 1 || hours > 12) {
+				return UNKNOWN;
+			}
+			hours = hours % 12 + (pm ? 12 : 0);
+		} else if (hours == 24 && minutes == 0) {
+			hours = 0;
+		}
+		if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59) {
+			return UNKNOWN;
+		}
+		return hours * 60 + minutes;
+	}
+
+	/**
+	 * Checks whether a restaurant is open at a minute of the day. Hours that
+	 * close before they open run past midnight, and equal opening and closing
+	 * times mean open all day.
+	 *
+	 * @param openMinute  Opening minute of the day.
+	 * @param closeMinute Closing minute of the day.
+	 * @param minute      Minute of the day to check.
+	 * @return True if open; false if closed or either time is unknown.
+	 */
+	public static boolean isOpen(int openMinute, int closeMinute, int minute) {
+		if (openMinute == UNKNOWN || closeMinute == UNKNOWN) {
+			return false;
+		}
+		if (openMinute == closeMinute) {
+			return true;
+		}
+		if (openMinute < closeMinute) {
+			return minute >= openMinute && minute < closeMinute;
+		}
+		return minute >= openMinute || minute < closeMinute;
+	}
+}
@@ -12,6 +12,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.observation.annotation.Observed;
+
 import com.onlinefoodorder.entity.Order;
 import com.onlinefoodorder.entity.Payment;
 
@@ -23,6 +25,7 @@ public class PdfGenerator {
     // ✅ Set Invoice Directory Path
     private static final String INVOICE_DIR = "C:\\Users\\91938\\OneDrive\\Desktop\\Incture\\Project\\Final Project\\Invoices";
 
+    @Observed(name = "service.method")
     public String generateInvoice(Order order, Payment payment) {
         // Ensure the directory exists
         new File(INVOICE_DIR).mkdirs();
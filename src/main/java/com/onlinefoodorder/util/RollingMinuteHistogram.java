@@ -0,0 +1,103 @@
+package com.onlinefoodorder.util;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size streaming histogram of durations in whole minutes, covering a
+ * rolling time window. Samples land in the current generation; once the
+ * window elapses the current generation becomes the previous one and the
+ * oldest is discarded, so quantiles always reflect between one and two
+ * windows of history. Recording and quantile lookups are bounded by the
+ * bucket count, independent of how many samples were recorded.
+ */
+public class RollingMinuteHistogram {
+
+	private final int maxMinutes;
+	private final long windowMillis;
+
+	private long[] current;
+	private long[] previous;
+	private long currentCount;
+	private long previousCount;
+	private long windowStartMillis;
+
+	/**
+	 * @param maxMinutes   Largest tracked duration; longer samples are clamped.
+	 * @param windowMillis Length of one generation.
+	 * @param nowMillis    Start of the first generation.
+	 */
+	public RollingMinuteHistogram(int maxMinutes, long windowMillis, long nowMillis) {
+		if (maxMinutes <= 0 || windowMillis <= 0) {
+			throw new IllegalArgumentException("Histogram range and window must be positive");
+		}
+		this.maxMinutes = maxMinutes;
+		this.windowMillis = windowMillis;
+		this.current = new long[maxMinutes + 1];
+		this.previous = new long[maxMinutes + 1];
+		this.windowStartMillis = nowMillis;
+	}
+
+	/**
+	 * Records a duration.
+	 *
+	 * @param minutes   The duration in minutes.
+	 * @param nowMillis Current time, used to roll the window.
+	 */
+	public synchronized void record(long minutes, long nowMillis) {
+		roll(nowMillis);
+		int bucket = (int) Math.max(0, Math.min(maxMinutes, minutes));
+		current[bucket]++;
+		currentCount++;
+	}
+
+	/**
+	 * @param quantile  Quantile between 0 and 1.
+	 * @param nowMillis Current time, used to roll the window.
+	 * @return The duration in minutes at the quantile, or -1 if empty.
+	 */
+	public synchronized int quantile(double quantile, long nowMillis) {
+		roll(nowMillis);
+		long total = currentCount + previousCount;
+		if (total == 0) {
+			return -1;
+		}
+		long rank = Math.max(1, (long) Math.ceil(quantile * total));
+		long seen = 0;
+		for (int minute = 0; minute <= maxMinutes; minute++) {
+			seen += current[minute] + previous[minute];
+			if (seen >= rank) {
+				return minute;
+			}
+		}
+		return maxMinutes;
+	}
+
+	/**
+	 * @param nowMillis Current time, used to roll the window.
+	 * @return Number of samples in the window.
+	 */
+	public synchronized long count(long nowMillis) {
+		roll(nowMillis);
+		return currentCount + previousCount;
+	}
+
+	private void roll(long nowMillis) {
+		long elapsed = nowMillis - windowStartMillis;
+		if (elapsed < windowMillis) {
+			return;
+		}
+		if (elapsed >= 2 * windowMillis) {
+			// Idle for more than a full window: both generations are out of date
+			Arrays.fill(previous, 0);
+			previousCount = 0;
+		} else {
+			long[] recycled = previous;
+			previous = current;
+			previousCount = currentCount;
+			current = recycled;
+		}
+		Arrays.fill(current, 0);
+		currentCount = 0;
+		windowStartMillis = nowMillis - (elapsed % windowMillis);
+	}
+}
@@ -0,0 +1,151 @@
+package com.onlinefoodorder.util;
+
+/**
+ * Orders the stops of a delivery route with a nearest neighbour tour improved
+ * by 2-opt. Routes are open paths: they leave a fixed start point and end at
+ * the last stop, so the courier does not return. Routes hold a handful of
+ * stops, so distances are precomputed into a matrix once per call.
+ */
+public class RouteOptimizer {
+
+	private static final double EPSILON = 1e-9;
+
+	private RouteOptimizer() {
+	}
+
+	/**
+	 * Orders the stops with nearest neighbour followed by 2-opt.
+	 *
+	 * @param startLat Latitude of the start point.
+	 * @param startLng Longitude of the start point.
+	 * @param lats     Latitudes of the stops.
+	 * @param lngs     Longitudes of the stops.
+	 * @return Indexes into the stop arrays in visiting order.
+	 */
+	public static int[] orderStops(double startLat, double startLng, double[] lats, double[] lngs) {
+		double[][] distances = distanceMatrix(startLat, startLng, lats, lngs);
+		int[] path = nearestNeighbour(distances);
+		twoOpt(path, distances);
+		return toStopOrder(path);
+	}
+
+	/**
+	 * Orders the stops with nearest neighbour only, for comparison with
+	 * {@link #orderStops}.
+	 *
+	 * @return Indexes into the stop arrays in visiting order.
+	 */
+	public static int[] nearestNeighbourOrder(double startLat, double startLng, double[] lats, double[] lngs) {
+		return toStopOrder(nearestNeighbour(distanceMatrix(startLat, startLng, lats, lngs)));
+	}
+
+	/**
+	 * @param order Indexes into the stop arrays in visiting order.
+	 * @return Length of the open path from the start point through the stops
+	 *         in the given order, in kilometres.
+	 */
+	public static double pathLengthKm(double startLat, double startLng, double[] lats, double[] lngs, int[] order) {
+		double length = 0;
+		double lat = startLat;
+		double lng = startLng;
+		for (int stop : order) {
+			length += GeoUtils.distanceKm(lat, lng, lats[stop], lngs[stop]);
+			lat = lats[stop];
+			lng = lngs[stop];
+		}
+		return length;
+	}
+
+	/**
+	 * Node 0 is the start point, node i + 1 is stop i.
+	 */
+	private static double[][] distanceMatrix(double startLat, double startLng, double[] lats, double[] lngs) {
+		if (lats.length != lngs.length) {
+			throw new IllegalArgumentException("Latitudes and longitudes must have the same length");
+		}
+		int nodes = lats.length + 1;
+		double[] nodeLats = new double[nodes];
+		double[] nodeLngs = new double[nodes];
+		nodeLats[0] = startLat;
+		nodeLngs[0] = startLng;
+		System.arraycopy(lats, 0, nodeLats, 1, lats.length);
+		System.arraycopy(lngs, 0, nodeLngs, 1, lngs.length);
+
+		double[][] distances = new double[nodes][nodes];
+		for (int i = 0; i < nodes; i++) {
+			for (int j = i + 1; j < nodes; j++) {
+				double distance = GeoUtils.distanceKm(nodeLats[i], nodeLngs[i], nodeLats[j], nodeLngs[j]);
+				distances[i][j] = distance;
+				distances[j][i] = distance;
+			}
+		}
+		return distances;
+	}
+
+	/**
+	 * @return Node path starting with the start point, always moving to the
+	 *         closest unvisited stop.
+	 */
+	private static int[] nearestNeighbour(double[][] distances) {
+		int nodes = distances.length;
+		int[] path = new int[nodes];
+		boolean[] visited = new boolean[nodes];
+		visited[0] = true;
+		for (int position = 1; position < nodes; position++) {
+			int current = path[position - 1];
+			int closest = -1;
+			for (int candidate = 1; candidate < nodes; candidate++) {
+				if (!visited[candidate]
+						&& (closest < 0 || distances[current][candidate] < distances[current][closest])) {
+					closest = candidate;
+				}
+			}
+			path[position] = closest;
+			visited[closest] = true;
+		}
+		return path;
+	}
+
+	/**
+	 * Reverses segments of the path while doing so shortens it. The start point
+	 * stays fixed and the path is open, so reversing a segment that runs to the
+	 * end only replaces the edge into the segment.
+	 */
+	private static void twoOpt(int[] path, double[][] distances) {
+		int last = path.length - 1;
+		boolean improved = true;
+		while (improved) {
+			improved = false;
+			for (int i = 1; i < last; i++) {
+				for (int j = i + 1; j <= last; j++) {
+					double removed = distances[path[i - 1]][path[i]];
+					double added = distances[path[i - 1]][path[j]];
+					if (j < last) {
+						removed += distances[path[j]][path[j + 1]];
+						added += distances[path[i]][path[j + 1]];
+					}
+					if (added < removed - EPSILON) {
+						reverse(path, i, j);
+						improved = true;
+					}
+				}
+			}
+		}
+	}
+
+	private static void reverse(int[] path, int from, int to) {
+		while (from < to) {
+			int swap = path[from];
+			path[from++] = path[to];
+			path[to--] = swap;
+		}
+	}
+
+	private static int[] toStopOrder(int[] path) {
+		int[] order = new int[path.length - 1];
+		for (int i = 1; i < path.length; i++) {
+			order[i - 1] = path[i] - 1;
+		}
+		return order;
+	}
+}
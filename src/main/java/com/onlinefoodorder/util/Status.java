@@ -37,4 +37,8 @@ public class Status {
     public enum DiscountType {
         PERCENTAGE, FIXED
     }
+
+    public enum StatPeriod {
+        DAY, MONTH
+    }
 }
@@ -0,0 +1,48 @@
+-- Composite indexes for the repository finders on the hot request paths and
+-- for the admin dashboard aggregates. Tables and columns come from the entity
+-- mappings; these migrations run after Hibernate's schema update. Lookups on a
+-- single foreign key column use the index MySQL creates for the constraint.
+
+-- Orders of a customer (findByUser), newest last
+CREATE INDEX idx_orders_user_created ON orders (user_id, created_at);
+
+-- Times a customer used a coupon (countByUserUserIdAndCouponId)
+CREATE INDEX idx_orders_user_coupon ON orders (user_id, coupon_id);
+
+-- Orders placed since a date (countByCreatedAtAfter, findByCreatedAtAfter)
+CREATE INDEX idx_orders_created ON orders (created_at);
+
+-- Preparation queue depth per restaurant (countOrdersByRestaurant), and courier
+-- load and delivery counts (countActiveOrdersByDeliveryPerson,
+-- countDeliveredOrdersPerPersonAndDay); both answered from the index alone
+CREATE INDEX idx_orders_status_restaurant ON orders (status, restaurant_id);
+CREATE INDEX idx_orders_status_courier_updated ON orders (status, delivery_person_id, updated_at);
+
+-- Covering index for the dashboard's orders and revenue per restaurant
+-- (findTopRestaurantsByOrderCount, findTopRestaurantsByRevenue)
+CREATE INDEX idx_orders_restaurant_total ON orders (restaurant_id, total_amount);
+
+-- Covering index for quantities sold per menu item (findTopSellingItems,
+-- findSalesStatsByOwner)
+CREATE INDEX idx_order_items_menu_item_quantity ON order_items (menu_item_id, quantity);
+
+-- Menu of a restaurant by category (findByRestaurantRestaurantId); items of a
+-- category use the foreign key index on category_id
+CREATE INDEX idx_menu_items_restaurant_category ON menu_items (restaurant_id, category_id);
+
+-- Restaurants serving only vegetarian food (findVegetarianOnlyRestaurantIds)
+CREATE INDEX idx_menu_items_restaurant_vegetarian ON menu_items (restaurant_id, is_vegetarian);
+
+-- Active discount check and coupons of a restaurant
+-- (existsByRestaurantRestaurantIdAndDiscountTypeAndActiveTrue,
+-- findByRestaurantRestaurantId); lookups by code use the unique key
+CREATE INDEX idx_coupons_restaurant_type_active ON coupons (restaurant_id, discount_type, active);
+
+-- Approved couriers for the dispatcher (findByRoleAndApprovalStatus)
+CREATE INDEX idx_users_role_approval ON users (role, approval_status);
+
+-- Payment by transaction ID (findByTransactionId)
+CREATE INDEX idx_payment_transaction ON payment (transaction_id);
+
+-- Daily delivery rows due for compaction (findByPeriodAndPeriodStartBeforeOrderById)
+CREATE INDEX idx_delivery_stats_period_start ON delivery_stats (period, period_start);
@@ -0,0 +1,10 @@
+-- Indexes for the courier worklist and the restaurant review feed, previously
+-- declared on the entities and created by Hibernate's schema update.
+
+-- Worklist of a courier (findWorklist): the courier's orders in the active
+-- delivery statuses, oldest first
+CREATE INDEX idx_orders_courier_status_created ON orders (delivery_person_id, status, created_at);
+
+-- Review feed of a restaurant, newest first with the review ID as tie breaker
+-- for the keyset cursor (findFirstFeedPage, findFeedPageAfter)
+CREATE INDEX idx_review_restaurant_created ON review (restaurant_id, created_at, review_id);
@@ -0,0 +1,151 @@
+package com.onlinefoodorder.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes transactions between two in-memory H2 databases standing in for the
+ * primary and the replica. Each database holds a row naming it, and the
+ * replica a status row with its lag, so every test can see where a query went.
+ */
+public class ReadWriteRoutingDataSourceTest {
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private JdbcTemplate routed;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaryDataSource = h2("primary");
+        DataSource replicaDataSource = h2("replica");
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        primary.execute("CREATE TABLE node (name VARCHAR(20))");
+        primary.update("INSERT INTO node VALUES ('primary')");
+        replica.execute("CREATE TABLE node (name VARCHAR(20))");
+        replica.update("INSERT INTO node VALUES ('replica')");
+        replica.execute("CREATE TABLE replica_status (seconds_behind_source BIGINT)");
+        replica.update("INSERT INTO replica_status VALUES (0)");
+
+        replicaLagMonitor = new ReplicaLagMonitor(replicaDataSource,
+                "SELECT seconds_behind_source FROM replica_status", "seconds_behind_source", Duration.ofSeconds(5));
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor));
+        routed = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.execute("SHUTDOWN");
+        replica.execute("SHUTDOWN");
+    }
+
+    @Test
+    void readOnlyTransaction_ReplicaCurrent_ReadsFromReplica() {
+        replicaLagMonitor.checkReplica();
+
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void writeTransaction_UsesPrimary() {
+        replicaLagMonitor.checkReplica();
+
+        assertThat(writeTransaction.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void noTransaction_UsesPrimary() {
+        replicaLagMonitor.checkReplica();
+
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_InsideWriteTransaction_UsesPrimary() {
+        replicaLagMonitor.checkReplica();
+
+        String node = writeTransaction.execute(status -> {
+            routed.update("UPDATE node SET name = 'primary'");
+            return readOnlyTransaction.execute(inner -> currentNode());
+        });
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_BeforeFirstCheck_UsesPrimary() {
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_ReplicaLagging_FallsBackToPrimary() {
+        replicaLagMonitor.checkReplica();
+        replica.update("UPDATE replica_status SET seconds_behind_source = 30");
+
+        replicaLagMonitor.checkReplica();
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_ReplicationStopped_FallsBackToPrimary() {
+        replicaLagMonitor.checkReplica();
+        replica.update("UPDATE replica_status SET seconds_behind_source = NULL");
+
+        replicaLagMonitor.checkReplica();
+
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_ReplicaUnreachable_FallsBackToPrimary() {
+        replicaLagMonitor.checkReplica();
+        replica.execute("DROP TABLE replica_status");
+
+        replicaLagMonitor.checkReplica();
+
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_ReplicaCaughtUp_ReturnsToReplica() {
+        replica.update("UPDATE replica_status SET seconds_behind_source = 30");
+        replicaLagMonitor.checkReplica();
+        replica.update("UPDATE replica_status SET seconds_behind_source = 2");
+
+        replicaLagMonitor.checkReplica();
+
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    private String currentNode() {
+        return routed.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
@@ -0,0 +1,118 @@
+package com.onlinefoodorder.config;
+
+import com.onlinefoodorder.entity.User;
+import com.onlinefoodorder.repository.UserRepository;
+import com.onlinefoodorder.util.Status.UserRole;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Loads a cached entity on embedded H2 in read-only and writing transactions
+ * and checks which of them leave it in the second-level cache. The lag monitor
+ * is stubbed, so read-only transactions count as routed to the replica unless
+ * a test marks the replica unusable.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ReplicaCacheBypassJpaDialectTest {
+
+    @TestConfiguration
+    static class ReplicaConfig {
+
+        @Bean
+        ReplicaLagMonitor replicaLagMonitor() {
+            return mock(ReplicaLagMonitor.class);
+        }
+
+        @Bean
+        static BeanPostProcessor replicaCacheBypassPostProcessor(ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+            return DataSourceRoutingConfig.replicaCacheBypassPostProcessor(replicaLagMonitor);
+        }
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        userId = userRepository.save(new User(null, "replica-cache@example.com", "replicacache", "password",
+                "First", "Last", "9999999999", UserRole.CUSTOMER, true)).getUserId();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    void readOnlyTransaction_ReplicaUsable_DoesNotStoreLoadedEntity() {
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(true);
+
+        readOnlyTransaction.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow());
+
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isFalse();
+    }
+
+    @Test
+    void readOnlyTransaction_ReplicaUnusable_StoresLoadedEntity() {
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(false);
+
+        readOnlyTransaction.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow());
+
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isTrue();
+    }
+
+    @Test
+    void writeTransaction_StoresLoadedEntity() {
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(true);
+
+        writeTransaction.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow());
+
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isTrue();
+    }
+
+    @Test
+    void readOnlyTransaction_ReplicaUsable_LeavesCachedEntityInPlace() {
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(true);
+        writeTransaction.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow());
+
+        readOnlyTransaction.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow());
+
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isTrue();
+    }
+}
@@ -0,0 +1,91 @@
+package com.onlinefoodorder.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlowQueryLogTest {
+
+    private static final String SLOW_QUERY =
+            "SELECT COUNT(*) FROM customer WHERE email = ? AND name <> 'Alice' AND SLEEP(60) IS NULL";
+
+    private DataSource dataSource;
+    private ListAppender<ILoggingEvent> appender;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:slow-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "sa", "");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE customer (email VARCHAR(100), name VARCHAR(100))");
+        setup.execute("CREATE ALIAS SLEEP FOR \"java.lang.Thread.sleep\"");
+
+        appender = new ListAppender<>();
+        appender.start();
+        logger = (Logger) LoggerFactory.getLogger(SlowQueryLog.class);
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+    }
+
+    @Test
+    void slowQuery_LoggedWithOriginAndWithoutParameterValues() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(
+                new SlowQueryLog(Duration.ofMillis(20), 1.0).wrap("primary", dataSource));
+
+        jdbcTemplate.queryForObject(SLOW_QUERY, Long.class, "secret@example.com");
+
+        assertThat(appender.list).hasSize(1);
+        String entry = appender.list.get(0).getFormattedMessage();
+        assertThat(entry).contains("on primary",
+                "from SlowQueryLogTest.slowQuery_LoggedWithOriginAndWithoutParameterValues",
+                "1 parameters redacted", "email = ?", "name <> '?'");
+        assertThat(entry).doesNotContain("secret@example.com", "Alice");
+    }
+
+    @Test
+    void fastQuery_NotLogged() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(
+                new SlowQueryLog(Duration.ofSeconds(5), 1.0).wrap("primary", dataSource));
+
+        jdbcTemplate.queryForObject(SLOW_QUERY, Long.class, "secret@example.com");
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void slowQuery_SampleRateZero_NotLogged() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(
+                new SlowQueryLog(Duration.ofMillis(20), 0.0).wrap("primary", dataSource));
+
+        jdbcTemplate.queryForObject(SLOW_QUERY, Long.class, "secret@example.com");
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void redact_ReplacesStringLiteralsAndCollapsesWhitespace() {
+        String redacted = SlowQueryLog.redact("select *\n    from users\n    where email = 'it''s@example.com' and id = ?");
+
+        assertThat(redacted).isEqualTo("select * from users where email = '?' and id = ?");
+    }
+}
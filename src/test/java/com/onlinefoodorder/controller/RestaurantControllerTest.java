@@ -1,6 +1,10 @@
 package com.onlinefoodorder.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.onlinefoodorder.dto.RestaurantDto;
+import com.onlinefoodorder.dto.RestaurantPublicView;
+import com.onlinefoodorder.dto.RestaurantView;
 import com.onlinefoodorder.entity.Restaurant;
 import com.onlinefoodorder.entity.User;
 import com.onlinefoodorder.exception.UnauthorizedAccessException;
@@ -9,11 +13,14 @@ import com.onlinefoodorder.service.UserService;
 import com.onlinefoodorder.util.Status.ApprovalStatus;
 import com.onlinefoodorder.util.Status.UserRole;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -22,7 +29,9 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -32,6 +41,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class RestaurantControllerTest {
 
+	private static final Logger logger = LoggerFactory.getLogger(RestaurantControllerTest.class);
+
 	@Mock
 	private RestaurantService restaurantService;
 
@@ -123,30 +134,28 @@ class RestaurantControllerTest {
 		Long restaurantId = 1L;
 		when(principal.getName()).thenReturn("customer@example.com");
 		when(userService.getUserByEmail("customer@example.com")).thenReturn(customer);
-		when(restaurantService.getRestaurantById(restaurantId, customer))
-				.thenReturn(Collections.singletonMap("restaurant", "Test Restaurant"));
+		when(restaurantService.getRestaurantById(restaurantId, customer)).thenReturn(publicView("Test Restaurant"));
 
 		// Act
-		ResponseEntity<Map<String, Object>> response = restaurantController.getRestaurant(restaurantId, principal);
+		ResponseEntity<RestaurantView> response = restaurantController.getRestaurant(restaurantId, principal);
 
 		// Assert
 		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals("Test Restaurant", response.getBody().get("restaurant"));
+		assertEquals("Test Restaurant", response.getBody().name());
 	}
 
 	@Test
 	void getRestaurant_AnonymousUser() {
 		// Arrange
 		Long restaurantId = 1L;
-		when(restaurantService.getRestaurantById(restaurantId, null))
-				.thenReturn(Collections.singletonMap("restaurant", "Test Restaurant"));
+		when(restaurantService.getRestaurantById(restaurantId, null)).thenReturn(publicView("Test Restaurant"));
 
 		// Act
-		ResponseEntity<Map<String, Object>> response = restaurantController.getRestaurant(restaurantId, null);
+		ResponseEntity<RestaurantView> response = restaurantController.getRestaurant(restaurantId, null);
 
 		// Assert
 		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals("Test Restaurant", response.getBody().get("restaurant"));
+		assertEquals("Test Restaurant", response.getBody().name());
 	}
 
 	@Test
@@ -197,17 +206,84 @@ class RestaurantControllerTest {
 	@Test
 	void getAllRestaurants_Success() {
 		// Arrange
-		List<Map<String, Object>> restaurants = Collections
-				.singletonList(Collections.singletonMap("name", "Test Restaurant"));
+		List<RestaurantPublicView> restaurants = Collections.singletonList(publicView("Test Restaurant"));
 		when(restaurantService.getAllRestaurants()).thenReturn(restaurants);
 
 		// Act
-		ResponseEntity<List<Map<String, Object>>> response = restaurantController.getAllRestaurants();
+		ResponseEntity<List<RestaurantPublicView>> response = restaurantController.getAllRestaurants();
 
 		// Assert
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertEquals(1, response.getBody().size());
-		assertEquals("Test Restaurant", response.getBody().get(0).get("name"));
+		assertEquals("Test Restaurant", response.getBody().get(0).name());
+	}
+
+	@Test
+	void getAllRestaurants_ViewSerializesToSameFieldsAsLegacyMap() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		JsonNode view = objectMapper.valueToTree(publicView("Test Restaurant"));
+		JsonNode legacy = objectMapper.valueToTree(legacyMap(publicView("Test Restaurant")));
+
+		assertEquals(legacy, view);
+
+		// Null fields came out as "N/A" in the legacy map
+		JsonNode viewWithNulls = objectMapper
+				.valueToTree(new RestaurantPublicView("Test Restaurant", null, null, null, 4.5));
+		Map<String, Object> legacyFields = new HashMap<>();
+		legacyFields.put("name", "Test Restaurant");
+		legacyFields.put("address", null);
+		legacyFields.put("openingTime", null);
+		legacyFields.put("closingTime", null);
+		legacyFields.put("rating", 4.5);
+		legacyFields.replaceAll((key, value) -> value == null ? "N/A" : value);
+
+		assertEquals(objectMapper.valueToTree(legacyFields), viewWithNulls);
+		assertEquals("N/A", viewWithNulls.get("address").asText());
+	}
+
+	/**
+	 * Benchmark: builds and serializes the /restaurant/all response for 10,000
+	 * restaurants as typed views and as the per-restaurant HashMaps used
+	 * before, and reports the throughput of each.
+	 */
+	@Test
+	@Tag("benchmark")
+	void benchmark_GetAllRestaurants_TenThousandRestaurants_ReportsThroughput() throws Exception {
+		int count = 10_000;
+		List<RestaurantPublicView> restaurants = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			restaurants.add(new RestaurantPublicView("Restaurant " + i, i + " Main Street, Bengaluru", "09:00", "22:00",
+					3.0 + (i % 20) / 10.0));
+		}
+		when(restaurantService.getAllRestaurants()).thenReturn(restaurants);
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		int rounds = 30;
+		long bytes = 0;
+		// Warm up before timing
+		for (int i = 0; i < 10; i++) {
+			bytes += objectMapper.writeValueAsBytes(restaurantController.getAllRestaurants().getBody()).length;
+			bytes += objectMapper.writeValueAsBytes(legacyMaps(restaurants)).length;
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < rounds; i++) {
+			bytes += objectMapper.writeValueAsBytes(restaurantController.getAllRestaurants().getBody()).length;
+		}
+		double viewMs = (System.nanoTime() - start) / 1e6 / rounds;
+
+		start = System.nanoTime();
+		for (int i = 0; i < rounds; i++) {
+			bytes += objectMapper.writeValueAsBytes(legacyMaps(restaurants)).length;
+		}
+		double mapMs = (System.nanoTime() - start) / 1e6 / rounds;
+
+		logger.info("/restaurant/all with {} restaurants: typed views {} ms/request ({} req/s), "
+				+ "HashMaps {} ms/request ({} req/s)", count, String.format("%.2f", viewMs),
+				String.format("%.0f", 1000 / viewMs), String.format("%.2f", mapMs), String.format("%.0f", 1000 / mapMs));
+
+		assertTrue(bytes > 0);
 	}
 
 	@Test
@@ -256,6 +332,30 @@ class RestaurantControllerTest {
 		assertArrayEquals(emptyChart, response.getBody());
 	}
 
+	private RestaurantPublicView publicView(String name) {
+		return new RestaurantPublicView(name, "123 Test St", "09:00", "21:00", 4.5);
+	}
+
+	private List<Map<String, Object>> legacyMaps(List<RestaurantPublicView> restaurants) {
+		List<Map<String, Object>> maps = new ArrayList<>(restaurants.size());
+		for (RestaurantPublicView restaurant : restaurants) {
+			maps.add(legacyMap(restaurant));
+		}
+		return maps;
+	}
+
+	// The response shape RestaurantService built before typed views
+	private Map<String, Object> legacyMap(RestaurantPublicView restaurant) {
+		Map<String, Object> map = new HashMap<>();
+		map.put("name", restaurant.name());
+		map.put("address", restaurant.address());
+		map.put("openingTime", restaurant.openingTime());
+		map.put("closingTime", restaurant.closingTime());
+		map.put("rating", restaurant.rating());
+		map.replaceAll((key, value) -> value == null ? "N/A" : value);
+		return map;
+	}
+
 	@Test
 	void getMenuSalesChart_ServiceThrowsException() {
 	    // Arrange
@@ -1,6 +1,9 @@
 package com.onlinefoodorder.controller;
 
 import com.onlinefoodorder.dto.ReviewDto;
+import com.onlinefoodorder.dto.ReviewFeed;
+import com.onlinefoodorder.dto.ReviewFeedItem;
+import com.onlinefoodorder.dto.ReviewSummary;
 import com.onlinefoodorder.entity.*;
 import com.onlinefoodorder.service.ReviewService;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,7 +15,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -75,21 +77,21 @@ class ReviewControllerTest {
     @Test
     void getReviews_ShouldReturnReviewList() {
         // Arrange
-        List<Review> reviews = Arrays.asList(testReview);
-        when(reviewService.getReviewsByRestaurant(testRestaurant.getRestaurantId())).thenReturn(reviews);
+        ReviewFeedItem item = new ReviewFeedItem(testReviewId, "user", 4, "Great food!", testReview.getCreatedAt());
+        ReviewFeed feed = new ReviewFeed(new ReviewSummary(4.0, 1, 0, 0, 0, 1, 0), List.of(item), null);
+        when(reviewService.getReviewFeed(testRestaurant.getRestaurantId(), null, 20)).thenReturn(feed);
 
         // Act
-        ResponseEntity<List<Review>> response = reviewController.getReviews(testRestaurant.getRestaurantId());
+        ResponseEntity<ReviewFeed> response = reviewController.getReviews(testRestaurant.getRestaurantId(), null, 20);
 
         // Assert
         assertEquals(200, response.getStatusCodeValue());
-        assertEquals(1, response.getBody().size());
+        assertEquals(1, response.getBody().reviews().size());
         
-        Review returnedReview = response.getBody().get(0);
-        assertEquals(testReviewId, returnedReview.getReviewId());
-        assertEquals(testUser.getUserId(), returnedReview.getUser().getUserId());
-        assertEquals(testRestaurant.getRestaurantId(), returnedReview.getRestaurant().getRestaurantId());
-        assertEquals(4, returnedReview.getRating());
+        ReviewFeedItem returnedReview = response.getBody().reviews().get(0);
+        assertEquals(testReviewId, returnedReview.reviewId());
+        assertEquals(4, returnedReview.rating());
+        assertEquals(1, response.getBody().summary().fourStars());
     }
 
     @Test
@@ -123,13 +125,14 @@ class ReviewControllerTest {
     @Test
     void getReviews_ShouldReturnEmptyListForNoReviews() {
         // Arrange
-        when(reviewService.getReviewsByRestaurant(testRestaurant.getRestaurantId())).thenReturn(List.of());
+        ReviewFeed feed = new ReviewFeed(new ReviewSummary(0.0, 0, 0, 0, 0, 0, 0), List.of(), null);
+        when(reviewService.getReviewFeed(testRestaurant.getRestaurantId(), null, 20)).thenReturn(feed);
 
         // Act
-        ResponseEntity<List<Review>> response = reviewController.getReviews(testRestaurant.getRestaurantId());
+        ResponseEntity<ReviewFeed> response = reviewController.getReviews(testRestaurant.getRestaurantId(), null, 20);
 
         // Assert
         assertEquals(200, response.getStatusCodeValue());
-        assertTrue(response.getBody().isEmpty());
+        assertTrue(response.getBody().reviews().isEmpty());
     }
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+package com.onlinefoodorder.integration;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+
+import com.onlinefoodorder.entity.User;
+import com.onlinefoodorder.repository.UserRepository;
+import com.onlinefoodorder.security.JwtUtil;
+import com.onlinefoodorder.util.Status.ApprovalStatus;
+import com.onlinefoodorder.util.Status.UserRole;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Benchmark: authenticated GETs under the logging setup of logback-spring.xml
+ * compared with synchronous appenders. Each request passes the JWT filter,
+ * {@code UserService} and {@code OrderService}, which used to log at INFO on
+ * every call. The root logger's appenders and the application logger's level
+ * are put back afterwards, whether or not the run succeeds. Tagged
+ * {@code benchmark}, so it only runs with {@code -Pbenchmark}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class LoggingBenchmarkIntegrationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingBenchmarkIntegrationTest.class);
+
+    private static final int THREADS = 8;
+    private static final int REQUESTS_PER_THREAD = 200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User customer;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        customer = new User(null, "log-customer-" + suffix + "@example.com", "logcustomer" + suffix, "password",
+                "First", "Last", "9999999999", UserRole.CUSTOMER, true);
+        customer.setApprovalStatus(ApprovalStatus.APPROVED);
+        customer = userRepository.save(customer);
+        token = "Bearer " + jwtUtil.generateToken(customer.getEmail());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.delete(customer);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void benchmark_AuthenticatedGets_AsyncVersusSynchronousLogging() throws Exception {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        ch.qos.logback.classic.Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        ch.qos.logback.classic.Logger application = context.getLogger("com.onlinefoodorder");
+        Level originalLevel = application.getLevel();
+        List<Appender<ILoggingEvent>> originalAppenders = appenders(root);
+        AsyncAppender asyncConsole = (AsyncAppender) root.getAppender("ASYNC_CONSOLE");
+        AsyncAppender asyncFile = (AsyncAppender) root.getAppender("ASYNC_FILE");
+        Appender<ILoggingEvent> console = asyncConsole.getAppender("CONSOLE");
+        Appender<ILoggingEvent> file = asyncFile.getAppender("FILE");
+
+        double synchronousDebug;
+        double asyncDebug;
+        double asyncInfo;
+        try {
+            runRequests(THREADS);
+
+            // As before: every call's messages written on the request thread
+            application.setLevel(Level.DEBUG);
+            root.detachAppender(asyncConsole);
+            root.detachAppender(asyncFile);
+            root.addAppender(console);
+            root.addAppender(file);
+            synchronousDebug = runRequests(THREADS * REQUESTS_PER_THREAD);
+
+            root.detachAppender(console);
+            root.detachAppender(file);
+            root.addAppender(asyncConsole);
+            root.addAppender(asyncFile);
+            asyncDebug = runRequests(THREADS * REQUESTS_PER_THREAD);
+
+            // Production: async appenders, hot-path messages at DEBUG are off
+            application.setLevel(Level.INFO);
+            asyncInfo = runRequests(THREADS * REQUESTS_PER_THREAD);
+        } finally {
+            appenders(root).forEach(root::detachAppender);
+            originalAppenders.forEach(root::addAppender);
+            application.setLevel(originalLevel);
+        }
+
+        logger.info("Authenticated GET /orders/user from {} threads: synchronous at DEBUG {} req/s, "
+                + "async at DEBUG {} req/s ({}x), async at INFO {} req/s ({}x)", THREADS,
+                String.format("%.0f", synchronousDebug), String.format("%.0f", asyncDebug),
+                String.format("%.2f", asyncDebug / synchronousDebug), String.format("%.0f", asyncInfo),
+                String.format("%.2f", asyncInfo / synchronousDebug));
+
+        assertThat(asyncInfo).isPositive();
+    }
+
+    private static List<Appender<ILoggingEvent>> appenders(ch.qos.logback.classic.Logger logger) {
+        List<Appender<ILoggingEvent>> appenders = new ArrayList<>();
+        logger.iteratorForAppenders().forEachRemaining(appenders::add);
+        return appenders;
+    }
+
+    /**
+     * Sends authenticated GETs from {@value #THREADS} threads and returns the
+     * throughput in requests per second.
+     */
+    private double runRequests(int requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < requests / THREADS; i++) {
+                        mockMvc.perform(get("/orders/user").header(HttpHeaders.AUTHORIZATION, token))
+                                .andExpect(status().isOk());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return requests / ((System.nanoTime() - start) / 1e9);
+    }
+}
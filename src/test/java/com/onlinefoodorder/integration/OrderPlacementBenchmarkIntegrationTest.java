@@ -0,0 +1,337 @@
+package com.onlinefoodorder.integration;
+
+import com.onlinefoodorder.dto.OrderDto;
+import com.onlinefoodorder.dto.OrderItemDto;
+import com.onlinefoodorder.entity.CustomerAddress;
+import com.onlinefoodorder.entity.MenuItem;
+import com.onlinefoodorder.entity.Restaurant;
+import com.onlinefoodorder.entity.User;
+import com.onlinefoodorder.repository.CustomerAddressRepository;
+import com.onlinefoodorder.repository.MenuItemRepository;
+import com.onlinefoodorder.repository.OrderRepository;
+import com.onlinefoodorder.repository.RestaurantRepository;
+import com.onlinefoodorder.repository.UserRepository;
+import com.onlinefoodorder.service.OrderService;
+import com.onlinefoodorder.util.Status.ApprovalStatus;
+import com.onlinefoodorder.util.Status.UserRole;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Places orders with many items through {@link OrderService} and checks that
+ * their inserts are batched and that the primary connection pool is sized for
+ * them. Not transactional, so that every order commits, flushes and returns its
+ * connection exactly as in production.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class OrderPlacementBenchmarkIntegrationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderPlacementBenchmarkIntegrationTest.class);
+
+    private static final int ITEMS_PER_ORDER = 15;
+
+    // A larger pool that improves p99 latency by less than this is past the plateau
+    private static final double PLATEAU_IMPROVEMENT = 0.10;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private CustomerAddressRepository addressRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private User customer;
+    private User owner;
+    private Restaurant restaurant;
+    private CustomerAddress address;
+    private List<MenuItem> menuItems;
+    private final Queue<Long> placedOrderIds = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        customer = saveUser("bench-customer-" + suffix + "@example.com", "benchcustomer" + suffix,
+                UserRole.CUSTOMER);
+        owner = saveUser("bench-owner-" + suffix + "@example.com", "benchowner" + suffix,
+                UserRole.RESTAURANT_OWNER);
+        restaurant = restaurantRepository.save(new Restaurant("Bench Kitchen", "1 Load Street", "9876543210", 4.5,
+                "logo.png", LocalDateTime.now(), "00:00", "00:00", owner));
+        address = addressRepository
+                .save(new CustomerAddress(0, customer, "Line1", "Line2", "City", "State", "12345", "Country", true));
+        menuItems = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            menuItems.add(menuItemRepository.save(new MenuItem(0, null, restaurant, "Dish " + i, "Tasty",
+                    BigDecimal.valueOf(100 + i), "dish.png", true, true, 10, LocalDateTime.now())));
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAllById(placedOrderIds);
+        menuItemRepository.deleteAll(menuItems);
+        addressRepository.delete(address);
+        restaurantRepository.delete(restaurant);
+        userRepository.delete(customer);
+        userRepository.delete(owner);
+    }
+
+    @Test
+    void placeOrder_BatchesItemInserts() {
+        // Warm up the ID sequences and caches so they do not count towards this order
+        placeOrder();
+        statistics.clear();
+
+        placeOrder();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ITEMS_PER_ORDER + 1);
+        // Without batching the items alone would take one statement each
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(ITEMS_PER_ORDER);
+    }
+
+    /**
+     * Benchmark: places orders of {@value #ITEMS_PER_ORDER} items from several
+     * threads and reports insert throughput and statements per order.
+     */
+    @Test
+    @Tag("benchmark")
+    void benchmark_ConcurrentOrders_ReportsInsertThroughput() throws Exception {
+        int threads = 8;
+        int ordersPerThread = 25;
+        placeOrder();
+        statistics.clear();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < ordersPerThread; i++) {
+                        placeOrder();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        int orders = threads * ordersPerThread;
+        double statementsPerOrder = (double) statistics.getPrepareStatementCount() / orders;
+        logger.info("Order placement: {} orders of {} items from {} threads in {} s, {} orders/s, {} rows/s, "
+                + "{} statements per order", orders, ITEMS_PER_ORDER, threads, String.format("%.2f", seconds),
+                String.format("%.0f", orders / seconds), String.format("%.0f", orders * (ITEMS_PER_ORDER + 1) / seconds),
+                String.format("%.1f", statementsPerOrder));
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo((long) orders * (ITEMS_PER_ORDER + 1));
+        assertThat(statementsPerOrder).isLessThan(ITEMS_PER_ORDER);
+    }
+
+    @Test
+    void placeOrder_PublishesPrimaryPoolMetrics() {
+        placeOrder();
+
+        assertThat(meterRegistry.get("hikaricp.connections.acquire").tag("pool", "primary").timer().count())
+                .isPositive();
+        assertThat(meterRegistry.get("hikaricp.connections.active").tag("pool", "primary").gauge()).isNotNull();
+        assertThat(meterRegistry.get("hikaricp.connections.idle").tag("pool", "primary").gauge()).isNotNull();
+        assertThat(meterRegistry.get("hikaricp.connections.pending").tag("pool", "primary").gauge()).isNotNull();
+        assertThat(meterRegistry.get("hikaricp.connections.timeout").tag("pool", "primary").counter()).isNotNull();
+    }
+
+    /**
+     * Benchmark: places orders from more threads than the largest pool, at
+     * several primary pool sizes, and reports p99 placeOrder latency and mean
+     * pool wait for each. The plateau is the smallest size beyond which a
+     * larger pool improves p99 by less than {@value #PLATEAU_IMPROVEMENT}.
+     */
+    @Test
+    @Tag("benchmark")
+    void benchmark_PrimaryPoolSize_ReportsP99Plateau() throws Exception {
+        int threads = 32;
+        int ordersPerThread = 10;
+        int[] poolSizes = { 2, 4, 8, 16, 32 };
+        HikariConfigMXBean poolConfig = primaryDataSource.getHikariConfigMXBean();
+        int originalSize = poolConfig.getMaximumPoolSize();
+        int originalMinimumIdle = poolConfig.getMinimumIdle();
+        Timer acquire = meterRegistry.get("hikaricp.connections.acquire").tag("pool", "primary").timer();
+        Counter timeouts = meterRegistry.get("hikaricp.connections.timeout").tag("pool", "primary").counter();
+        placeOrder();
+
+        Map<Integer, Long> p99ByPoolSize = new LinkedHashMap<>();
+        Map<Integer, Integer> ordersByPoolSize = new LinkedHashMap<>();
+        Map<Integer, Double> timeoutsByPoolSize = new LinkedHashMap<>();
+        try {
+            for (int poolSize : poolSizes) {
+                resizePrimaryPool(poolSize, poolSize);
+                long acquireCount = acquire.count();
+                double acquireNanos = acquire.totalTime(TimeUnit.NANOSECONDS);
+                double timeoutCount = timeouts.count();
+
+                List<Long> latencies = placeConcurrentOrders(threads, ordersPerThread);
+                ordersByPoolSize.put(poolSize, latencies.size());
+                timeoutsByPoolSize.put(poolSize, timeouts.count() - timeoutCount);
+
+                Collections.sort(latencies);
+                long p99 = latencies.get((int) Math.ceil(latencies.size() * 0.99) - 1);
+                double meanWaitMs = (acquire.totalTime(TimeUnit.NANOSECONDS) - acquireNanos)
+                        / Math.max(1, acquire.count() - acquireCount) / 1e6;
+                p99ByPoolSize.put(poolSize, p99);
+                logger.info("Primary pool of {}: p50 {} ms, p99 {} ms, mean pool wait {} ms", poolSize,
+                        TimeUnit.NANOSECONDS.toMillis(latencies.get(latencies.size() / 2)),
+                        TimeUnit.NANOSECONDS.toMillis(p99), String.format("%.2f", meanWaitMs));
+            }
+        } finally {
+            resizePrimaryPool(originalSize, originalMinimumIdle);
+        }
+
+        int plateau = poolSizes[poolSizes.length - 1];
+        for (int i = 0; i < poolSizes.length - 1; i++) {
+            long p99 = p99ByPoolSize.get(poolSizes[i]);
+            long nextP99 = p99ByPoolSize.get(poolSizes[i + 1]);
+            if (p99 - nextP99 < p99 * PLATEAU_IMPROVEMENT) {
+                plateau = poolSizes[i];
+                break;
+            }
+        }
+        logger.info("placeOrder p99 latency plateaus at a primary pool of {} connections for {} concurrent "
+                + "customers", plateau, threads);
+
+        // Every size must place every order without a customer timing out waiting for a connection
+        assertThat(ordersByPoolSize).hasSize(poolSizes.length).allSatisfy(
+                (poolSize, orders) -> assertThat(orders).as("orders placed with a pool of %d", poolSize)
+                        .isEqualTo(threads * ordersPerThread));
+        assertThat(timeoutsByPoolSize).allSatisfy((poolSize, timeoutCount) -> assertThat(timeoutCount)
+                .as("pool timeouts with a pool of %d", poolSize).isZero());
+    }
+
+    /**
+     * Places orders from several threads at once and returns the latency of
+     * each, in nanoseconds.
+     */
+    private List<Long> placeConcurrentOrders(int threads, int ordersPerThread) throws Exception {
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < ordersPerThread; i++) {
+                        long start = System.nanoTime();
+                        placeOrder();
+                        latencies.add(System.nanoTime() - start);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return new ArrayList<>(latencies);
+    }
+
+    /**
+     * Resizes the primary pool and replaces its connections, so that a smaller
+     * size takes effect at once rather than at the next housekeeping run.
+     */
+    private void resizePrimaryPool(int maximumPoolSize, int minimumIdle) {
+        HikariConfigMXBean poolConfig = primaryDataSource.getHikariConfigMXBean();
+        if (maximumPoolSize < poolConfig.getMaximumPoolSize()) {
+            poolConfig.setMinimumIdle(minimumIdle);
+            poolConfig.setMaximumPoolSize(maximumPoolSize);
+        } else {
+            poolConfig.setMaximumPoolSize(maximumPoolSize);
+            poolConfig.setMinimumIdle(minimumIdle);
+        }
+        primaryDataSource.getHikariPoolMXBean().softEvictConnections();
+    }
+
+    private void placeOrder() {
+        OrderDto orderDto = new OrderDto();
+        orderDto.setRestaurantId(restaurant.getRestaurantId());
+        orderDto.setDeliveryAddressId(address.getAddressId());
+        orderDto.setTotalAmount(BigDecimal.valueOf(1500));
+        orderDto.setDeliveryFee(BigDecimal.valueOf(50));
+        orderDto.setTaxAmount(BigDecimal.valueOf(75));
+        List<OrderItemDto> items = new ArrayList<>();
+        for (MenuItem menuItem : menuItems) {
+            items.add(new OrderItemDto(null, null, menuItem.getItemId(), 1, menuItem.getPrice(), null));
+        }
+        orderDto.setOrderItems(items);
+
+        placedOrderIds.add(orderService.placeOrder(customer.getEmail(), orderDto).getOrderId());
+    }
+
+    private User saveUser(String email, String username, UserRole role) {
+        User user = new User(null, email, username, "password", "First", "Last", "9999999999", role, true);
+        user.setApprovalStatus(ApprovalStatus.APPROVED);
+        return userRepository.save(user);
+    }
+}
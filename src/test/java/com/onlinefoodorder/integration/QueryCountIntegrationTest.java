@@ -0,0 +1,203 @@
+package com.onlinefoodorder.integration;
+
+import com.onlinefoodorder.entity.CustomerAddress;
+import com.onlinefoodorder.entity.MenuItem;
+import com.onlinefoodorder.entity.Order;
+import com.onlinefoodorder.entity.OrderItem;
+import com.onlinefoodorder.entity.Restaurant;
+import com.onlinefoodorder.entity.User;
+import com.onlinefoodorder.repository.CustomerAddressRepository;
+import com.onlinefoodorder.repository.MenuItemRepository;
+import com.onlinefoodorder.repository.OrderRepository;
+import com.onlinefoodorder.repository.RestaurantRepository;
+import com.onlinefoodorder.repository.UserRepository;
+import com.onlinefoodorder.security.JwtUtil;
+import com.onlinefoodorder.util.Status.ApprovalStatus;
+import com.onlinefoodorder.util.Status.OrderStatus;
+import com.onlinefoodorder.util.Status.UserRole;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Caps the number of SQL statements each order endpoint runs, so that a lazy
+ * association read outside its fetch plan shows up as a failing test rather
+ * than as an N+1 query in production. Every request starts with an empty
+ * persistence context and second-level cache, so the budgets are worst cases.
+ * Each budget includes the JWT filter's two user lookups, and the budgets do
+ * not depend on how many orders or items are read.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class QueryCountIntegrationTest {
+
+    private static final int ORDERS = 3;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    // User lookups by email in the JWT filter
+    private static final int AUTHENTICATION_STATEMENTS = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private CustomerAddressRepository addressRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Statistics statistics;
+    private String customerToken;
+    private String ownerToken;
+    private String deliveryToken;
+    private List<Order> orders;
+
+    @BeforeEach
+    void setUp() {
+        User customer = saveUser("query-customer@example.com", "querycustomer", UserRole.CUSTOMER);
+        User owner = saveUser("query-owner@example.com", "queryowner", UserRole.RESTAURANT_OWNER);
+        User deliveryPerson = saveUser("query-delivery@example.com", "querydelivery", UserRole.DELIVERY_PERSON);
+        customerToken = "Bearer " + jwtUtil.generateToken(customer.getEmail());
+        ownerToken = "Bearer " + jwtUtil.generateToken(owner.getEmail());
+        deliveryToken = "Bearer " + jwtUtil.generateToken(deliveryPerson.getEmail());
+
+        Restaurant restaurant = restaurantRepository.save(new Restaurant("Query Kitchen", "1 Count Street",
+                "9876543210", 4.5, "logo.png", LocalDateTime.now(), "00:00", "00:00", owner));
+        CustomerAddress address = addressRepository
+                .save(new CustomerAddress(0, customer, "Line1", "Line2", "City", "State", "12345", "Country", true));
+        List<MenuItem> menuItems = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            menuItems.add(menuItemRepository.save(new MenuItem(0, null, restaurant, "Dish " + i, "Tasty",
+                    BigDecimal.valueOf(100), "dish.png", true, true, 10 + i, LocalDateTime.now())));
+        }
+
+        orders = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = new Order();
+            order.setUser(customer);
+            order.setRestaurant(restaurant);
+            order.setDeliveryAddress(address);
+            order.setDeliveryPerson(i == 0 ? null : deliveryPerson);
+            order.setStatus(i == 0 ? OrderStatus.CONFIRMED : OrderStatus.ASSIGNED);
+            order.setTotalAmount(BigDecimal.valueOf(300));
+            order.setDeliveryFee(BigDecimal.valueOf(50));
+            order.setTaxAmount(BigDecimal.valueOf(15));
+            order.setCreatedAt(LocalDateTime.now());
+            order.setUpdatedAt(LocalDateTime.now());
+            List<OrderItem> orderItems = new ArrayList<>();
+            for (MenuItem menuItem : menuItems) {
+                OrderItem orderItem = new OrderItem();
+                orderItem.setOrder(order);
+                orderItem.setMenuItem(menuItem);
+                orderItem.setQuantity(1);
+                orderItem.setPrice(menuItem.getPrice());
+                orderItems.add(orderItem);
+            }
+            order.setOrderItems(orderItems);
+            orders.add(orderRepository.save(order));
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getOrderById_LoadsOrderItemsAndCouponInOneQuery() throws Exception {
+        long statements = countStatements(get("/orders/" + orders.get(0).getOrderId())
+                .header(HttpHeaders.AUTHORIZATION, customerToken));
+
+        assertThat(statements).isLessThanOrEqualTo(AUTHENTICATION_STATEMENTS + 1);
+    }
+
+    @Test
+    void getUserOrders_DoesNotQueryPerOrder() throws Exception {
+        // The customer lookup, then every order with its items in one query
+        long statements = countStatements(get("/orders/user").header(HttpHeaders.AUTHORIZATION, customerToken));
+
+        assertThat(statements).isLessThanOrEqualTo(AUTHENTICATION_STATEMENTS + 2);
+    }
+
+    @Test
+    void getAssignedOrders_DoesNotQueryPerOrder() throws Exception {
+        // The delivery person lookup, then every assigned order in one query
+        long statements = countStatements(get("/delivery/orders/assigned")
+                .header(HttpHeaders.AUTHORIZATION, deliveryToken));
+
+        assertThat(statements).isLessThanOrEqualTo(AUTHENTICATION_STATEMENTS + 2);
+    }
+
+    @Test
+    void updateOrderStatus_LoadsOrderWithOneQuery() throws Exception {
+        // The owner lookup, then the order with its restaurant, owner and items in one query
+        long statements = countStatements(put("/orders/status/" + orders.get(0).getOrderId())
+                .header(HttpHeaders.AUTHORIZATION, ownerToken).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"PREPARING\"}"));
+
+        assertThat(statements).isLessThanOrEqualTo(AUTHENTICATION_STATEMENTS + 2);
+    }
+
+    private User saveUser(String email, String username, UserRole role) {
+        User user = new User(null, email, username, "password", "First", "Last", "9999999999", role, true);
+        user.setApprovalStatus(ApprovalStatus.APPROVED);
+        return userRepository.save(user);
+    }
+
+    /**
+     * Performs a request against an empty persistence context and second-level
+     * cache, and counts the statements it prepares.
+     */
+    private long countStatements(RequestBuilder request) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        mockMvc.perform(request).andExpect(status().isOk()).andExpect(jsonPath("$").exists());
+
+        return statistics.getPrepareStatementCount();
+    }
+}
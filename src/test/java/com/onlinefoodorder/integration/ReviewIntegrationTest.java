@@ -94,9 +94,11 @@ public class ReviewIntegrationTest {
 
     @Test
     void testGetReviewsByRestaurant_Success() throws Exception {
-        mockMvc.perform(get("/reviews/restaurant/1")
+        mockMvc.perform(get("/reviews/restaurant/" + testRestaurant.getRestaurantId())
                 .header(HttpHeaders.AUTHORIZATION, jwtToken))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews").isArray())
+                .andExpect(jsonPath("$.summary.reviewCount").exists());
     }
     @Test
     void testGetReviewsByUser_Success() throws Exception {
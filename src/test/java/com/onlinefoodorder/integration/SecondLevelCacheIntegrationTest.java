@@ -0,0 +1,105 @@
+package com.onlinefoodorder.integration;
+
+import com.onlinefoodorder.entity.Restaurant;
+import com.onlinefoodorder.entity.User;
+import com.onlinefoodorder.repository.RestaurantRepository;
+import com.onlinefoodorder.repository.UserRepository;
+import com.onlinefoodorder.util.Status.ApprovalStatus;
+import com.onlinefoodorder.util.Status.UserRole;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that repeated lookups of reference entities are answered by the
+ * second-level cache. Not transactional, so that each lookup runs in its own
+ * session and only the second-level cache can avoid the database.
+ */
+@SpringBootTest
+public class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Statistics statistics;
+    private User owner;
+    private Restaurant restaurant;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        owner = new User(null, "l2-owner-" + suffix + "@example.com", "l2owner" + suffix, "password", "Jane",
+                "Smith", "9876543210", UserRole.RESTAURANT_OWNER, true);
+        owner.setApprovalStatus(ApprovalStatus.APPROVED);
+        owner = userRepository.save(owner);
+        restaurant = restaurantRepository.save(new Restaurant("Cached Restaurant", "123 Test Street", "9876543210",
+                4.5, "https://example.com/logo.png", LocalDateTime.now(), "09:00 AM", "11:00 PM", owner));
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        restaurantRepository.deleteById(restaurant.getRestaurantId());
+        userRepository.deleteById(owner.getUserId());
+    }
+
+    @Test
+    void findById_RepeatedLookupsAreServedFromCache() {
+        assertThat(restaurantRepository.findById(restaurant.getRestaurantId())).isPresent();
+        long statementsAfterFirstLookup = statistics.getPrepareStatementCount();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(restaurantRepository.findById(restaurant.getRestaurantId()))
+                    .hasValueSatisfying(found -> assertThat(found.getName()).isEqualTo("Cached Restaurant"));
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstLookup);
+        assertThat(statistics.getDomainDataRegionStatistics("restaurants").getHitCount()).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void findByEmail_RepeatedLookupsAreServedFromQueryCache() {
+        assertThat(userRepository.findByEmail(owner.getEmail())).isPresent();
+        long statementsAfterFirstLookup = statistics.getPrepareStatementCount();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(userRepository.findByEmail(owner.getEmail())).isPresent();
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstLookup);
+        assertThat(statistics.getQueryCacheHitCount()).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void save_UpdatedEntityIsNotServedStale() {
+        assertThat(restaurantRepository.findById(restaurant.getRestaurantId())).isPresent();
+
+        Restaurant renamed = restaurantRepository.findById(restaurant.getRestaurantId()).orElseThrow();
+        renamed.setName("Renamed Restaurant");
+        restaurantRepository.save(renamed);
+
+        assertThat(restaurantRepository.findById(restaurant.getRestaurantId()))
+                .hasValueSatisfying(found -> assertThat(found.getName()).isEqualTo("Renamed Restaurant"));
+    }
+}
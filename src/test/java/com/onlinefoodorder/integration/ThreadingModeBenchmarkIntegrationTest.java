@@ -0,0 +1,267 @@
+package com.onlinefoodorder.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onlinefoodorder.OnlineFoodOrderingSystemApplication;
+import com.onlinefoodorder.dto.OrderDto;
+import com.onlinefoodorder.dto.OrderItemDto;
+import com.onlinefoodorder.entity.CustomerAddress;
+import com.onlinefoodorder.entity.MenuItem;
+import com.onlinefoodorder.entity.Restaurant;
+import com.onlinefoodorder.entity.User;
+import com.onlinefoodorder.repository.CustomerAddressRepository;
+import com.onlinefoodorder.repository.MenuItemRepository;
+import com.onlinefoodorder.repository.OrderRepository;
+import com.onlinefoodorder.repository.RestaurantRepository;
+import com.onlinefoodorder.repository.UserRepository;
+import com.onlinefoodorder.security.JwtUtil;
+import com.onlinefoodorder.util.Status.ApprovalStatus;
+import com.onlinefoodorder.util.Status.UserRole;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark: starts the application on a real port in platform thread mode
+ * and then in virtual thread mode, and drives each with {@value #CLIENTS}
+ * concurrent clients placing orders and browsing the catalog. Every client
+ * waits for its response before sending the next request. Reports throughput,
+ * latency percentiles and failed requests for each mode, and fails if any
+ * request in either mode failed. Needs Java 21 for virtual threads, and a file
+ * descriptor limit above twice {@value #CLIENTS}. Tagged {@code benchmark}, so
+ * it only runs with {@code -Pbenchmark}.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class ThreadingModeBenchmarkIntegrationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThreadingModeBenchmarkIntegrationTest.class);
+
+    private static final int CLIENTS = 5000;
+    private static final int REQUESTS = CLIENTS * 4;
+    private static final int WARM_UP_REQUESTS = 1000;
+
+    // One request in this many places an order; the rest browse the catalog
+    private static final int PLACE_ORDER_EVERY = 4;
+
+    @Test
+    @Tag("benchmark")
+    void benchmark_PlatformVersusVirtualThreads_PlaceOrderAndCatalog() throws Exception {
+        Run platform = runAgainstApplication(false);
+        Run virtual = runAgainstApplication(true);
+
+        for (Run run : List.of(platform, virtual)) {
+            logger.info("{} threads, {} clients: {} req/s, place order p50 {} ms p99 {} ms, catalog p50 {} ms "
+                    + "p99 {} ms, {} failed", run.mode(), CLIENTS, String.format("%.0f", REQUESTS / run.seconds()),
+                    percentileMs(run.placeLatencies(), 0.5), percentileMs(run.placeLatencies(), 0.99),
+                    percentileMs(run.catalogLatencies(), 0.5), percentileMs(run.catalogLatencies(), 0.99),
+                    run.failures());
+        }
+        logger.info("Virtual threads: {}x the throughput of platform threads",
+                String.format("%.2f", platform.seconds() / virtual.seconds()));
+
+        for (Run run : List.of(platform, virtual)) {
+            assertThat(run.placeLatencies().size() + run.catalogLatencies().size()).isEqualTo(REQUESTS);
+            assertThat(run.failures()).as("%s thread failures", run.mode()).isZero();
+        }
+    }
+
+    /**
+     * Starts the application in one thread mode, loads it with test data,
+     * warms it up and measures one run.
+     */
+    private Run runAgainstApplication(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                OnlineFoodOrderingSystemApplication.class).profiles("test")
+                .properties("server.port=0", "spring.threads.virtual.enabled=" + virtualThreads).run()) {
+            Fixture fixture = new Fixture(context);
+            try {
+                int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+                String mode = virtualThreads ? "Virtual" : "Platform";
+                load(mode, fixture, port, WARM_UP_REQUESTS, 100);
+                return load(mode, fixture, port, REQUESTS, CLIENTS);
+            } finally {
+                fixture.delete();
+            }
+        }
+    }
+
+    /**
+     * Sends requests with at most {@code clients} in flight and returns the
+     * run's results.
+     */
+    private Run load(String mode, Fixture fixture, int port, int requests, int clients) throws Exception {
+        Queue<Long> placeLatencies = new ConcurrentLinkedQueue<>();
+        Queue<Long> catalogLatencies = new ConcurrentLinkedQueue<>();
+        AtomicInteger failures = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(clients);
+        ExecutorService responseExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30)).executor(responseExecutor).build();
+        String base = "http://localhost:" + port;
+
+        long start = System.nanoTime();
+        try {
+            List<CompletableFuture<?>> responses = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                boolean placeOrder = i % PLACE_ORDER_EVERY == 0;
+                HttpRequest request = placeOrder ? fixture.placeOrderRequest(base) : fixture.catalogRequest(base, i);
+                inFlight.acquire();
+                long sent = System.nanoTime();
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                        .whenComplete((response, error) -> {
+                            inFlight.release();
+                            (placeOrder ? placeLatencies : catalogLatencies).add(System.nanoTime() - sent);
+                            if (error != null || response.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            } else if (placeOrder) {
+                                fixture.orderPlaced(response.body());
+                            }
+                        }));
+            }
+            CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).handle((ignored, error) -> null)
+                    .get(10, TimeUnit.MINUTES);
+        } finally {
+            responseExecutor.shutdown();
+        }
+        return new Run(mode, (System.nanoTime() - start) / 1e9, new ArrayList<>(placeLatencies),
+                new ArrayList<>(catalogLatencies), failures.get());
+    }
+
+    private static long percentileMs(List<Long> latencies, double percentile) {
+        if (latencies.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return TimeUnit.NANOSECONDS.toMillis(sorted.get((int) Math.ceil(sorted.size() * percentile) - 1));
+    }
+
+    private record Run(String mode, double seconds, List<Long> placeLatencies, List<Long> catalogLatencies,
+            int failures) {
+    }
+
+    /**
+     * A customer, a restaurant with one dish and the customer's address, saved
+     * through the running application's repositories.
+     */
+    private static class Fixture {
+
+        private final ObjectMapper objectMapper;
+        private final UserRepository userRepository;
+        private final RestaurantRepository restaurantRepository;
+        private final CustomerAddressRepository addressRepository;
+        private final MenuItemRepository menuItemRepository;
+        private final OrderRepository orderRepository;
+
+        private final User customer;
+        private final User owner;
+        private final Restaurant restaurant;
+        private final CustomerAddress address;
+        private final MenuItem menuItem;
+        private final String authorization;
+        private final String orderJson;
+        private final Queue<Long> placedOrderIds = new ConcurrentLinkedQueue<>();
+
+        Fixture(ConfigurableApplicationContext context) throws Exception {
+            objectMapper = context.getBean(ObjectMapper.class);
+            userRepository = context.getBean(UserRepository.class);
+            restaurantRepository = context.getBean(RestaurantRepository.class);
+            addressRepository = context.getBean(CustomerAddressRepository.class);
+            menuItemRepository = context.getBean(MenuItemRepository.class);
+            orderRepository = context.getBean(OrderRepository.class);
+
+            String suffix = UUID.randomUUID().toString().substring(0, 8);
+            customer = saveUser("load-customer-" + suffix + "@example.com", "loadcustomer" + suffix,
+                    UserRole.CUSTOMER);
+            owner = saveUser("load-owner-" + suffix + "@example.com", "loadowner" + suffix,
+                    UserRole.RESTAURANT_OWNER);
+            restaurant = restaurantRepository.save(new Restaurant("Load Kitchen", "1 Load Street", "9876543210", 4.5,
+                    "logo.png", LocalDateTime.now(), "00:00", "00:00", owner));
+            address = addressRepository.save(
+                    new CustomerAddress(0, customer, "Line1", "Line2", "City", "State", "12345", "Country", true));
+            menuItem = menuItemRepository.save(new MenuItem(0, null, restaurant, "Dish", "Tasty",
+                    BigDecimal.valueOf(250), "dish.png", true, true, 10, LocalDateTime.now()));
+            authorization = "Bearer " + context.getBean(JwtUtil.class).generateToken(customer.getEmail());
+
+            OrderDto orderDto = new OrderDto();
+            orderDto.setRestaurantId(restaurant.getRestaurantId());
+            orderDto.setDeliveryAddressId(address.getAddressId());
+            orderDto.setTotalAmount(BigDecimal.valueOf(500));
+            orderDto.setDeliveryFee(BigDecimal.valueOf(30));
+            orderDto.setTaxAmount(BigDecimal.valueOf(45));
+            orderDto.setOrderItems(List.of(new OrderItemDto(null, null, menuItem.getItemId(), 2,
+                    menuItem.getPrice(), null)));
+            orderJson = objectMapper.writeValueAsString(orderDto);
+        }
+
+        HttpRequest placeOrderRequest(String base) {
+            return HttpRequest.newBuilder(URI.create(base + "/orders/place")).header("Authorization", authorization)
+                    .header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(orderJson))
+                    .build();
+        }
+
+        /**
+         * Cycles through the restaurant list, a restaurant's details and its
+         * menu categories.
+         */
+        HttpRequest catalogRequest(String base, int i) {
+            String path = switch (i % 3) {
+            case 0 -> "/restaurant/all";
+            case 1 -> "/restaurant/" + restaurant.getRestaurantId();
+            default -> "/restaurant/menu-category/" + restaurant.getRestaurantId() + "/all";
+            };
+            return HttpRequest.newBuilder(URI.create(base + path)).GET().build();
+        }
+
+        void orderPlaced(String responseBody) {
+            try {
+                placedOrderIds.add(objectMapper.readValue(responseBody, OrderDto.class).getOrderId());
+            } catch (Exception e) {
+                // Counted as placed; only cleanup is affected
+            }
+        }
+
+        void delete() {
+            orderRepository.deleteAllById(placedOrderIds);
+            menuItemRepository.delete(menuItem);
+            addressRepository.delete(address);
+            restaurantRepository.delete(restaurant);
+            userRepository.delete(customer);
+            userRepository.delete(owner);
+        }
+
+        private User saveUser(String email, String username, UserRole role) {
+            User user = new User(null, email, username, "password", "First", "Last", "9999999999", role, true);
+            user.setApprovalStatus(ApprovalStatus.APPROVED);
+            return userRepository.save(user);
+        }
+    }
+}
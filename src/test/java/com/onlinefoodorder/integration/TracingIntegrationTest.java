@@ -0,0 +1,218 @@
+package com.onlinefoodorder.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onlinefoodorder.dto.OrderDto;
+import com.onlinefoodorder.dto.OrderItemDto;
+import com.onlinefoodorder.entity.CustomerAddress;
+import com.onlinefoodorder.entity.MenuItem;
+import com.onlinefoodorder.entity.Restaurant;
+import com.onlinefoodorder.entity.User;
+import com.onlinefoodorder.repository.CustomerAddressRepository;
+import com.onlinefoodorder.repository.MenuItemRepository;
+import com.onlinefoodorder.repository.OrderRepository;
+import com.onlinefoodorder.repository.RestaurantRepository;
+import com.onlinefoodorder.repository.UserRepository;
+import com.onlinefoodorder.security.JwtUtil;
+import com.onlinefoodorder.util.Status.ApprovalStatus;
+import com.onlinefoodorder.util.Status.UserRole;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Places an order over HTTP with tracing enabled and checks the spans
+ * collected in memory: one trace from the request down to its repository
+ * calls, continued by work handed to the order event executor.
+ */
+@SpringBootTest(properties = "tracing.export.file.enabled=false")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+public class TracingIntegrationTest {
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    @Qualifier("orderEventExecutor")
+    private Executor orderEventExecutor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private CustomerAddressRepository addressRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private User customer;
+    private User owner;
+    private Restaurant restaurant;
+    private CustomerAddress address;
+    private MenuItem menuItem;
+    private Long placedOrderId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        customer = saveUser("trace-customer-" + suffix + "@example.com", "tracecustomer" + suffix,
+                UserRole.CUSTOMER);
+        owner = saveUser("trace-owner-" + suffix + "@example.com", "traceowner" + suffix,
+                UserRole.RESTAURANT_OWNER);
+        restaurant = restaurantRepository.save(new Restaurant("Trace Kitchen", "1 Span Street", "9876543210", 4.5,
+                "logo.png", LocalDateTime.now(), "00:00", "00:00", owner));
+        address = addressRepository
+                .save(new CustomerAddress(0, customer, "Line1", "Line2", "City", "State", "12345", "Country", true));
+        menuItem = menuItemRepository.save(new MenuItem(0, null, restaurant, "Dish", "Tasty",
+                BigDecimal.valueOf(250), "dish.png", true, true, 10, LocalDateTime.now()));
+        flushSpans();
+        spanExporter.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (placedOrderId != null) {
+            orderRepository.deleteById(placedOrderId);
+        }
+        menuItemRepository.delete(menuItem);
+        addressRepository.delete(address);
+        restaurantRepository.delete(restaurant);
+        userRepository.delete(customer);
+        userRepository.delete(owner);
+    }
+
+    @Test
+    void placeOrder_RequestTransactionAndRepositorySpansShareOneTrace() throws Exception {
+        OrderDto orderDto = new OrderDto();
+        orderDto.setRestaurantId(restaurant.getRestaurantId());
+        orderDto.setDeliveryAddressId(address.getAddressId());
+        orderDto.setTotalAmount(BigDecimal.valueOf(500));
+        orderDto.setDeliveryFee(BigDecimal.valueOf(30));
+        orderDto.setTaxAmount(BigDecimal.valueOf(45));
+        orderDto.setOrderItems(List.of(new OrderItemDto(null, null, menuItem.getItemId(), 2, menuItem.getPrice(),
+                null)));
+
+        String response = mockMvc.perform(post("/orders/place")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.generateToken(customer.getEmail()))
+                .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(orderDto)))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        placedOrderId = objectMapper.readValue(response, OrderDto.class).getOrderId();
+        flushSpans();
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        SpanData request = spans.stream().filter(span -> span.getKind() == SpanKind.SERVER).findFirst()
+                .orElseThrow();
+        SpanData service = spans.stream()
+                .filter(span -> "OrderService".equals(span.getAttributes().get(AttributeKey.stringKey("class")))
+                        && "placeOrder".equals(span.getAttributes().get(AttributeKey.stringKey("method"))))
+                .findFirst().orElseThrow();
+        SpanData transaction = spans.stream().filter(span -> span.getName().equals("tx OrderService.placeOrder"))
+                .findFirst().orElseThrow();
+        SpanData save = spans.stream().filter(span -> span.getName().equals("OrderRepository.save")).findFirst()
+                .orElseThrow();
+
+        assertThat(request.getName()).contains("/orders/place");
+        assertThat(List.of(service, transaction, save)).extracting(SpanData::getTraceId)
+                .containsOnly(request.getTraceId());
+        assertThat(transaction.getAttributes().get(AttributeKey.stringKey("outcome"))).isEqualTo("committed");
+        assertThat(save.getStartEpochNanos()).isBetween(transaction.getStartEpochNanos(),
+                transaction.getEndEpochNanos());
+    }
+
+    @Test
+    void orderEventExecutor_RunsTasksInSubmittersTrace() throws Exception {
+        CompletableFuture<String> taskTraceId = new CompletableFuture<>();
+        String submitterTraceId;
+
+        Observation observation = Observation.start("order.status.update", observationRegistry);
+        try (Observation.Scope scope = observation.openScope()) {
+            submitterTraceId = tracer.currentSpan().context().traceId();
+            orderEventExecutor.execute(() -> {
+                Span span = tracer.currentSpan();
+                taskTraceId.complete(span != null ? span.context().traceId() : null);
+            });
+        } finally {
+            observation.stop();
+        }
+
+        assertThat(taskTraceId.get(5, TimeUnit.SECONDS)).isEqualTo(submitterTraceId);
+    }
+
+    private void flushSpans() {
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+    }
+
+    private User saveUser(String email, String username, UserRole role) {
+        User user = new User(null, email, username, "password", "First", "Last", "9999999999", role, true);
+        user.setApprovalStatus(ApprovalStatus.APPROVED);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,88 @@
+package com.onlinefoodorder.repository;
+
+import com.onlinefoodorder.entity.Cart;
+import com.onlinefoodorder.entity.CartItem;
+import com.onlinefoodorder.entity.MenuItem;
+import com.onlinefoodorder.entity.Restaurant;
+import com.onlinefoodorder.entity.User;
+import com.onlinefoodorder.util.Status.UserRole;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the abandoned cart purge statements on embedded H2, including a cart
+ * that a customer touches between the selection of idle IDs and the deletes.
+ */
+@DataJpaTest
+public class CartPurgeQueryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    private LocalDateTime cutoff;
+    private Cart cart;
+    private CartItem item;
+
+    @BeforeEach
+    void setUp() {
+        cutoff = LocalDateTime.now().minusDays(30);
+        User customer = entityManager.persist(new User(null, "purge-customer@example.com", "purgecustomer",
+                "password", "First", "Last", "9999999999", UserRole.CUSTOMER, true));
+        User owner = entityManager.persist(new User(null, "purge-owner@example.com", "purgeowner", "password",
+                "First", "Last", "9999999998", UserRole.RESTAURANT_OWNER, true));
+        Restaurant restaurant = entityManager.persist(new Restaurant("Purge Kitchen", "1 Idle Street",
+                "9876543210", 4.0, "logo.png", LocalDateTime.now(), "10:00", "22:00", owner));
+        MenuItem menuItem = entityManager.persist(new MenuItem(0, null, restaurant, "Dish", "Tasty",
+                BigDecimal.valueOf(100), "dish.png", true, true, 10, LocalDateTime.now()));
+
+        cart = new Cart();
+        cart.setUser(customer);
+        cart.setAddedAt(cutoff.minusDays(10));
+        cart = entityManager.persist(cart);
+        item = new CartItem();
+        item.setCart(cart);
+        item.setMenuItem(menuItem);
+        item.setQuantity(1);
+        item = entityManager.persist(item);
+        entityManager.flush();
+    }
+
+    @Test
+    void purge_IdleCart_DeletesCartAndItems() {
+        List<Long> ids = cartRepository.findIdleCartIds(cutoff, PageRequest.of(0, 10));
+
+        assertThat(ids).containsExactly(cart.getId());
+        assertThat(cartItemRepository.deleteItemsByCartIds(ids, cutoff)).isEqualTo(1);
+        assertThat(cartRepository.deleteCartsByIds(ids, cutoff)).isEqualTo(1);
+    }
+
+    @Test
+    void purge_CartTouchedAfterSelection_KeepsCartAndItems() {
+        List<Long> ids = cartRepository.findIdleCartIds(cutoff, PageRequest.of(0, 10));
+        cart.setUpdatedAt(LocalDateTime.now());
+        entityManager.flush();
+
+        assertThat(cartItemRepository.deleteItemsByCartIds(ids, cutoff)).isZero();
+        assertThat(cartRepository.deleteCartsByIds(ids, cutoff)).isZero();
+        entityManager.clear();
+        assertThat(cartRepository.findById(cart.getId())).isPresent();
+        assertThat(cartItemRepository.findById(item.getId())).isPresent();
+    }
+}
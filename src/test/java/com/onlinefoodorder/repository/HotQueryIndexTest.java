@@ -0,0 +1,86 @@
+package com.onlinefoodorder.repository;
+
+import com.onlinefoodorder.config.FlywayConfig;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Named.named;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Builds the schema on embedded H2 from the entity mappings and the Flyway
+ * migrations, and checks the plan of each hot query. A query that has lost its
+ * index shows up as a full table scan and fails here instead of in production.
+ */
+@DataJpaTest
+@Import(FlywayConfig.class)
+public class HotQueryIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                query("orders of a customer",
+                        "SELECT * FROM orders WHERE user_id = 1 ORDER BY created_at"),
+                query("coupon uses of a customer",
+                        "SELECT COUNT(*) FROM orders WHERE user_id = 1 AND coupon_id = 1"),
+                query("orders since a date",
+                        "SELECT COUNT(*) FROM orders WHERE created_at > TIMESTAMP '2025-01-01 00:00:00'"),
+                query("orders assigned to a courier",
+                        "SELECT * FROM orders WHERE delivery_person_id = 1 AND status = 'ASSIGNED'"),
+                query("worklist of a courier",
+                        "SELECT * FROM orders WHERE delivery_person_id = 1 "
+                                + "AND status IN ('ASSIGNED', 'OUT_FOR_DELIVERY') ORDER BY created_at, order_id"),
+                query("preparation queue per restaurant",
+                        "SELECT restaurant_id, COUNT(*) FROM orders WHERE status = 'PREPARING' GROUP BY restaurant_id"),
+                query("deliveries per courier",
+                        "SELECT delivery_person_id, COUNT(*) FROM orders WHERE status = 'DELIVERED' "
+                                + "GROUP BY delivery_person_id"),
+                query("orders of a restaurant",
+                        "SELECT SUM(total_amount) FROM orders WHERE restaurant_id = 1"),
+                query("sales of a menu item",
+                        "SELECT SUM(quantity) FROM order_items WHERE menu_item_id = 1"),
+                query("menu of a restaurant",
+                        "SELECT * FROM menu_items WHERE restaurant_id = 1"),
+                query("items of a category",
+                        "SELECT COUNT(*) FROM menu_items WHERE category_id = 1"),
+                query("coupon by code",
+                        "SELECT * FROM coupons WHERE code = 'SAVE10'"),
+                query("active discount of a restaurant",
+                        "SELECT COUNT(*) FROM coupons WHERE restaurant_id = 1 AND discount_type = 'PERCENTAGE' "
+                                + "AND active = TRUE"),
+                query("approved couriers",
+                        "SELECT * FROM users WHERE role = 'DELIVERY_PERSON' AND approval_status = 'APPROVED'"),
+                query("user by email",
+                        "SELECT * FROM users WHERE email = 'customer@example.com'"),
+                query("payment by transaction",
+                        "SELECT * FROM payment WHERE transaction_id = 'TXN-1'"),
+                query("review feed of a restaurant",
+                        "SELECT * FROM review WHERE restaurant_id = 1 ORDER BY created_at DESC, review_id DESC"),
+                query("daily delivery stats due for compaction",
+                        "SELECT * FROM delivery_stats WHERE period = 'DAY' AND period_start < DATE '2025-01-01' "
+                                + "ORDER BY id"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("hotQueries")
+    void hotQuery_UsesIndex(String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertThat(plan).doesNotContain("tableScan");
+    }
+
+    private static Arguments query(String name, String sql) {
+        return arguments(named(name, sql));
+    }
+}
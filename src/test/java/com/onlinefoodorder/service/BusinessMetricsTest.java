@@ -0,0 +1,81 @@
+package com.onlinefoodorder.service;
+
+import com.onlinefoodorder.event.OrderStatusChangedEvent;
+import com.onlinefoodorder.util.Status.OrderStatus;
+import com.onlinefoodorder.util.Status.PaymentMethod;
+import com.onlinefoodorder.util.Status.PaymentStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BusinessMetrics businessMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        businessMetrics = new BusinessMetrics(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void constructor_RegistersEveryCombinationAtZero() {
+        assertEquals(OrderStatus.values().length, meterRegistry.find("orders.status").counters().size());
+        assertEquals(PaymentMethod.values().length * PaymentStatus.values().length,
+                meterRegistry.find("payments").counters().size());
+        assertEquals(0.0, orderCount(OrderStatus.DELIVERED));
+    }
+
+    @Test
+    void orderPlaced_CountedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        businessMetrics.orderPlaced(OrderStatus.PENDING);
+        assertEquals(0.0, orderCount(OrderStatus.PENDING));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1.0, orderCount(OrderStatus.PENDING));
+    }
+
+    @Test
+    void onOrderStatusChanged_CountsNewStatus() {
+        businessMetrics.onOrderStatusChanged(new OrderStatusChangedEvent(1L, OrderStatus.PENDING,
+                OrderStatus.CONFIRMED, 2L, 3L, 4L, null, LocalDateTime.now(), LocalDateTime.now()));
+
+        assertEquals(1.0, orderCount(OrderStatus.CONFIRMED));
+        assertEquals(0.0, orderCount(OrderStatus.PENDING));
+    }
+
+    @Test
+    void paymentProcessed_CountsByMethodAndStatus() {
+        businessMetrics.paymentProcessed(PaymentMethod.UPI, PaymentStatus.FAILED);
+        businessMetrics.paymentProcessed(PaymentMethod.UPI, PaymentStatus.SUCCESS);
+        businessMetrics.paymentProcessed(PaymentMethod.UPI, PaymentStatus.SUCCESS);
+
+        assertEquals(2.0, meterRegistry.get("payments").tag("method", "UPI").tag("status", "SUCCESS").counter()
+                .count());
+        assertEquals(1.0, meterRegistry.get("payments").tag("method", "UPI").tag("status", "FAILED").counter()
+                .count());
+    }
+
+    private double orderCount(OrderStatus status) {
+        return meterRegistry.get("orders.status").tag("status", status.name()).counter().count();
+    }
+}
@@ -0,0 +1,97 @@
+package com.onlinefoodorder.service;
+
+import com.onlinefoodorder.repository.CartItemRepository;
+import com.onlinefoodorder.repository.CartRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartPurgeServiceTest {
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private CartItemRepository cartItemRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CartPurgeService cartPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cartPurgeService = new CartPurgeService(cartRepository, cartItemRepository, transactionManager,
+                meterRegistry, 30, 2, 10);
+    }
+
+    @Test
+    void purgeCartsIdleSince_DeletesInBoundedChunks() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+        when(cartRepository.findIdleCartIds(eq(cutoff), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(cartItemRepository.deleteItemsByCartIds(List.of(1L, 2L), cutoff)).thenReturn(5);
+        when(cartItemRepository.deleteItemsByCartIds(List.of(3L), cutoff)).thenReturn(1);
+        when(cartRepository.deleteCartsByIds(List.of(1L, 2L), cutoff)).thenReturn(2);
+        when(cartRepository.deleteCartsByIds(List.of(3L), cutoff)).thenReturn(1);
+
+        long purged = cartPurgeService.purgeCartsIdleSince(cutoff);
+
+        assertEquals(9, purged);
+        verify(cartRepository, times(2)).findIdleCartIds(eq(cutoff), any(Pageable.class));
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(3.0, meterRegistry.get("cart.purge.carts").counter().count());
+        assertEquals(6.0, meterRegistry.get("cart.purge.items").counter().count());
+        assertEquals(9.0, meterRegistry.get("cart.purge.rows.per.run").summary().totalAmount());
+    }
+
+    @Test
+    void purgeCartsIdleSince_NoIdleCarts_DeletesNothing() {
+        when(cartRepository.findIdleCartIds(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        long purged = cartPurgeService.purgeCartsIdleSince(LocalDateTime.now());
+
+        assertEquals(0, purged);
+        verify(cartItemRepository, never()).deleteItemsByCartIds(any(), any());
+        verify(cartRepository, never()).deleteCartsByIds(any(), any());
+        assertEquals(1, meterRegistry.get("cart.purge.rows.per.run").summary().count());
+    }
+
+    @Test
+    void purgeCartsIdleSince_StopsAtMaxBatchesPerRun() {
+        cartPurgeService = new CartPurgeService(cartRepository, cartItemRepository, transactionManager,
+                meterRegistry, 30, 1, 3);
+        when(cartRepository.findIdleCartIds(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1L));
+        when(cartRepository.deleteCartsByIds(any(), any())).thenReturn(1);
+
+        cartPurgeService.purgeCartsIdleSince(LocalDateTime.now());
+
+        verify(cartRepository, times(3)).deleteCartsByIds(any(), any());
+    }
+
+    @Test
+    void constructor_WithNonPositiveBatchSize_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new CartPurgeService(cartRepository, cartItemRepository,
+                transactionManager, meterRegistry, 30, 0, 10));
+    }
+}
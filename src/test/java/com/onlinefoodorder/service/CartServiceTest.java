@@ -213,7 +213,8 @@ class CartServiceTest {
 
         cartService.clearCart("test@example.com");
 
-        verify(cartItemRepository).deleteAll(cart.getCartItems());
+        verify(cartItemRepository).deleteItemsByCartId(1L);
+        verify(cartItemRepository, never()).deleteAll(anyList());
     }
 
     @Test
@@ -0,0 +1,60 @@
+package com.onlinefoodorder.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourierAvailabilityIndexTest {
+
+    private CourierAvailabilityIndex availabilityIndex;
+
+    @BeforeEach
+    void setUp() {
+        availabilityIndex = new CourierAvailabilityIndex();
+        availabilityIndex.replaceAll(Map.of(10L, 1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void incrementLoad_OutsideTransaction_AppliesImmediately() {
+        availabilityIndex.incrementLoad(10L);
+
+        assertEquals(2, availabilityIndex.getLoad(10L));
+    }
+
+    @Test
+    void incrementLoad_InsideTransaction_AppliesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        availabilityIndex.incrementLoad(10L);
+        availabilityIndex.decrementLoad(10L);
+        availabilityIndex.incrementLoad(10L);
+        assertEquals(1, availabilityIndex.getLoad(10L));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(2, availabilityIndex.getLoad(10L));
+    }
+
+    @Test
+    void incrementLoad_RolledBack_LeavesLoadUnchanged() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        availabilityIndex.incrementLoad(10L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(
+                synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(1, availabilityIndex.getLoad(10L));
+    }
+}
@@ -0,0 +1,118 @@
+package com.onlinefoodorder.service;
+
+import com.onlinefoodorder.service.CourierLocationIndex.NearbyCourier;
+import com.onlinefoodorder.util.GeoUtils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourierLocationIndexTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourierLocationIndexTest.class);
+
+    private CourierLocationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CourierLocationIndex(120_000);
+    }
+
+    @Test
+    void findNearest_ReturnsCouriersOrderedByDistance() {
+        long now = System.currentTimeMillis();
+        index.update(1L, 12.9800, 77.6000, now);
+        index.update(2L, 12.9720, 77.5950, now);
+        index.update(3L, 13.0500, 77.7000, now);
+
+        List<NearbyCourier> nearest = index.findNearest(12.9716, 77.5946, 2, 50, id -> true);
+
+        assertEquals(2, nearest.size());
+        assertEquals(2L, nearest.get(0).courierId());
+        assertEquals(1L, nearest.get(1).courierId());
+    }
+
+    @Test
+    void update_MovesCourierBetweenCells() {
+        long now = System.currentTimeMillis();
+        index.update(1L, 12.9716, 77.5946, now);
+        index.update(1L, 28.6139, 77.2090, now);
+
+        assertTrue(index.findNearest(12.9716, 77.5946, 5, 10, id -> true).isEmpty());
+        assertEquals(1, index.findNearest(28.6139, 77.2090, 5, 10, id -> true).size());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void findNearest_SkipsStaleAndFilteredCouriers() {
+        long now = System.currentTimeMillis();
+        index.update(1L, 12.9716, 77.5946, now - 300_000);
+        index.update(2L, 12.9716, 77.5946, now);
+        index.update(3L, 12.9716, 77.5946, now);
+
+        List<NearbyCourier> nearest = index.findNearest(12.9716, 77.5946, 5, 10, id -> id != 3L);
+
+        assertEquals(1, nearest.size());
+        assertEquals(2L, nearest.get(0).courierId());
+    }
+
+    @Test
+    void remove_DropsCourierFromQueries() {
+        index.update(1L, 12.9716, 77.5946, System.currentTimeMillis());
+        index.remove(1L);
+
+        assertNull(index.get(1L));
+        assertTrue(index.findNearest(12.9716, 77.5946, 5, 10, id -> true).isEmpty());
+    }
+
+    /**
+     * Compares the grid search against a brute force scan over a city-sized
+     * fleet and reports the average query time.
+     */
+    @Test
+    void findNearest_MatchesBruteForceOnRandomFleet() {
+        Random random = new Random(42);
+        long now = System.currentTimeMillis();
+        List<double[]> fleet = new ArrayList<>();
+        for (long id = 0; id < 20_000; id++) {
+            double lat = 12.85 + random.nextDouble() * 0.25;
+            double lng = 77.45 + random.nextDouble() * 0.30;
+            fleet.add(new double[] { id, lat, lng });
+            index.update(id, lat, lng, now);
+        }
+
+        int queries = 1_000;
+        long elapsed = 0;
+        for (int q = 0; q < queries; q++) {
+            double lat = 12.85 + random.nextDouble() * 0.25;
+            double lng = 77.45 + random.nextDouble() * 0.30;
+
+            long start = System.nanoTime();
+            List<NearbyCourier> nearest = index.findNearest(lat, lng, 10, 5, id -> true);
+            elapsed += System.nanoTime() - start;
+
+            List<Double> expected = fleet.stream()
+                    .map(c -> GeoUtils.distanceKm(lat, lng, c[1], c[2]))
+                    .filter(d -> d <= 5)
+                    .sorted(Comparator.naturalOrder())
+                    .limit(10)
+                    .toList();
+            assertEquals(expected.size(), nearest.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), nearest.get(i).distanceKm(), 1e-9);
+            }
+        }
+
+        logger.info("Nearest courier query over {} couriers: {} us average", fleet.size(),
+                TimeUnit.NANOSECONDS.toMicros(elapsed / queries));
+    }
+}
@@ -0,0 +1,119 @@
+package com.onlinefoodorder.service;
+
+import com.onlinefoodorder.dto.CourierLocationDto;
+import com.onlinefoodorder.entity.CourierLocation;
+import com.onlinefoodorder.entity.Restaurant;
+import com.onlinefoodorder.exception.RestaurantNotFoundException;
+import com.onlinefoodorder.repository.CourierLocationRepository;
+import com.onlinefoodorder.repository.RestaurantRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourierLocationServiceTest {
+
+    @Mock
+    private CourierLocationRepository courierLocationRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    private CourierLocationIndex locationIndex;
+    private CourierAvailabilityIndex availabilityIndex;
+    private CourierLocationService courierLocationService;
+
+    @BeforeEach
+    void setUp() {
+        locationIndex = new CourierLocationIndex(120_000);
+        availabilityIndex = new CourierAvailabilityIndex();
+        courierLocationService = new CourierLocationService(locationIndex, availabilityIndex,
+                courierLocationRepository, restaurantRepository, new SimpleMeterRegistry(), 10);
+    }
+
+    @Test
+    void recordLocation_UpdatesIndexWithoutTouchingDatabase() {
+        courierLocationService.recordLocation(1L, new CourierLocationDto(12.9716, 77.5946));
+
+        assertNotNull(locationIndex.get(1L));
+        verifyNoInteractions(courierLocationRepository);
+    }
+
+    @Test
+    void recordLocation_InvalidCoordinates_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> courierLocationService.recordLocation(1L, new CourierLocationDto(95.0, 77.5946)));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void persistLocations_WritesOnlyLatestPositionPerCourier() {
+        courierLocationService.recordLocation(1L, new CourierLocationDto(12.9716, 77.5946));
+        courierLocationService.recordLocation(1L, new CourierLocationDto(12.9800, 77.6000));
+        courierLocationService.recordLocation(2L, new CourierLocationDto(12.9500, 77.5800));
+
+        int persisted = courierLocationService.persistLocations();
+
+        ArgumentCaptor<List<CourierLocation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(courierLocationRepository).upsertAll(captor.capture());
+        assertEquals(2, persisted);
+        CourierLocation latest = captor.getValue().stream()
+                .filter(location -> location.getUserId().equals(1L)).findFirst().orElseThrow();
+        assertEquals(12.9800, latest.getLatitude());
+
+        assertEquals(0, courierLocationService.persistLocations());
+        verify(courierLocationRepository, times(1)).upsertAll(any());
+    }
+
+    @Test
+    void loadPersistedLocations_KeepsNewerPingsInIndex() {
+        courierLocationService.recordLocation(2L, new CourierLocationDto(12.9500, 77.5800));
+        LocalDateTime recent = LocalDateTime.now().minusSeconds(30);
+        when(courierLocationRepository.findByRecordedAtAfter(any())).thenReturn(List.of(
+                new CourierLocation(1L, 12.9716, 77.5946, recent),
+                new CourierLocation(2L, 12.9000, 77.5000, recent)));
+
+        int loaded = courierLocationService.loadPersistedLocations();
+
+        assertEquals(1, loaded);
+        assertEquals(12.9716, locationIndex.get(1L).latitude());
+        assertEquals(12.9500, locationIndex.get(2L).latitude());
+    }
+
+    @Test
+    void findNearestCouriers_ReturnsOnlyAvailableCouriers() {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setLatitude(12.9716);
+        restaurant.setLongitude(77.5946);
+        when(restaurantRepository.findById(1L)).thenReturn(Optional.of(restaurant));
+        availabilityIndex.register(2L);
+        courierLocationService.recordLocation(1L, new CourierLocationDto(12.9720, 77.5950));
+        courierLocationService.recordLocation(2L, new CourierLocationDto(12.9800, 77.6000));
+
+        List<CourierLocationDto> nearest = courierLocationService.findNearestCouriers(1L, 5);
+
+        assertEquals(1, nearest.size());
+        assertEquals(2L, nearest.get(0).getCourierId());
+    }
+
+    @Test
+    void findNearestCouriers_RestaurantNotFound_ShouldThrowException() {
+        when(restaurantRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(RestaurantNotFoundException.class, () -> courierLocationService.findNearestCouriers(1L, 5));
+    }
+}
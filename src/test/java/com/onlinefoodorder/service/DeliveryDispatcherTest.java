@@ -0,0 +1,316 @@
+package com.onlinefoodorder.service;
+
+import com.onlinefoodorder.entity.User;
+import com.onlinefoodorder.exception.DeliveryException;
+import com.onlinefoodorder.repository.OrderRepository;
+import com.onlinefoodorder.repository.UserRepository;
+import com.onlinefoodorder.util.Status.ApprovalStatus;
+import com.onlinefoodorder.util.Status.UserRole;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeliveryDispatcherTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeliveryDispatcherTest.class);
+
+    @Mock
+    private DeliveryService deliveryService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private CourierAvailabilityIndex availabilityIndex;
+    private CourierLocationIndex locationIndex;
+    private SimpleMeterRegistry meterRegistry;
+    private DeliveryDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        availabilityIndex = new CourierAvailabilityIndex();
+        locationIndex = new CourierLocationIndex(120_000);
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new DeliveryDispatcher(deliveryService, availabilityIndex, locationIndex,
+                new RouteBatchPlanner(1.0, 3.0, 10, 3), userRepository, orderRepository, meterRegistry, true, 100, 3,
+                10, 10.0, false);
+    }
+
+    @Test
+    void dispatchPendingOrders_AssignsToLeastLoadedCourier() {
+        availabilityIndex.replaceAll(Map.of(10L, 2, 11L, 0));
+        simulateAssignmentUpdatesIndex();
+
+        dispatcher.submit(1L);
+        int assigned = dispatcher.dispatchPendingOrders();
+
+        assertEquals(1, assigned);
+        verify(deliveryService).assignDeliveryPerson(1L, 11L);
+        assertEquals(1, availabilityIndex.getLoad(11L));
+        assertEquals(0, dispatcher.getPendingCount());
+    }
+
+    @Test
+    void dispatchPendingOrders_PrefersCourierNearRestaurant() {
+        availabilityIndex.replaceAll(Map.of(10L, 0, 11L, 0, 12L, 1));
+        long now = System.currentTimeMillis();
+        locationIndex.update(10L, 12.95, 77.70, now);  // ~10 km away
+        locationIndex.update(11L, 12.975, 77.595, now); // ~1 km away
+        locationIndex.update(12L, 12.971, 77.594, now); // closest, but already busy
+        simulateAssignmentUpdatesIndex();
+
+        dispatcher.submit(1L, 12.9716, 77.5946);
+        int assigned = dispatcher.dispatchPendingOrders();
+
+        assertEquals(1, assigned);
+        verify(deliveryService).assignDeliveryPerson(1L, 11L);
+    }
+
+    @Test
+    void dispatchPendingOrders_NoCourierNearby_FallsBackToLeastLoaded() {
+        availabilityIndex.replaceAll(Map.of(10L, 1, 11L, 0));
+        locationIndex.update(10L, 12.9716, 77.5946, System.currentTimeMillis());
+        simulateAssignmentUpdatesIndex();
+
+        dispatcher.submit(1L, 28.6139, 77.2090);
+        dispatcher.dispatchPendingOrders();
+
+        verify(deliveryService).assignDeliveryPerson(1L, 11L);
+    }
+
+    @Test
+    void dispatchPendingOrders_SkipsCouriersAtMaxLoad() {
+        availabilityIndex.replaceAll(Map.of(10L, 3));
+
+        dispatcher.submit(1L);
+        int assigned = dispatcher.dispatchPendingOrders();
+
+        assertEquals(0, assigned);
+        verifyNoInteractions(deliveryService);
+        assertEquals(1, dispatcher.getPendingCount());
+    }
+
+    @Test
+    void dispatchPendingOrders_DropsOrderThatIsNoLongerAssignable() {
+        availabilityIndex.replaceAll(Map.of(10L, 0));
+        doThrow(new IllegalStateException("Order 1 is not assignable"))
+                .when(deliveryService).assignDeliveryPerson(1L, 10L);
+
+        dispatcher.submit(1L);
+        dispatcher.submit(2L);
+        int assigned = dispatcher.dispatchPendingOrders();
+
+        assertEquals(1, assigned);
+        verify(deliveryService).assignDeliveryPerson(2L, 10L);
+        assertEquals(0, dispatcher.getPendingCount());
+    }
+
+    @Test
+    void dispatchPendingOrders_RemovesInvalidCourierAndRequeuesOrder() {
+        availabilityIndex.replaceAll(Map.of(10L, 0));
+        doThrow(new DeliveryException("User ID 10 is not a valid delivery person."))
+                .when(deliveryService).assignDeliveryPerson(1L, 10L);
+
+        dispatcher.submit(1L);
+        int assigned = dispatcher.dispatchPendingOrders();
+
+        assertEquals(0, assigned);
+        assertFalse(availabilityIndex.contains(10L));
+        assertEquals(1, dispatcher.getPendingCount());
+    }
+
+    @Test
+    void dispatchPendingOrders_Batching_AssignsNearbyOrdersAsOneRoute() {
+        enableBatching();
+        availabilityIndex.replaceAll(Map.of(10L, 0, 11L, 1));
+        LocalDateTime readyAt = LocalDateTime.now().plusMinutes(15);
+
+        dispatcher.submit(1L, 12.9716, 77.5946, 12.9800, 77.6000, readyAt);
+        dispatcher.submit(2L, 12.9716, 77.5946, 12.9750, 77.5980, readyAt.plusMinutes(3));
+        int assigned = dispatcher.dispatchPendingOrders();
+
+        assertEquals(2, assigned);
+        // The nearer drop comes first
+        verify(deliveryService).assignRoute(List.of(2L, 1L), 10L);
+        verify(deliveryService, never()).assignDeliveryPerson(any(), any());
+        assertEquals(2.0, meterRegistry.get("delivery.dispatch.routed").counter().count());
+        assertEquals(0, dispatcher.getPendingCount());
+    }
+
+    @Test
+    void dispatchPendingOrders_Batching_NoCapacityForRoute_AssignsIndividually() {
+        enableBatching();
+        availabilityIndex.replaceAll(Map.of(10L, 2));
+        simulateAssignmentUpdatesIndex();
+        LocalDateTime readyAt = LocalDateTime.now().plusMinutes(15);
+
+        dispatcher.submit(1L, 12.9716, 77.5946, 12.9800, 77.6000, readyAt);
+        dispatcher.submit(2L, 12.9716, 77.5946, 12.9750, 77.5980, readyAt);
+        int assigned = dispatcher.dispatchPendingOrders();
+
+        assertEquals(1, assigned);
+        verify(deliveryService, never()).assignRoute(any(), any());
+        verify(deliveryService).assignDeliveryPerson(1L, 10L);
+        assertEquals(1, dispatcher.getPendingCount());
+    }
+
+    @Test
+    void dispatchPendingOrders_Batching_FailedRoute_FallsBackToIndividualAssignment() {
+        enableBatching();
+        availabilityIndex.replaceAll(Map.of(10L, 0));
+        simulateAssignmentUpdatesIndex();
+        doThrow(new IllegalStateException("Order 2 is not assignable")).when(deliveryService).assignRoute(any(),
+                eq(10L));
+        doThrow(new IllegalStateException("Order 2 is not assignable")).when(deliveryService)
+                .assignDeliveryPerson(2L, 10L);
+        LocalDateTime readyAt = LocalDateTime.now().plusMinutes(15);
+
+        dispatcher.submit(1L, 12.9716, 77.5946, 12.9800, 77.6000, readyAt);
+        dispatcher.submit(2L, 12.9716, 77.5946, 12.9750, 77.5980, readyAt);
+        int assigned = dispatcher.dispatchPendingOrders();
+
+        assertEquals(1, assigned);
+        verify(deliveryService).assignDeliveryPerson(1L, 10L);
+        assertEquals(0, dispatcher.getPendingCount());
+    }
+
+    @Test
+    void dispatchPendingOrders_Batching_OrdersWithoutDropLocationAreAssignedIndividually() {
+        enableBatching();
+        availabilityIndex.replaceAll(Map.of(10L, 0));
+        simulateAssignmentUpdatesIndex();
+
+        dispatcher.submit(1L, 12.9716, 77.5946);
+        int assigned = dispatcher.dispatchPendingOrders();
+
+        assertEquals(1, assigned);
+        verify(deliveryService).assignDeliveryPerson(1L, 10L);
+        verify(deliveryService, never()).assignRoute(any(), any());
+    }
+
+    @Test
+    void refreshAvailability_LoadsApprovedActiveCouriersWithTheirLoad() {
+        User active = new User();
+        active.setUserId(10L);
+        active.setActive(true);
+        User inactive = new User();
+        inactive.setUserId(11L);
+        inactive.setActive(false);
+        when(userRepository.findByRoleAndApprovalStatus(UserRole.DELIVERY_PERSON, ApprovalStatus.APPROVED))
+                .thenReturn(List.of(active, inactive));
+        when(orderRepository.countActiveOrdersByDeliveryPerson(any()))
+                .thenReturn(Collections.singletonList(new Object[] { 10L, 2L }));
+
+        dispatcher.refreshAvailability();
+
+        assertEquals(1, availabilityIndex.size());
+        assertEquals(2, availabilityIndex.getLoad(10L));
+    }
+
+    @Test
+    void refreshAvailability_RequeuesUndispatchedOrdersNotAlreadyQueued() {
+        LocalDateTime preparingSince = LocalDateTime.now().minusMinutes(5);
+        when(orderRepository.findUndispatchedOrders()).thenReturn(List.of(
+                new Object[] { 1L, 12.9716, 77.5946, 12.9800, 77.6000, preparingSince, 15 },
+                new Object[] { 2L, 12.9716, 77.5946, null, null, preparingSince, null }));
+        dispatcher.submit(1L);
+
+        dispatcher.refreshAvailability();
+        dispatcher.refreshAvailability();
+
+        assertEquals(2, dispatcher.getPendingCount());
+        availabilityIndex.replaceAll(Map.of(10L, 0));
+        assertEquals(2, dispatcher.dispatchPendingOrders());
+        verify(deliveryService).assignDeliveryPerson(1L, 10L);
+        verify(deliveryService).assignDeliveryPerson(2L, 10L);
+    }
+
+    /**
+     * Simulation harness: replays several thousand orders against a courier
+     * fleet, ticking the dispatcher until the queue drains, and reports the
+     * assignment latency distribution.
+     */
+    @Test
+    void simulation_ReplaysThousandsOfOrders_ReportsAssignmentLatency() {
+        int couriers = 200;
+        int orders = 5000;
+        int maxLoad = 25;
+        dispatcher = new DeliveryDispatcher(deliveryService, availabilityIndex, locationIndex,
+                new RouteBatchPlanner(1.0, 3.0, 10, 3), userRepository, orderRepository, meterRegistry, true, 500,
+                maxLoad, 10, 10.0, false);
+
+        List<Long> courierIds = new ArrayList<>();
+        for (long id = 1; id <= couriers; id++) {
+            courierIds.add(id);
+            availabilityIndex.register(id);
+        }
+        simulateAssignmentUpdatesIndex();
+
+        for (long orderId = 1; orderId <= orders; orderId++) {
+            dispatcher.submit(orderId);
+        }
+
+        int ticks = 0;
+        int assigned = 0;
+        long start = System.nanoTime();
+        while (dispatcher.getPendingCount() > 0 && ticks < 100) {
+            assigned += dispatcher.dispatchPendingOrders();
+            ticks++;
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Timer latency = meterRegistry.get("delivery.dispatch.latency").timer();
+        StringBuilder report = new StringBuilder();
+        for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+            report.append(String.format(" p%.0f=%.2fms", percentile.percentile() * 100,
+                    percentile.value(TimeUnit.MILLISECONDS)));
+        }
+        logger.info("Dispatch simulation: {} orders, {} couriers, {} ticks, {} ms total, latency{}", orders,
+                couriers, ticks, elapsedMs, report);
+
+        assertEquals(orders, assigned);
+        assertEquals(orders, latency.count());
+        assertEquals(0, dispatcher.getPendingCount());
+        int expectedLoad = orders / couriers;
+        for (Long courierId : courierIds) {
+            assertEquals(expectedLoad, availabilityIndex.getLoad(courierId), "Load should be balanced evenly");
+        }
+    }
+
+    private void enableBatching() {
+        dispatcher = new DeliveryDispatcher(deliveryService, availabilityIndex, locationIndex,
+                new RouteBatchPlanner(1.0, 3.0, 10, 3), userRepository, orderRepository, meterRegistry, true, 100, 3,
+                10, 10.0, true);
+    }
+
+    private void simulateAssignmentUpdatesIndex() {
+        lenient().doAnswer(invocation -> {
+            availabilityIndex.incrementLoad(invocation.getArgument(1));
+            return null;
+        }).when(deliveryService).assignDeliveryPerson(any(), any());
+    }
+}
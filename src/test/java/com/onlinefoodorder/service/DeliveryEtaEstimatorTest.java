@@ -0,0 +1,130 @@
+package com.onlinefoodorder.service;
+
+import com.onlinefoodorder.entity.MenuItem;
+import com.onlinefoodorder.entity.Order;
+import com.onlinefoodorder.entity.OrderItem;
+import com.onlinefoodorder.entity.Restaurant;
+import com.onlinefoodorder.event.OrderStatusChangedEvent;
+import com.onlinefoodorder.repository.OrderRepository;
+import com.onlinefoodorder.util.Status.OrderStatus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeliveryEtaEstimatorTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private DeliveryEtaEstimator etaEstimator;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        etaEstimator = new DeliveryEtaEstimator(orderRepository, 4, 20, 10, 3, 0.5, 6);
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void estimateDeliveryTime_WithoutHistory_UsesPreparationAndDefaultTransit() {
+        LocalDateTime eta = etaEstimator.estimateDeliveryTime(1L, 15, now);
+
+        assertEquals(now.plusMinutes(35), eta);
+    }
+
+    @Test
+    void estimateDeliveryTime_AddsRestaurantQueue() {
+        etaEstimator.onOrderStatusChanged(event(1L, OrderStatus.CONFIRMED, OrderStatus.PREPARING));
+        etaEstimator.onOrderStatusChanged(event(1L, OrderStatus.CONFIRMED, OrderStatus.PREPARING));
+
+        assertEquals(2, etaEstimator.getQueueDepth(1L));
+        assertEquals(now.plusMinutes(15 + 2 * 4 + 20), etaEstimator.estimateDeliveryTime(1L, 15, now));
+        assertEquals(now.plusMinutes(35), etaEstimator.estimateDeliveryTime(2L, 15, now));
+
+        etaEstimator.onOrderStatusChanged(event(1L, OrderStatus.PREPARING, OrderStatus.READY_FOR_PICKUP));
+        assertEquals(1, etaEstimator.getQueueDepth(1L));
+    }
+
+    @Test
+    void estimateDeliveryTime_UsesObservedDeliveryDurations() {
+        long nowMillis = System.currentTimeMillis();
+        etaEstimator.recordDuration(1L, 40, nowMillis);
+        etaEstimator.recordDuration(1L, 50, nowMillis);
+        etaEstimator.recordDuration(1L, 60, nowMillis);
+
+        // Median of 50 minutes, of which 15 are preparation
+        assertEquals(now.plusMinutes(50), etaEstimator.estimateDeliveryTime(1L, 15, now));
+        // Other restaurants fall back to the fleet-wide history
+        assertEquals(now.plusMinutes(50), etaEstimator.estimateDeliveryTime(2L, 15, now));
+    }
+
+    @Test
+    void onOrderStatusChanged_Delivered_RecordsDurationSincePlacement() {
+        for (int i = 0; i < 3; i++) {
+            etaEstimator.onOrderStatusChanged(new OrderStatusChangedEvent(10L + i, OrderStatus.OUT_FOR_DELIVERY,
+                    OrderStatus.DELIVERED, 1L, 1L, 2L, 3L, now.minusMinutes(45), now));
+        }
+
+        assertEquals(now.plusMinutes(45), etaEstimator.estimateDeliveryTime(1L, 10, now));
+    }
+
+    @Test
+    void reestimate_ReadyForPickup_LeavesOnlyTransit() {
+        Order order = order(OrderStatus.READY_FOR_PICKUP, 25);
+
+        assertEquals(now.plusMinutes(20), etaEstimator.reestimate(order, now));
+    }
+
+    @Test
+    void reestimate_Preparing_UsesSlowestItem() {
+        Order order = order(OrderStatus.PREPARING, 25);
+
+        assertEquals(now.plusMinutes(45), etaEstimator.reestimate(order, now));
+    }
+
+    @Test
+    void refreshQueueDepths_ReplacesDepthsFromDatabase() {
+        etaEstimator.onOrderStatusChanged(event(2L, OrderStatus.CONFIRMED, OrderStatus.PREPARING));
+        when(orderRepository.countOrdersByRestaurant(OrderStatus.PREPARING))
+                .thenReturn(Collections.singletonList(new Object[] { 1L, 5L }));
+
+        etaEstimator.refreshQueueDepths();
+
+        assertEquals(5, etaEstimator.getQueueDepth(1L));
+        assertEquals(0, etaEstimator.getQueueDepth(2L));
+    }
+
+    private OrderStatusChangedEvent event(Long restaurantId, OrderStatus previous, OrderStatus status) {
+        return new OrderStatusChangedEvent(1L, previous, status, 1L, restaurantId, 2L, null, now, now);
+    }
+
+    private Order order(OrderStatus status, int slowestItemMinutes) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setRestaurantId(1L);
+        MenuItem quick = new MenuItem();
+        quick.setPreparationTimeMin(5);
+        MenuItem slow = new MenuItem();
+        slow.setPreparationTimeMin(slowestItemMinutes);
+        OrderItem first = new OrderItem();
+        first.setMenuItem(quick);
+        OrderItem second = new OrderItem();
+        second.setMenuItem(slow);
+
+        Order order = new Order();
+        order.setRestaurant(restaurant);
+        order.setStatus(status);
+        order.setOrderItems(List.of(first, second));
+        return order;
+    }
+}
@@ -1,26 +1,33 @@
 package com.onlinefoodorder.service;
 
+import com.onlinefoodorder.dto.CourierWorkItemDto;
 import com.onlinefoodorder.dto.OrderDto;
+import com.onlinefoodorder.entity.DeliveryStat;
 import com.onlinefoodorder.entity.Order;
 import com.onlinefoodorder.entity.User;
+import com.onlinefoodorder.event.OrderStatusChangedEvent;
 import com.onlinefoodorder.exception.DeliveryException;
 import com.onlinefoodorder.exception.ResourceNotFoundException;
 import com.onlinefoodorder.repository.OrderRepository;
 import com.onlinefoodorder.repository.UserRepository;
 import com.onlinefoodorder.util.Status.OrderStatus;
+import com.onlinefoodorder.util.Status.StatPeriod;
 import com.onlinefoodorder.util.Status.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
-import java.sql.Date;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -39,6 +46,18 @@ class DeliveryServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CourierAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DeliveryEtaEstimator etaEstimator;
+
+    @Mock
+    private DeliveryStatsService deliveryStatsService;
+
     @InjectMocks
     private DeliveryService deliveryService;
 
@@ -89,24 +108,51 @@ class DeliveryServiceTest {
         assertThrows(IllegalArgumentException.class, () -> deliveryService.getAssignedOrders(null));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void getWorklist_ShouldQueryActiveStatusesWithCappedPageSize() {
+        // Arrange
+        CourierWorkItemDto item = new CourierWorkItemDto(1L, OrderStatus.ASSIGNED, LocalDateTime.now(), null,
+                new BigDecimal("100.0"), null, 5L, "Test Restaurant", "1 Main St", "9999999999", null, null,
+                "2 Side St", null, "Bengaluru", "560001", "Jane", "8888888888", null, null);
+        when(orderRepository.findWorklist(eq(2L), any(), any(Pageable.class))).thenReturn(List.of(item));
+
+        // Act
+        List<CourierWorkItemDto> result = deliveryService.getWorklist(2L, 0, 500);
+
+        // Assert
+        assertEquals(1, result.size());
+        ArgumentCaptor<Collection<OrderStatus>> statuses = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        verify(orderRepository).findWorklist(eq(2L), statuses.capture(), page.capture());
+        assertTrue(statuses.getValue().containsAll(List.of(OrderStatus.ASSIGNED, OrderStatus.OUT_FOR_DELIVERY)));
+        assertEquals(DeliveryService.MAX_WORKLIST_PAGE_SIZE, page.getValue().getPageSize());
+        verify(orderRepository, never()).findByDeliveryPerson_UserIdAndStatus(anyLong(), any(OrderStatus.class));
+    }
+
+    @Test
+    void getWorklist_WithNegativePage_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> deliveryService.getWorklist(2L, -1, 20));
+    }
+
     @Test
     void markOrderOutForDelivery_ShouldUpdateStatus() {
         // Arrange
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(order));
+        when(orderRepository.findForStatusChangeByOrderId(anyLong())).thenReturn(Optional.of(order));
 
         // Act
         deliveryService.markOrderOutForDelivery(1L, 2L);
 
         // Assert
         assertEquals(OrderStatus.OUT_FOR_DELIVERY, order.getStatus());
-        verify(orderRepository, times(1)).findById(anyLong());
+        verify(orderRepository, times(1)).findForStatusChangeByOrderId(anyLong());
         verify(orderRepository, times(1)).save(any(Order.class));
     }
 
     @Test
     void markOrderOutForDelivery_WithWrongDeliveryPerson_ShouldThrowException() {
         // Arrange
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(order));
+        when(orderRepository.findForStatusChangeByOrderId(anyLong())).thenReturn(Optional.of(order));
 
         // Act & Assert
         assertThrows(DeliveryException.class, () -> deliveryService.markOrderOutForDelivery(1L, 999L));
@@ -116,7 +162,7 @@ class DeliveryServiceTest {
     void markOrderOutForDelivery_WithWrongStatus_ShouldThrowException() {
         // Arrange
         order.setStatus(OrderStatus.PENDING);
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(order));
+        when(orderRepository.findForStatusChangeByOrderId(anyLong())).thenReturn(Optional.of(order));
 
         // Act & Assert
         assertThrows(DeliveryException.class, () -> deliveryService.markOrderOutForDelivery(1L, 2L));
@@ -126,22 +172,27 @@ class DeliveryServiceTest {
     void markOrderDelivered_ShouldUpdateStatus() {
         // Arrange
         order.setStatus(OrderStatus.OUT_FOR_DELIVERY);
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(order));
+        when(orderRepository.findForStatusChangeByOrderId(anyLong())).thenReturn(Optional.of(order));
 
         // Act
         deliveryService.markOrderDelivered(1L, 2L);
 
         // Assert
         assertEquals(OrderStatus.DELIVERED, order.getStatus());
-        verify(orderRepository, times(1)).findById(anyLong());
+        verify(orderRepository, times(1)).findForStatusChangeByOrderId(anyLong());
         verify(orderRepository, times(1)).save(any(Order.class));
+        ArgumentCaptor<OrderStatusChangedEvent> event = ArgumentCaptor.forClass(OrderStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(OrderStatus.OUT_FOR_DELIVERY, event.getValue().previousStatus());
+        assertEquals(OrderStatus.DELIVERED, event.getValue().status());
+        assertEquals(2L, event.getValue().deliveryPersonId());
     }
 
     @Test
     void markOrderDelivered_WithWrongDeliveryPerson_ShouldThrowException() {
         // Arrange
         order.setStatus(OrderStatus.OUT_FOR_DELIVERY);
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(order));
+        when(orderRepository.findForStatusChangeByOrderId(anyLong())).thenReturn(Optional.of(order));
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> deliveryService.markOrderDelivered(1L, 999L));
@@ -150,7 +201,7 @@ class DeliveryServiceTest {
     @Test
     void markOrderDelivered_WithWrongStatus_ShouldThrowException() {
         // Arrange
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(order));
+        when(orderRepository.findForStatusChangeByOrderId(anyLong())).thenReturn(Optional.of(order));
 
         // Act & Assert
         assertThrows(IllegalStateException.class, () -> deliveryService.markOrderDelivered(1L, 2L));
@@ -167,7 +218,7 @@ class DeliveryServiceTest {
         pendingOrder.setStatus(OrderStatus.PENDING);
         
         // Stub with exact IDs that will be used
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(pendingOrder));
+        when(orderRepository.findForStatusChangeByOrderId(orderId)).thenReturn(Optional.of(pendingOrder));
         when(userRepository.findById(deliveryPersonId)).thenReturn(Optional.of(deliveryPerson));
 
         // Act
@@ -176,7 +227,7 @@ class DeliveryServiceTest {
         // Assert
         assertEquals(OrderStatus.ASSIGNED, pendingOrder.getStatus());
         assertEquals(deliveryPerson, pendingOrder.getDeliveryPerson());
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findForStatusChangeByOrderId(orderId);
         verify(userRepository).findById(deliveryPersonId);
         verify(orderRepository).save(pendingOrder);
     }
@@ -194,7 +245,7 @@ class DeliveryServiceTest {
         nonDeliveryUser.setUserId(invalidUserId);
         nonDeliveryUser.setRole(UserRole.CUSTOMER);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(pendingOrder));
+        when(orderRepository.findForStatusChangeByOrderId(orderId)).thenReturn(Optional.of(pendingOrder));
         when(userRepository.findById(invalidUserId)).thenReturn(Optional.of(nonDeliveryUser));
 
         // Act & Assert
@@ -206,7 +257,7 @@ class DeliveryServiceTest {
     void assignDeliveryPerson_WithNonExistentOrder_ShouldThrowException() {
         // Arrange
         Long nonExistentOrderId = 999L;
-        when(orderRepository.findById(nonExistentOrderId)).thenReturn(Optional.empty());
+        when(orderRepository.findForStatusChangeByOrderId(nonExistentOrderId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class,
@@ -223,7 +274,7 @@ class DeliveryServiceTest {
         pendingOrder.setOrderId(orderId);
         pendingOrder.setStatus(OrderStatus.PENDING);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(pendingOrder));
+        when(orderRepository.findForStatusChangeByOrderId(orderId)).thenReturn(Optional.of(pendingOrder));
         when(userRepository.findById(nonExistentUserId)).thenReturn(Optional.empty());
 
         // Act & Assert
@@ -231,6 +282,55 @@ class DeliveryServiceTest {
             () -> deliveryService.assignDeliveryPerson(orderId, nonExistentUserId));
     }
 
+    @Test
+    void assignRoute_ShouldAssignOrdersInDropSequence() {
+        // Arrange
+        Order first = new Order();
+        first.setOrderId(5L);
+        first.setStatus(OrderStatus.PREPARING);
+        Order second = new Order();
+        second.setOrderId(6L);
+        second.setStatus(OrderStatus.PREPARING);
+        when(orderRepository.findForStatusChangeByOrderId(6L)).thenReturn(Optional.of(second));
+        when(orderRepository.findForStatusChangeByOrderId(5L)).thenReturn(Optional.of(first));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(deliveryPerson));
+
+        // Act
+        String routeId = deliveryService.assignRoute(List.of(6L, 5L), 2L);
+
+        // Assert
+        assertNotNull(routeId);
+        assertEquals(routeId, first.getRouteId());
+        assertEquals(routeId, second.getRouteId());
+        assertEquals(1, second.getRouteSequence());
+        assertEquals(2, first.getRouteSequence());
+        assertEquals(OrderStatus.ASSIGNED, first.getStatus());
+        assertEquals(deliveryPerson, second.getDeliveryPerson());
+        verify(orderRepository).saveAll(List.of(second, first));
+        verify(availabilityIndex, times(2)).incrementLoad(2L);
+        verify(eventPublisher, times(2)).publishEvent(any(OrderStatusChangedEvent.class));
+    }
+
+    @Test
+    void assignRoute_WithUnassignableOrder_ShouldAssignNothing() {
+        // Arrange
+        Order first = new Order();
+        first.setOrderId(5L);
+        first.setStatus(OrderStatus.PREPARING);
+        Order cancelled = new Order();
+        cancelled.setOrderId(6L);
+        cancelled.setStatus(OrderStatus.CANCELLED);
+        when(orderRepository.findForStatusChangeByOrderId(5L)).thenReturn(Optional.of(first));
+        when(orderRepository.findForStatusChangeByOrderId(6L)).thenReturn(Optional.of(cancelled));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> deliveryService.assignRoute(List.of(5L, 6L), 2L));
+        assertEquals(OrderStatus.PREPARING, first.getStatus());
+        assertNull(first.getRouteId());
+        verify(orderRepository, never()).saveAll(any());
+        verifyNoInteractions(availabilityIndex, eventPublisher);
+    }
+
     @Test
     void getAssignedOrders_ShouldReturnCorrectDtoMapping() {
         // Arrange
@@ -262,11 +362,12 @@ class DeliveryServiceTest {
     void getDeliveryChart_ShouldReturnChartData() {
         // Arrange
         String email = "delivery@example.com";
-        Object[] row1 = new Object[]{Date.valueOf(LocalDate.now()), 5L};
-        Object[] row2 = new Object[]{Date.valueOf(LocalDate.now().minusDays(1)), 3L};
-        List<Object[]> mockData = Arrays.asList(row1, row2);
+        List<DeliveryStat> mockData = Arrays.asList(
+                new DeliveryStat(2L, StatPeriod.DAY, LocalDate.now().minusDays(1), 3L),
+                new DeliveryStat(2L, StatPeriod.DAY, LocalDate.now(), 5L));
         
-        when(orderRepository.getDeliveredOrdersPerDay(email)).thenReturn(mockData);
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(deliveryPerson));
+        when(deliveryStatsService.getDailyDeliveries(2L)).thenReturn(mockData);
 
         // Act
         byte[] result = deliveryService.getDeliveryChart(email);
@@ -274,14 +375,15 @@ class DeliveryServiceTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.length > 0);
-        verify(orderRepository, times(1)).getDeliveredOrdersPerDay(email);
+        verify(deliveryStatsService, times(1)).getDailyDeliveries(2L);
     }
 
     @Test
     void getDeliveryChart_WithEmptyData_ShouldReturnChartWithZeroValues() {
         // Arrange
         String email = "delivery@example.com";
-        when(orderRepository.getDeliveredOrdersPerDay(email)).thenReturn(Collections.emptyList());
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(deliveryPerson));
+        when(deliveryStatsService.getDailyDeliveries(2L)).thenReturn(Collections.emptyList());
 
         // Act
         byte[] result = deliveryService.getDeliveryChart(email);
@@ -289,7 +391,7 @@ class DeliveryServiceTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.length > 0);
-        verify(orderRepository, times(1)).getDeliveredOrdersPerDay(email);
+        verify(deliveryStatsService, times(1)).getDailyDeliveries(2L);
     }
 
     @Test
@@ -299,8 +401,7 @@ class DeliveryServiceTest {
         Object[] row = new Object[]{"John Doe", 10L};
         List<Object[]> mockData = Collections.singletonList(row);
         
-        when(orderRepository.getTotalOrdersDeliveredByEmail(email, OrderStatus.DELIVERED))
-            .thenReturn(mockData);
+        when(deliveryStatsService.getTotalDeliveredByEmail(email)).thenReturn(mockData);
 
         // Act
         byte[] result = deliveryService.getTotalDeliveredChart(email);
@@ -308,16 +409,14 @@ class DeliveryServiceTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.length > 0);
-        verify(orderRepository, times(1))
-            .getTotalOrdersDeliveredByEmail(email, OrderStatus.DELIVERED);
+        verify(deliveryStatsService, times(1)).getTotalDeliveredByEmail(email);
     }
 
     @Test
     void getTotalDeliveredChart_WithNoDeliveries_ShouldReturnZeroChart() {
         // Arrange
         String email = "delivery@example.com";
-        when(orderRepository.getTotalOrdersDeliveredByEmail(email, OrderStatus.DELIVERED))
-            .thenReturn(Collections.emptyList());
+        when(deliveryStatsService.getTotalDeliveredByEmail(email)).thenReturn(Collections.emptyList());
 
         // Act
         byte[] result = deliveryService.getTotalDeliveredChart(email);
@@ -325,14 +424,13 @@ class DeliveryServiceTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.length > 0); // Chart should still be generated with zero value
-        verify(orderRepository, times(1))
-            .getTotalOrdersDeliveredByEmail(email, OrderStatus.DELIVERED);
+        verify(deliveryStatsService, times(1)).getTotalDeliveredByEmail(email);
     }
 
     @Test
     void getAllDeliveryPersonsStatsChart_WithEmptyData_ShouldReturnDefaultChart() {
         // Arrange
-        when(orderRepository.getAllDeliveryPersonsStats()).thenReturn(Collections.emptyList());
+        when(deliveryStatsService.getTotalsByDeliveryPerson()).thenReturn(Collections.emptyList());
 
         // Act
         byte[] result = deliveryService.getAllDeliveryPersonsStatsChart();
@@ -340,13 +438,13 @@ class DeliveryServiceTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.length > 0);
-        verify(orderRepository, times(1)).getAllDeliveryPersonsStats();
+        verify(deliveryStatsService, times(1)).getTotalsByDeliveryPerson();
     }
 
     @Test
     void getAllDeliveryPersonsStatsChart_WithEmptyData_ShouldReturnEmptyChart() {
         // Arrange
-        when(orderRepository.getAllDeliveryPersonsStats()).thenReturn(Collections.emptyList());
+        when(deliveryStatsService.getTotalsByDeliveryPerson()).thenReturn(Collections.emptyList());
 
         // Act
         byte[] result = deliveryService.getAllDeliveryPersonsStatsChart();
@@ -354,7 +452,7 @@ class DeliveryServiceTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.length > 0); // Chart should still be generated even with empty data
-        verify(orderRepository, times(1)).getAllDeliveryPersonsStats();
+        verify(deliveryStatsService, times(1)).getTotalsByDeliveryPerson();
     }
 
     @Test
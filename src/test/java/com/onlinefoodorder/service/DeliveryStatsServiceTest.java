@@ -0,0 +1,121 @@
+package com.onlinefoodorder.service;
+
+import com.onlinefoodorder.entity.DeliveryStat;
+import com.onlinefoodorder.event.OrderStatusChangedEvent;
+import com.onlinefoodorder.repository.DeliveryStatRepository;
+import com.onlinefoodorder.repository.OrderRepository;
+import com.onlinefoodorder.util.Status.OrderStatus;
+import com.onlinefoodorder.util.Status.StatPeriod;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeliveryStatsServiceTest {
+
+    @Mock
+    private DeliveryStatRepository deliveryStatRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DeliveryStatsService deliveryStatsService;
+
+    @BeforeEach
+    void setUp() {
+        deliveryStatsService = new DeliveryStatsService(deliveryStatRepository, orderRepository, transactionManager,
+                90, 2);
+    }
+
+    @Test
+    void onOrderStatusChanged_Delivered_IncrementsExistingDay() {
+        LocalDateTime deliveredAt = LocalDateTime.of(2025, 3, 14, 19, 30);
+        when(deliveryStatRepository.addDeliveries(2L, StatPeriod.DAY, deliveredAt.toLocalDate(), 1)).thenReturn(1);
+
+        deliveryStatsService.onOrderStatusChanged(delivered(2L, deliveredAt));
+
+        verify(deliveryStatRepository, never()).save(any());
+    }
+
+    @Test
+    void onOrderStatusChanged_FirstDeliveryOfDay_CreatesRow() {
+        LocalDateTime deliveredAt = LocalDateTime.of(2025, 3, 14, 19, 30);
+        when(deliveryStatRepository.addDeliveries(any(), any(), any(), anyLong())).thenReturn(0);
+
+        deliveryStatsService.onOrderStatusChanged(delivered(2L, deliveredAt));
+
+        ArgumentCaptor<DeliveryStat> stat = ArgumentCaptor.forClass(DeliveryStat.class);
+        verify(deliveryStatRepository).save(stat.capture());
+        assertEquals(2L, stat.getValue().getDeliveryPersonId());
+        assertEquals(StatPeriod.DAY, stat.getValue().getPeriod());
+        assertEquals(LocalDate.of(2025, 3, 14), stat.getValue().getPeriodStart());
+        assertEquals(1, stat.getValue().getDeliveredCount());
+    }
+
+    @Test
+    void onOrderStatusChanged_OtherStatus_IsIgnored() {
+        deliveryStatsService.onOrderStatusChanged(new OrderStatusChangedEvent(1L, OrderStatus.ASSIGNED,
+                OrderStatus.OUT_FOR_DELIVERY, 1L, 1L, 3L, 2L, LocalDateTime.now(), LocalDateTime.now()));
+
+        verifyNoInteractions(deliveryStatRepository);
+    }
+
+    @Test
+    void compactDaysBefore_FoldsDaysIntoMonths() {
+        LocalDate cutoff = LocalDate.of(2025, 6, 1);
+        List<DeliveryStat> firstChunk = List.of(
+                new DeliveryStat(2L, StatPeriod.DAY, LocalDate.of(2025, 3, 1), 4),
+                new DeliveryStat(2L, StatPeriod.DAY, LocalDate.of(2025, 3, 20), 6));
+        List<DeliveryStat> secondChunk = List.of(
+                new DeliveryStat(3L, StatPeriod.DAY, LocalDate.of(2025, 4, 2), 1));
+        when(deliveryStatRepository.findByPeriodAndPeriodStartBeforeOrderById(eq(StatPeriod.DAY), eq(cutoff),
+                any(Pageable.class))).thenReturn(firstChunk, secondChunk);
+        when(deliveryStatRepository.addDeliveries(2L, StatPeriod.MONTH, LocalDate.of(2025, 3, 1), 10)).thenReturn(1);
+        when(deliveryStatRepository.addDeliveries(3L, StatPeriod.MONTH, LocalDate.of(2025, 4, 1), 1)).thenReturn(0);
+
+        int compacted = deliveryStatsService.compactDaysBefore(cutoff);
+
+        assertEquals(3, compacted);
+        verify(deliveryStatRepository).deleteAllInBatch(firstChunk);
+        verify(deliveryStatRepository).deleteAllInBatch(secondChunk);
+        verify(deliveryStatRepository, times(1)).save(any(DeliveryStat.class));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void rebuild_LoadsDailyCountsFromOrders() {
+        when(orderRepository.countDeliveredOrdersPerPersonAndDay()).thenReturn(Collections.singletonList(
+                new Object[] { 2L, java.sql.Date.valueOf(LocalDate.now()), 7L }));
+        when(deliveryStatRepository.findByPeriodAndPeriodStartBeforeOrderById(any(), any(), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        int rows = deliveryStatsService.rebuild();
+
+        assertEquals(1, rows);
+        verify(deliveryStatRepository).deleteAllInBatch();
+        verify(deliveryStatRepository).saveAll(anyList());
+    }
+
+    private OrderStatusChangedEvent delivered(Long deliveryPersonId, LocalDateTime at) {
+        return new OrderStatusChangedEvent(1L, OrderStatus.OUT_FOR_DELIVERY, OrderStatus.DELIVERED, 1L, 1L, 3L,
+                deliveryPersonId, at.minusMinutes(40), at);
+    }
+}
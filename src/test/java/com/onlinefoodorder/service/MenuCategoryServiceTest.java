@@ -1,7 +1,10 @@
 package com.onlinefoodorder.service;
 
 import com.onlinefoodorder.dto.MenuCategoryDto;
+import com.onlinefoodorder.dto.MenuItemDto;
+import com.onlinefoodorder.dto.MenuSearchDocument;
 import com.onlinefoodorder.entity.MenuCategory;
+import com.onlinefoodorder.entity.MenuItem;
 import com.onlinefoodorder.entity.Restaurant;
 import com.onlinefoodorder.entity.User;
 import com.onlinefoodorder.exception.ResourceNotFoundException;
@@ -18,6 +21,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,6 +45,12 @@ class MenuCategoryServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ReadThroughCache<Long, MenuItemDto> menuItemCache;
+
+    @Mock
+    private MenuSearchIndex menuSearchIndex;
+
     @InjectMocks
     private MenuCategoryService menuCategoryService;
 
@@ -176,6 +186,21 @@ class MenuCategoryServiceTest {
 
         assertEquals("Category updated successfully!", result);
         verify(categoryRepository).save(any(MenuCategory.class));
+        verifyNoInteractions(menuSearchIndex);
+    }
+
+    @Test
+    void updateCategory_Renamed_ReindexesItemsWithNewName() {
+        categoryDto.setName("Starters");
+        MenuSearchDocument document = new MenuSearchDocument(7L, 1L, 1L, "Paneer Tikka", null,
+                new BigDecimal("240.00"), null, true, true, 15, "Test Restaurant", "Starters");
+        when(categoryRepository.findById(anyLong())).thenReturn(Optional.of(category));
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(owner));
+        when(menuItemRepository.findSearchDocumentsByCategoryId(1L)).thenReturn(List.of(document));
+
+        menuCategoryService.updateCategory(1L, categoryDto, "owner@example.com");
+
+        verify(menuSearchIndex).indexAll(List.of(document));
     }
 
     @Test
@@ -191,6 +216,9 @@ class MenuCategoryServiceTest {
 
     @Test
     void deleteCategory_Success() {
+        MenuItem item = new MenuItem();
+        item.setItemId(7L);
+        category.setMenuItems(List.of(item));
         when(categoryRepository.findById(anyLong())).thenReturn(Optional.of(category));
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(owner));
 
@@ -198,6 +226,8 @@ class MenuCategoryServiceTest {
 
         assertEquals("Category deleted successfully!", result);
         verify(categoryRepository).delete(any(MenuCategory.class));
+        verify(menuItemCache).invalidate(7L);
+        verify(menuSearchIndex).removeAll(List.of(7L));
     }
 
     @Test
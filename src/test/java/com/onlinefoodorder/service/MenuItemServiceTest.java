@@ -1,6 +1,7 @@
 package com.onlinefoodorder.service;
 
 import com.onlinefoodorder.dto.MenuItemDto;
+import com.onlinefoodorder.dto.MenuSearchDocument;
 import com.onlinefoodorder.entity.MenuCategory;
 import com.onlinefoodorder.entity.MenuItem;
 import com.onlinefoodorder.entity.Restaurant;
@@ -11,14 +12,17 @@ import com.onlinefoodorder.repository.MenuCategoryRepository;
 import com.onlinefoodorder.repository.MenuItemRepository;
 import com.onlinefoodorder.repository.UserRepository;
 import com.onlinefoodorder.util.Status.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +43,13 @@ class MenuItemServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private MenuSearchIndex menuSearchIndex;
+
+    @Spy
+    private ReadThroughCache<Long, MenuItemDto> menuItemCache = new ReadThroughCache<>("menuItems", 100,
+            Duration.ofMinutes(10), new SimpleMeterRegistry());
+
     @InjectMocks
     private MenuItemService menuItemService;
 
@@ -103,6 +114,7 @@ class MenuItemServiceTest {
 
         assertEquals("Test Item", result.getName());
         verify(menuItemRepository).save(any(MenuItem.class));
+        verify(menuSearchIndex).index(any(MenuSearchDocument.class));
     }
 
     @Test
@@ -157,6 +169,33 @@ class MenuItemServiceTest {
         assertEquals("Menu Item not found", exception.getMessage());
     }
 
+    @Test
+    void getMenuItemById_RepeatedLookupsServedFromCache() {
+        when(menuItemRepository.findById(1L)).thenReturn(Optional.of(menuItem));
+
+        MenuItemDto first = menuItemService.getMenuItemById(1L);
+        MenuItemDto second = menuItemService.getMenuItemById(1L);
+
+        assertSame(first, second);
+        verify(menuItemRepository, times(1)).findById(1L);
+        assertEquals(1, menuItemCache.stats().hitCount());
+    }
+
+    @Test
+    void updateMenuItem_EvictsCachedItem() {
+        when(menuItemRepository.findById(anyLong())).thenReturn(Optional.of(menuItem));
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(owner));
+        when(categoryRepository.findById(anyLong())).thenReturn(Optional.of(category));
+        when(menuItemRepository.save(any(MenuItem.class))).thenReturn(menuItem);
+        menuItemService.getMenuItemById(1L);
+
+        menuItemDto.setName("Renamed Item");
+        menuItemService.updateMenuItem(1L, menuItemDto, "owner@example.com");
+
+        assertEquals("Renamed Item", menuItemService.getMenuItemById(1L).getName());
+        verify(menuItemCache).invalidate(1L);
+    }
+
     @Test
     void getAllMenuItemsForCategory_Success() {
         when(categoryRepository.findById(anyLong())).thenReturn(Optional.of(category));
@@ -199,6 +238,7 @@ class MenuItemServiceTest {
 
         assertEquals("Test Item", result.getName());
         verify(menuItemRepository).save(any(MenuItem.class));
+        verify(menuSearchIndex).index(any(MenuSearchDocument.class));
     }
 
     @Test
@@ -243,6 +283,33 @@ class MenuItemServiceTest {
 
         assertEquals("Menu item deleted successfully!", result);
         verify(menuItemRepository).delete(any(MenuItem.class));
+        verify(menuSearchIndex).remove(menuItem.getItemId());
+        verify(menuItemCache).invalidate(menuItem.getItemId());
+    }
+
+    @Test
+    void searchMenuItems_DelegatesToIndexWithCappedLimit() {
+        when(menuSearchIndex.search("paneer", true, null, null, new BigDecimal("300"),
+                MenuItemService.MAX_SEARCH_RESULTS)).thenReturn(List.of(menuItemDto));
+
+        List<MenuItemDto> result = menuItemService.searchMenuItems("paneer", true, null, null,
+                new BigDecimal("300"), 500);
+
+        assertEquals(1, result.size());
+        verifyNoInteractions(menuItemRepository);
+    }
+
+    @Test
+    void searchMenuItems_BlankQuery_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> menuItemService.searchMenuItems(" ", null, null, null, null, 10));
+        verifyNoInteractions(menuSearchIndex);
+    }
+
+    @Test
+    void searchMenuItems_InvertedPriceRange_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> menuItemService.searchMenuItems("dal", null, null,
+                new BigDecimal("500"), new BigDecimal("100"), 10));
     }
 
     @Test
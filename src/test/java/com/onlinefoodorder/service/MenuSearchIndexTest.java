@@ -0,0 +1,269 @@
+package com.onlinefoodorder.service;
+
+import com.onlinefoodorder.dto.MenuItemDto;
+import com.onlinefoodorder.dto.MenuSearchDocument;
+import com.onlinefoodorder.repository.MenuItemRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MenuSearchIndexTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(MenuSearchIndexTest.class);
+
+    // Exact and misspelt searches against the generated menu
+    private static final String[] GENERATED_QUERIES = { "paneer tikka", "panner tika", "chiken biryani",
+            "masala dosa", "dal makhni", "hyderabadi biryani", "butter naan", "gobi manchurain", "veg momos",
+            "malabar fish curry" };
+
+    @Mock
+    private MenuItemRepository menuItemRepository;
+
+    private MenuSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MenuSearchIndex(menuItemRepository, new SimpleMeterRegistry(), 0.5, 2);
+        index.index(document(1L, "Paneer Tikka", "Cottage cheese grilled in a tandoor", "Spice Route", "Starters",
+                true, true, "240.00"));
+        index.index(document(2L, "Chicken Tikka", "Boneless chicken grilled in a tandoor", "Spice Route",
+                "Starters", false, true, "320.00"));
+        index.index(document(3L, "Dal Makhani", "Black lentils simmered overnight", "Punjab Grill", "Mains", true,
+                false, "280.00"));
+        index.index(document(4L, "Masala Dosa", "Rice crepe with potato filling", "Udupi Corner", "South Indian",
+                true, true, "120.00"));
+    }
+
+    @Test
+    void search_ToleratesTypos() {
+        List<MenuItemDto> results = index.search("panner tika", null, null, null, null, 10);
+
+        assertFalse(results.isEmpty());
+        assertEquals(1L, results.get(0).getItemId());
+    }
+
+    @Test
+    void search_MatchesRestaurantAndCategoryNames() {
+        assertEquals(List.of(4L), ids(index.search("udupi", null, null, null, null, 10)));
+        assertEquals(List.of(3L), ids(index.search("mains", null, null, null, null, 10)));
+    }
+
+    @Test
+    void search_RanksBetterMatchesFirst() {
+        List<Long> results = ids(index.search("chicken tikka", null, null, null, null, 10));
+
+        assertEquals(2L, results.get(0));
+        assertTrue(results.contains(1L), "Paneer Tikka shares the 'tikka' trigrams");
+    }
+
+    @Test
+    void search_AppliesVegetarianAvailabilityAndPriceFilters() {
+        assertEquals(List.of(1L), ids(index.search("tikka", true, null, null, null, 10)));
+        assertEquals(List.of(2L), ids(index.search("tikka", null, null, new BigDecimal("300"), null, 10)));
+        assertEquals(List.of(1L), ids(index.search("tikka", null, null, null, new BigDecimal("250"), 10)));
+        assertTrue(index.search("makhani", null, true, null, null, 10).isEmpty());
+    }
+
+    @Test
+    void search_RespectsLimit() {
+        assertEquals(1, index.search("tandoor", null, null, null, null, 1).size());
+    }
+
+    @Test
+    void index_ReplacesPreviousVersionOfItem() {
+        index.index(document(1L, "Paneer Butter Masala", "Cottage cheese in tomato gravy", "Spice Route", "Mains",
+                true, true, "260.00"));
+
+        assertEquals(4, index.size());
+        assertFalse(ids(index.search("tikka", null, null, null, null, 10)).contains(1L));
+        assertEquals(1L, index.search("butter masala", null, null, null, null, 10).get(0).getItemId());
+    }
+
+    @Test
+    void indexAll_RenamedRestaurant_MatchesAndReturnsNewName() {
+        index.indexAll(List.of(
+                document(1L, "Paneer Tikka", "Cottage cheese grilled in a tandoor", "Tandoor House", "Starters",
+                        true, true, "240.00"),
+                document(2L, "Chicken Tikka", "Boneless chicken grilled in a tandoor", "Tandoor House", "Starters",
+                        false, true, "320.00")));
+
+        assertEquals(4, index.size());
+        assertEquals(List.of(1L, 2L), ids(index.search("tandoor house", null, null, null, null, 2)).stream()
+                .sorted().toList());
+        assertFalse(ids(index.search("spice route", null, null, null, null, 10)).contains(1L));
+    }
+
+    @Test
+    void removeAll_DeletedCategory_DropsItsItems() {
+        index.removeAll(List.of(1L, 2L));
+
+        assertEquals(2, index.size());
+        assertTrue(index.search("tikka", null, null, null, null, 10).isEmpty());
+    }
+
+    @Test
+    void removeAll_InsideTransaction_AppliesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.removeAll(List.of(1L, 2L));
+            assertEquals(4, index.size());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(2, index.size());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void remove_DropsItemFromResults() {
+        index.remove(2L);
+
+        assertEquals(3, index.size());
+        assertFalse(ids(index.search("chicken", null, null, null, null, 10)).contains(2L));
+    }
+
+    @Test
+    void rebuild_LoadsAllBatchesFromDatabase() {
+        MenuSearchDocument first = document(10L, "Veg Biryani", null, "Dum Pukht", "Rice", true, true, "200.00");
+        MenuSearchDocument second = document(11L, "Mutton Biryani", null, "Dum Pukht", "Rice", false, true,
+                "350.00");
+        MenuSearchDocument third = document(12L, "Raita", null, "Dum Pukht", "Sides", true, true, "60.00");
+        when(menuItemRepository.findSearchDocumentsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+        when(menuItemRepository.findSearchDocumentsAfter(eq(11L), any(Pageable.class))).thenReturn(List.of(third));
+
+        index.rebuild();
+
+        assertEquals(3, index.size());
+        assertEquals(List.of(10L), ids(index.search("biriyani", true, null, null, null, 10)));
+        assertTrue(index.search("dosa", null, null, null, null, 10).isEmpty());
+    }
+
+    @Test
+    void rebuild_Failure_KeepsCurrentIndex() {
+        when(menuItemRepository.findSearchDocumentsAfter(eq(0L), any(Pageable.class)))
+                .thenThrow(new IllegalStateException("Database unavailable"));
+
+        assertThrows(IllegalStateException.class, () -> index.rebuild());
+
+        assertEquals(4, index.size());
+        doReturn(Collections.emptyList()).when(menuItemRepository).findSearchDocumentsAfter(eq(0L),
+                any(Pageable.class));
+        index.rebuild();
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void trigrams_PadWordsAndIgnorePunctuationAndCase() {
+        long[] grams = MenuSearchIndex.trigrams("Dal!", Integer.MAX_VALUE);
+
+        assertEquals(3, grams.length);
+        assertArrayEquals(grams, MenuSearchIndex.trigrams("  dal ", Integer.MAX_VALUE));
+        assertEquals(1, MenuSearchIndex.trigrams("a", Integer.MAX_VALUE).length);
+        assertEquals(0, MenuSearchIndex.trigrams("--", Integer.MAX_VALUE).length);
+    }
+
+    @Test
+    void search_GeneratedMenu_FindsExactAndMisspeltQueriesWithFilters() {
+        indexGeneratedItems(10_000);
+
+        for (int i = 0; i < GENERATED_QUERIES.length * 6; i++) {
+            String query = GENERATED_QUERIES[i % GENERATED_QUERIES.length];
+            List<MenuItemDto> results = index.search(query, i % 2 == 0 ? true : null, true, null,
+                    i % 3 == 0 ? new BigDecimal("300") : null, 20);
+            assertFalse(results.isEmpty(), "No results for " + query);
+        }
+        assertEquals(10_000 + 4, index.size());
+    }
+
+    /**
+     * Benchmark: indexes one million generated menu items and reports search
+     * latency percentiles for exact and misspelt queries with filters.
+     */
+    @Test
+    @Tag("benchmark")
+    void benchmark_MillionItems_ReportsSearchLatency() {
+        int items = 1_000_000;
+        long buildStart = System.nanoTime();
+        indexGeneratedItems(items);
+        long buildMs = (System.nanoTime() - buildStart) / 1_000_000;
+
+        // Warm up before timing
+        for (int i = 0; i < 200; i++) {
+            index.search(GENERATED_QUERIES[i % GENERATED_QUERIES.length], null, true, null, null, 20);
+        }
+        int runs = 500;
+        long[] latencies = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            index.search(GENERATED_QUERIES[i % GENERATED_QUERIES.length], i % 2 == 0 ? true : null, true, null,
+                    i % 3 == 0 ? new BigDecimal("300") : null, 20);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        double p50 = latencies[runs / 2] / 1e6;
+        double p99 = latencies[runs * 99 / 100] / 1e6;
+        logger.info("Menu search: {} items indexed in {} ms, latency p50={} ms p99={} ms", items, buildMs,
+                String.format("%.2f", p50), String.format("%.2f", p99));
+
+        assertTrue(p50 < 50, "Median search latency should stay in the low milliseconds");
+    }
+
+    /**
+     * Indexes generated menu items: two-word dish names, restaurants named
+     * after a cuisine and one of 5,000 kitchens, and random prices and flags.
+     * Always the same items for a given count. IDs start after those of the
+     * items indexed in setUp.
+     */
+    private void indexGeneratedItems(int items) {
+        String[] dishes = { "paneer", "chicken", "mutton", "veg", "egg", "prawn", "fish", "mushroom", "aloo",
+                "gobi", "dal", "rajma", "chole", "palak", "kadai", "butter", "masala", "tikka", "biryani", "korma",
+                "curry", "kebab", "roll", "dosa", "idli", "vada", "pulao", "noodles", "fried", "rice", "momos",
+                "manchurian", "soup", "salad", "naan", "paratha", "kulcha", "lassi", "kheer", "halwa", "makhani" };
+        String[] cuisines = { "Punjabi", "Hyderabadi", "Chettinad", "Awadhi", "Goan", "Bengali", "Malabar",
+                "Udupi", "Mughlai", "Chinese" };
+        String[] categories = { "Starters", "Mains", "Breads", "Rice", "Desserts", "Beverages", "Combos" };
+        Random random = new Random(11);
+        for (long id = 101; id <= items + 100; id++) {
+            String name = dishes[random.nextInt(dishes.length)] + ' ' + dishes[random.nextInt(dishes.length)];
+            String restaurant = cuisines[random.nextInt(cuisines.length)] + " Kitchen " + (id % 5000);
+            index.index(new MenuSearchDocument(id, id % 50_000, id % 5000, name, null,
+                    BigDecimal.valueOf(50 + random.nextInt(500)), null, random.nextBoolean(), random.nextInt(10) > 0,
+                    15, restaurant, categories[random.nextInt(categories.length)]));
+        }
+    }
+
+    private List<Long> ids(List<MenuItemDto> results) {
+        return results.stream().map(MenuItemDto::getItemId).toList();
+    }
+
+    private MenuSearchDocument document(long itemId, String name, String description, String restaurant,
+            String category, boolean vegetarian, boolean available, String price) {
+        return new MenuSearchDocument(itemId, 1L, 1L, name, description, new BigDecimal(price), null, vegetarian,
+                available, 15, restaurant, category);
+    }
+}
@@ -0,0 +1,102 @@
+package com.onlinefoodorder.service;
+
+import com.onlinefoodorder.event.OrderStatusChangedEvent;
+import com.onlinefoodorder.util.Status.OrderStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderEventStreamTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<RecordingEmitter> emitters;
+    private OrderEventStream orderEventStream;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        emitters = new ArrayList<>();
+        orderEventStream = new OrderEventStream(meterRegistry, 60_000) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter(timeoutMillis);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @Test
+    void onOrderStatusChanged_NotifiesEveryPartyToTheOrder() {
+        orderEventStream.subscribe(1L);
+        orderEventStream.subscribe(2L);
+        orderEventStream.subscribe(3L);
+        orderEventStream.subscribe(99L);
+
+        orderEventStream.onOrderStatusChanged(event(1L, 2L, 3L));
+
+        assertEquals(1, emitters.get(0).sent);
+        assertEquals(1, emitters.get(1).sent);
+        assertEquals(1, emitters.get(2).sent);
+        assertEquals(0, emitters.get(3).sent);
+        assertEquals(3.0, meterRegistry.get("order.events.sent").counter().count());
+    }
+
+    @Test
+    void onOrderStatusChanged_RemovesBrokenSubscription() {
+        orderEventStream.subscribe(1L);
+        orderEventStream.subscribe(1L);
+        emitters.get(0).broken = true;
+
+        orderEventStream.onOrderStatusChanged(event(1L, null, null));
+
+        assertEquals(1, orderEventStream.getConnectionCount());
+        assertEquals(1, emitters.get(1).sent);
+        assertEquals(1.0, meterRegistry.get("order.events.failed").counter().count());
+    }
+
+    @Test
+    void heartbeat_RemovesDeadConnections() {
+        orderEventStream.subscribe(1L);
+        orderEventStream.subscribe(2L);
+        emitters.get(1).broken = true;
+
+        orderEventStream.heartbeat();
+
+        assertEquals(1, orderEventStream.getConnectionCount());
+        assertEquals(1.0, meterRegistry.get("order.events.connections").gauge().value());
+    }
+
+    private OrderStatusChangedEvent event(Long customerId, Long ownerId, Long deliveryPersonId) {
+        return new OrderStatusChangedEvent(10L, OrderStatus.CONFIRMED, OrderStatus.PREPARING, customerId, 5L,
+                ownerId, deliveryPersonId, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        int sent;
+        boolean broken;
+
+        RecordingEmitter(long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("Broken pipe");
+            }
+            sent++;
+        }
+    }
+}
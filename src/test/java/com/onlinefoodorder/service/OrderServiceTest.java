@@ -3,17 +3,22 @@ package com.onlinefoodorder.service;
 import com.onlinefoodorder.dto.OrderDto;
 import com.onlinefoodorder.dto.OrderItemDto;
 import com.onlinefoodorder.entity.*;
+import com.onlinefoodorder.event.OrderStatusChangedEvent;
 import com.onlinefoodorder.exception.*;
 import com.onlinefoodorder.repository.*;
 import com.onlinefoodorder.util.Status.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -30,6 +35,13 @@ class OrderServiceTest {
     @Mock private CustomerAddressRepository addressRepository;
     @Mock private MenuItemRepository menuItemRepository;
     @Mock private CouponRepository couponRepository;
+    @Mock private DeliveryDispatcher deliveryDispatcher;
+    @Mock private CourierAvailabilityIndex availabilityIndex;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private DeliveryEtaEstimator etaEstimator;
+    @Mock private BusinessMetrics businessMetrics;
+    @Spy private ReadThroughCache<Long, OrderDto> orderCache = new ReadThroughCache<>("orders", 100,
+            Duration.ofMinutes(2), new SimpleMeterRegistry());
 
     @InjectMocks
     private OrderService orderService;
@@ -183,10 +195,34 @@ class OrderServiceTest {
 
     @Test
     void getOrderById_NotFound_ThrowsException() {
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(orderRepository.findDetailsByOrderId(anyLong())).thenReturn(Optional.empty());
 
         assertThrows(OrderNotFoundException.class,
                 () -> orderService.getOrderById(1L));
+        assertEquals(0, orderCache.estimatedSize());
+    }
+
+    @Test
+    void getOrderById_RepeatedLookupsServedFromCache() {
+        when(orderRepository.findDetailsByOrderId(1L)).thenReturn(Optional.of(order));
+
+        OrderDto first = orderService.getOrderById(1L);
+        OrderDto second = orderService.getOrderById(1L);
+
+        assertSame(first, second);
+        verify(orderRepository, times(1)).findDetailsByOrderId(1L);
+    }
+
+    @Test
+    void onOrderStatusChanged_EvictsCachedOrder() {
+        when(orderRepository.findDetailsByOrderId(1L)).thenReturn(Optional.of(order));
+        orderService.getOrderById(1L);
+
+        order.setStatus(OrderStatus.PREPARING);
+        orderService.onOrderStatusChanged(OrderStatusChangedEvent.of(order, OrderStatus.PENDING));
+
+        assertEquals(OrderStatus.PREPARING, orderService.getOrderById(1L).getStatus());
+        verify(orderRepository, times(2)).findDetailsByOrderId(1L);
     }
 
     @Test
@@ -203,7 +239,7 @@ class OrderServiceTest {
     @Test
     void updateOrderStatus_Success_RestaurantOwner() {
         // 1. Configure mocks
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.findForStatusChangeByOrderId(1L)).thenReturn(Optional.of(order));
         when(userRepository.findByEmail("owner@example.com")).thenReturn(Optional.of(user));
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
             Order savedOrder = invocation.getArgument(0);
@@ -219,13 +255,15 @@ class OrderServiceTest {
         assertEquals(OrderStatus.PREPARING, result.getStatus(), "Status should be updated");
         assertEquals(1L, result.getOrderId(), "Order ID should match");
         verify(orderRepository, times(1)).save(order);
+        verify(deliveryDispatcher).submit(eq(1L), isNull(), isNull(), isNull(), isNull(), any(LocalDateTime.class));
+        verify(eventPublisher).publishEvent(any(OrderStatusChangedEvent.class));
     }
 
     @Test
     void updateOrderStatus_UnauthorizedUser_ThrowsException() {
         User otherUser = new User();
         otherUser.setUserId(2L);
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(order));
+        when(orderRepository.findForStatusChangeByOrderId(anyLong())).thenReturn(Optional.of(order));
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(otherUser));
 
         assertThrows(UnauthorizedAccessException.class,
@@ -235,18 +273,19 @@ class OrderServiceTest {
     @Test
     void applyCoupon_Success() {
         orderDto.setCouponCode("TEST10");
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(order));
+        when(orderRepository.findDetailsByOrderId(anyLong())).thenReturn(Optional.of(order));
         when(couponRepository.findByCode(anyString())).thenReturn(Optional.of(coupon));
 
         OrderDto result = orderService.applyCoupon(1L, "TEST10");
 
         assertNotNull(result.getDiscountAmount());
         verify(orderRepository).save(any(Order.class));
+        verify(orderCache).invalidate(1L);
     }
 
     @Test
     void applyCoupon_InvalidCoupon_ThrowsException() {
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(order));
+        when(orderRepository.findDetailsByOrderId(anyLong())).thenReturn(Optional.of(order));
         when(couponRepository.findByCode(anyString())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class,
@@ -257,12 +296,13 @@ class OrderServiceTest {
     void removeCoupon_Success() {
         order.setCoupon(coupon);
         order.setDiscountAmount(new BigDecimal("2.00"));
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(order));
+        when(orderRepository.findDetailsByOrderId(anyLong())).thenReturn(Optional.of(order));
 
         OrderDto result = orderService.removeCoupon(1L);
 
         assertNull(result.getCouponCode());
         assertEquals(BigDecimal.ZERO, result.getDiscountAmount());
         verify(orderRepository).save(any(Order.class));
+        verify(orderCache).invalidate(1L);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.onlinefoodorder.service;
 
+import com.onlinefoodorder.dto.OrderDto;
 import com.onlinefoodorder.dto.PaymentDto;
 import com.onlinefoodorder.entity.*;
 import com.onlinefoodorder.exception.*;
@@ -36,6 +37,12 @@ class PaymentServiceTest {
     
     @Mock
     private PdfGenerator pdfGenerator;
+
+    @Mock
+    private ReadThroughCache<Long, OrderDto> orderCache;
+
+    @Mock
+    private BusinessMetrics businessMetrics;
     
     @InjectMocks
     private PaymentService paymentService;
@@ -80,7 +87,7 @@ class PaymentServiceTest {
     @Test
     void processPayment_Success() throws Exception {
         // Arrange
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(order));
+        when(orderRepository.findDetailsByOrderId(anyLong())).thenReturn(Optional.of(order));
         when(paymentRepository.save(any(Payment.class))).thenReturn(payment);
         when(orderRepository.save(any(Order.class))).thenReturn(order);
         when(pdfGenerator.generateInvoice(any(Order.class), any(Payment.class))).thenReturn("/path/to/invoice.pdf");
@@ -93,12 +100,13 @@ class PaymentServiceTest {
         assertEquals(PaymentStatus.SUCCESS, result.getPaymentStatus());
         verify(paymentRepository, times(2)).save(any(Payment.class));
         verify(orderRepository).save(order);
+        verify(orderCache).invalidate(1L);
     }
     
     @Test
     void processPayment_OrderNotFound_ThrowsException() {
         // Arrange
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(orderRepository.findDetailsByOrderId(anyLong())).thenReturn(Optional.empty());
         
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, 
@@ -108,7 +116,7 @@ class PaymentServiceTest {
     @Test
     void processPayment_Failure_ThrowsException() throws Exception {
         // Arrange
-        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(order));
+        when(orderRepository.findDetailsByOrderId(anyLong())).thenReturn(Optional.of(order));
         when(paymentRepository.save(any(Payment.class))).thenReturn(payment);
         when(pdfGenerator.generateInvoice(any(Order.class), any(Payment.class)))
             .thenThrow(new RuntimeException("PDF generation failed"));
@@ -119,6 +127,7 @@ class PaymentServiceTest {
         
         // Verify failure status was saved
         verify(paymentRepository, times(2)).save(any(Payment.class));
+        verify(orderCache).invalidate(1L);
     }
     
     @Test
@@ -137,6 +146,7 @@ class PaymentServiceTest {
         // Assert
         assertEquals(PaymentStatus.REFUNDED, result.getPaymentStatus());
         verify(paymentRepository).save(payment);
+        verify(orderCache).invalidate(1L);
     }
     
     @Test
@@ -0,0 +1,65 @@
+package com.onlinefoodorder.service;
+
+import com.onlinefoodorder.repository.RestaurantRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RatingRepairServiceTest {
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RatingRepairService ratingRepairService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ratingRepairService = new RatingRepairService(restaurantRepository, transactionManager, meterRegistry, 10);
+    }
+
+    @Test
+    void repairRatings_RecomputesIdRangesInSeparateTransactions() {
+        when(restaurantRepository.findMaxRestaurantId()).thenReturn(25L);
+        when(restaurantRepository.recomputeRatings(0L, 10L)).thenReturn(10);
+        when(restaurantRepository.recomputeRatings(10L, 20L)).thenReturn(8);
+        when(restaurantRepository.recomputeRatings(20L, 25L)).thenReturn(5);
+
+        long repaired = ratingRepairService.repairRatings();
+
+        assertEquals(23, repaired);
+        verify(restaurantRepository, times(3)).recomputeRatings(anyLong(), anyLong());
+        verify(transactionManager, times(3)).commit(any());
+        assertEquals(23.0, meterRegistry.get("reviews.rating.repaired").counter().count());
+    }
+
+    @Test
+    void repairRatings_NoRestaurants_DoesNothing() {
+        when(restaurantRepository.findMaxRestaurantId()).thenReturn(0L);
+
+        assertEquals(0, ratingRepairService.repairRatings());
+        verify(restaurantRepository, never()).recomputeRatings(anyLong(), anyLong());
+    }
+
+    @Test
+    void constructor_RejectsNonPositiveBatchSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RatingRepairService(restaurantRepository, transactionManager, meterRegistry, 0));
+    }
+}
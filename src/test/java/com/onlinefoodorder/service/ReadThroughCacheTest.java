@@ -0,0 +1,127 @@
+package com.onlinefoodorder.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadThroughCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReadThroughCache<Long, String> cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ReadThroughCache<>("items", 100, Duration.ofMinutes(1), meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_LoadsOnceAndRecordsHitRatio() {
+        assertEquals("item-1", cache.get(1L, this::load));
+        assertEquals("item-1", cache.get(1L, this::load));
+        assertEquals("item-1", cache.get(1L, this::load));
+
+        assertEquals(1, loads.get());
+        assertEquals(2.0 / 3, meterRegistry.get("cache.hit.ratio").tag("cache", "items").gauge().value(), 1e-9);
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "items").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void get_LoaderFailureIsNotCached() {
+        assertThrows(IllegalStateException.class, () -> cache.get(1L, key -> {
+            throw new IllegalStateException("not found");
+        }));
+
+        assertEquals("item-1", cache.get(1L, this::load));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_ConcurrentMiss_WaitsForLoadInProgress() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get(1L, key -> {
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return load(key);
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.get(1L, this::load));
+        release.countDown();
+
+        assertEquals("item-1", first.get(5, TimeUnit.SECONDS));
+        assertEquals("item-1", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void invalidate_OutsideTransaction_EvictsImmediately() {
+        cache.get(1L, this::load);
+
+        cache.invalidate(1L);
+        cache.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidate_InsideTransaction_EvictsAgainOnCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.get(1L, this::load);
+
+        cache.invalidate(1L);
+        // A concurrent read before commit caches the old row again
+        cache.get(1L, this::load);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        cache.get(1L, this::load);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void maximumSize_BoundsEntries() {
+        ReadThroughCache<Long, String> small = new ReadThroughCache<>("small", 10, Duration.ofMinutes(1),
+                meterRegistry);
+        for (long id = 0; id < 1000; id++) {
+            small.get(id, this::load);
+        }
+        small.cleanUp();
+
+        assertTrue(small.estimatedSize() <= 10);
+        assertTrue(small.stats().evictionCount() >= 990);
+    }
+
+    private String load(Long id) {
+        loads.incrementAndGet();
+        return "item-" + id;
+    }
+}
@@ -0,0 +1,159 @@
+package com.onlinefoodorder.service;
+
+import com.onlinefoodorder.dto.NearbyRestaurantDto;
+import com.onlinefoodorder.dto.RestaurantListing;
+import com.onlinefoodorder.repository.MenuItemRepository;
+import com.onlinefoodorder.repository.RestaurantRepository;
+import com.onlinefoodorder.util.OpeningHours;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantDiscoveryIndexTest {
+
+    // Customer in central Bengaluru
+    private static final double LAT = 12.9716;
+    private static final double LNG = 77.5946;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private MenuItemRepository menuItemRepository;
+
+    private RestaurantDiscoveryIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RestaurantDiscoveryIndex(restaurantRepository, menuItemRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void find_ReturnsRestaurantsWithinRadiusByRatingThenDistance() {
+        index.put(listing(1L, 4.0, "09:00", "22:00", LAT + 0.01, LNG));
+        index.put(listing(2L, 4.5, "09:00", "22:00", LAT + 0.02, LNG));
+        index.put(listing(3L, 4.0, "09:00", "22:00", LAT + 0.005, LNG));
+        // About 20 km away
+        index.put(listing(4L, 5.0, "09:00", "22:00", LAT + 0.18, LNG));
+
+        List<NearbyRestaurantDto> results = index.find(LAT, LNG, 5, null, 0, false, 0, 10);
+
+        assertEquals(List.of(2L, 3L, 1L), ids(results));
+        assertEquals(0.56, results.get(1).getDistanceKm(), 0.01);
+    }
+
+    @Test
+    void find_FiltersOnOpenNowMinimumRatingAndVegetarianOnly() {
+        when(menuItemRepository.findVegetarianOnlyRestaurantIds()).thenReturn(List.of(2L, 3L));
+        when(restaurantRepository.findDiscoveryListings()).thenReturn(List.of(
+                listing(1L, 4.2, "11:00", "23:00", LAT + 0.001, LNG),
+                listing(2L, 3.5, "11:00", "23:00", LAT + 0.002, LNG),
+                // Open past midnight
+                listing(3L, 4.8, "6 PM", "2 AM", LAT + 0.003, LNG),
+                listing(4L, 4.9, "closed", "closed", LAT + 0.004, LNG)));
+        index.rebuild();
+
+        assertEquals(List.of(1L, 2L), ids(index.find(LAT, LNG, 5, 12 * 60, 0, false, 0, 10)));
+        assertEquals(List.of(3L, 1L, 2L), ids(index.find(LAT, LNG, 5, 22 * 60, 0, false, 0, 10)));
+        assertEquals(List.of(3L), ids(index.find(LAT, LNG, 5, 60, 0, false, 0, 10)));
+        assertEquals(List.of(4L, 3L, 1L), ids(index.find(LAT, LNG, 5, null, 4.0, false, 0, 10)));
+        assertEquals(List.of(3L, 2L), ids(index.find(LAT, LNG, 5, null, 0, true, 0, 10)));
+        assertTrue(index.find(LAT, LNG, 5, null, 0, true, 0, 10).get(0).isVegetarianOnly());
+    }
+
+    @Test
+    void find_Paginates() {
+        for (long id = 1; id <= 25; id++) {
+            index.put(listing(id, 5.0 - id * 0.1, "00:00", "00:00", LAT + id * 0.001, LNG));
+        }
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L), ids(index.find(LAT, LNG, 10, null, 0, false,
+                0, 10)));
+        assertEquals(List.of(21L, 22L, 23L, 24L, 25L), ids(index.find(LAT, LNG, 10, null, 0, false, 2, 10)));
+        assertTrue(index.find(LAT, LNG, 10, null, 0, false, 3, 10).isEmpty());
+    }
+
+    @Test
+    void put_MovedRestaurantIsFoundOnlyAtNewLocation() {
+        index.put(listing(1L, 4.0, "09:00", "22:00", LAT, LNG));
+        index.put(listing(1L, 4.0, "09:00", "22:00", LAT + 0.3, LNG));
+
+        assertEquals(1, index.size());
+        assertTrue(index.find(LAT, LNG, 5, null, 0, false, 0, 10).isEmpty());
+        assertEquals(List.of(1L), ids(index.find(LAT + 0.3, LNG, 5, null, 0, false, 0, 10)));
+    }
+
+    @Test
+    void remove_DropsRestaurant() {
+        index.put(listing(1L, 4.0, "09:00", "22:00", LAT, LNG));
+
+        index.remove(1L);
+
+        assertEquals(0, index.size());
+        assertTrue(index.find(LAT, LNG, 5, null, 0, false, 0, 10).isEmpty());
+    }
+
+    @Test
+    void rebuild_ReplacesIndexAndKeepsVegetarianFlagOnLaterUpdates() {
+        index.put(listing(9L, 4.0, "09:00", "22:00", LAT, LNG));
+        when(menuItemRepository.findVegetarianOnlyRestaurantIds()).thenReturn(List.of(1L));
+        when(restaurantRepository.findDiscoveryListings())
+                .thenReturn(List.of(listing(1L, 4.0, "09:00", "22:00", LAT, LNG)));
+
+        index.rebuild();
+        index.put(listing(1L, 4.5, "09:00", "22:00", LAT, LNG));
+
+        List<NearbyRestaurantDto> results = index.find(LAT, LNG, 5, null, 0, true, 0, 10);
+        assertEquals(List.of(1L), ids(results));
+        assertEquals(4.5, results.get(0).getRating());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void parseMinuteOfDay_AcceptsCommonFormats() {
+        assertEquals(9 * 60, OpeningHours.parseMinuteOfDay("09:00"));
+        assertEquals(9 * 60 + 30, OpeningHours.parseMinuteOfDay(" 9.30 "));
+        assertEquals(21 * 60 + 30, OpeningHours.parseMinuteOfDay("2130"));
+        assertEquals(21 * 60 + 30, OpeningHours.parseMinuteOfDay("21:30:00"));
+        assertEquals(21 * 60 + 30, OpeningHours.parseMinuteOfDay("9:30 PM"));
+        assertEquals(0, OpeningHours.parseMinuteOfDay("12 am"));
+        assertEquals(12 * 60, OpeningHours.parseMinuteOfDay("12 p.m."));
+        assertEquals(0, OpeningHours.parseMinuteOfDay("24:00"));
+        assertEquals(0, OpeningHours.parseMinuteOfDay("Midnight"));
+        assertEquals(OpeningHours.UNKNOWN, OpeningHours.parseMinuteOfDay("late"));
+        assertEquals(OpeningHours.UNKNOWN, OpeningHours.parseMinuteOfDay("25:00"));
+        assertEquals(OpeningHours.UNKNOWN, OpeningHours.parseMinuteOfDay("13 pm"));
+        assertEquals(OpeningHours.UNKNOWN, OpeningHours.parseMinuteOfDay(null));
+    }
+
+    @Test
+    void isOpen_HandlesOvernightAndAllDayHours() {
+        assertTrue(OpeningHours.isOpen(9 * 60, 22 * 60, 9 * 60));
+        assertFalse(OpeningHours.isOpen(9 * 60, 22 * 60, 22 * 60));
+        assertTrue(OpeningHours.isOpen(18 * 60, 2 * 60, 60));
+        assertFalse(OpeningHours.isOpen(18 * 60, 2 * 60, 12 * 60));
+        assertTrue(OpeningHours.isOpen(0, 0, 12 * 60));
+        assertFalse(OpeningHours.isOpen(OpeningHours.UNKNOWN, 22 * 60, 12 * 60));
+    }
+
+    private List<Long> ids(List<NearbyRestaurantDto> results) {
+        return results.stream().map(NearbyRestaurantDto::getRestaurantId).toList();
+    }
+
+    private RestaurantListing listing(long id, double rating, String opens, String closes, double latitude,
+            double longitude) {
+        return new RestaurantListing(id, "Restaurant " + id, "Address " + id, null, rating, opens, closes, latitude,
+                longitude);
+    }
+}
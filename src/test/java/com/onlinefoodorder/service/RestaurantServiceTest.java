@@ -1,9 +1,18 @@
 package com.onlinefoodorder.service;
 
+import com.onlinefoodorder.dto.MenuSearchDocument;
+import com.onlinefoodorder.dto.NearbyRestaurantDto;
 import com.onlinefoodorder.dto.RestaurantDto;
+import com.onlinefoodorder.dto.RestaurantListing;
+import com.onlinefoodorder.dto.RestaurantOwnerView;
+import com.onlinefoodorder.dto.RestaurantPublicView;
+import com.onlinefoodorder.dto.RestaurantView;
+import com.onlinefoodorder.entity.CustomerAddress;
 import com.onlinefoodorder.entity.Restaurant;
 import com.onlinefoodorder.entity.User;
 import com.onlinefoodorder.exception.UnauthorizedAccessException;
+import com.onlinefoodorder.repository.CustomerAddressRepository;
+import com.onlinefoodorder.repository.MenuItemRepository;
 import com.onlinefoodorder.repository.OrderItemRepository;
 import com.onlinefoodorder.repository.RestaurantRepository;
 import com.onlinefoodorder.util.Status.UserRole;
@@ -14,14 +23,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +42,14 @@ class RestaurantServiceTest {
     private RestaurantRepository restaurantRepository;
     @Mock
     private OrderItemRepository orderItemRepository;
+    @Mock
+    private CustomerAddressRepository customerAddressRepository;
+    @Mock
+    private RestaurantDiscoveryIndex restaurantDiscoveryIndex;
+    @Mock
+    private MenuItemRepository menuItemRepository;
+    @Mock
+    private MenuSearchIndex menuSearchIndex;
     @InjectMocks
     private RestaurantService restaurantService;
 
@@ -72,47 +91,65 @@ class RestaurantServiceTest {
         verify(restaurantRepository).save(any(Restaurant.class));
     }
 
+    @Test
+    void createRestaurant_WithLocation_AddsToDiscoveryIndex() {
+        restaurantDto.setLatitude(12.9716);
+        restaurantDto.setLongitude(77.5946);
+
+        restaurantService.createRestaurant(owner, restaurantDto);
+
+        verify(restaurantDiscoveryIndex).put(any(RestaurantListing.class));
+    }
+
     @Test
     void getRestaurantById_OwnerAccess_ReturnsFullDetails() {
         // Arrange
-        restaurant.setAddress("123 Test St");
-        restaurant.setPhone("1234567890");
-        restaurant.setRating(4.5);
-        restaurant.setLogoUrl("http://test.com/logo.png");
-        restaurant.setOpeningTime("09:00");
-        restaurant.setClosingTime("21:00");
-        
-        when(restaurantRepository.findById(anyLong())).thenReturn(Optional.of(restaurant));
+        when(restaurantRepository.findOwnerViewById(1L)).thenReturn(Optional.of(ownerView("http://test.com/logo.png")));
 
         // Act
-        Map<String, Object> result = restaurantService.getRestaurantById(1L, owner);
+        RestaurantView result = restaurantService.getRestaurantById(1L, owner);
 
         // Assert
-        assertEquals(1L, result.get("id"));
-        assertEquals("Test Restaurant", result.get("name"));
-        assertEquals("123 Test St", result.get("address"));
-        assertEquals("1234567890", result.get("phone"));
-        assertEquals(4.5, result.get("rating"));
-        assertEquals("http://test.com/logo.png", result.get("logoUrl"));
-        assertEquals("09:00", result.get("openingTime"));
-        assertEquals("21:00", result.get("closingTime"));
-        assertEquals(1L, result.get("ownerId"));
+        RestaurantOwnerView view = assertInstanceOf(RestaurantOwnerView.class, result);
+        assertEquals(1L, view.id());
+        assertEquals("Test Restaurant", view.name());
+        assertEquals("123 Test St", view.address());
+        assertEquals("1234567890", view.phone());
+        assertEquals(4.5, view.rating());
+        assertEquals("http://test.com/logo.png", view.logoUrl());
+        assertEquals("09:00", view.openingTime());
+        assertEquals("21:00", view.closingTime());
+        assertEquals(1L, view.ownerId());
+    }
+
+    @Test
+    void getRestaurantById_OwnerAccess_MissingLogoShownAsNotAvailable() {
+        when(restaurantRepository.findOwnerViewById(1L)).thenReturn(Optional.of(ownerView(null)));
+
+        RestaurantOwnerView view = (RestaurantOwnerView) restaurantService.getRestaurantById(1L, owner);
+
+        assertEquals("N/A", view.logoUrl());
     }
 
     @Test
     void getRestaurantById_CustomerAccess_ReturnsLimitedDetails() {
-        when(restaurantRepository.findById(anyLong())).thenReturn(Optional.of(restaurant));
+        when(restaurantRepository.findOwnerViewById(1L)).thenReturn(Optional.of(ownerView(null)));
 
-        Map<String, Object> result = restaurantService.getRestaurantById(1L, customer);
+        RestaurantView result = restaurantService.getRestaurantById(1L, customer);
 
-        assertEquals(5, result.size());
-        assertEquals("Test Restaurant", result.get("name"));
-        assertNull(result.get("ownerId"));
+        assertEquals(new RestaurantPublicView("Test Restaurant", "123 Test St", "09:00", "21:00", 4.5), result);
+    }
+
+    @Test
+    void getRestaurantById_AnonymousAccess_ReturnsLimitedDetails() {
+        when(restaurantRepository.findOwnerViewById(1L)).thenReturn(Optional.of(ownerView(null)));
+
+        assertInstanceOf(RestaurantPublicView.class, restaurantService.getRestaurantById(1L, null));
     }
 
     @Test
     void getRestaurantById_NotFound_ThrowsException() {
-        when(restaurantRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(restaurantRepository.findOwnerViewById(anyLong())).thenReturn(Optional.empty());
 
         RuntimeException exception = assertThrows(RuntimeException.class,
                 () -> restaurantService.getRestaurantById(1L, owner));
@@ -128,6 +165,20 @@ class RestaurantServiceTest {
 
         assertEquals("Restaurant updated successfully!", result);
         verify(restaurantRepository).save(any(Restaurant.class));
+        verifyNoInteractions(menuSearchIndex);
+    }
+
+    @Test
+    void updateRestaurant_Renamed_ReindexesMenuItemsWithNewName() {
+        restaurantDto.setName("Spice Route");
+        MenuSearchDocument document = new MenuSearchDocument(7L, 3L, 1L, "Paneer Tikka", null,
+                new BigDecimal("240.00"), null, true, true, 15, "Spice Route", "Starters");
+        when(restaurantRepository.findById(anyLong())).thenReturn(Optional.of(restaurant));
+        when(menuItemRepository.findSearchDocumentsByRestaurantId(1L)).thenReturn(List.of(document));
+
+        restaurantService.updateRestaurant(1L, restaurantDto, owner);
+
+        verify(menuSearchIndex).indexAll(List.of(document));
     }
 
     @Test
@@ -153,11 +204,14 @@ class RestaurantServiceTest {
     @Test
     void deleteRestaurant_Owner_Success() {
         when(restaurantRepository.findById(anyLong())).thenReturn(Optional.of(restaurant));
+        when(menuItemRepository.findItemIdsByRestaurantId(1L)).thenReturn(List.of(7L, 8L));
 
         String result = restaurantService.deleteRestaurant(1L, owner);
 
         assertEquals("Restaurant deleted successfully!", result);
         verify(restaurantRepository).delete(any(Restaurant.class));
+        verify(restaurantDiscoveryIndex).remove(1L);
+        verify(menuSearchIndex).removeAll(List.of(7L, 8L));
     }
 
     @Test
@@ -172,19 +226,21 @@ class RestaurantServiceTest {
 
     @Test
     void getAllRestaurants_Success() {
-        when(restaurantRepository.findAll()).thenReturn(List.of(restaurant));
+        when(restaurantRepository.findAllPublicViews())
+                .thenReturn(List.of(new RestaurantPublicView("Test Restaurant", "123 Test St", "09:00", "21:00", 4.5)));
 
-        List<Map<String, Object>> result = restaurantService.getAllRestaurants();
+        List<RestaurantPublicView> result = restaurantService.getAllRestaurants();
 
         assertEquals(1, result.size());
-        assertEquals("Test Restaurant", result.get(0).get("name"));
+        assertEquals("Test Restaurant", result.get(0).name());
+        verify(restaurantRepository, never()).findAll();
     }
 
     @Test
     void getAllRestaurants_EmptyList() {
-        when(restaurantRepository.findAll()).thenReturn(List.of());
+        when(restaurantRepository.findAllPublicViews()).thenReturn(List.of());
 
-        List<Map<String, Object>> result = restaurantService.getAllRestaurants();
+        List<RestaurantPublicView> result = restaurantService.getAllRestaurants();
 
         assertTrue(result.isEmpty());
     }
@@ -264,4 +320,69 @@ class RestaurantServiceTest {
         
         assertEquals("Email cannot be empty", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void discoverRestaurants_SearchesAroundCustomerAddress() {
+        CustomerAddress address = customerAddress(customer, 12.9716, 77.5946);
+        NearbyRestaurantDto nearby = new NearbyRestaurantDto();
+        when(customerAddressRepository.findById(5L)).thenReturn(Optional.of(address));
+        when(restaurantDiscoveryIndex.find(eq(12.9716), eq(77.5946), eq(3.0), isNull(), eq(4.0), eq(true), eq(1),
+                eq(RestaurantService.MAX_DISCOVERY_PAGE_SIZE))).thenReturn(List.of(nearby));
+
+        List<NearbyRestaurantDto> result = restaurantService.discoverRestaurants("customer@example.com", 5L, 3.0,
+                false, 4.0, true, 1, 500);
+
+        assertEquals(List.of(nearby), result);
+    }
+
+    @Test
+    void discoverRestaurants_OpenNow_PassesCurrentMinuteOfDay() {
+        when(customerAddressRepository.findById(5L))
+                .thenReturn(Optional.of(customerAddress(customer, 12.9716, 77.5946)));
+
+        restaurantService.discoverRestaurants("customer@example.com", 5L, 5.0, true, null, false, 0, 20);
+
+        verify(restaurantDiscoveryIndex).find(eq(12.9716), eq(77.5946), eq(5.0),
+                intThat(minute -> minute >= 0 && minute < 24 * 60), eq(0.0), eq(false), eq(0), eq(20));
+    }
+
+    @Test
+    void discoverRestaurants_OtherCustomersAddress_ThrowsException() {
+        when(customerAddressRepository.findById(5L)).thenReturn(Optional.of(customerAddress(owner, 12.9716, 77.5946)));
+
+        assertThrows(UnauthorizedAccessException.class,
+                () -> restaurantService.discoverRestaurants("customer@example.com", 5L, 5.0, false, null, false, 0, 20));
+        verifyNoInteractions(restaurantDiscoveryIndex);
+    }
+
+    @Test
+    void discoverRestaurants_AddressWithoutLocation_ThrowsException() {
+        when(customerAddressRepository.findById(5L)).thenReturn(Optional.of(customerAddress(customer, null, null)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> restaurantService.discoverRestaurants("customer@example.com", 5L, 5.0, false, null, false, 0, 20));
+    }
+
+    @Test
+    void discoverRestaurants_InvalidRadiusOrPage_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> restaurantService.discoverRestaurants("customer@example.com", 5L, 0, false, null, false, 0, 20));
+        assertThrows(IllegalArgumentException.class,
+                () -> restaurantService.discoverRestaurants("customer@example.com", 5L, 100, false, null, false, 0, 20));
+        assertThrows(IllegalArgumentException.class,
+                () -> restaurantService.discoverRestaurants("customer@example.com", 5L, 5, false, null, false, -1, 20));
+        verifyNoInteractions(customerAddressRepository);
+    }
+
+    private RestaurantOwnerView ownerView(String logoUrl) {
+        return new RestaurantOwnerView(1L, "Test Restaurant", "123 Test St", "1234567890", 4.5, logoUrl, "09:00",
+                "21:00", 1L);
+    }
+
+    private CustomerAddress customerAddress(User user, Double latitude, Double longitude) {
+        CustomerAddress address = new CustomerAddress(user, "1 MG Road", null, "Bengaluru", "KA", "560001", "India");
+        address.setLatitude(latitude);
+        address.setLongitude(longitude);
+        return address;
+    }
+}
@@ -1,6 +1,10 @@
 package com.onlinefoodorder.service;
 
 import com.onlinefoodorder.dto.ReviewDto;
+import com.onlinefoodorder.dto.ReviewFeed;
+import com.onlinefoodorder.dto.ReviewFeedItem;
+import com.onlinefoodorder.dto.ReviewFeedRow;
+import com.onlinefoodorder.dto.ReviewSummary;
 import com.onlinefoodorder.entity.Review;
 import com.onlinefoodorder.entity.User;
 import com.onlinefoodorder.entity.Restaurant;
@@ -16,11 +20,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.util.Collections;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -89,6 +95,7 @@ class ReviewServiceTest {
         when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
         when(restaurantRepository.findById(1L)).thenReturn(Optional.of(testRestaurant));
         when(reviewRepository.save(any(Review.class))).thenReturn(testReview);
+        when(restaurantRepository.applyReviewChange(1L, 0, 5)).thenReturn(1);
 
         // Act
         String result = reviewService.addReview(testReviewDto);
@@ -96,7 +103,24 @@ class ReviewServiceTest {
         // Assert
         assertEquals("Review added successfully!", result);
         verify(reviewRepository, times(1)).save(any(Review.class));
-        verify(restaurantRepository, times(1)).save(testRestaurant);
+        verify(restaurantRepository, times(1)).applyReviewChange(1L, 0, 5);
+        verify(restaurantRepository, never()).save(any(Restaurant.class));
+    }
+
+    @Test
+    void addReview_UntrackedTotals_RecomputesRating() {
+        // Arrange
+        setupSecurityContext();
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(restaurantRepository.findById(1L)).thenReturn(Optional.of(testRestaurant));
+        when(restaurantRepository.applyReviewChange(1L, 0, 5)).thenReturn(0);
+        when(restaurantRepository.recomputeRating(1L)).thenReturn(1);
+
+        // Act
+        reviewService.addReview(testReviewDto);
+
+        // Assert
+        verify(restaurantRepository, times(1)).recomputeRating(1L);
     }
 
     @Test
@@ -121,28 +145,100 @@ class ReviewServiceTest {
     }
 
     @Test
-    void getReviewsByRestaurant_Success() {
+    void addReview_InvalidRating() {
+        // Arrange
+        setupSecurityContext();
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(restaurantRepository.findById(1L)).thenReturn(Optional.of(testRestaurant));
+        testReviewDto.setRating(6);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> reviewService.addReview(testReviewDto));
+        verify(reviewRepository, never()).save(any(Review.class));
+    }
+
+    @Test
+    void getReviewFeed_FirstPage_ReturnsSummaryAndNextCursor() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+        List<ReviewFeedRow> rows = new ArrayList<>();
+        for (long id = 3; id >= 1; id--) {
+            rows.add(new ReviewFeedRow(id, "user" + id, 4, "Review " + id, now.minusHours(3 - id), 4.5, 4L, 0L, 0L,
+                    0L, 2L, 2L));
+        }
+        when(reviewRepository.findFirstFeedPage(1L, PageRequest.of(0, 3))).thenReturn(rows);
+
+        // Act
+        ReviewFeed feed = reviewService.getReviewFeed(1L, null, 2);
+
+        // Assert
+        assertEquals(new ReviewSummary(4.5, 4, 0, 0, 0, 2, 2), feed.summary());
+        assertEquals(List.of(3L, 2L), feed.reviews().stream().map(ReviewFeedItem::reviewId).toList());
+        assertEquals("user3", feed.reviews().get(0).username());
+        assertNotNull(feed.nextCursor());
+        verify(reviewRepository, never()).countByRating(anyLong());
+    }
+
+    @Test
+    void getReviewFeed_NextPage_ContinuesAfterCursor() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 10, 30, 15, 123456000);
+        String cursor = ReviewService.encodeCursor(new ReviewFeedItem(2L, "user2", 4, "Review 2", createdAt));
+        ReviewFeedItem older = new ReviewFeedItem(1L, "user1", 3, "Review 1", createdAt.minusDays(1));
+        when(reviewRepository.findFeedPageAfter(1L, createdAt, 2L, PageRequest.of(0, 3))).thenReturn(List.of(older));
+
+        // Act
+        ReviewFeed feed = reviewService.getReviewFeed(1L, cursor, 2);
+
+        // Assert
+        assertNull(feed.summary());
+        assertEquals(List.of(older), feed.reviews());
+        assertNull(feed.nextCursor());
+    }
+
+    @Test
+    void getReviewFeed_NoReviews_ReturnsEmptyPageWithSummary() {
         // Arrange
-        when(reviewRepository.findByRestaurantRestaurantId(1L)).thenReturn(Collections.singletonList(testReview));
+        when(reviewRepository.findFirstFeedPage(1L, PageRequest.of(0, 21))).thenReturn(
+                List.of(new ReviewFeedRow(null, null, null, null, null, 0.0, 0L, 0L, 0L, 0L, 0L, 0L)));
 
         // Act
-        List<Review> reviews = reviewService.getReviewsByRestaurant(1L);
+        ReviewFeed feed = reviewService.getReviewFeed(1L, null, 20);
 
         // Assert
-        assertEquals(1, reviews.size());
-        assertEquals(testReview, reviews.get(0));
+        assertTrue(feed.reviews().isEmpty());
+        assertEquals(0, feed.summary().reviewCount());
+        assertNull(feed.nextCursor());
     }
 
     @Test
-    void getReviewsByRestaurant_EmptyList() {
+    void getReviewFeed_UntrackedTotals_CountsReviewsByRating() {
         // Arrange
-        when(reviewRepository.findByRestaurantRestaurantId(1L)).thenReturn(Collections.emptyList());
+        when(reviewRepository.findFirstFeedPage(1L, PageRequest.of(0, 21))).thenReturn(List.of(
+                new ReviewFeedRow(1L, "user1", 5, "Great food!", LocalDateTime.now(), 0.0, null, null, null, null,
+                        null, null)));
+        when(reviewRepository.countByRating(1L)).thenReturn(List.of(new Object[] { 5, 2L }, new Object[] { 2, 1L }));
 
         // Act
-        List<Review> reviews = reviewService.getReviewsByRestaurant(1L);
+        ReviewFeed feed = reviewService.getReviewFeed(1L, null, 20);
 
         // Assert
-        assertTrue(reviews.isEmpty());
+        assertEquals(new ReviewSummary(4.0, 3, 0, 1, 0, 0, 2), feed.summary());
+    }
+
+    @Test
+    void getReviewFeed_RestaurantNotFound() {
+        // Arrange
+        when(reviewRepository.findFirstFeedPage(1L, PageRequest.of(0, 21))).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> reviewService.getReviewFeed(1L, null, 20));
+    }
+
+    @Test
+    void getReviewFeed_InvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> reviewService.getReviewFeed(1L, "not-a-cursor", 20));
+        verify(reviewRepository, never()).findFeedPageAfter(anyLong(), any(), anyLong(), any());
     }
 
     @Test
@@ -151,10 +247,7 @@ class ReviewServiceTest {
         setupSecurityContext();
         when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
         when(reviewRepository.findById(1L)).thenReturn(Optional.of(testReview));
-        when(restaurantRepository.findById(1L)).thenReturn(Optional.of(testRestaurant));
-        
-        // Mock the reviews list that will be used to calculate the new rating
-        when(reviewRepository.findByRestaurantRestaurantId(1L)).thenReturn(Collections.emptyList());
+        when(restaurantRepository.applyReviewChange(1L, 5, 0)).thenReturn(1);
 
         // Act
         String result = reviewService.deleteReview(1L);
@@ -162,9 +255,26 @@ class ReviewServiceTest {
         // Assert
         assertEquals("Review deleted successfully!", result);
         verify(reviewRepository, times(1)).delete(testReview);
-        verify(restaurantRepository, times(1)).save(testRestaurant);
-        // Verify the rating was updated to 0.0 since we returned empty list
-        assertEquals(0.0, testRestaurant.getRating());
+        verify(restaurantRepository, times(1)).applyReviewChange(1L, 5, 0);
+        verify(restaurantRepository, never()).recomputeRating(anyLong());
+    }
+
+    @Test
+    void updateReview_AppliesRatingDifference() {
+        // Arrange
+        setupSecurityContext();
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(reviewRepository.findById(1L)).thenReturn(Optional.of(testReview));
+        when(restaurantRepository.applyReviewChange(1L, 5, 3)).thenReturn(1);
+        testReviewDto.setRating(3);
+
+        // Act
+        String result = reviewService.updateReview(1L, testReviewDto);
+
+        // Assert
+        assertEquals("Review updated successfully!", result);
+        assertEquals(3, testReview.getRating());
+        verify(restaurantRepository, times(1)).applyReviewChange(1L, 5, 3);
     }
     @Test
     void deleteReview_UserNotFound() {
@@ -208,43 +318,21 @@ class ReviewServiceTest {
     @Test
     void updateRestaurantRating_Success() {
         // Arrange
-        Review review1 = new Review();
-        review1.setRating(4);
-        Review review2 = new Review();
-        review2.setRating(5);
-        
-        when(reviewRepository.findByRestaurantRestaurantId(1L)).thenReturn(List.of(review1, review2));
-        when(restaurantRepository.findById(1L)).thenReturn(Optional.of(testRestaurant));
+        when(restaurantRepository.recomputeRating(1L)).thenReturn(1);
 
         // Act
         reviewService.updateRestaurantRating(1L);
 
         // Assert
-        assertEquals(4.5, testRestaurant.getRating());
-        verify(restaurantRepository, times(1)).save(testRestaurant);
-    }
-
-    @Test
-    void updateRestaurantRating_NoReviews() {
-        // Arrange
-        when(reviewRepository.findByRestaurantRestaurantId(1L)).thenReturn(Collections.emptyList());
-        when(restaurantRepository.findById(1L)).thenReturn(Optional.of(testRestaurant));
-
-        // Act
-        reviewService.updateRestaurantRating(1L);
-
-        // Assert
-        assertEquals(0.0, testRestaurant.getRating());
-        verify(restaurantRepository, times(1)).save(testRestaurant);
+        verify(restaurantRepository, times(1)).recomputeRating(1L);
     }
 
     @Test
     void updateRestaurantRating_RestaurantNotFound() {
         // Arrange
-        when(reviewRepository.findByRestaurantRestaurantId(1L)).thenReturn(Collections.singletonList(testReview));
-        when(restaurantRepository.findById(1L)).thenReturn(Optional.empty());
+        when(restaurantRepository.recomputeRating(1L)).thenReturn(0);
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> reviewService.updateRestaurantRating(1L));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,196 @@
+package com.onlinefoodorder.service;
+
+import com.onlinefoodorder.service.RouteBatchPlanner.Route;
+import com.onlinefoodorder.service.RouteBatchPlanner.RouteCandidate;
+import com.onlinefoodorder.util.RouteOptimizer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteBatchPlannerTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(RouteBatchPlannerTest.class);
+
+    private static final long MINUTE = 60_000L;
+
+    private RouteBatchPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        planner = new RouteBatchPlanner(1.0, 3.0, 10, 3);
+    }
+
+    @Test
+    void plan_GroupsOrdersFromSameRestaurantWithCloseDrops() {
+        List<Route> routes = planner.plan(List.of(
+                new RouteCandidate(1L, 12.9716, 77.5946, 12.9800, 77.6000, 0),
+                new RouteCandidate(2L, 12.9716, 77.5946, 12.9750, 77.5980, 2 * MINUTE)));
+
+        assertEquals(1, routes.size());
+        assertEquals(List.of(2L, 1L), routes.get(0).orderIds());
+        assertTrue(routes.get(0).routeKm() > 0);
+    }
+
+    @Test
+    void plan_KeepsOrdersApartWhenReadyTimesDiffer() {
+        List<Route> routes = planner.plan(List.of(
+                new RouteCandidate(1L, 12.9716, 77.5946, 12.9800, 77.6000, 0),
+                new RouteCandidate(2L, 12.9716, 77.5946, 12.9750, 77.5980, 30 * MINUTE)));
+
+        assertEquals(2, routes.size());
+        assertEquals(List.of(1L), routes.get(0).orderIds());
+        assertEquals(List.of(2L), routes.get(1).orderIds());
+    }
+
+    @Test
+    void plan_KeepsOrdersApartWhenRestaurantsOrDropsAreFar() {
+        List<Route> routes = planner.plan(List.of(
+                new RouteCandidate(1L, 12.9716, 77.5946, 12.9800, 77.6000, 0),
+                // Restaurant about 5 km away
+                new RouteCandidate(2L, 12.9350, 77.6250, 12.9800, 77.6000, 0),
+                // Same restaurant, drop about 10 km away
+                new RouteCandidate(3L, 12.9716, 77.5946, 13.0700, 77.6000, 0)));
+
+        assertEquals(3, routes.size());
+    }
+
+    @Test
+    void plan_CapsRouteSize() {
+        List<RouteCandidate> candidates = new ArrayList<>();
+        for (long id = 1; id <= 7; id++) {
+            candidates.add(new RouteCandidate(id, 12.9716, 77.5946, 12.9750 + id * 0.001, 77.5980, 0));
+        }
+
+        List<Route> routes = planner.plan(candidates);
+
+        assertEquals(3, routes.size());
+        assertTrue(routes.stream().allMatch(route -> route.size() <= 3));
+        assertEquals(7, routes.stream().mapToInt(Route::size).sum());
+    }
+
+    @Test
+    void orderStops_UntanglesCrossingRoute() {
+        // Stops along a line; nearest neighbour from the start zig-zags, 2-opt straightens it
+        double[] lats = { 12.9720, 12.9700, 12.9745, 12.9765, 12.9785 };
+        double[] lngs = { 77.5946, 77.5946, 77.5946, 77.5946, 77.5946 };
+
+        int[] order = RouteOptimizer.orderStops(12.9711, 77.5946, lats, lngs);
+        int[] greedy = RouteOptimizer.nearestNeighbourOrder(12.9711, 77.5946, lats, lngs);
+
+        assertArrayEquals(new int[] { 1, 0, 2, 3, 4 }, order);
+        assertTrue(RouteOptimizer.pathLengthKm(12.9711, 77.5946, lats, lngs, order)
+                < RouteOptimizer.pathLengthKm(12.9711, 77.5946, lats, lngs, greedy));
+    }
+
+    @Test
+    void orderStops_NeverWorseThanNearestNeighbour() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            int stops = 2 + random.nextInt(8);
+            double[] lats = new double[stops];
+            double[] lngs = new double[stops];
+            for (int i = 0; i < stops; i++) {
+                lats[i] = 12.90 + random.nextDouble() * 0.1;
+                lngs[i] = 77.55 + random.nextDouble() * 0.1;
+            }
+
+            int[] order = RouteOptimizer.orderStops(12.95, 77.60, lats, lngs);
+            int[] greedy = RouteOptimizer.nearestNeighbourOrder(12.95, 77.60, lats, lngs);
+
+            int[] sorted = order.clone();
+            Arrays.sort(sorted);
+            for (int i = 0; i < stops; i++) {
+                assertEquals(i, sorted[i], "Every stop should be visited exactly once");
+            }
+            assertTrue(RouteOptimizer.pathLengthKm(12.95, 77.60, lats, lngs, order)
+                    <= RouteOptimizer.pathLengthKm(12.95, 77.60, lats, lngs, greedy) + 1e-9);
+        }
+    }
+
+    @Test
+    void plan_ThousandOpenOrders_PlansEveryOrderOnceAndBatchesSome() {
+        List<Route> routes = planner.plan(cityOrders(1000));
+
+        Set<Long> planned = new HashSet<>();
+        for (Route route : routes) {
+            for (Long orderId : route.orderIds()) {
+                assertTrue(planned.add(orderId), "Order " + orderId + " planned twice");
+            }
+        }
+        assertEquals(1000, planned.size());
+        assertTrue(routes.size() < 1000, "Some orders should be batched");
+    }
+
+    /**
+     * Benchmark: 1,000 open orders from 60 restaurants across a 15 km city
+     * area, ready over one hour. Reports solve time, courier trips saved and
+     * the distance of the batched routes against one trip per order.
+     */
+    @Test
+    @Tag("benchmark")
+    void benchmark_ThousandOpenOrders_ReportsBatchingQualityAndSolveTime() {
+        int orders = 1000;
+        List<RouteCandidate> candidates = cityOrders(orders);
+
+        // Warm up before timing
+        for (int i = 0; i < 5; i++) {
+            planner.plan(candidates);
+        }
+        long start = System.nanoTime();
+        List<Route> routes = planner.plan(candidates);
+        double solveMs = (System.nanoTime() - start) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+
+        double separateKm = 0;
+        double routeKm = 0;
+        int multiDrop = 0;
+        for (Route route : routes) {
+            separateKm += route.separateKm();
+            routeKm += route.routeKm();
+            if (route.size() > 1) {
+                multiDrop++;
+            }
+        }
+        logger.info("Route batching: {} orders -> {} trips ({} multi-drop), solved in {} ms; "
+                + "batched routes {} km vs {} km of one trip per order", orders, routes.size(), multiDrop,
+                String.format("%.2f", solveMs), String.format("%.0f", routeKm), String.format("%.0f", separateKm));
+
+        assertTrue(solveMs < 1000, "Planning 1k orders should take well under a second");
+    }
+
+    /**
+     * Open orders from 60 restaurants across a 15 km city area, ready over one
+     * hour, with drops within about 4 km of their restaurant. Always the same
+     * orders for a given count.
+     */
+    private static List<RouteCandidate> cityOrders(int orders) {
+        Random random = new Random(42);
+        int restaurants = 60;
+        double[][] restaurantLocations = new double[restaurants][];
+        for (int i = 0; i < restaurants; i++) {
+            restaurantLocations[i] = new double[] { 12.90 + random.nextDouble() * 0.135,
+                    77.55 + random.nextDouble() * 0.135 };
+        }
+        List<RouteCandidate> candidates = new ArrayList<>();
+        for (long id = 1; id <= orders; id++) {
+            double[] restaurant = restaurantLocations[random.nextInt(restaurants)];
+            double dropLat = restaurant[0] + (random.nextDouble() - 0.5) * 0.07;
+            double dropLng = restaurant[1] + (random.nextDouble() - 0.5) * 0.07;
+            candidates.add(new RouteCandidate(id, restaurant[0], restaurant[1], dropLat, dropLng,
+                    random.nextInt(60) * MINUTE));
+        }
+        return candidates;
+    }
+}